@@ -19,6 +19,7 @@ package org.apache.shardingsphere.encrypt.merge.dql;
 
 import com.google.common.base.Optional;
 import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.underlying.merge.CloseableMergedResult;
 import org.apache.shardingsphere.underlying.merge.MergedResult;
 import org.apache.shardingsphere.spi.encrypt.ShardingEncryptor;
 
@@ -32,7 +33,7 @@ import java.util.Calendar;
  * @author zhangliang
  */
 @RequiredArgsConstructor
-public final class EncryptMergedResult implements MergedResult {
+public final class EncryptMergedResult implements CloseableMergedResult {
     
     private final EncryptorMetaData metaData;
     
@@ -69,4 +70,11 @@ public final class EncryptMergedResult implements MergedResult {
     public boolean wasNull() throws SQLException {
         return mergedResult.wasNull();
     }
+    
+    @Override
+    public void close() throws SQLException {
+        if (mergedResult instanceof CloseableMergedResult) {
+            ((CloseableMergedResult) mergedResult).close();
+        }
+    }
 }
@@ -80,10 +80,9 @@ public final class EncryptInsertValuesTokenGenerator extends BaseEncryptSQLToken
     
     private void processPreviousSQLToken(final InsertSQLStatementContext sqlStatementContext, final InsertValuesToken insertValuesToken) {
         String tableName = sqlStatementContext.getTablesContext().getSingleTableName();
-        int count = 0;
+        Iterator<InsertValue> insertValueTokens = insertValuesToken.getInsertValues().iterator();
         for (InsertValueContext each : sqlStatementContext.getInsertValueContexts()) {
-            encryptToken(insertValuesToken.getInsertValues().get(count), tableName, sqlStatementContext, each);
-            count++;
+            encryptToken(insertValueTokens.next(), tableName, sqlStatementContext, each);
         }
     }
     
@@ -0,0 +1,182 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.encrypt.impl;
+
+import org.apache.commons.codec.binary.Base64;
+import org.apache.commons.codec.binary.StringUtils;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.Arrays;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for rows per second of AES sharding encryptor.
+ * 
+ * <p>
+ * Cipher created and initialized for every row is measured as baseline, which is the implementation before ciphers are reused.
+ * GCM rows are encrypted by {@link AESGCMShardingEncryptor}.
+ * Run with {@code org.openjdk.jmh.Main AESShardingEncryptorBenchmark}, the benchmark is not a unit test.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AESShardingEncryptorBenchmark {
+    
+    private static final int ROW_COUNT = 1000;
+    
+    private static final String KEY = "benchmark";
+    
+    private final AESShardingEncryptor ecbEncryptor = new AESShardingEncryptor();
+    
+    private final AESGCMShardingEncryptor gcmEncryptor = new AESGCMShardingEncryptor();
+    
+    private final String[] plaintexts = new String[ROW_COUNT];
+    
+    private final String[] ecbCiphertexts = new String[ROW_COUNT];
+    
+    private final String[] gcmCiphertexts = new String[ROW_COUNT];
+    
+    /**
+     * Set up encryptors and rows.
+     */
+    @Setup
+    public void setUp() {
+        ecbEncryptor.setProperties(createProperties());
+        ecbEncryptor.init();
+        gcmEncryptor.setProperties(createProperties());
+        gcmEncryptor.init();
+        for (int i = 0; i < ROW_COUNT; i++) {
+            plaintexts[i] = "user_" + i + "@shardingsphere.apache.org";
+            ecbCiphertexts[i] = ecbEncryptor.encrypt(plaintexts[i]);
+            gcmCiphertexts[i] = gcmEncryptor.encrypt(plaintexts[i]);
+        }
+    }
+    
+    private Properties createProperties() {
+        Properties result = new Properties();
+        result.setProperty("aes.key.value", KEY);
+        return result;
+    }
+    
+    /**
+     * Encrypt rows with cipher created for every row.
+     * 
+     * @param blackhole blackhole
+     * @throws GeneralSecurityException general security exception
+     */
+    @Benchmark
+    @OperationsPerInvocation(ROW_COUNT)
+    public void encryptWithCipherPerRow(final Blackhole blackhole) throws GeneralSecurityException {
+        for (String each : plaintexts) {
+            blackhole.consume(Base64.encodeBase64String(doFinalWithNewCipher(Cipher.ENCRYPT_MODE, StringUtils.getBytesUtf8(each))));
+        }
+    }
+    
+    /**
+     * Decrypt rows with cipher created for every row.
+     * 
+     * @param blackhole blackhole
+     * @throws GeneralSecurityException general security exception
+     */
+    @Benchmark
+    @OperationsPerInvocation(ROW_COUNT)
+    public void decryptWithCipherPerRow(final Blackhole blackhole) throws GeneralSecurityException {
+        for (String each : ecbCiphertexts) {
+            blackhole.consume(new String(doFinalWithNewCipher(Cipher.DECRYPT_MODE, Base64.decodeBase64(each)), StandardCharsets.UTF_8));
+        }
+    }
+    
+    /**
+     * Encrypt rows with ECB mode.
+     * 
+     * @param blackhole blackhole
+     */
+    @Benchmark
+    @OperationsPerInvocation(ROW_COUNT)
+    public void encryptWithECB(final Blackhole blackhole) {
+        for (String each : plaintexts) {
+            blackhole.consume(ecbEncryptor.encrypt(each));
+        }
+    }
+    
+    /**
+     * Decrypt rows with ECB mode.
+     * 
+     * @param blackhole blackhole
+     */
+    @Benchmark
+    @OperationsPerInvocation(ROW_COUNT)
+    public void decryptWithECB(final Blackhole blackhole) {
+        for (String each : ecbCiphertexts) {
+            blackhole.consume(ecbEncryptor.decrypt(each));
+        }
+    }
+    
+    /**
+     * Encrypt rows with GCM mode.
+     * 
+     * @param blackhole blackhole
+     */
+    @Benchmark
+    @OperationsPerInvocation(ROW_COUNT)
+    public void encryptWithGCM(final Blackhole blackhole) {
+        for (String each : plaintexts) {
+            blackhole.consume(gcmEncryptor.encrypt(each));
+        }
+    }
+    
+    /**
+     * Decrypt rows with GCM mode.
+     * 
+     * @param blackhole blackhole
+     */
+    @Benchmark
+    @OperationsPerInvocation(ROW_COUNT)
+    public void decryptWithGCM(final Blackhole blackhole) {
+        for (String each : gcmCiphertexts) {
+            blackhole.consume(gcmEncryptor.decrypt(each));
+        }
+    }
+    
+    private byte[] doFinalWithNewCipher(final int cipherMode, final byte[] input) throws GeneralSecurityException {
+        Cipher cipher = Cipher.getInstance("AES");
+        cipher.init(cipherMode, new SecretKeySpec(Arrays.copyOf(DigestUtils.sha1(KEY), 16), "AES"));
+        return cipher.doFinal(input);
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import org.apache.shardingsphere.sql.parser.core.constant.OrderDirection;
+import org.apache.shardingsphere.sql.parser.relation.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.order.item.IndexOrderByItemSegment;
+import org.apache.shardingsphere.underlying.execute.QueryResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.InputStream;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for k-way merge of order by values with priority queue and loser tree.
+ * 
+ * <p>Run with {@code org.openjdk.jmh.Main OrderByValueMergeBenchmark}, the benchmark is not a unit test.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderByValueMergeBenchmark {
+    
+    private static final int ROWS_PER_SHARD = 256;
+    
+    @Param({"8", "64", "512"})
+    private int shardCount;
+    
+    private Collection<OrderByItem> orderByItems;
+    
+    private long[][][] shardRows;
+    
+    /**
+     * Set up sorted rows of every shard.
+     */
+    @Setup
+    public void setUp() {
+        orderByItems = Arrays.asList(createOrderByItem(1), createOrderByItem(2));
+        Random random = new Random(shardCount);
+        shardRows = new long[shardCount][ROWS_PER_SHARD][];
+        long[] firstValues = new long[ROWS_PER_SHARD];
+        for (int i = 0; i < shardCount; i++) {
+            for (int j = 0; j < ROWS_PER_SHARD; j++) {
+                firstValues[j] = random.nextInt(ROWS_PER_SHARD);
+            }
+            Arrays.sort(firstValues);
+            for (int j = 0; j < ROWS_PER_SHARD; j++) {
+                shardRows[i][j] = new long[]{firstValues[j], j};
+            }
+        }
+    }
+    
+    private OrderByItem createOrderByItem(final int index) {
+        OrderByItem result = new OrderByItem(new IndexOrderByItemSegment(0, 0, index, OrderDirection.ASC, OrderDirection.ASC));
+        result.setIndex(index);
+        return result;
+    }
+    
+    /**
+     * Merge with priority queue.
+     * 
+     * @return merged row count
+     * @throws SQLException SQL exception
+     */
+    @Benchmark
+    public int mergeWithPriorityQueue() throws SQLException {
+        return merge(new PriorityQueue<OrderByValue>(shardCount));
+    }
+    
+    /**
+     * Merge with loser tree.
+     * 
+     * @return merged row count
+     * @throws SQLException SQL exception
+     */
+    @Benchmark
+    public int mergeWithLoserTree() throws SQLException {
+        return merge(new LoserTree<OrderByValue>(shardCount));
+    }
+    
+    private int merge(final Queue<OrderByValue> queue) throws SQLException {
+        for (long[][] each : shardRows) {
+            OrderByValue orderByValue = new OrderByValue(new LongArrayQueryResult(each), orderByItems);
+            if (orderByValue.next()) {
+                queue.offer(orderByValue);
+            }
+        }
+        int result = 0;
+        while (!queue.isEmpty()) {
+            OrderByValue first = queue.poll();
+            result++;
+            if (first.next()) {
+                queue.offer(first);
+            }
+        }
+        return result;
+    }
+    
+    private static final class LongArrayQueryResult implements QueryResult {
+        
+        private final long[][] rows;
+        
+        private int cursor = -1;
+        
+        LongArrayQueryResult(final long[][] rows) {
+            this.rows = rows;
+        }
+        
+        @Override
+        public boolean next() {
+            return ++cursor < rows.length;
+        }
+        
+        @Override
+        public Object getValue(final int columnIndex, final Class<?> type) {
+            return rows[cursor][columnIndex - 1];
+        }
+        
+        @Override
+        public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
+            return getValue(columnIndex, type);
+        }
+        
+        @Override
+        public InputStream getInputStream(final int columnIndex, final String type) {
+            throw new UnsupportedOperationException("getInputStream");
+        }
+        
+        @Override
+        public boolean wasNull() {
+            return false;
+        }
+        
+        @Override
+        public int getColumnCount() {
+            return 2;
+        }
+        
+        @Override
+        public String getColumnLabel(final int columnIndex) {
+            return 1 == columnIndex ? "first_value" : "second_value";
+        }
+        
+        @Override
+        public boolean isCaseSensitive(final int columnIndex) {
+            return false;
+        }
+    }
+}
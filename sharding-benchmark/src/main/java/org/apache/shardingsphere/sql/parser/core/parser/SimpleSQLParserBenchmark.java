@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.core.parser;
+
+import org.apache.shardingsphere.sql.parser.core.extractor.SQLSegmentsExtractorEngine;
+import org.apache.shardingsphere.sql.parser.core.filler.SQLStatementFillerEngine;
+import org.apache.shardingsphere.sql.parser.core.rule.registry.ParseRuleRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for statements per second of simple SQL parser.
+ * 
+ * <p>
+ * Parsing with ANTLR, segments extractor and statement filler is measured as baseline, which is the path before simple SQL parser.
+ * Run with {@code org.openjdk.jmh.Main SimpleSQLParserBenchmark}, the benchmark is not a unit test.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SimpleSQLParserBenchmark {
+    
+    private static final String[] SQLS = {
+        "SELECT order_id, user_id, order_status FROM t_order WHERE order_id = ? AND user_id = ?",
+        "INSERT INTO t_order (order_id, user_id, order_status) VALUES (?, ?, ?)",
+        "UPDATE t_order SET order_status = ? WHERE order_id = ? AND user_id = ?",
+        "DELETE FROM t_order WHERE order_id = ? AND user_id = ?",
+    };
+    
+    @Param({"MySQL", "PostgreSQL"})
+    private String databaseType;
+    
+    /**
+     * Parse statements with ANTLR.
+     * 
+     * @param blackhole blackhole
+     */
+    @Benchmark
+    @OperationsPerInvocation(4)
+    public void parseWithANTLR(final Blackhole blackhole) {
+        SQLStatementFillerEngine fillerEngine = new SQLStatementFillerEngine(ParseRuleRegistry.getInstance(), databaseType);
+        for (String each : SQLS) {
+            SQLAST ast = new SQLParserEngine(ParseRuleRegistry.getInstance(), databaseType, each).parse();
+            blackhole.consume(fillerEngine.fill(new SQLSegmentsExtractorEngine().extract(ast), ast.getParameterMarkerIndexes().size(), ast.getSqlStatementRule()));
+        }
+    }
+    
+    /**
+     * Parse statements with simple SQL parser.
+     * 
+     * @param blackhole blackhole
+     */
+    @Benchmark
+    @OperationsPerInvocation(4)
+    public void parseWithSimpleParser(final Blackhole blackhole) {
+        SQLStatementFillerEngine fillerEngine = new SQLStatementFillerEngine(ParseRuleRegistry.getInstance(), databaseType);
+        for (String each : SQLS) {
+            SimpleSQLParseResult result = new SimpleSQLParser(ParseRuleRegistry.getInstance(), databaseType, each).parse().get();
+            blackhole.consume(fillerEngine.fill(result.getSqlSegments(), result.getParametersCount(), result.getSqlStatementRule()));
+        }
+    }
+}
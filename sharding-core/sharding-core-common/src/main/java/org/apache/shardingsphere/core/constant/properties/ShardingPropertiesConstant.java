@@ -53,6 +53,68 @@ public enum ShardingPropertiesConstant {
      */
     SQL_SIMPLE("sql.simple", String.valueOf(Boolean.FALSE), boolean.class),
     
+    /**
+     * Enable or Disable to cache parse result by SQL shape for Statement.
+     *
+     * <p>
+     * SQL which only different on literal values share one parse result, literal values are bound on every execution.
+     * Only effective for SQL without parameter markers.
+     * Default: false
+     * </p>
+     */
+    SQL_SHAPE_CACHE_ENABLED("sql.shape.cache.enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Type of SQL parse result cache.
+     *
+     * <p>
+     * LRU: size bounded cache with strong references.
+     * SOFT: size bounded cache with soft references, entries may be reclaimed by GC under heap pressure.
+     * Other types can be provided by SPI.
+     * Default: LRU
+     * </p>
+     */
+    SQL_PARSE_CACHE_TYPE("sql.parse.cache.type", "LRU", String.class),
+    
+    /**
+     * Maximum size of SQL parse result cache.
+     *
+     * <p>
+     * Default: 65535
+     * </p>
+     */
+    SQL_PARSE_CACHE_MAXIMUM_SIZE("sql.parse.cache.maximum.size", String.valueOf(65535), int.class),
+    
+    /**
+     * Enable or Disable to share SQL parse result cache across schemas of same database type.
+     *
+     * <p>
+     * If this property is false, every schema has its own SQL parse engine and cache.
+     * Default: true
+     * </p>
+     */
+    SQL_PARSE_CACHE_SHARED("sql.parse.cache.shared", String.valueOf(Boolean.TRUE), boolean.class),
+    
+    /**
+     * Enable or Disable to cache routing result of PreparedStatement.
+     *
+     * <p>
+     * Routing result is cached by logic SQL and sharding values, sharding algorithms must return same result for same sharding values.
+     * Routing result of insert statement, hint and subquery are not cached.
+     * Default: false
+     * </p>
+     */
+    SQL_ROUTE_CACHE_ENABLED("sql.route.cache.enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Maximum size of routing result cache for one sharding rule.
+     *
+     * <p>
+     * Default: 65535
+     * </p>
+     */
+    SQL_ROUTE_CACHE_MAXIMUM_SIZE("sql.route.cache.maximum.size", String.valueOf(65535), int.class),
+    
     /**
      * Worker group or user group thread max size.
      *
@@ -75,11 +137,68 @@ public enum ShardingPropertiesConstant {
      */
     EXECUTOR_SIZE("executor.size", String.valueOf(0), int.class),
     
+    /**
+     * Max concurrent asynchronous executions for each data source.
+     *
+     * <p>
+     * If this property is greater than 0, asynchronous executions of every data source run in own bounded thread pool as bulkhead, 
+     * so a slow data source does not occupy threads of other data sources.
+     * Data sources of different logic schemas in sharding proxy have own bulkheads even if their names are same.
+     * Default: 0, bulkheads are disabled
+     * </p>
+     */
+    EXECUTOR_MAX_CONCURRENCY_PER_DATASOURCE("executor.max.concurrency.per.datasource", String.valueOf(0), int.class),
+    
+    /**
+     * Max queued asynchronous executions for each data source.
+     *
+     * <p>
+     * Only effective when bulkheads are enabled, executions beyond max concurrency and max queue size are rejected.
+     * Rejection does not roll back executions already started on other data sources, so DML may be partially applied.
+     * Default: 1024
+     * </p>
+     */
+    EXECUTOR_MAX_QUEUE_SIZE_PER_DATASOURCE("executor.max.queue.size.per.datasource", String.valueOf(1024), int.class),
+    
+    /**
+     * Timeout milliseconds of parallel execution for each query.
+     *
+     * <p>
+     * If this property is greater than 0, uncompleted statements are cancelled and execution fails when timeout.
+     * Statements of first group are executed by current thread and are cancelled too, timeout is checked again after they complete.
+     * Serial execution in transaction is not limited by this property.
+     * Default: 0, without timeout
+     * </p>
+     */
+    EXECUTOR_TIMEOUT_MILLISECONDS_PER_QUERY("executor.timeout.milliseconds.per.query", String.valueOf(0), int.class),
+    
     /**
      * Max opened connection size for each query.
      */
     MAX_CONNECTIONS_SIZE_PER_QUERY("max.connections.size.per.query", String.valueOf(1), int.class),
     
+    /**
+     * Max rows of group by result kept in memory for each query.
+     *
+     * <p>
+     * When group by and order by items are different, groups beyond this size are spilled to temporary files and aggregated partition by partition.
+     * Default: 0, all groups are kept in memory
+     * </p>
+     */
+    MAX_GROUP_BY_ROWS_IN_MEMORY("max.group.by.rows.in.memory", String.valueOf(0), int.class),
+    
+    /**
+     * Max value groups of multi-row insert routed and rewritten together.
+     *
+     * <p>
+     * If this property is greater than 0, multi-row insert with more value groups is routed and rewritten chunk by chunk,
+     * each chunk is executed as separate insert statements of at most this size, so memory of routing and rewriting is proportional to this size.
+     * Chunks are not atomic without transaction. Batch of prepared statement is not split.
+     * Default: 0, never split
+     * </p>
+     */
+    MAX_INSERT_VALUES_PER_CHUNK("max.insert.values.per.chunk", String.valueOf(0), int.class),
+    
     /**
      * When encrypt data, query with cipher column or not.
      * 
@@ -121,6 +240,16 @@ public enum ShardingPropertiesConstant {
      */
     PROXY_HINT_ENABLED("proxy.hint.enabled", String.valueOf(Boolean.FALSE), boolean.class),
     
+    /**
+     * SQL corpus file to warm up parser of Sharding-Proxy at startup.
+     *
+     * <p>
+     * One SQL per line, blank lines and lines start with {@code #} are ignored.
+     * Default: empty, without warm up
+     * </p>
+     */
+    PROXY_PARSER_WARM_UP_FILE("proxy.parser.warm.up.file", "", String.class),
+    
     PROXY_BACKEND_MAX_CONNECTIONS("proxy.backend.max.connections", String.valueOf(8), int.class),
     
     PROXY_BACKEND_CONNECTION_TIMEOUT_SECONDS("proxy.backend.connection.timeout.seconds", String.valueOf(60), int.class),
@@ -29,6 +29,7 @@ import org.apache.shardingsphere.api.config.encrypt.EncryptTableRuleConfiguratio
 import org.apache.shardingsphere.api.config.encrypt.EncryptorRuleConfiguration;
 import org.apache.shardingsphere.spi.algorithm.encrypt.ShardingEncryptorServiceLoader;
 import org.apache.shardingsphere.core.strategy.encrypt.EncryptTable;
+import org.apache.shardingsphere.core.strategy.encrypt.impl.AESGCMShardingEncryptor;
 import org.apache.shardingsphere.spi.encrypt.ShardingEncryptor;
 import org.apache.shardingsphere.spi.encrypt.ShardingQueryAssistedEncryptor;
 
@@ -64,6 +65,7 @@ public final class EncryptRule implements BaseRule {
     public EncryptRule(final EncryptRuleConfiguration encryptRuleConfig) {
         this.ruleConfiguration = encryptRuleConfig;
         Preconditions.checkArgument(isValidRuleConfiguration(), "Invalid encrypt column configurations in EncryptTableRuleConfigurations.");
+        checkAssistedQueryColumns();
 
         // 初始化，加密器- SPI 机制
         initEncryptors(encryptRuleConfig.getEncryptors());
@@ -91,6 +93,16 @@ public final class EncryptRule implements BaseRule {
         return !Strings.isNullOrEmpty(column.getEncryptor()) && !Strings.isNullOrEmpty(column.getCipherColumn()) && ruleConfiguration.getEncryptors().containsKey(column.getEncryptor());
     }
     
+    private void checkAssistedQueryColumns() {
+        for (Entry<String, EncryptTableRuleConfiguration> entry : ruleConfiguration.getTables().entrySet()) {
+            for (Entry<String, EncryptColumnRuleConfiguration> columnEntry : entry.getValue().getColumns().entrySet()) {
+                String encryptorType = ruleConfiguration.getEncryptors().get(columnEntry.getValue().getEncryptor()).getType();
+                Preconditions.checkArgument(!AESGCMShardingEncryptor.TYPE.equalsIgnoreCase(encryptorType) || !Strings.isNullOrEmpty(columnEntry.getValue().getAssistedQueryColumn()),
+                        "Assisted query column is required by `%s` encryptor of `%s.%s`, because its ciphertext is not deterministic.", encryptorType, entry.getKey(), columnEntry.getKey());
+            }
+        }
+    }
+    
     private void initEncryptors(final Map<String, EncryptorRuleConfiguration> encryptors) {
 
         // SPI 机制
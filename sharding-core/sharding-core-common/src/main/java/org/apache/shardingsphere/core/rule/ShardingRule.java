@@ -21,6 +21,7 @@ import com.google.common.base.Optional;
 import com.google.common.base.Preconditions;
 import com.google.common.base.Splitter;
 import com.google.common.base.Strings;
+import lombok.AccessLevel;
 import lombok.Getter;
 import org.apache.shardingsphere.api.config.encrypt.EncryptRuleConfiguration;
 import org.apache.shardingsphere.api.config.masterslave.MasterSlaveRuleConfiguration;
@@ -33,12 +34,17 @@ import org.apache.shardingsphere.core.strategy.route.ShardingStrategy;
 import org.apache.shardingsphere.core.strategy.route.ShardingStrategyFactory;
 import org.apache.shardingsphere.core.strategy.route.none.NoneShardingStrategy;
 import org.apache.shardingsphere.spi.algorithm.keygen.ShardingKeyGeneratorServiceLoader;
+import org.apache.shardingsphere.spi.keygen.BatchShardingKeyGenerator;
 import org.apache.shardingsphere.spi.keygen.ShardingKeyGenerator;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.TreeSet;
 
 /**
@@ -81,14 +87,30 @@ public class ShardingRule implements BaseRule {
     // 加密规则
     private final EncryptRule encryptRule;
     
+    @Getter(AccessLevel.NONE)
+    private final Map<String, TableRule> logicTableIndex;
+    
+    @Getter(AccessLevel.NONE)
+    private final Map<String, Collection<TableRule>> actualTableIndex;
+    
+    @Getter(AccessLevel.NONE)
+    private final Map<String, BindingTableRule> bindingTableIndex;
+    
+    @Getter(AccessLevel.NONE)
+    private final Collection<String> broadcastTableIndex;
+    
     public ShardingRule(final ShardingRuleConfiguration shardingRuleConfig, final Collection<String> dataSourceNames) {
         Preconditions.checkArgument(null != shardingRuleConfig, "ShardingRuleConfig cannot be null.");
         Preconditions.checkArgument(null != dataSourceNames && !dataSourceNames.isEmpty(), "Data sources cannot be empty.");
         this.ruleConfiguration = shardingRuleConfig;
         shardingDataSourceNames = new ShardingDataSourceNames(shardingRuleConfig, dataSourceNames);
         tableRules = createTableRules(shardingRuleConfig);
+        logicTableIndex = createLogicTableIndex(tableRules);
+        actualTableIndex = createActualTableIndex(tableRules);
         broadcastTables = shardingRuleConfig.getBroadcastTables();
+        broadcastTableIndex = createBroadcastTableIndex(broadcastTables);
         bindingTableRules = createBindingTableRules(shardingRuleConfig.getBindingTableGroups());
+        bindingTableIndex = createBindingTableIndex(bindingTableRules);
         defaultDatabaseShardingStrategy = createDefaultShardingStrategy(shardingRuleConfig.getDefaultDatabaseShardingStrategyConfig());
         defaultTableShardingStrategy = createDefaultShardingStrategy(shardingRuleConfig.getDefaultTableShardingStrategyConfig());
         defaultShardingKeyGenerator = createDefaultKeyGenerator(shardingRuleConfig.getDefaultKeyGeneratorConfig());
@@ -107,6 +129,51 @@ public class ShardingRule implements BaseRule {
         return result;
     }
     
+    private Map<String, TableRule> createLogicTableIndex(final Collection<TableRule> tableRules) {
+        Map<String, TableRule> result = new HashMap<>(tableRules.size(), 1);
+        for (TableRule each : tableRules) {
+            if (!result.containsKey(each.getLogicTable())) {
+                result.put(each.getLogicTable(), each);
+            }
+        }
+        return result;
+    }
+    
+    private Map<String, Collection<TableRule>> createActualTableIndex(final Collection<TableRule> tableRules) {
+        Map<String, Collection<TableRule>> result = new HashMap<>();
+        for (TableRule each : tableRules) {
+            for (DataNode dataNode : each.getActualDataNodes()) {
+                Collection<TableRule> indexedTableRules = result.get(dataNode.getTableName());
+                if (null == indexedTableRules) {
+                    indexedTableRules = new LinkedHashSet<>();
+                    result.put(dataNode.getTableName(), indexedTableRules);
+                }
+                indexedTableRules.add(each);
+            }
+        }
+        return result;
+    }
+    
+    private Collection<String> createBroadcastTableIndex(final Collection<String> broadcastTables) {
+        Collection<String> result = new HashSet<>(broadcastTables.size(), 1);
+        for (String each : broadcastTables) {
+            result.add(each.toLowerCase());
+        }
+        return result;
+    }
+    
+    private Map<String, BindingTableRule> createBindingTableIndex(final Collection<BindingTableRule> bindingTableRules) {
+        Map<String, BindingTableRule> result = new HashMap<>();
+        for (BindingTableRule each : bindingTableRules) {
+            for (TableRule tableRule : each.getTableRules()) {
+                if (!result.containsKey(tableRule.getLogicTable())) {
+                    result.put(tableRule.getLogicTable(), each);
+                }
+            }
+        }
+        return result;
+    }
+    
     private String getDefaultGenerateKeyColumn(final ShardingRuleConfiguration shardingRuleConfig) {
         return null == shardingRuleConfig.getDefaultKeyGeneratorConfig() ? null : shardingRuleConfig.getDefaultKeyGeneratorConfig().getColumn();
     }
@@ -167,12 +234,7 @@ public class ShardingRule implements BaseRule {
      * @return table rule
      */
     public Optional<TableRule> findTableRule(final String logicTableName) {
-        for (TableRule each : tableRules) {
-            if (each.getLogicTable().equalsIgnoreCase(logicTableName)) {
-                return Optional.of(each);
-            }
-        }
-        return Optional.absent();
+        return null == logicTableName ? Optional.<TableRule>absent() : Optional.fromNullable(logicTableIndex.get(logicTableName.toLowerCase()));
     }
     
     /**
@@ -182,12 +244,8 @@ public class ShardingRule implements BaseRule {
      * @return table rule
      */
     public Optional<TableRule> findTableRuleByActualTable(final String actualTableName) {
-        for (TableRule each : tableRules) {
-            if (each.isExisted(actualTableName)) {
-                return Optional.of(each);
-            }
-        }
-        return Optional.absent();
+        Collection<TableRule> tableRules = actualTableIndex.get(actualTableName);
+        return null == tableRules ? Optional.<TableRule>absent() : Optional.of(tableRules.iterator().next());
     }
     
     /**
@@ -284,12 +342,7 @@ public class ShardingRule implements BaseRule {
      * @return binding table rule
      */
     public Optional<BindingTableRule> findBindingTableRule(final String logicTableName) {
-        for (BindingTableRule each : bindingTableRules) {
-            if (each.hasLogicTable(logicTableName)) {
-                return Optional.of(each);
-            }
-        }
-        return Optional.absent();
+        return null == logicTableName ? Optional.<BindingTableRule>absent() : Optional.fromNullable(bindingTableIndex.get(logicTableName.toLowerCase()));
     }
     
     /**
@@ -317,12 +370,7 @@ public class ShardingRule implements BaseRule {
      * @return logic table is belong to broadcast tables or not
      */
     public boolean isBroadcastTable(final String logicTableName) {
-        for (String each : broadcastTables) {
-            if (each.equalsIgnoreCase(logicTableName)) {
-                return true;
-            }
-        }
-        return false;
+        return null != logicTableName && broadcastTableIndex.contains(logicTableName.toLowerCase());
     }
     
     /**
@@ -366,12 +414,8 @@ public class ShardingRule implements BaseRule {
      * @return is sharding column or not
      */
     public boolean isShardingColumn(final String columnName, final String tableName) {
-        for (TableRule each : tableRules) {
-            if (each.getLogicTable().equalsIgnoreCase(tableName) && isShardingColumn(each, columnName)) {
-                return true;
-            }
-        }
-        return false;
+        Optional<TableRule> tableRule = findTableRule(tableName);
+        return tableRule.isPresent() && isShardingColumn(tableRule.get(), columnName);
     }
     
     private boolean isShardingColumn(final TableRule tableRule, final String columnName) {
@@ -385,12 +429,8 @@ public class ShardingRule implements BaseRule {
      * @return column name of generated key
      */
     public Optional<String> findGenerateKeyColumnName(final String logicTableName) {
-        for (TableRule each : tableRules) {
-            if (each.getLogicTable().equalsIgnoreCase(logicTableName) && null != each.getGenerateKeyColumn()) {
-                return Optional.of(each.getGenerateKeyColumn());
-            }
-        }
-        return Optional.absent();
+        Optional<TableRule> tableRule = findTableRule(logicTableName);
+        return tableRule.isPresent() ? Optional.fromNullable(tableRule.get().getGenerateKeyColumn()) : Optional.<String>absent();
     }
     
     /**
@@ -400,12 +440,34 @@ public class ShardingRule implements BaseRule {
      * @return generated key
      */
     public Comparable<?> generateKey(final String logicTableName) {
+        return getShardingKeyGenerator(logicTableName).generateKey();
+    }
+    
+    /**
+     * Generate keys.
+     *
+     * @param logicTableName logic table name
+     * @param count count of keys
+     * @return generated keys
+     */
+    public List<Comparable<?>> generateKeys(final String logicTableName, final int count) {
+        ShardingKeyGenerator shardingKeyGenerator = getShardingKeyGenerator(logicTableName);
+        if (shardingKeyGenerator instanceof BatchShardingKeyGenerator) {
+            return ((BatchShardingKeyGenerator) shardingKeyGenerator).generateKeys(count);
+        }
+        List<Comparable<?>> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(shardingKeyGenerator.generateKey());
+        }
+        return result;
+    }
+    
+    private ShardingKeyGenerator getShardingKeyGenerator(final String logicTableName) {
         Optional<TableRule> tableRule = findTableRule(logicTableName);
         if (!tableRule.isPresent()) {
             throw new ShardingConfigurationException("Cannot find strategy for generate keys.");
         }
-        ShardingKeyGenerator shardingKeyGenerator = null == tableRule.get().getShardingKeyGenerator() ? defaultShardingKeyGenerator : tableRule.get().getShardingKeyGenerator();
-        return shardingKeyGenerator.generateKey();
+        return null == tableRule.get().getShardingKeyGenerator() ? defaultShardingKeyGenerator : tableRule.get().getShardingKeyGenerator();
     }
     
     /**
@@ -416,10 +478,12 @@ public class ShardingRule implements BaseRule {
      */
     public Collection<String> getLogicTableNames(final String actualTableName) {
         Collection<String> result = new LinkedList<>();
+        Collection<TableRule> tableRules = actualTableIndex.get(actualTableName);
+        if (null == tableRules) {
+            return result;
+        }
         for (TableRule each : tableRules) {
-            if (each.isExisted(actualTableName)) {
-                result.add(each.getLogicTable());
-            }
+            result.add(each.getLogicTable());
         }
         return result;
     }
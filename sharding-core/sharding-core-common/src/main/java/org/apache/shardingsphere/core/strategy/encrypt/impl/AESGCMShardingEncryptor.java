@@ -0,0 +1,182 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.encrypt.impl;
+
+import com.google.common.base.Preconditions;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import org.apache.commons.codec.binary.Base64;
+import org.apache.commons.codec.binary.StringUtils;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.shardingsphere.spi.encrypt.ShardingQueryAssistedEncryptor;
+
+import javax.crypto.Cipher;
+import javax.crypto.Mac;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.Properties;
+
+/**
+ * AES GCM sharding encryptor.
+ * 
+ * <p>
+ * Ciphertext is composed of random IV, encrypted data and authentication tag, so same plaintext is encrypted to different ciphertexts.
+ * Ciphertext can not be used in query conditions, assisted query column is required to query by this encryptor,
+ * assisted query value is deterministic HMAC-SHA256 of plaintext with a key derived from {@code aes.key.value}.
+ * </p>
+ */
+public final class AESGCMShardingEncryptor implements ShardingQueryAssistedEncryptor {
+    
+    public static final String TYPE = "AES_GCM";
+    
+    private static final String AES_KEY = "aes.key.value";
+    
+    private static final String TRANSFORMATION = "AES/GCM/NoPadding";
+    
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    
+    private static final int IV_LENGTH = 12;
+    
+    private static final int TAG_BIT_LENGTH = 128;
+    
+    private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+    
+    @Getter
+    private Properties properties = new Properties();
+    
+    private volatile AESGCMCipher aesGCMCipher;
+    
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+    
+    @Override
+    public void setProperties(final Properties properties) {
+        this.properties = properties;
+        aesGCMCipher = null;
+    }
+    
+    @Override
+    public void init() {
+        if (null != properties.get(AES_KEY)) {
+            aesGCMCipher = createAESGCMCipher();
+        }
+    }
+    
+    @Override
+    @SneakyThrows
+    public String encrypt(final Object plaintext) {
+        return Base64.encodeBase64String(getAESGCMCipher().encrypt(StringUtils.getBytesUtf8(String.valueOf(plaintext))));
+    }
+    
+    @Override
+    @SneakyThrows
+    public Object decrypt(final String ciphertext) {
+        if (null == ciphertext) {
+            return null;
+        }
+        return new String(getAESGCMCipher().decrypt(Base64.decodeBase64(ciphertext)), StandardCharsets.UTF_8);
+    }
+    
+    @Override
+    @SneakyThrows
+    public String queryAssistedEncrypt(final String plaintext) {
+        if (null == plaintext) {
+            return null;
+        }
+        return Base64.encodeBase64String(getAESGCMCipher().digest(StringUtils.getBytesUtf8(plaintext)));
+    }
+    
+    private AESGCMCipher getAESGCMCipher() {
+        AESGCMCipher result = aesGCMCipher;
+        if (null == result) {
+            result = createAESGCMCipher();
+            aesGCMCipher = result;
+        }
+        return result;
+    }
+    
+    private AESGCMCipher createAESGCMCipher() {
+        Preconditions.checkArgument(null != properties.get(AES_KEY), "No available secret key for `%s`.", AESGCMShardingEncryptor.class.getName());
+        String key = properties.get(AES_KEY).toString();
+        return new AESGCMCipher(new SecretKeySpec(Arrays.copyOf(DigestUtils.sha1(key), 16), "AES"), new SecretKeySpec(DigestUtils.sha256(HMAC_ALGORITHM + key), HMAC_ALGORITHM));
+    }
+    
+    @RequiredArgsConstructor
+    private static final class AESGCMCipher {
+        
+        private final SecretKeySpec secretKey;
+        
+        private final SecretKeySpec hmacKey;
+        
+        private final ThreadLocal<Cipher> ciphers = new ThreadLocal<>();
+        
+        private final ThreadLocal<Mac> macs = new ThreadLocal<>();
+        
+        byte[] encrypt(final byte[] plaintext) throws GeneralSecurityException {
+            Cipher cipher = getCipher();
+            byte[] iv = new byte[IV_LENGTH];
+            SECURE_RANDOM.nextBytes(iv);
+            try {
+                cipher.init(Cipher.ENCRYPT_MODE, secretKey, new GCMParameterSpec(TAG_BIT_LENGTH, iv));
+                byte[] result = Arrays.copyOf(iv, IV_LENGTH + cipher.getOutputSize(plaintext.length));
+                cipher.doFinal(plaintext, 0, plaintext.length, result, IV_LENGTH);
+                return result;
+            } catch (final GeneralSecurityException ex) {
+                ciphers.remove();
+                throw ex;
+            }
+        }
+        
+        byte[] decrypt(final byte[] ciphertext) throws GeneralSecurityException {
+            Cipher cipher = getCipher();
+            try {
+                cipher.init(Cipher.DECRYPT_MODE, secretKey, new GCMParameterSpec(TAG_BIT_LENGTH, ciphertext, 0, IV_LENGTH));
+                return cipher.doFinal(ciphertext, IV_LENGTH, ciphertext.length - IV_LENGTH);
+            } catch (final GeneralSecurityException ex) {
+                ciphers.remove();
+                throw ex;
+            }
+        }
+        
+        byte[] digest(final byte[] plaintext) throws GeneralSecurityException {
+            Mac result = macs.get();
+            if (null == result) {
+                result = Mac.getInstance(HMAC_ALGORITHM);
+                result.init(hmacKey);
+                macs.set(result);
+            }
+            return result.doFinal(plaintext);
+        }
+        
+        private Cipher getCipher() throws GeneralSecurityException {
+            Cipher result = ciphers.get();
+            if (null == result) {
+                result = Cipher.getInstance(TRANSFORMATION);
+                ciphers.set(result);
+            }
+            return result;
+        }
+    }
+}
@@ -19,7 +19,7 @@ package org.apache.shardingsphere.core.strategy.encrypt.impl;
 
 import com.google.common.base.Preconditions;
 import lombok.Getter;
-import lombok.Setter;
+import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import org.apache.commons.codec.binary.Base64;
 import org.apache.commons.codec.binary.StringUtils;
@@ -27,40 +27,54 @@ import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.shardingsphere.spi.encrypt.ShardingEncryptor;
 
 import javax.crypto.Cipher;
-import javax.crypto.NoSuchPaddingException;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
-import java.security.InvalidKeyException;
-import java.security.NoSuchAlgorithmException;
+import java.security.GeneralSecurityException;
 import java.util.Arrays;
 import java.util.Properties;
 
 /**
  * AES sharding encryptor.
+ * 
+ * <p>
+ * Secret key is derived once, ciphers are reused by every thread.
+ * Ciphertext is deterministic, so it can be used in query conditions directly.
+ * Use {@link AESGCMShardingEncryptor} for authenticated encryption with random IV.
+ * </p>
  *
  * @author panjuan
  */
-@Getter
-@Setter
 public final class AESShardingEncryptor implements ShardingEncryptor {
     
     private static final String AES_KEY = "aes.key.value";
     
+    @Getter
     private Properties properties = new Properties();
     
+    private volatile AESCipher aesCipher;
+    
     @Override
     public String getType() {
         return "AES";
     }
     
+    @Override
+    public void setProperties(final Properties properties) {
+        this.properties = properties;
+        aesCipher = null;
+    }
+    
     @Override
     public void init() {
+        if (null != properties.get(AES_KEY)) {
+            aesCipher = createAESCipher();
+        }
     }
     
     @Override
     @SneakyThrows
     public String encrypt(final Object plaintext) {
-        byte[] result = getCipher(Cipher.ENCRYPT_MODE).doFinal(StringUtils.getBytesUtf8(String.valueOf(plaintext)));
+        byte[] result = getAESCipher().encrypt(StringUtils.getBytesUtf8(String.valueOf(plaintext)));
         return Base64.encodeBase64String(result);
     }
     
@@ -70,19 +84,66 @@ public final class AESShardingEncryptor implements ShardingEncryptor {
         if (null == ciphertext) {
             return null;
         }
-        byte[] result = getCipher(Cipher.DECRYPT_MODE).doFinal(Base64.decodeBase64(String.valueOf(ciphertext)));
+        byte[] result = getAESCipher().decrypt(Base64.decodeBase64(ciphertext));
         return new String(result, StandardCharsets.UTF_8);
     }
     
-    private Cipher getCipher(final int decryptMode) throws NoSuchPaddingException, NoSuchAlgorithmException, InvalidKeyException {
-        Preconditions.checkArgument(properties.containsKey(AES_KEY), "No available secret key for `%s`.", AESShardingEncryptor.class.getName());
-        Cipher result = Cipher.getInstance(getType());
-        result.init(decryptMode, new SecretKeySpec(createSecretKey(), getType()));
+    private AESCipher getAESCipher() {
+        AESCipher result = aesCipher;
+        if (null == result) {
+            result = createAESCipher();
+            aesCipher = result;
+        }
         return result;
     }
     
+    private AESCipher createAESCipher() {
+        Preconditions.checkArgument(properties.containsKey(AES_KEY), "No available secret key for `%s`.", AESShardingEncryptor.class.getName());
+        return new AESCipher(new SecretKeySpec(createSecretKey(), getType()));
+    }
+    
     private byte[] createSecretKey() {
         Preconditions.checkArgument(null != properties.get(AES_KEY), String.format("%s can not be null.", AES_KEY));
         return Arrays.copyOf(DigestUtils.sha1(properties.get(AES_KEY).toString()), 16);
     }
+    
+    @RequiredArgsConstructor
+    private static final class AESCipher {
+        
+        private final SecretKeySpec secretKey;
+        
+        private final ThreadLocal<Cipher> encryptCiphers = new ThreadLocal<>();
+        
+        private final ThreadLocal<Cipher> decryptCiphers = new ThreadLocal<>();
+        
+        byte[] encrypt(final byte[] plaintext) throws GeneralSecurityException {
+            Cipher cipher = getCipher(encryptCiphers, Cipher.ENCRYPT_MODE);
+            try {
+                return cipher.doFinal(plaintext);
+            } catch (final GeneralSecurityException ex) {
+                encryptCiphers.remove();
+                throw ex;
+            }
+        }
+        
+        byte[] decrypt(final byte[] ciphertext) throws GeneralSecurityException {
+            Cipher cipher = getCipher(decryptCiphers, Cipher.DECRYPT_MODE);
+            try {
+                return cipher.doFinal(ciphertext);
+            } catch (final GeneralSecurityException ex) {
+                decryptCiphers.remove();
+                throw ex;
+            }
+        }
+        
+        private Cipher getCipher(final ThreadLocal<Cipher> ciphers, final int cipherMode) throws GeneralSecurityException {
+            Cipher result = ciphers.get();
+            if (null == result) {
+                result = Cipher.getInstance(secretKey.getAlgorithm());
+                result.init(cipherMode, secretKey);
+                ciphers.set(result);
+            }
+            return result;
+        }
+    }
 }
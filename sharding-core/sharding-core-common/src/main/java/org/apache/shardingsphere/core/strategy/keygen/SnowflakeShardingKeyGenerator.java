@@ -21,10 +21,13 @@ import com.google.common.base.Preconditions;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.SneakyThrows;
-import org.apache.shardingsphere.spi.keygen.ShardingKeyGenerator;
+import org.apache.shardingsphere.spi.keygen.BatchShardingKeyGenerator;
 
+import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.List;
 import java.util.Properties;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Snowflake distributed primary key generator.
@@ -48,12 +51,17 @@ import java.util.Properties;
  * Call @{@code SnowflakeShardingKeyGenerator.setMaxTolerateTimeDifferenceMilliseconds} to set max tolerate time difference milliseconds, default value is 0.
  * </p>
  * 
+ * <p>
+ * Last milliseconds and sequence are packed into one long and updated by CAS without lock.
+ * Keys of one batch reserve continuous sequence range of one millisecond in one step.
+ * </p>
+ * 
  * @author gaohongtao
  * @author panjuan
  *
  *  雪花算法
  */
-public final class SnowflakeShardingKeyGenerator implements ShardingKeyGenerator {
+public final class SnowflakeShardingKeyGenerator implements BatchShardingKeyGenerator {
     
     public static final long EPOCH;
     
@@ -82,11 +90,9 @@ public final class SnowflakeShardingKeyGenerator implements ShardingKeyGenerator
     @Setter
     private Properties properties = new Properties();
     
-    private int sequenceOffset = -1;
+    private final AtomicLong lastState = new AtomicLong();
     
-    private long sequence;
-    
-    private long lastMilliseconds;
+    private volatile int sequenceOffset = -1;
     
     static {
         Calendar calendar = Calendar.getInstance();
@@ -104,40 +110,68 @@ public final class SnowflakeShardingKeyGenerator implements ShardingKeyGenerator
     }
     
     @Override
-    public synchronized Comparable<?> generateKey() {
+    public Comparable<?> generateKey() {
+        return reserveKeys(1);
+    }
+    
+    @Override
+    public List<Comparable<?>> generateKeys(final int count) {
+        List<Comparable<?>> result = new ArrayList<>(count);
+        while (result.size() < count) {
+            int remaining = count - result.size();
+            long firstKey = reserveKeys(remaining);
+            long reservedCount = Math.min(remaining, SEQUENCE_MASK + 1 - (firstKey & SEQUENCE_MASK));
+            for (long i = 0; i < reservedCount; i++) {
+                result.add(firstKey + i);
+            }
+        }
+        return result;
+    }
+    
+    private long reserveKeys(final int count) {
+        long workerId = getWorkerId();
+        while (true) {
+            long state = lastState.get();
+            long lastMilliseconds = state >>> SEQUENCE_BITS;
 
-        //获取当前时间戳
-        long currentMilliseconds = timeService.getCurrentMillis();
+            //获取当前时间戳
+            long currentMilliseconds = timeService.getCurrentMillis();
 
-        // 如果出现了时钟回拨，则抛出异常或进行时钟等待
-        if (waitTolerateTimeDifferenceIfNeed(currentMilliseconds)) {
-            currentMilliseconds = timeService.getCurrentMillis();
-        }
+            // 如果出现了时钟回拨，则抛出异常或进行时钟等待
+            if (waitTolerateTimeDifferenceIfNeed(lastMilliseconds, currentMilliseconds)) {
+                currentMilliseconds = timeService.getCurrentMillis();
+            }
+            long sequence;
+            int nextSequenceOffset = sequenceOffset;
+
+            // 如果上次的生成时间与本次的是同一毫秒
+            if (lastMilliseconds == currentMilliseconds) {
 
-        // 如果上次的生成时间与本次的是同一毫秒
-        if (lastMilliseconds == currentMilliseconds) {
+                // 这个位运算保证始终就是在4096这个范围内，避免你自己传递的sequence超过了4096这个范围
+                if (0L == (sequence = ((state & SEQUENCE_MASK) + 1) & SEQUENCE_MASK)) {
 
-            // 这个位运算保证始终就是在4096这个范围内，避免你自己传递的sequence超过了4096这个范围
-            if (0L == (sequence = (sequence + 1) & SEQUENCE_MASK)) {
+                    // 如果位运算结果为0，则需要等待下一个毫秒继续生成
+                    currentMilliseconds = waitUntilNextTime(currentMilliseconds);
+                }
+            } else {
 
-                // 如果位运算结果为0，则需要等待下一个毫秒继续生成
-                currentMilliseconds = waitUntilNextTime(currentMilliseconds);
+                // 如果不是，则生成新的 sequence
+                nextSequenceOffset = vibrateSequenceOffset(nextSequenceOffset);
+                sequence = nextSequenceOffset;
             }
-        } else {
+            long lastSequence = Math.min(sequence + count - 1, SEQUENCE_MASK);
+            if (lastState.compareAndSet(state, currentMilliseconds << SEQUENCE_BITS | lastSequence)) {
+                sequenceOffset = nextSequenceOffset;
 
-            // 如果不是，则生成新的 sequence
-            vibrateSequenceOffset();
-            sequence = sequenceOffset;
+                // 先将当前时间戳左移放到完成 41个bit，然后将工作进程为左移到 10个bit，再将序号为放到最后的 12个bit
+                // 最后拼接起来成一个64 bit的二进制数字
+                return ((currentMilliseconds - EPOCH) << TIMESTAMP_LEFT_SHIFT_BITS) | (workerId << WORKER_ID_LEFT_SHIFT_BITS) | sequence;
+            }
         }
-        lastMilliseconds = currentMilliseconds;
-
-        // 先将当前时间戳左移放到完成 41个bit，然后将工作进程为左移到 10个bit，再将序号为放到最后的 12个bit
-        // 最后拼接起来成一个64 bit的二进制数字
-        return ((currentMilliseconds - EPOCH) << TIMESTAMP_LEFT_SHIFT_BITS) | (getWorkerId() << WORKER_ID_LEFT_SHIFT_BITS) | sequence;
     }
     
     @SneakyThrows
-    private boolean waitTolerateTimeDifferenceIfNeed(final long currentMilliseconds) {
+    private boolean waitTolerateTimeDifferenceIfNeed(final long lastMilliseconds, final long currentMilliseconds) {
         if (lastMilliseconds <= currentMilliseconds) {
             return false;
         }
@@ -172,7 +206,7 @@ public final class SnowflakeShardingKeyGenerator implements ShardingKeyGenerator
         return result;
     }
     
-    private void vibrateSequenceOffset() {
-        sequenceOffset = sequenceOffset >= getMaxVibrationOffset() ? 0 : sequenceOffset + 1;
+    private int vibrateSequenceOffset(final int sequenceOffset) {
+        return sequenceOffset >= getMaxVibrationOffset() ? 0 : sequenceOffset + 1;
     }
 }
@@ -0,0 +1,230 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.route.inline;
+
+import com.google.common.base.Optional;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Inline expression compiled to arithmetic, evaluated without groovy.
+ *
+ * <p>
+ * Only supports literal text and placeholders like {@code ${order_id % 16}}, 
+ * placeholder is sharding column with integer literals joined by {@code +}, {@code -}, {@code *} and {@code %}.
+ * Result is same as groovy: calculate with int if sharding value and literals are all int, otherwise with long.
+ * </p>
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class InlineArithmeticExpression {
+    
+    private final List<String> literals;
+    
+    private final List<ArithmeticTerm> placeholders;
+    
+    /**
+     * Compile inline expression.
+     *
+     * @param inlineExpression inline expression with {@code $}
+     * @param shardingColumn sharding column
+     * @return compiled expression, absent if inline expression is not supported
+     */
+    public static Optional<InlineArithmeticExpression> compile(final String inlineExpression, final String shardingColumn) {
+        List<String> literals = new ArrayList<>();
+        List<ArithmeticTerm> placeholders = new ArrayList<>();
+        int position = 0;
+        while (true) {
+            int start = inlineExpression.indexOf("${", position);
+            String literal = inlineExpression.substring(position, -1 == start ? inlineExpression.length() : start);
+            if (!isPlainLiteral(literal)) {
+                return Optional.absent();
+            }
+            literals.add(literal);
+            if (-1 == start) {
+                break;
+            }
+            int stop = inlineExpression.indexOf('}', start);
+            if (-1 == stop) {
+                return Optional.absent();
+            }
+            Optional<ArithmeticTerm> placeholder = ArithmeticTerm.parse(inlineExpression.substring(start + 2, stop), shardingColumn);
+            if (!placeholder.isPresent()) {
+                return Optional.absent();
+            }
+            placeholders.add(placeholder.get());
+            position = stop + 1;
+        }
+        return Optional.of(new InlineArithmeticExpression(literals, placeholders));
+    }
+    
+    private static boolean isPlainLiteral(final String literal) {
+        return -1 == literal.indexOf('$') && -1 == literal.indexOf('"') && -1 == literal.indexOf('\\') && -1 == literal.indexOf('{') && -1 == literal.indexOf('}');
+    }
+    
+    /**
+     * Evaluate expression with sharding value.
+     *
+     * @param shardingValue sharding value
+     * @return evaluated result, absent if type of sharding value is not supported
+     */
+    public Optional<String> evaluate(final Comparable<?> shardingValue) {
+        StringBuilder result = new StringBuilder();
+        for (int i = 0; i < placeholders.size(); i++) {
+            result.append(literals.get(i));
+            Optional<String> value = placeholders.get(i).evaluate(shardingValue);
+            if (!value.isPresent()) {
+                return Optional.absent();
+            }
+            result.append(value.get());
+        }
+        result.append(literals.get(placeholders.size()));
+        return Optional.of(result.toString());
+    }
+    
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    private static final class ArithmeticTerm {
+        
+        private final List<Character> operators;
+        
+        private final List<Long> operands;
+        
+        private final boolean intLiterals;
+        
+        private static Optional<ArithmeticTerm> parse(final String expression, final String shardingColumn) {
+            List<String> tokens = tokenize(expression);
+            if (tokens.isEmpty() || 0 == tokens.size() % 2 || !shardingColumn.equals(tokens.get(0))) {
+                return Optional.absent();
+            }
+            List<Character> operators = new ArrayList<>(tokens.size() / 2);
+            List<Long> operands = new ArrayList<>(tokens.size() / 2);
+            boolean intLiterals = true;
+            for (int i = 1; i < tokens.size(); i += 2) {
+                String operator = tokens.get(i);
+                if (1 != operator.length() || -1 == "+-*%".indexOf(operator.charAt(0)) || !isDigits(tokens.get(i + 1))) {
+                    return Optional.absent();
+                }
+                long operand;
+                try {
+                    operand = Long.parseLong(tokens.get(i + 1));
+                } catch (final NumberFormatException ex) {
+                    return Optional.absent();
+                }
+                operators.add(operator.charAt(0));
+                operands.add(operand);
+                intLiterals = intLiterals && operand <= Integer.MAX_VALUE;
+            }
+            return Optional.of(new ArithmeticTerm(operators, operands, intLiterals));
+        }
+        
+        private static List<String> tokenize(final String expression) {
+            List<String> result = new ArrayList<>();
+            int position = 0;
+            while (position < expression.length()) {
+                char each = expression.charAt(position);
+                if (Character.isWhitespace(each)) {
+                    position++;
+                } else if (Character.isJavaIdentifierPart(each)) {
+                    int start = position;
+                    while (position < expression.length() && Character.isJavaIdentifierPart(expression.charAt(position))) {
+                        position++;
+                    }
+                    result.add(expression.substring(start, position));
+                } else {
+                    result.add(String.valueOf(each));
+                    position++;
+                }
+            }
+            return result;
+        }
+        
+        private static boolean isDigits(final String token) {
+            for (int i = 0; i < token.length(); i++) {
+                if (token.charAt(i) < '0' || token.charAt(i) > '9') {
+                    return false;
+                }
+            }
+            return !token.isEmpty();
+        }
+        
+        private Optional<String> evaluate(final Comparable<?> shardingValue) {
+            if (operators.isEmpty()) {
+                return isSimpleType(shardingValue) ? Optional.of(shardingValue.toString()) : Optional.<String>absent();
+            }
+            if (intLiterals && (shardingValue instanceof Integer || shardingValue instanceof Short || shardingValue instanceof Byte)) {
+                return Optional.of(String.valueOf(calculateInt(((Number) shardingValue).intValue())));
+            }
+            if (shardingValue instanceof Long || shardingValue instanceof Integer || shardingValue instanceof Short || shardingValue instanceof Byte) {
+                return Optional.of(String.valueOf(calculateLong(((Number) shardingValue).longValue())));
+            }
+            return Optional.absent();
+        }
+        
+        private boolean isSimpleType(final Comparable<?> shardingValue) {
+            return shardingValue instanceof String || shardingValue instanceof Long || shardingValue instanceof Integer || shardingValue instanceof Short || shardingValue instanceof Byte;
+        }
+        
+        private int calculateInt(final int shardingValue) {
+            int result = 0;
+            int term = shardingValue;
+            char pendingOperator = '+';
+            for (int i = 0; i < operators.size(); i++) {
+                int operand = operands.get(i).intValue();
+                switch (operators.get(i)) {
+                    case '*':
+                        term *= operand;
+                        break;
+                    case '%':
+                        term %= operand;
+                        break;
+                    default:
+                        result = '+' == pendingOperator ? result + term : result - term;
+                        pendingOperator = operators.get(i);
+                        term = operand;
+                        break;
+                }
+            }
+            return '+' == pendingOperator ? result + term : result - term;
+        }
+        
+        private long calculateLong(final long shardingValue) {
+            long result = 0L;
+            long term = shardingValue;
+            char pendingOperator = '+';
+            for (int i = 0; i < operators.size(); i++) {
+                long operand = operands.get(i);
+                switch (operators.get(i)) {
+                    case '*':
+                        term *= operand;
+                        break;
+                    case '%':
+                        term %= operand;
+                        break;
+                    default:
+                        result = '+' == pendingOperator ? result + term : result - term;
+                        pendingOperator = operators.get(i);
+                        term = operand;
+                        break;
+                }
+            }
+            return '+' == pendingOperator ? result + term : result - term;
+        }
+    }
+}
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.core.strategy.route.inline;
 
+import com.google.common.base.Optional;
 import com.google.common.base.Preconditions;
 import groovy.lang.Closure;
 import groovy.util.Expando;
@@ -48,12 +49,15 @@ public final class InlineShardingStrategy implements ShardingStrategy {
     // Groovy 中的 Closure 实例
     private final Closure<?> closure;
     
+    private final InlineArithmeticExpression arithmeticExpression;
+    
     public InlineShardingStrategy(final InlineShardingStrategyConfiguration inlineShardingStrategyConfig) {
         Preconditions.checkNotNull(inlineShardingStrategyConfig.getShardingColumn(), "Sharding column cannot be null.");
         Preconditions.checkNotNull(inlineShardingStrategyConfig.getAlgorithmExpression(), "Sharding algorithm expression cannot be null.");
         shardingColumn = inlineShardingStrategyConfig.getShardingColumn();
         String algorithmExpression = InlineExpressionParser.handlePlaceHolder(inlineShardingStrategyConfig.getAlgorithmExpression().trim());
         closure = new InlineExpressionParser(algorithmExpression).evaluateClosure();
+        arithmeticExpression = InlineArithmeticExpression.compile(algorithmExpression, shardingColumn).orNull();
     }
     
     @Override
@@ -92,6 +96,12 @@ public final class InlineShardingStrategy implements ShardingStrategy {
     }
     
     private String execute(final PreciseShardingValue shardingValue) {
+        if (null != arithmeticExpression) {
+            Optional<String> result = arithmeticExpression.evaluate(shardingValue.getValue());
+            if (result.isPresent()) {
+                return result.get();
+            }
+        }
 
         //构建 Groovy 的 Closure对象
         Closure<?> result = closure.rehydrate(new Expando(), null, null);
@@ -77,6 +77,30 @@ public final class EncryptRuleTest {
         }
     }
     
+    @Test(expected = IllegalArgumentException.class)
+    public void assertNewEncryptRuleWithAESGCMEncryptorWithoutAssistedQueryColumn() {
+        encryptRuleConfig.getEncryptors().put("aes", new EncryptorRuleConfiguration("AES_GCM", createAESProperties()));
+        new EncryptRule(encryptRuleConfig);
+    }
+    
+    @Test
+    public void assertNewEncryptRuleWithAESGCMEncryptorWithAssistedQueryColumn() {
+        encryptRuleConfig.getEncryptors().put("aes", new EncryptorRuleConfiguration("AES_GCM", createAESProperties()));
+        EncryptColumnRuleConfiguration columnConfig = new EncryptColumnRuleConfiguration("plain_pwd", "cipher_pwd", "assisted_query_pwd", "aes");
+        EncryptColumnRuleConfiguration idNumberConfig = new EncryptColumnRuleConfiguration("plain_id_number", "cipher_id_number", "assisted_query_id_number", "aes");
+        encryptRuleConfig.getTables().get(table).getColumns().put(column, columnConfig);
+        encryptRuleConfig.getTables().get(table).getColumns().put(idNumber, idNumberConfig);
+        EncryptRule actual = new EncryptRule(encryptRuleConfig);
+        assertThat(actual.getEncryptAssistedQueryValues(table, column, Collections.<Object>singletonList("test")), 
+                is(actual.getEncryptAssistedQueryValues(table, column, Collections.<Object>singletonList("test"))));
+    }
+    
+    private Properties createAESProperties() {
+        Properties result = new Properties();
+        result.setProperty("aes.key.value", "test");
+        return result;
+    }
+    
     @Test
     public void assertFindEncryptTable() {
         assertTrue(new EncryptRule(encryptRuleConfig).findEncryptTable(table).isPresent());
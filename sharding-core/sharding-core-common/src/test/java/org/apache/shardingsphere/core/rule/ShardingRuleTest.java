@@ -36,6 +36,7 @@ import org.junit.Test;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
@@ -102,6 +103,16 @@ public final class ShardingRuleTest {
         assertFalse(createMaximumShardingRule().findTableRuleByActualTable("table_3").isPresent());
     }
     
+    @Test
+    public void assertGetLogicTableNames() {
+        assertThat(createMaximumShardingRule().getLogicTableNames("sub_table_0"), CoreMatchers.<Collection<String>>is(Collections.singletonList("sub_logic_table")));
+    }
+    
+    @Test
+    public void assertGetLogicTableNamesWithoutActualTable() {
+        assertTrue(createMaximumShardingRule().getLogicTableNames("table_3").isEmpty());
+    }
+    
     @Test
     public void assertGetTableRuleWithShardingTable() {
         TableRule actual = createMaximumShardingRule().getTableRule("Logic_Table");
@@ -298,6 +309,20 @@ public final class ShardingRuleTest {
         assertThat(createMaximumShardingRule().generateKey("logic_table"), instanceOf(Integer.class));
     }
     
+    @Test
+    public void assertGenerateKeysWithDefaultKeyGenerator() {
+        Collection<Comparable<?>> actual = createMinimumShardingRule().generateKeys("logic_table", 3);
+        assertThat(actual.size(), is(3));
+        assertThat(new HashSet<>(actual).size(), is(3));
+    }
+    
+    @Test
+    public void assertGenerateKeysWithKeyGenerator() {
+        Collection<Comparable<?>> actual = createMaximumShardingRule().generateKeys("logic_table", 3);
+        assertThat(actual.size(), is(3));
+        assertThat(actual.iterator().next(), instanceOf(Integer.class));
+    }
+    
     @Test
     public void assertDataSourceNameFromDefaultDataSourceName() {
         ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.encrypt.impl;
+
+import org.apache.commons.codec.binary.Base64;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.crypto.AEADBadTagException;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+
+public final class AESGCMShardingEncryptorTest {
+    
+    private final AESGCMShardingEncryptor encryptor = new AESGCMShardingEncryptor();
+    
+    @Before
+    public void setUp() {
+        Properties properties = new Properties();
+        properties.setProperty("aes.key.value", "test");
+        encryptor.setProperties(properties);
+    }
+    
+    @Test
+    public void assertGetType() {
+        assertThat(encryptor.getType(), is("AES_GCM"));
+    }
+    
+    @Test
+    public void assertEncodeAndDecode() {
+        String actual = encryptor.encrypt("test");
+        assertThat(actual, not(encryptor.encrypt("test")));
+        assertThat(encryptor.decrypt(actual).toString(), is("test"));
+    }
+    
+    @Test
+    public void assertEncodeAndDecodeWithInit() {
+        encryptor.init();
+        assertThat(encryptor.decrypt(encryptor.encrypt("test")).toString(), is("test"));
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertEncodeWithoutKey() {
+        encryptor.setProperties(new Properties());
+        encryptor.encrypt("test");
+    }
+    
+    @Test
+    public void assertDecodeWithNull() {
+        assertNull(encryptor.decrypt(null));
+    }
+    
+    @Test(expected = AEADBadTagException.class)
+    public void assertDecodeWithTamperedCiphertext() {
+        byte[] ciphertext = Base64.decodeBase64(encryptor.encrypt("test"));
+        ciphertext[ciphertext.length - 1] ^= 1;
+        encryptor.decrypt(Base64.encodeBase64String(ciphertext));
+    }
+    
+    @Test
+    public void assertQueryAssistedEncrypt() {
+        String actual = encryptor.queryAssistedEncrypt("test");
+        assertThat(actual, is(encryptor.queryAssistedEncrypt("test")));
+        assertThat(actual, not(encryptor.queryAssistedEncrypt("test1")));
+    }
+    
+    @Test
+    public void assertQueryAssistedEncryptWithNull() {
+        assertNull(encryptor.queryAssistedEncrypt(null));
+    }
+}
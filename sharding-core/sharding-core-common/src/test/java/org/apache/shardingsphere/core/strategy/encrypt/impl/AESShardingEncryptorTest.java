@@ -75,4 +75,11 @@ public final class AESShardingEncryptorTest {
     public void assertGetProperties() {
         assertThat(encryptor.getProperties().get("aes.key.value").toString(), is("test"));
     }
+    
+    @Test
+    public void assertEncodeAndDecodeWithInit() {
+        encryptor.init();
+        assertThat(encryptor.encrypt("test"), is("dSpPiyENQGDUXMKFMJPGWA=="));
+        assertThat(encryptor.decrypt("dSpPiyENQGDUXMKFMJPGWA==").toString(), is("test"));
+    }
 }
@@ -31,15 +31,20 @@ import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 
 public final class SnowflakeShardingKeyGeneratorTest {
     
     private static final long DEFAULT_SEQUENCE_BITS = 12L;
     
+    private static final long SEQUENCE_MASK = (1 << DEFAULT_SEQUENCE_BITS) - 1;
+    
     private static final int DEFAULT_KEY_AMOUNT = 10;
     
     @Test
@@ -162,18 +167,77 @@ public final class SnowflakeShardingKeyGeneratorTest {
         assertThat(actual, is(expected));
     }
     
+    @Test
+    public void assertGenerateKeys() {
+        SnowflakeShardingKeyGenerator keyGenerator = new SnowflakeShardingKeyGenerator();
+        SnowflakeShardingKeyGenerator.setTimeService(new FixedTimeService(1));
+        keyGenerator.setProperties(new Properties());
+        assertThat(keyGenerator.generateKeys(3), is(Arrays.<Comparable<?>>asList(0L, 1L, 2L)));
+        assertThat(keyGenerator.generateKeys(2), is(Arrays.<Comparable<?>>asList(4194305L, 4194306L)));
+        assertThat(keyGenerator.generateKey(), is((Comparable) 4194307L));
+    }
+    
+    @Test
+    public void assertGenerateKeysBeyondMaxSequencePerMilliSecond() {
+        SnowflakeShardingKeyGenerator keyGenerator = new SnowflakeShardingKeyGenerator();
+        TimeService timeService = new FixedTimeService(2);
+        SnowflakeShardingKeyGenerator.setTimeService(timeService);
+        keyGenerator.setProperties(new Properties());
+        setLastMilliseconds(keyGenerator, timeService.getCurrentMillis());
+        setSequence(keyGenerator, (1 << DEFAULT_SEQUENCE_BITS) - 3);
+        List<Comparable<?>> actual = keyGenerator.generateKeys(5);
+        assertThat(actual, is(Arrays.<Comparable<?>>asList(4094L, 4095L, 4194304L, 4194305L, 4194306L)));
+    }
+    
+    @Test
+    @SneakyThrows
+    public void assertGenerateKeysWithMultipleThreads() {
+        int threadNumber = Runtime.getRuntime().availableProcessors() << 1;
+        ExecutorService executor = Executors.newFixedThreadPool(threadNumber);
+        int taskNumber = threadNumber << 2;
+        final int batchSize = 1000;
+        final SnowflakeShardingKeyGenerator keyGenerator = new SnowflakeShardingKeyGenerator();
+        SnowflakeShardingKeyGenerator.setTimeService(new TimeService());
+        keyGenerator.setProperties(new Properties());
+        List<Future<List<Comparable<?>>>> futures = new ArrayList<>(taskNumber);
+        for (int i = 0; i < taskNumber; i++) {
+            futures.add(executor.submit(new Callable<List<Comparable<?>>>() {
+                
+                @Override
+                public List<Comparable<?>> call() {
+                    return keyGenerator.generateKeys(batchSize);
+                }
+            }));
+        }
+        Set<Comparable<?>> actual = new HashSet<>();
+        for (Future<List<Comparable<?>>> each : futures) {
+            List<Comparable<?>> keys = each.get();
+            for (int i = 1; i < keys.size(); i++) {
+                assertTrue((Long) keys.get(i - 1) < (Long) keys.get(i));
+            }
+            actual.addAll(keys);
+        }
+        executor.shutdown();
+        assertThat(actual.size(), is(taskNumber * batchSize));
+    }
+    
     @SneakyThrows
     private void setSequence(final SnowflakeShardingKeyGenerator keyGenerator, final Number value) {
-        Field sequence = SnowflakeShardingKeyGenerator.class.getDeclaredField("sequence");
-        sequence.setAccessible(true);
-        sequence.set(keyGenerator, value);
+        AtomicLong lastState = getLastState(keyGenerator);
+        lastState.set(lastState.get() & ~SEQUENCE_MASK | value.longValue());
     }
     
     @SneakyThrows
     private void setLastMilliseconds(final SnowflakeShardingKeyGenerator keyGenerator, final Number value) {
-        Field lastMilliseconds = SnowflakeShardingKeyGenerator.class.getDeclaredField("lastMilliseconds");
-        lastMilliseconds.setAccessible(true);
-        lastMilliseconds.set(keyGenerator, value);
+        AtomicLong lastState = getLastState(keyGenerator);
+        lastState.set(value.longValue() << DEFAULT_SEQUENCE_BITS | lastState.get() & SEQUENCE_MASK);
+    }
+    
+    @SneakyThrows
+    private AtomicLong getLastState(final SnowflakeShardingKeyGenerator keyGenerator) {
+        Field lastState = SnowflakeShardingKeyGenerator.class.getDeclaredField("lastState");
+        lastState.setAccessible(true);
+        return (AtomicLong) lastState.get(keyGenerator);
     }
     
     @Test(expected = IllegalArgumentException.class)
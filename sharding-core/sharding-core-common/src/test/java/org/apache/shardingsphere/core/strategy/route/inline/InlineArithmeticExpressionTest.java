@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.route.inline;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+
+public final class InlineArithmeticExpressionTest {
+    
+    @Test
+    public void assertEvaluateWithModulo() {
+        InlineArithmeticExpression actual = InlineArithmeticExpression.compile("t_order_${order_id % 16}", "order_id").get();
+        assertThat(actual.evaluate(35).get(), is("t_order_3"));
+        assertThat(actual.evaluate(35L).get(), is("t_order_3"));
+        assertThat(actual.evaluate(-35).get(), is("t_order_-3"));
+    }
+    
+    @Test
+    public void assertEvaluateWithPrecedence() {
+        InlineArithmeticExpression actual = InlineArithmeticExpression.compile("ds${ user_id % 4 + 1 }", "user_id").get();
+        assertThat(actual.evaluate(7).get(), is("ds4"));
+        assertThat(InlineArithmeticExpression.compile("ds${user_id - 2 * 3}", "user_id").get().evaluate(10L).get(), is("ds4"));
+    }
+    
+    @Test
+    public void assertEvaluateWithMultiplePlaceholders() {
+        assertThat(InlineArithmeticExpression.compile("ds${user_id % 2}.t_${user_id % 4}_x", "user_id").get().evaluate(7).get(), is("ds1.t_3_x"));
+    }
+    
+    @Test
+    public void assertEvaluateWithIntOverflow() {
+        InlineArithmeticExpression actual = InlineArithmeticExpression.compile("t_${id * 2}", "id").get();
+        assertThat(actual.evaluate(Integer.MAX_VALUE).get(), is("t_-2"));
+        assertThat(actual.evaluate((long) Integer.MAX_VALUE).get(), is("t_4294967294"));
+    }
+    
+    @Test
+    public void assertEvaluateWithoutOperator() {
+        InlineArithmeticExpression actual = InlineArithmeticExpression.compile("t_${status}", "status").get();
+        assertThat(actual.evaluate("OK").get(), is("t_OK"));
+        assertFalse(actual.evaluate(new BigDecimal("1.5")).isPresent());
+    }
+    
+    @Test
+    public void assertEvaluateWithUnsupportedValue() {
+        assertFalse(InlineArithmeticExpression.compile("t_${id % 2}", "id").get().evaluate("1").isPresent());
+    }
+    
+    @Test
+    public void assertCompileWithUnsupportedExpression() {
+        assertFalse(InlineArithmeticExpression.compile("t_${id.hashCode() % 2}", "id").isPresent());
+        assertFalse(InlineArithmeticExpression.compile("t_${(id + 1) % 2}", "id").isPresent());
+        assertFalse(InlineArithmeticExpression.compile("t_${id / 2}", "id").isPresent());
+        assertFalse(InlineArithmeticExpression.compile("t_${other % 2}", "id").isPresent());
+        assertFalse(InlineArithmeticExpression.compile("t_${id % 2", "id").isPresent());
+        assertFalse(InlineArithmeticExpression.compile("t_\\n${id % 2}", "id").isPresent());
+    }
+}
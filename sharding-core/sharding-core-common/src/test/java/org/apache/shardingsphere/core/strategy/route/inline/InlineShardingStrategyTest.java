@@ -24,6 +24,7 @@ import org.apache.shardingsphere.core.strategy.route.value.RouteValue;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.math.BigInteger;
 import java.util.Collection;
 import java.util.List;
 
@@ -61,4 +62,21 @@ public final class InlineShardingStrategyTest {
         assertThat(shardingStrategy.getShardingColumns().size(), is(1));
         assertThat(shardingStrategy.getShardingColumns().iterator().next(), is("order_id"));
     }
+    
+    @Test
+    public void assertDoShardingWithGroovyFallback() {
+        InlineShardingStrategy shardingStrategy = new InlineShardingStrategy(new InlineShardingStrategyConfiguration("order_id", "t_order_${order_id.toString().length() - 1}"));
+        List<String> availableTargetNames = Lists.newArrayList("t_order_0", "t_order_1");
+        List<RouteValue> shardingValues = Lists.<RouteValue>newArrayList(new ListRouteValue<>("order_id", "t_order", Lists.newArrayList(1, 10)));
+        Collection<String> actual = shardingStrategy.doSharding(availableTargetNames, shardingValues);
+        assertThat(actual.size(), is(2));
+    }
+    
+    @Test
+    public void assertDoShardingWithUnsupportedArithmeticValue() {
+        List<String> availableTargetNames = Lists.newArrayList("t_order_0", "t_order_1", "t_order_2", "t_order_3");
+        List<RouteValue> shardingValues = Lists.<RouteValue>newArrayList(new ListRouteValue<>("order_id", "t_order", Lists.newArrayList(new BigInteger("5"))));
+        Collection<String> actual = shardingStrategy.doSharding(availableTargetNames, shardingValues);
+        assertThat(actual.iterator().next(), is("t_order_1"));
+    }
 }
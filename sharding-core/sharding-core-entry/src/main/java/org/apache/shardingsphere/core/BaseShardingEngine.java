@@ -27,6 +27,7 @@ import org.apache.shardingsphere.core.route.SQLLogger;
 import org.apache.shardingsphere.core.route.SQLRouteResult;
 import org.apache.shardingsphere.core.route.SQLUnit;
 import org.apache.shardingsphere.core.route.hook.SPIRoutingHook;
+import org.apache.shardingsphere.core.route.router.sharding.chunk.SQLStatementChunk;
 import org.apache.shardingsphere.core.route.type.RoutingUnit;
 import org.apache.shardingsphere.core.rule.ShardingRule;
 import org.apache.shardingsphere.encrypt.rewrite.context.EncryptSQLRewriteContextDecorator;
@@ -37,7 +38,9 @@ import org.apache.shardingsphere.underlying.rewrite.context.SQLRewriteContext;
 import org.apache.shardingsphere.underlying.rewrite.engine.SQLRewriteResult;
 
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.LinkedHashSet;
+import java.util.LinkedList;
 import java.util.List;
 
 /**
@@ -65,21 +68,30 @@ public abstract class BaseShardingEngine {
      * @return SQL route result
      */
     public SQLRouteResult shard(final String sql, final List<Object> parameters) {
+        return shard(sql, parameters, shardingProperties.<Integer>getValue(ShardingPropertiesConstant.MAX_INSERT_VALUES_PER_CHUNK));
+    }
+    
+    private SQLRouteResult shard(final String sql, final List<Object> parameters, final int maxInsertValuesPerChunk) {
 
         //调用模板方法准备参数
         List<Object> clonedParameters = cloneParameters(parameters);
+        SQLRouteResult result;
+        if (0 < maxInsertValuesPerChunk && !HintManager.isDatabaseShardingOnly()) {
+            result = executeRouteAndRewriteInChunks(sql, clonedParameters, maxInsertValuesPerChunk);
+        } else {
 
-        /**
-         *  执行路由 {@link #executeRoute(String, List)}
-         */
-        SQLRouteResult result = executeRoute(sql, clonedParameters);
+            /**
+             *  执行路由 {@link #executeRoute(String, List)}
+             */
+            result = executeRoute(sql, clonedParameters);
 
-        /**
-         * 执行 SQL 转换（Convert）和改写（Rewrite）
-         *
-         *  1、改写逻辑 {@link #rewriteAndConvert(String, List, SQLRouteResult)}
-         */
-        result.getRouteUnits().addAll(HintManager.isDatabaseShardingOnly() ? convert(sql, clonedParameters, result) : rewriteAndConvert(sql, clonedParameters, result));
+            /**
+             * 执行 SQL 转换（Convert）和改写（Rewrite）
+             *
+             *  1、改写逻辑 {@link #rewriteAndConvert(String, List, SQLRouteResult)}
+             */
+            result.getRouteUnits().addAll(HintManager.isDatabaseShardingOnly() ? convert(sql, clonedParameters, result) : rewriteAndConvert(sql, clonedParameters, result));
+        }
         boolean showSQL = shardingProperties.getValue(ShardingPropertiesConstant.SQL_SHOW);
         if (showSQL) {
             boolean showSimple = shardingProperties.getValue(ShardingPropertiesConstant.SQL_SIMPLE);
@@ -87,6 +99,19 @@ public abstract class BaseShardingEngine {
         }
         return result;
     }
+    
+    /**
+     * Shard for batch.
+     * 
+     * <p>Multi-row insert is never split into chunks for batch, because route units of batch are merged by SQL.</p>
+     *
+     * @param sql SQL
+     * @param parameters parameters of SQL
+     * @return SQL route result
+     */
+    public SQLRouteResult shardForBatch(final String sql, final List<Object> parameters) {
+        return shard(sql, parameters, 0);
+    }
 
     // 模板方法- 拷贝参数
     protected abstract List<Object> cloneParameters(List<Object> parameters);
@@ -94,6 +119,10 @@ public abstract class BaseShardingEngine {
     // 模板方法- 执行路由
     protected abstract SQLRouteResult route(String sql, List<Object> parameters);
     
+    protected abstract SQLRouteResult route(String sql, SQLStatementChunk chunk);
+    
+    protected abstract Iterator<SQLStatementChunk> split(String sql, List<Object> parameters, int maxInsertValuesPerChunk);
+    
     private SQLRouteResult executeRoute(final String sql, final List<Object> clonedParameters) {
         routingHook.start(sql);
         try {
@@ -112,6 +141,28 @@ public abstract class BaseShardingEngine {
         }
     }
     
+    private SQLRouteResult executeRouteAndRewriteInChunks(final String sql, final List<Object> clonedParameters, final int maxInsertValuesPerChunk) {
+        routingHook.start(sql);
+        try {
+            Iterator<SQLStatementChunk> chunks = split(sql, clonedParameters, maxInsertValuesPerChunk);
+            Collection<RouteUnit> routeUnits = new LinkedList<>();
+            SQLRouteResult result;
+            do {
+                SQLStatementChunk chunk = chunks.next();
+                result = route(sql, chunk);
+                routeUnits.addAll(rewriteAndConvert(sql, chunk.getParameters(), result));
+            } while (chunks.hasNext());
+            result.getRouteUnits().addAll(routeUnits);
+            routingHook.finishSuccess(result, metaData.getTables());
+            return result;
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            routingHook.finishFailure(ex);
+            throw ex;
+        }
+    }
+    
     private Collection<RouteUnit> convert(final String sql, final List<Object> parameters, final SQLRouteResult sqlRouteResult) {
         Collection<RouteUnit> result = new LinkedHashSet<>();
         for (RoutingUnit each : sqlRouteResult.getRoutingResult().getRoutingUnits()) {
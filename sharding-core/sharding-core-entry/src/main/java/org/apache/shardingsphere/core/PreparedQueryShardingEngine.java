@@ -18,13 +18,18 @@
 package org.apache.shardingsphere.core;
 
 import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
+import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import org.apache.shardingsphere.core.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.sql.parser.SQLParseEngine;
+import org.apache.shardingsphere.sql.parser.sql.statement.SQLStatement;
 import org.apache.shardingsphere.core.route.PreparedStatementRoutingEngine;
 import org.apache.shardingsphere.core.route.SQLRouteResult;
+import org.apache.shardingsphere.core.route.router.sharding.cache.RoutingResultCache;
+import org.apache.shardingsphere.core.route.router.sharding.chunk.SQLStatementChunk;
 import org.apache.shardingsphere.core.rule.ShardingRule;
 
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 
 /**
@@ -45,8 +50,18 @@ public final class PreparedQueryShardingEngine extends BaseShardingEngine {
     
     public PreparedQueryShardingEngine(final String sql, 
                                        final ShardingRule shardingRule, final ShardingProperties shardingProperties, final ShardingSphereMetaData metaData, final SQLParseEngine sqlParseEngine) {
+        this(sql, null, shardingRule, shardingProperties, metaData, sqlParseEngine);
+    }
+    
+    public PreparedQueryShardingEngine(final String sql, final SQLStatement sqlStatement,
+                                       final ShardingRule shardingRule, final ShardingProperties shardingProperties, final ShardingSphereMetaData metaData, final SQLParseEngine sqlParseEngine) {
         super(shardingRule, shardingProperties, metaData);
-        routingEngine = new PreparedStatementRoutingEngine(sql, shardingRule, metaData, sqlParseEngine);
+        routingEngine = new PreparedStatementRoutingEngine(sql, sqlStatement, shardingRule, metaData, sqlParseEngine, getRoutingResultCache(shardingRule, shardingProperties));
+    }
+    
+    private RoutingResultCache getRoutingResultCache(final ShardingRule shardingRule, final ShardingProperties shardingProperties) {
+        return shardingProperties.<Boolean>getValue(ShardingPropertiesConstant.SQL_ROUTE_CACHE_ENABLED)
+                ? RoutingResultCache.getInstance(shardingRule, shardingProperties.<Integer>getValue(ShardingPropertiesConstant.SQL_ROUTE_CACHE_MAXIMUM_SIZE)) : null;
     }
     
     @Override
@@ -58,4 +73,14 @@ public final class PreparedQueryShardingEngine extends BaseShardingEngine {
     protected SQLRouteResult route(final String sql, final List<Object> parameters) {
         return routingEngine.route(parameters);
     }
+    
+    @Override
+    protected SQLRouteResult route(final String sql, final SQLStatementChunk chunk) {
+        return routingEngine.route(chunk);
+    }
+    
+    @Override
+    protected Iterator<SQLStatementChunk> split(final String sql, final List<Object> parameters, final int maxInsertValuesPerChunk) {
+        return routingEngine.split(parameters, maxInsertValuesPerChunk);
+    }
 }
@@ -18,13 +18,16 @@
 package org.apache.shardingsphere.core;
 
 import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
+import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import org.apache.shardingsphere.core.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.sql.parser.SQLParseEngine;
 import org.apache.shardingsphere.core.route.SQLRouteResult;
 import org.apache.shardingsphere.core.route.StatementRoutingEngine;
+import org.apache.shardingsphere.core.route.router.sharding.chunk.SQLStatementChunk;
 import org.apache.shardingsphere.core.rule.ShardingRule;
 
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 
 /**
@@ -45,7 +48,7 @@ public final class SimpleQueryShardingEngine extends BaseShardingEngine {
     
     public SimpleQueryShardingEngine(final ShardingRule shardingRule, final ShardingProperties shardingProperties, final ShardingSphereMetaData metaData, final SQLParseEngine sqlParseEngine) {
         super(shardingRule, shardingProperties, metaData);
-        routingEngine = new StatementRoutingEngine(shardingRule, metaData, sqlParseEngine);
+        routingEngine = new StatementRoutingEngine(shardingRule, metaData, sqlParseEngine, shardingProperties.<Boolean>getValue(ShardingPropertiesConstant.SQL_SHAPE_CACHE_ENABLED));
     }
     
     @Override
@@ -57,4 +60,14 @@ public final class SimpleQueryShardingEngine extends BaseShardingEngine {
     protected SQLRouteResult route(final String sql, final List<Object> parameters) {
         return routingEngine.route(sql);
     }
+    
+    @Override
+    protected SQLRouteResult route(final String sql, final SQLStatementChunk chunk) {
+        return routingEngine.route(sql, chunk);
+    }
+    
+    @Override
+    protected Iterator<SQLStatementChunk> split(final String sql, final List<Object> parameters, final int maxInsertValuesPerChunk) {
+        return routingEngine.split(sql, maxInsertValuesPerChunk);
+    }
 }
@@ -0,0 +1,168 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core;
+
+import org.apache.shardingsphere.api.config.sharding.KeyGeneratorConfiguration;
+import org.apache.shardingsphere.api.config.sharding.ShardingRuleConfiguration;
+import org.apache.shardingsphere.api.config.sharding.TableRuleConfiguration;
+import org.apache.shardingsphere.api.config.sharding.strategy.InlineShardingStrategyConfiguration;
+import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
+import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
+import org.apache.shardingsphere.core.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.core.metadata.datasource.DataSourceMetas;
+import org.apache.shardingsphere.core.metadata.table.TableMetas;
+import org.apache.shardingsphere.core.route.RouteUnit;
+import org.apache.shardingsphere.core.route.SQLRouteResult;
+import org.apache.shardingsphere.core.rule.ShardingRule;
+import org.apache.shardingsphere.sql.parser.SQLParseEngine;
+import org.apache.shardingsphere.sql.parser.SQLParseEngineFactory;
+import org.apache.shardingsphere.sql.parser.relation.statement.impl.InsertSQLStatementContext;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+public final class InsertValuesChunkShardingEngineTest {
+    
+    private static final int MAX_INSERT_VALUES_PER_CHUNK = 100;
+    
+    private ShardingRule shardingRule;
+    
+    private ShardingProperties shardingProperties;
+    
+    private ShardingSphereMetaData metaData;
+    
+    private SQLParseEngine parseEngine;
+    
+    @Before
+    public void setUp() {
+        TableRuleConfiguration tableRuleConfig = new TableRuleConfiguration("t_order", "ds_${0..1}.t_order_${0..1}");
+        tableRuleConfig.setDatabaseShardingStrategyConfig(new InlineShardingStrategyConfiguration("user_id", "ds_${user_id % 2}"));
+        tableRuleConfig.setTableShardingStrategyConfig(new InlineShardingStrategyConfiguration("order_id", "t_order_${order_id % 2}"));
+        tableRuleConfig.setKeyGeneratorConfig(new KeyGeneratorConfiguration("SNOWFLAKE", "order_id", new Properties()));
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        shardingRuleConfig.getTableRuleConfigs().add(tableRuleConfig);
+        shardingRule = new ShardingRule(shardingRuleConfig, Arrays.asList("ds_0", "ds_1"));
+        Properties props = new Properties();
+        props.setProperty(ShardingPropertiesConstant.MAX_INSERT_VALUES_PER_CHUNK.getKey(), String.valueOf(MAX_INSERT_VALUES_PER_CHUNK));
+        shardingProperties = new ShardingProperties(props);
+        metaData = new ShardingSphereMetaData(mock(DataSourceMetas.class), mock(TableMetas.class));
+        parseEngine = SQLParseEngineFactory.getSQLParseEngine("MySQL");
+    }
+    
+    @Test
+    public void assertShardWithParameters() {
+        StringBuilder sql = new StringBuilder("INSERT INTO t_order (order_id, user_id) VALUES ");
+        List<Object> parameters = new ArrayList<>(2000);
+        for (int i = 0; i < 1000; i++) {
+            sql.append(0 == i ? "(?, ?)" : ", (?, ?)");
+            parameters.add(i);
+            parameters.add(i / 3);
+        }
+        SQLRouteResult actual = new PreparedQueryShardingEngine(sql.toString(), shardingRule, shardingProperties, metaData, parseEngine).shard(sql.toString(), parameters);
+        assertBoundedByChunk(actual);
+        Set<Object> actualOrderIds = new HashSet<>();
+        for (RouteUnit each : actual.getRouteUnits()) {
+            List<Object> actualParameters = each.getSqlUnit().getParameters();
+            assertTrue(actualParameters.size() <= MAX_INSERT_VALUES_PER_CHUNK * 2);
+            assertThat(countValues(each.getSqlUnit().getSql()), is(actualParameters.size() / 2));
+            for (int i = 0; i < actualParameters.size(); i += 2) {
+                int orderId = (int) actualParameters.get(i);
+                assertThat(actualParameters.get(i + 1), is((Object) (orderId / 3)));
+                assertRouted(each, orderId, orderId / 3);
+                assertTrue(actualOrderIds.add(orderId));
+            }
+        }
+        assertThat(actualOrderIds.size(), is(1000));
+    }
+    
+    @Test
+    public void assertShardWithGeneratedKeys() {
+        StringBuilder sql = new StringBuilder("INSERT INTO t_order (user_id, status) VALUES ");
+        List<Object> parameters = new ArrayList<>(500);
+        for (int i = 0; i < 250; i++) {
+            sql.append(0 == i ? "(?, ?)" : ", (?, ?)");
+            parameters.add(i);
+            parameters.add("init");
+        }
+        SQLRouteResult actual = new PreparedQueryShardingEngine(sql.toString(), shardingRule, shardingProperties, metaData, parseEngine).shard(sql.toString(), parameters);
+        assertBoundedByChunk(actual);
+        assertThat(actual.getGeneratedKey().get().getGeneratedValues().size(), is(250));
+        Set<Object> actualOrderIds = new HashSet<>();
+        for (RouteUnit each : actual.getRouteUnits()) {
+            List<Object> actualParameters = each.getSqlUnit().getParameters();
+            assertThat(countValues(each.getSqlUnit().getSql()), is(actualParameters.size() / 3));
+            for (int i = 0; i < actualParameters.size(); i += 3) {
+                assertRouted(each, (long) actualParameters.get(i + 2), (int) actualParameters.get(i));
+                assertTrue(actualOrderIds.add(actualParameters.get(i + 2)));
+            }
+        }
+        assertThat(actualOrderIds, is((Set<Object>) new HashSet<Object>(actual.getGeneratedKey().get().getGeneratedValues())));
+    }
+    
+    @Test
+    public void assertShardWithSameLiteralValues() {
+        StringBuilder sql = new StringBuilder("INSERT INTO t_order (order_id, user_id) VALUES ");
+        for (int i = 0; i < 300; i++) {
+            sql.append(0 == i ? "(1, 1)" : ", (1, 1)");
+        }
+        SQLRouteResult actual = new SimpleQueryShardingEngine(shardingRule, shardingProperties, metaData, parseEngine).shard(sql.toString(), new ArrayList<>());
+        assertBoundedByChunk(actual);
+        assertThat(actual.getRouteUnits().size(), is(3));
+        for (RouteUnit each : actual.getRouteUnits()) {
+            assertThat(each.getDataSourceName(), is("ds_1"));
+            assertTrue(each.getSqlUnit().getSql().startsWith("INSERT INTO t_order_1 (order_id, user_id) VALUES (1, 1), (1, 1)"));
+            assertThat(countValues(each.getSqlUnit().getSql()), is(MAX_INSERT_VALUES_PER_CHUNK));
+        }
+    }
+    
+    @Test
+    public void assertShardForBatch() {
+        StringBuilder sql = new StringBuilder("INSERT INTO t_order (order_id, user_id) VALUES ");
+        for (int i = 0; i < 300; i++) {
+            sql.append(0 == i ? "(1, 1)" : ", (1, 1)");
+        }
+        SQLRouteResult actual = new PreparedQueryShardingEngine(sql.toString(), shardingRule, shardingProperties, metaData, parseEngine).shardForBatch(sql.toString(), new ArrayList<>());
+        assertThat(actual.getRouteUnits().size(), is(1));
+        assertThat(countValues(actual.getRouteUnits().iterator().next().getSqlUnit().getSql()), is(300));
+    }
+    
+    private void assertBoundedByChunk(final SQLRouteResult actual) {
+        assertTrue(((InsertSQLStatementContext) actual.getSqlStatementContext()).getInsertValueContexts().size() <= MAX_INSERT_VALUES_PER_CHUNK);
+        assertTrue(actual.getShardingConditions().getConditions().size() <= MAX_INSERT_VALUES_PER_CHUNK);
+    }
+    
+    private void assertRouted(final RouteUnit routeUnit, final long orderId, final int userId) {
+        assertThat(routeUnit.getDataSourceName(), is("ds_" + userId % 2));
+        assertTrue(routeUnit.getSqlUnit().getSql().startsWith("INSERT INTO t_order_" + orderId % 2 + " ("));
+    }
+    
+    private int countValues(final String sql) {
+        return sql.split("\\), \\(").length;
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute.engine;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.common.util.concurrent.MoreExecutors;
+import lombok.Getter;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Sharding execute bulkhead.
+ *
+ * <p>
+ * Asynchronous executions of one data source are isolated in own threads with bounded concurrency and queue size, 
+ * so a slow data source can neither grow threads unboundedly nor block executions of other data sources.
+ * Executions beyond max concurrency and max queue size are rejected.
+ * Name is data source name, it is qualified by schema name if same data source name is used by different schemas.
+ * </p>
+ */
+public final class ShardingExecuteBulkhead {
+    
+    private static final long KEEP_ALIVE_SECONDS = 60L;
+    
+    @Getter
+    private final String name;
+    
+    @Getter
+    private final int maxConcurrency;
+    
+    @Getter
+    private final int maxQueueSize;
+    
+    private final ThreadPoolExecutor threadPoolExecutor;
+    
+    private final ListeningExecutorService executorService;
+    
+    private final AtomicLong executedCount = new AtomicLong();
+    
+    private final AtomicLong rejectedCount = new AtomicLong();
+    
+    private final AtomicLong totalQueueWaitNanos = new AtomicLong();
+    
+    private final AtomicLong maxQueueWaitNanos = new AtomicLong();
+    
+    public ShardingExecuteBulkhead(final String name, final int maxConcurrency, final int maxQueueSize) {
+        this.name = name;
+        this.maxConcurrency = maxConcurrency;
+        this.maxQueueSize = maxQueueSize;
+        threadPoolExecutor = new ThreadPoolExecutor(maxConcurrency, maxConcurrency, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, createQueue(maxQueueSize), 
+                ShardingThreadFactoryBuilder.build(name.replace("%", "%%") + "-%d"));
+        threadPoolExecutor.allowCoreThreadTimeOut(true);
+        executorService = MoreExecutors.listeningDecorator(threadPoolExecutor);
+    }
+    
+    private BlockingQueue<Runnable> createQueue(final int maxQueueSize) {
+        return 0 == maxQueueSize ? new SynchronousQueue<Runnable>() : new ArrayBlockingQueue<Runnable>(maxQueueSize);
+    }
+    
+    /**
+     * Submit task.
+     *
+     * @param task task to be executed
+     * @param <T> type of task result
+     * @return future of task result
+     * @throws RejectedExecutionException if max concurrency and max queue size are reached
+     */
+    public <T> ListenableFuture<T> submit(final Callable<T> task) {
+        final long submitNanos = System.nanoTime();
+        try {
+            return executorService.submit(new Callable<T>() {
+                
+                @Override
+                public T call() throws Exception {
+                    recordQueueWait(System.nanoTime() - submitNanos);
+                    return task.call();
+                }
+            });
+        } catch (final RejectedExecutionException ex) {
+            rejectedCount.incrementAndGet();
+            throw ex;
+        }
+    }
+    
+    private void recordQueueWait(final long queueWaitNanos) {
+        executedCount.incrementAndGet();
+        totalQueueWaitNanos.addAndGet(queueWaitNanos);
+        long currentMax = maxQueueWaitNanos.get();
+        while (queueWaitNanos > currentMax && !maxQueueWaitNanos.compareAndSet(currentMax, queueWaitNanos)) {
+            currentMax = maxQueueWaitNanos.get();
+        }
+    }
+    
+    /**
+     * Get statistics.
+     *
+     * @return statistics of bulkhead
+     */
+    public ShardingExecuteBulkheadStatistics getStatistics() {
+        return new ShardingExecuteBulkheadStatistics(
+                threadPoolExecutor.getActiveCount(), threadPoolExecutor.getQueue().size(), executedCount.get(), rejectedCount.get(), totalQueueWaitNanos.get(), maxQueueWaitNanos.get());
+    }
+    
+    /**
+     * Close bulkhead.
+     * 
+     * <p>
+     * Queued tasks are still executed, new tasks are rejected.
+     * </p>
+     */
+    public void close() {
+        executorService.shutdown();
+    }
+}
@@ -20,17 +20,30 @@ package org.apache.shardingsphere.core.execute.engine;
 import com.google.common.collect.Lists;
 import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.common.util.concurrent.SettableFuture;
 import org.apache.shardingsphere.core.exception.ShardingException;
 
 import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * Sharding execute engine.
@@ -45,9 +58,25 @@ public final class ShardingExecuteEngine implements AutoCloseable {
     
     private ListeningExecutorService executorService;
     
+    private final int maxConcurrencyPerDataSource;
+    
+    private final int maxQueueSizePerDataSource;
+    
+    private final ConcurrentMap<String, ShardingExecuteBulkhead> bulkheads = new ConcurrentHashMap<>();
+    
+    private final ScheduledThreadPoolExecutor timeoutScheduler;
+    
     public ShardingExecuteEngine(final int executorSize) {
+        this(executorSize, 0, 0);
+    }
+    
+    public ShardingExecuteEngine(final int executorSize, final int maxConcurrencyPerDataSource, final int maxQueueSizePerDataSource) {
         shardingExecutorService = new ShardingExecutorService(executorSize);
         executorService = shardingExecutorService.getExecutorService();
+        this.maxConcurrencyPerDataSource = maxConcurrencyPerDataSource;
+        this.maxQueueSizePerDataSource = maxQueueSizePerDataSource;
+        timeoutScheduler = new ScheduledThreadPoolExecutor(1, ShardingThreadFactoryBuilder.build("Execute-Timeout-%d"));
+        timeoutScheduler.setRemoveOnCancelPolicy(true);
     }
     
     /**
@@ -90,7 +119,150 @@ public final class ShardingExecuteEngine implements AutoCloseable {
          */
         return serial ? serialExecute(inputGroups, firstCallback, callback) : parallelExecute(inputGroups, firstCallback, callback);
     }
-
+    
+    /**
+     * Execute for group with timeout.
+     * 
+     * <p>
+     * First group is executed by current thread and other groups are executed asynchronously, same as parallel execution.
+     * Uncompleted executions, including execution of first group, are cancelled by cancel callback when timeout.
+     * Timeout is checked again after first group completes, in case its execution can not be cancelled.
+     * Outputs are in order of input groups.
+     * </p>
+     *
+     * @param inputGroups input groups
+     * @param firstCallback first sharding execute callback
+     * @param callback sharding execute callback
+     * @param cancelCallback sharding execute cancel callback
+     * @param timeoutMilliseconds timeout milliseconds
+     * @param <I> type of input value
+     * @param <O> type of return value
+     * @return execute result
+     * @throws SQLException throw if execute failure
+     * @throws SQLTimeoutException throw if execute timeout
+     */
+    public <I, O> List<O> groupExecute(final Collection<ShardingExecuteGroup<I>> inputGroups, final ShardingGroupExecuteCallback<I, O> firstCallback, 
+                                       final ShardingGroupExecuteCallback<I, O> callback, final ShardingGroupExecuteCancelCallback<I> cancelCallback, 
+                                       final long timeoutMilliseconds) throws SQLException {
+        return groupExecute(inputGroups, firstCallback, callback, cancelCallback, timeoutMilliseconds, false);
+    }
+    
+    private <I, O> List<O> groupExecute(final Collection<ShardingExecuteGroup<I>> inputGroups, final ShardingGroupExecuteCallback<I, O> firstCallback, 
+                                        final ShardingGroupExecuteCallback<I, O> callback, final ShardingGroupExecuteCancelCallback<I> cancelCallback, 
+                                        final long timeoutMilliseconds, final boolean inCompletionOrder) throws SQLException {
+        if (inputGroups.isEmpty()) {
+            return Collections.emptyList();
+        }
+        long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMilliseconds);
+        List<ShardingExecuteGroup<I>> executeGroups = new ArrayList<>(inputGroups);
+        SettableFuture<Collection<O>> firstFuture = SettableFuture.create();
+        List<ListenableFuture<Collection<O>>> groupFutures = new ArrayList<>(executeGroups.size());
+        groupFutures.add(firstFuture);
+        groupFutures.addAll(asyncGroupExecute(executeGroups.subList(1, executeGroups.size()), callback));
+        ListenableFuture<List<O>> future = new ShardingGroupExecuteFuture<>(executeGroups, groupFutures, cancelCallback, inCompletionOrder);
+        if (0L >= timeoutMilliseconds) {
+            return getGroupFutureResults(executeGroups.get(0), firstFuture, future, null == firstCallback ? callback : firstCallback);
+        }
+        ScheduledFuture<?> timeoutFuture = scheduleCancel(future, timeoutMilliseconds);
+        try {
+            return getGroupFutureResultsWithTimeout(executeGroups.get(0), firstFuture, future, null == firstCallback ? callback : firstCallback, deadlineNanos, timeoutMilliseconds);
+        } finally {
+            timeoutFuture.cancel(false);
+        }
+    }
+    
+    /**
+     * Execute for group in order of completion.
+     * 
+     * <p>
+     * Groups are executed in parallel, same as {@link #groupExecute(Collection, ShardingGroupExecuteCallback, ShardingGroupExecuteCallback, ShardingGroupExecuteCancelCallback, long)}.
+     * Outputs of first group are in front, outputs of other groups are appended in order of completion, 
+     * so it should only be used by executions which outputs are not matched with input groups by position, such as query.
+     * </p>
+     *
+     * @param inputGroups input groups
+     * @param firstCallback first sharding execute callback
+     * @param callback sharding execute callback
+     * @param cancelCallback sharding execute cancel callback, null means executions are not cancelled
+     * @param timeoutMilliseconds timeout milliseconds, execution is not limited if it is not greater than 0
+     * @param <I> type of input value
+     * @param <O> type of return value
+     * @return execute result
+     * @throws SQLException throw if execute failure
+     * @throws SQLTimeoutException throw if execute timeout
+     */
+    public <I, O> List<O> groupExecuteInCompletionOrder(final Collection<ShardingExecuteGroup<I>> inputGroups, final ShardingGroupExecuteCallback<I, O> firstCallback, 
+                                                        final ShardingGroupExecuteCallback<I, O> callback, final ShardingGroupExecuteCancelCallback<I> cancelCallback, 
+                                                        final long timeoutMilliseconds) throws SQLException {
+        return groupExecute(inputGroups, firstCallback, callback, cancelCallback, timeoutMilliseconds, true);
+    }
+    
+    private ScheduledFuture<?> scheduleCancel(final ListenableFuture<?> future, final long timeoutMilliseconds) {
+        return timeoutScheduler.schedule(new Runnable() {
+            
+            @Override
+            public void run() {
+                future.cancel(false);
+            }
+        }, timeoutMilliseconds, TimeUnit.MILLISECONDS);
+    }
+    
+    private <I, O> List<O> getGroupFutureResults(final ShardingExecuteGroup<I> firstInputs, final SettableFuture<Collection<O>> firstFuture, final ListenableFuture<List<O>> future, 
+                                                 final ShardingGroupExecuteCallback<I, O> firstCallback) throws SQLException {
+        executeFirstGroup(firstInputs, firstFuture, future, firstCallback);
+        try {
+            return future.get();
+        } catch (final InterruptedException | ExecutionException ex) {
+            future.cancel(false);
+            return throwException(ex);
+        }
+    }
+    
+    private <I, O> List<O> getGroupFutureResultsWithTimeout(final ShardingExecuteGroup<I> firstInputs, final SettableFuture<Collection<O>> firstFuture, final ListenableFuture<List<O>> future, 
+                                                            final ShardingGroupExecuteCallback<I, O> firstCallback, final long deadlineNanos, final long timeoutMilliseconds) throws SQLException {
+        try {
+            executeFirstGroup(firstInputs, firstFuture, future, firstCallback);
+        } catch (final SQLException ex) {
+            checkTimeout(future, deadlineNanos, timeoutMilliseconds, ex);
+            throw ex;
+        }
+        checkTimeout(future, deadlineNanos, timeoutMilliseconds, null);
+        try {
+            return future.get(deadlineNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+        } catch (final TimeoutException | CancellationException ex) {
+            future.cancel(false);
+            throw new SQLTimeoutException(getTimeoutMessage(timeoutMilliseconds), ex);
+        } catch (final InterruptedException | ExecutionException ex) {
+            future.cancel(false);
+            return throwException(ex);
+        }
+    }
+    
+    private <I, O> void executeFirstGroup(final ShardingExecuteGroup<I> firstInputs, final SettableFuture<Collection<O>> firstFuture, final ListenableFuture<List<O>> future, 
+                                          final ShardingGroupExecuteCallback<I, O> firstCallback) throws SQLException {
+        try {
+            firstFuture.set(syncGroupExecute(firstInputs, firstCallback));
+        } catch (final SQLException ex) {
+            firstFuture.setException(ex);
+            throw ex;
+        } finally {
+            if (!firstFuture.isDone()) {
+                future.cancel(false);
+            }
+        }
+    }
+    
+    private void checkTimeout(final ListenableFuture<?> future, final long deadlineNanos, final long timeoutMilliseconds, final SQLException cause) throws SQLTimeoutException {
+        if (deadlineNanos - System.nanoTime() <= 0L) {
+            future.cancel(false);
+            throw new SQLTimeoutException(getTimeoutMessage(timeoutMilliseconds), cause);
+        }
+    }
+    
+    private String getTimeoutMessage(final long timeoutMilliseconds) {
+        return String.format("Execution is not completed in %d milliseconds.", timeoutMilliseconds);
+    }
+    
     // 串行执行
     private <I, O> List<O> serialExecute(final Collection<ShardingExecuteGroup<I>> inputGroups, final ShardingGroupExecuteCallback<I, O> firstCallback,
                                          final ShardingGroupExecuteCallback<I, O> callback) throws SQLException {
@@ -140,19 +312,26 @@ public final class ShardingExecuteEngine implements AutoCloseable {
         return getGroupResults(syncGroupExecute(firstInputs, null == firstCallback ? callback : firstCallback), restResultFutures);
     }
     
-    private <I, O> Collection<ListenableFuture<Collection<O>>> asyncGroupExecute(final List<ShardingExecuteGroup<I>> inputGroups, final ShardingGroupExecuteCallback<I, O> callback) {
-        Collection<ListenableFuture<Collection<O>>> result = new LinkedList<>();
+    /*
+     * Rejection only cancels submitted executions which are not started, started executions are not interrupted and run to completion,
+     * so DML may be partially applied on data sources of groups before the rejected group.
+     */
+    private <I, O> List<ListenableFuture<Collection<O>>> asyncGroupExecute(final List<ShardingExecuteGroup<I>> inputGroups, final ShardingGroupExecuteCallback<I, O> callback) throws SQLException {
+        List<ListenableFuture<Collection<O>>> result = new ArrayList<>(inputGroups.size());
         for (ShardingExecuteGroup<I> each : inputGroups) {
-            result.add(asyncGroupExecute(each, callback));
+            try {
+                result.add(asyncGroupExecute(each, callback));
+            } catch (final RejectedExecutionException ex) {
+                cancel(result);
+                throw new SQLException(getRejectedMessage(each), ex);
+            }
         }
         return result;
     }
     
     private <I, O> ListenableFuture<Collection<O>> asyncGroupExecute(final ShardingExecuteGroup<I> inputGroup, final ShardingGroupExecuteCallback<I, O> callback) {
         final Map<String, Object> dataMap = ShardingExecuteDataMap.getDataMap();
-
-        // 使用 Guava 的 ListeningExecutorService， 提交一个异步执行的任务，并返回一个 ListenableFuture
-        return executorService.submit(new Callable<Collection<O>>() {
+        Callable<Collection<O>> task = new Callable<Collection<O>>() {
             
             @Override
             public Collection<O> call() throws SQLException {
@@ -161,7 +340,45 @@ public final class ShardingExecuteEngine implements AutoCloseable {
                  */
                 return callback.execute(inputGroup.getInputs(), false, dataMap);
             }
-        });
+        };
+        if (0 < maxConcurrencyPerDataSource && null != inputGroup.getDataSourceName()) {
+            return getBulkhead(getBulkheadName(inputGroup)).submit(task);
+        }
+
+        // 使用 Guava 的 ListeningExecutorService， 提交一个异步执行的任务，并返回一个 ListenableFuture
+        return executorService.submit(task);
+    }
+    
+    private <I> String getBulkheadName(final ShardingExecuteGroup<I> inputGroup) {
+        return null == inputGroup.getSchemaName() ? inputGroup.getDataSourceName() : inputGroup.getSchemaName() + "." + inputGroup.getDataSourceName();
+    }
+    
+    private ShardingExecuteBulkhead getBulkhead(final String name) {
+        ShardingExecuteBulkhead result = bulkheads.get(name);
+        if (null != result) {
+            return result;
+        }
+        ShardingExecuteBulkhead bulkhead = new ShardingExecuteBulkhead(name, maxConcurrencyPerDataSource, maxQueueSizePerDataSource);
+        result = bulkheads.putIfAbsent(name, bulkhead);
+        if (null == result) {
+            return bulkhead;
+        }
+        bulkhead.close();
+        return result;
+    }
+    
+    private <I> String getRejectedMessage(final ShardingExecuteGroup<I> inputGroup) {
+        if (null == inputGroup.getDataSourceName()) {
+            return "Execution is rejected by executor.";
+        }
+        return String.format("Execution on data source '%s' is rejected, max concurrency %d and max queue size %d per data source are reached.", 
+                getBulkheadName(inputGroup), maxConcurrencyPerDataSource, maxQueueSizePerDataSource);
+    }
+    
+    private <O> void cancel(final Collection<ListenableFuture<Collection<O>>> futures) {
+        for (ListenableFuture<Collection<O>> each : futures) {
+            each.cancel(false);
+        }
     }
     
     private <I, O> Collection<O> syncGroupExecute(final ShardingExecuteGroup<I> executeGroup, final ShardingGroupExecuteCallback<I, O> callback) throws SQLException {
@@ -190,8 +407,25 @@ public final class ShardingExecuteEngine implements AutoCloseable {
         throw new ShardingException(exception);
     }
     
+    /**
+     * Get statistics of bulkheads.
+     *
+     * @return statistics of bulkheads, key is data source name, qualified by schema name if execute groups have schema name
+     */
+    public Map<String, ShardingExecuteBulkheadStatistics> getBulkheadStatistics() {
+        Map<String, ShardingExecuteBulkheadStatistics> result = new LinkedHashMap<>(bulkheads.size(), 1);
+        for (Entry<String, ShardingExecuteBulkhead> entry : bulkheads.entrySet()) {
+            result.put(entry.getKey(), entry.getValue().getStatistics());
+        }
+        return result;
+    }
+    
     @Override
     public void close() {
         shardingExecutorService.close();
+        timeoutScheduler.shutdownNow();
+        for (ShardingExecuteBulkhead each : bulkheads.values()) {
+            each.close();
+        }
     }
 }
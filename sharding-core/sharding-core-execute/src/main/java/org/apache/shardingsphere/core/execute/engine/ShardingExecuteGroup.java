@@ -25,6 +25,11 @@ import java.util.List;
 /**
  * Sharding execute group.
  *
+ * <p>
+ * Data source name is the target data source of all inputs, it is {@code null} if inputs are not grouped by data source.
+ * Schema name is the logic schema which data source belongs to, it is {@code null} if data source names are unique in execute engine.
+ * </p>
+ *
  * @author zhangliang
  * @param <T> type of inputs value
  */
@@ -33,4 +38,12 @@ import java.util.List;
 public final class ShardingExecuteGroup<T> {
     
     private final List<T> inputs;
+    
+    private final String schemaName;
+    
+    private final String dataSourceName;
+    
+    public ShardingExecuteGroup(final List<T> inputs) {
+        this(inputs, null, null);
+    }
 }
@@ -0,0 +1,141 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute.engine;
+
+import com.google.common.util.concurrent.AbstractFuture;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import lombok.RequiredArgsConstructor;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Future of sharding group execution.
+ * 
+ * <p>
+ * If outputs are in order of completion, outputs of first group are always in front, outputs of other groups are appended in order of completion.
+ * Otherwise outputs of all groups are in order of input groups.
+ * If execution of any group fails, the future fails and executions of other groups are cancelled.
+ * Cancel the future will cancel uncompleted executions with cancel callback.
+ * </p>
+ *
+ * @param <I> type of inputs value
+ * @param <O> type of outputs value
+ */
+final class ShardingGroupExecuteFuture<I, O> extends AbstractFuture<List<O>> {
+    
+    private final List<ShardingExecuteGroup<I>> inputGroups;
+    
+    private final List<ListenableFuture<Collection<O>>> groupFutures;
+    
+    private final ShardingGroupExecuteCancelCallback<I> cancelCallback;
+    
+    private final boolean inCompletionOrder;
+    
+    private final AtomicInteger uncompletedCount;
+    
+    private final List<Collection<O>> groupOutputs;
+    
+    private final List<O> restOutputs = new ArrayList<>();
+    
+    ShardingGroupExecuteFuture(final List<ShardingExecuteGroup<I>> inputGroups, final List<ListenableFuture<Collection<O>>> groupFutures, 
+                               final ShardingGroupExecuteCancelCallback<I> cancelCallback, final boolean inCompletionOrder) {
+        this.inputGroups = inputGroups;
+        this.groupFutures = groupFutures;
+        this.cancelCallback = cancelCallback;
+        this.inCompletionOrder = inCompletionOrder;
+        uncompletedCount = new AtomicInteger(groupFutures.size());
+        groupOutputs = new ArrayList<>(Collections.<Collection<O>>nCopies(groupFutures.size(), Collections.<O>emptyList()));
+        for (int i = 0; i < groupFutures.size(); i++) {
+            Futures.addCallback(groupFutures.get(i), new GroupFutureCallback(i), MoreExecutors.directExecutor());
+        }
+    }
+    
+    private synchronized void addOutputs(final int groupIndex, final Collection<O> outputs) {
+        if (inCompletionOrder && 0 != groupIndex) {
+            restOutputs.addAll(outputs);
+        } else {
+            groupOutputs.set(groupIndex, outputs);
+        }
+    }
+    
+    private synchronized List<O> getOutputs() {
+        List<O> result = new ArrayList<>();
+        for (Collection<O> each : groupOutputs) {
+            result.addAll(each);
+        }
+        result.addAll(restOutputs);
+        return result;
+    }
+    
+    @Override
+    public boolean cancel(final boolean mayInterruptIfRunning) {
+        if (!super.cancel(mayInterruptIfRunning)) {
+            return false;
+        }
+        cancelUncompletedGroups();
+        return true;
+    }
+    
+    private void cancelUncompletedGroups() {
+        for (int i = 0; i < groupFutures.size(); i++) {
+            if (!groupFutures.get(i).isDone()) {
+                groupFutures.get(i).cancel(false);
+                cancelInputs(inputGroups.get(i));
+            }
+        }
+    }
+    
+    private void cancelInputs(final ShardingExecuteGroup<I> inputGroup) {
+        if (null == cancelCallback) {
+            return;
+        }
+        try {
+            cancelCallback.cancel(inputGroup.getInputs());
+        } catch (final SQLException ignore) {
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private final class GroupFutureCallback implements FutureCallback<Collection<O>> {
+        
+        private final int groupIndex;
+        
+        @Override
+        public void onSuccess(final Collection<O> outputs) {
+            addOutputs(groupIndex, outputs);
+            if (0 == uncompletedCount.decrementAndGet()) {
+                set(getOutputs());
+            }
+        }
+        
+        @Override
+        public void onFailure(final Throwable cause) {
+            if (setException(cause)) {
+                cancelUncompletedGroups();
+            }
+        }
+    }
+}
@@ -21,6 +21,7 @@ import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.core.constant.ConnectionMode;
 import org.apache.shardingsphere.core.route.RouteUnit;
+import org.apache.shardingsphere.spi.database.DataSourceMetaData;
 
 import java.sql.Statement;
 
@@ -39,4 +40,10 @@ public final class StatementExecuteUnit {
     private final Statement statement;
     
     private final ConnectionMode connectionMode;
+    
+    private final DataSourceMetaData dataSourceMetaData;
+    
+    public StatementExecuteUnit(final RouteUnit routeUnit, final Statement statement, final ConnectionMode connectionMode) {
+        this(routeUnit, statement, connectionMode, null);
+    }
 }
@@ -80,7 +80,7 @@ public abstract class SQLExecuteCallback<T> implements ShardingGroupExecuteCallb
         ExecutorExceptionHandler.setExceptionThrown(isExceptionThrown);
 
         // 获取 DataSourceMetaData，这里用到了缓存机制
-        DataSourceMetaData dataSourceMetaData = getDataSourceMetaData(statementExecuteUnit.getStatement().getConnection().getMetaData());
+        DataSourceMetaData dataSourceMetaData = getDataSourceMetaData(statementExecuteUnit);
 
         // 初始化 SQLExecutionHook
         SQLExecutionHook sqlExecutionHook = new SPISQLExecutionHook();
@@ -110,6 +110,11 @@ public abstract class SQLExecuteCallback<T> implements ShardingGroupExecuteCallb
         }
     }
     
+    private DataSourceMetaData getDataSourceMetaData(final StatementExecuteUnit statementExecuteUnit) throws SQLException {
+        return null == statementExecuteUnit.getDataSourceMetaData()
+                ? getDataSourceMetaData(statementExecuteUnit.getStatement().getConnection().getMetaData()) : statementExecuteUnit.getDataSourceMetaData();
+    }
+    
     private DataSourceMetaData getDataSourceMetaData(final DatabaseMetaData metaData) throws SQLException {
         String url = metaData.getURL();
         if (CACHED_DATASOURCE_METADATA.containsKey(url)) {
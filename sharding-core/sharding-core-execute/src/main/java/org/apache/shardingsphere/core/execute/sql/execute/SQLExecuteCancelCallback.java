@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute.sql.execute;
+
+import org.apache.shardingsphere.core.execute.engine.ShardingGroupExecuteCancelCallback;
+import org.apache.shardingsphere.core.execute.sql.StatementExecuteUnit;
+
+import java.sql.SQLException;
+import java.util.Collection;
+
+/**
+ * Statement execute cancel callback.
+ */
+public final class SQLExecuteCancelCallback implements ShardingGroupExecuteCancelCallback<StatementExecuteUnit> {
+    
+    @Override
+    public void cancel(final Collection<StatementExecuteUnit> statementExecuteUnits) throws SQLException {
+        SQLException exception = null;
+        for (StatementExecuteUnit each : statementExecuteUnits) {
+            try {
+                each.getStatement().cancel();
+            } catch (final SQLException ex) {
+                if (null == exception) {
+                    exception = ex;
+                } else {
+                    exception.setNextException(ex);
+                }
+            }
+        }
+        if (null != exception) {
+            throw exception;
+        }
+    }
+}
@@ -17,7 +17,6 @@
 
 package org.apache.shardingsphere.core.execute.sql.execute;
 
-import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.core.execute.engine.ShardingExecuteEngine;
 import org.apache.shardingsphere.core.execute.engine.ShardingExecuteGroup;
 import org.apache.shardingsphere.core.execute.engine.ShardingGroupExecuteCallback;
@@ -39,7 +38,6 @@ import java.util.List;
  *
  *  模板类，也是 {@link  ShardingExecuteEngine} 的直接使用者
  */
-@RequiredArgsConstructor
 public final class SQLExecuteTemplate {
 
     // 分片执行引擎
@@ -47,6 +45,18 @@ public final class SQLExecuteTemplate {
     
     private final boolean serial;
     
+    private final long timeoutMilliseconds;
+    
+    public SQLExecuteTemplate(final ShardingExecuteEngine executeEngine, final boolean serial) {
+        this(executeEngine, serial, 0L);
+    }
+    
+    public SQLExecuteTemplate(final ShardingExecuteEngine executeEngine, final boolean serial, final long timeoutMilliseconds) {
+        this.executeEngine = executeEngine;
+        this.serial = serial;
+        this.timeoutMilliseconds = timeoutMilliseconds;
+    }
+    
     /**
      * Execute group.
      *
@@ -62,6 +72,10 @@ public final class SQLExecuteTemplate {
     
     /**
      * Execute group.
+     * 
+     * <p>
+     * If timeout is set for parallel execution, uncompleted statements are cancelled when timeout.
+     * </p>
      *
      * @param sqlExecuteGroups SQL execute groups
      * @param firstCallback first SQL execute callback
@@ -78,10 +92,58 @@ public final class SQLExecuteTemplate {
             /**
              *  [groupExecute] {@link ShardingExecuteEngine#groupExecute(Collection, ShardingGroupExecuteCallback)}
              */
+            if (!serial && 0 < timeoutMilliseconds) {
+                return executeEngine.groupExecute((Collection) sqlExecuteGroups, firstCallback, callback, new SQLExecuteCancelCallback(), timeoutMilliseconds);
+            }
             return executeEngine.groupExecute((Collection) sqlExecuteGroups, firstCallback, callback, serial);
         } catch (final SQLException ex) {
             ExecutorExceptionHandler.handleException(ex);
             return Collections.emptyList();
         }
     }
+    
+    /**
+     * Execute group in order of completion.
+     *
+     * @param sqlExecuteGroups SQL execute groups
+     * @param callback SQL execute callback
+     * @param <T> class type of return value
+     * @return execute result
+     * @throws SQLException SQL exception
+     */
+    public <T> List<T> executeGroupInCompletionOrder(final Collection<ShardingExecuteGroup<? extends StatementExecuteUnit>> sqlExecuteGroups, 
+                                                     final SQLExecuteCallback<T> callback) throws SQLException {
+        return executeGroupInCompletionOrder(sqlExecuteGroups, null, callback);
+    }
+    
+    /**
+     * Execute group in order of completion.
+     * 
+     * <p>
+     * For parallel execution, results of first group are in front and results of other groups are in order of completion,
+     * it is used by query which results are merged without matching with execute groups by position.
+     * Serial execution is same as {@link #executeGroup(Collection, SQLExecuteCallback, SQLExecuteCallback)}.
+     * </p>
+     *
+     * @param sqlExecuteGroups SQL execute groups
+     * @param firstCallback first SQL execute callback
+     * @param callback SQL execute callback
+     * @param <T> class type of return value
+     * @return execute result
+     * @throws SQLException SQL exception
+     */
+    @SuppressWarnings("unchecked")
+    public <T> List<T> executeGroupInCompletionOrder(final Collection<ShardingExecuteGroup<? extends StatementExecuteUnit>> sqlExecuteGroups,
+                                                     final SQLExecuteCallback<T> firstCallback, final SQLExecuteCallback<T> callback) throws SQLException {
+        if (serial) {
+            return executeGroup(sqlExecuteGroups, firstCallback, callback);
+        }
+        try {
+            SQLExecuteCancelCallback cancelCallback = 0 < timeoutMilliseconds ? new SQLExecuteCancelCallback() : null;
+            return executeEngine.groupExecuteInCompletionOrder((Collection) sqlExecuteGroups, firstCallback, callback, cancelCallback, timeoutMilliseconds);
+        } catch (final SQLException ex) {
+            ExecutorExceptionHandler.handleException(ex);
+            return Collections.emptyList();
+        }
+    }
 }
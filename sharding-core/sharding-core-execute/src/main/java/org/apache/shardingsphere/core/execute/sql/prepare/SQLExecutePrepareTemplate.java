@@ -47,6 +47,12 @@ public final class SQLExecutePrepareTemplate {
     
     private final int maxConnectionsSizePerQuery;
     
+    private final String schemaName;
+    
+    public SQLExecutePrepareTemplate(final int maxConnectionsSizePerQuery) {
+        this(maxConnectionsSizePerQuery, null);
+    }
+    
     /**
      * Get execute unit groups.
      *
@@ -100,6 +106,6 @@ public final class SQLExecutePrepareTemplate {
         for (SQLUnit each : sqlUnitGroup) {
             result.add(callback.createStatementExecuteUnit(connection, new RouteUnit(dataSourceName, each), connectionMode));
         }
-        return new ShardingExecuteGroup<>(result);
+        return new ShardingExecuteGroup<>(result, schemaName, dataSourceName);
     }
 }
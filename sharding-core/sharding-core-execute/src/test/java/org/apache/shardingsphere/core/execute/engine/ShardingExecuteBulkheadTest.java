@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute.engine;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public final class ShardingExecuteBulkheadTest {
+    
+    private final ShardingExecuteBulkhead bulkhead = new ShardingExecuteBulkhead("ds_0", 1, 0);
+    
+    @After
+    public void tearDown() {
+        bulkhead.close();
+    }
+    
+    @Test
+    public void assertSubmit() throws InterruptedException, ExecutionException {
+        assertThat(bulkhead.submit(new Callable<String>() {
+            
+            @Override
+            public String call() {
+                return "succeed";
+            }
+        }).get(), is("succeed"));
+        ShardingExecuteBulkheadStatistics actual = bulkhead.getStatistics();
+        assertThat(actual.getExecutedCount(), is(1L));
+        assertThat(actual.getRejectedCount(), is(0L));
+        assertTrue(actual.getMaxQueueWaitNanos() <= actual.getTotalQueueWaitNanos());
+    }
+    
+    @Test
+    public void assertSubmitBeyondMaxConcurrencyAndMaxQueueSize() throws InterruptedException {
+        final CountDownLatch latch = new CountDownLatch(1);
+        bulkhead.submit(new Callable<Void>() {
+            
+            @Override
+            public Void call() throws InterruptedException {
+                latch.await();
+                return null;
+            }
+        });
+        try {
+            bulkhead.submit(new Callable<Void>() {
+                
+                @Override
+                public Void call() {
+                    return null;
+                }
+            });
+            fail("Expected rejected execution.");
+        } catch (final RejectedExecutionException ignore) {
+        } finally {
+            latch.countDown();
+        }
+        assertThat(bulkhead.getStatistics().getRejectedCount(), is(1L));
+    }
+}
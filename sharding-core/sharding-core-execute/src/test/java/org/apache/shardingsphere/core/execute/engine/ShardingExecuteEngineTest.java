@@ -23,18 +23,31 @@ import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 @RunWith(MockitoJUnitRunner.class)
 public final class ShardingExecuteEngineTest {
@@ -49,6 +62,9 @@ public final class ShardingExecuteEngineTest {
     
     private CountDownLatch latch;
     
+    @Mock
+    private ShardingGroupExecuteCancelCallback<StatementExecuteUnit> cancelCallback;
+    
     @Before
     public void setUp() {
         latch = new CountDownLatch(4);
@@ -74,6 +90,18 @@ public final class ShardingExecuteEngineTest {
         return result;
     }
     
+    private Collection<ShardingExecuteGroup<StatementExecuteUnit>> mockInputGroups(final String... dataSourceNames) {
+        Collection<ShardingExecuteGroup<StatementExecuteUnit>> result = new LinkedList<>();
+        for (String each : dataSourceNames) {
+            result.add(new ShardingExecuteGroup<>(Arrays.asList(mock(StatementExecuteUnit.class), mock(StatementExecuteUnit.class)), null, each));
+        }
+        return result;
+    }
+    
+    private ShardingExecuteGroup<StatementExecuteUnit> mockInputGroup(final String schemaName, final String dataSourceName) {
+        return new ShardingExecuteGroup<>(Arrays.asList(mock(StatementExecuteUnit.class), mock(StatementExecuteUnit.class)), schemaName, dataSourceName);
+    }
+    
     @Test
     public void assertParallelExecuteWithoutFirstCallback() throws SQLException, InterruptedException {
         List<String> actual = shardingExecuteEngine.groupExecute(inputGroups, callback);
@@ -95,6 +123,117 @@ public final class ShardingExecuteEngineTest {
         assertThat(actual.size(), is(4));
     }
     
+    @Test
+    public void assertParallelExecuteWithBulkheads() throws SQLException, InterruptedException {
+        ShardingExecuteEngine bulkheadExecuteEngine = new ShardingExecuteEngine(10, 2, 10);
+        try {
+            List<String> actual = bulkheadExecuteEngine.groupExecute(mockInputGroups("ds_0", "ds_1"), callback);
+            latch.await();
+            assertThat(actual.size(), is(4));
+            assertThat(bulkheadExecuteEngine.getBulkheadStatistics().keySet(), is(Collections.singleton("ds_1")));
+            assertThat(bulkheadExecuteEngine.getBulkheadStatistics().get("ds_1").getExecutedCount(), is(1L));
+        } finally {
+            bulkheadExecuteEngine.close();
+        }
+    }
+    
+    @Test
+    public void assertParallelExecuteWithBulkheadsOfSchemas() throws SQLException, InterruptedException {
+        ShardingExecuteEngine bulkheadExecuteEngine = new ShardingExecuteEngine(10, 2, 10);
+        try {
+            List<String> actual = bulkheadExecuteEngine.groupExecute(Arrays.asList(mockInputGroup("sharding_db", "ds_0"), mockInputGroup("other_db", "ds_0")), callback);
+            latch.await();
+            assertThat(actual.size(), is(4));
+            assertThat(bulkheadExecuteEngine.getBulkheadStatistics().keySet(), is(Collections.singleton("other_db.ds_0")));
+            actual = bulkheadExecuteEngine.groupExecute(Arrays.asList(mockInputGroup("other_db", "ds_0"), mockInputGroup("sharding_db", "ds_0")), callback);
+            assertThat(actual.size(), is(4));
+            assertThat(bulkheadExecuteEngine.getBulkheadStatistics().keySet(), is((Set<String>) new HashSet<>(Arrays.asList("sharding_db.ds_0", "other_db.ds_0"))));
+        } finally {
+            bulkheadExecuteEngine.close();
+        }
+    }
+    
+    @Test(expected = SQLException.class)
+    public void assertParallelExecuteRejectedByBulkhead() throws SQLException {
+        ShardingExecuteEngine bulkheadExecuteEngine = new ShardingExecuteEngine(10, 1, 0);
+        CountDownLatch blockingLatch = new CountDownLatch(1);
+        try {
+            bulkheadExecuteEngine.groupExecute(mockInputGroups("ds_0", "ds_1", "ds_1"), new BlockingGroupExecuteCallback(blockingLatch));
+        } finally {
+            blockingLatch.countDown();
+            bulkheadExecuteEngine.close();
+        }
+    }
+    
+    @Test
+    public void assertGroupExecuteInCompletionOrder() throws SQLException {
+        List<ShardingExecuteGroup<StatementExecuteUnit>> inputGroups = new ArrayList<>(mockInputGroups(3, 2));
+        List<String> actual = shardingExecuteEngine.groupExecuteInCompletionOrder(inputGroups, null, new CompletionOrderGroupExecuteCallback(inputGroups.get(1).getInputs()), null, 0L);
+        assertThat(actual, is(Arrays.asList("first", "first", "fast", "fast", "slow", "slow")));
+    }
+    
+    @Test
+    public void assertGroupExecuteInCompletionOrderWithTimeout() throws SQLException {
+        List<ShardingExecuteGroup<StatementExecuteUnit>> inputGroups = new ArrayList<>(mockInputGroups(3, 2));
+        List<String> actual = shardingExecuteEngine.groupExecuteInCompletionOrder(inputGroups, null, new CompletionOrderGroupExecuteCallback(inputGroups.get(1).getInputs()), cancelCallback, 10000L);
+        assertThat(actual, is(Arrays.asList("first", "first", "fast", "fast", "slow", "slow")));
+        verify(cancelCallback, never()).cancel(ArgumentMatchers.<Collection<StatementExecuteUnit>>any());
+    }
+    
+    @Test
+    public void assertGroupExecuteWithTimeout() throws SQLException {
+        CountDownLatch blockingLatch = new CountDownLatch(1);
+        try {
+            shardingExecuteEngine.groupExecute(inputGroups, null, new BlockingGroupExecuteCallback(blockingLatch), cancelCallback, 10L);
+            fail("Expected execution timeout.");
+        } catch (final SQLTimeoutException ex) {
+            Iterator<ShardingExecuteGroup<StatementExecuteUnit>> inputGroupsIterator = inputGroups.iterator();
+            verify(cancelCallback, never()).cancel(inputGroupsIterator.next().getInputs());
+            verify(cancelCallback).cancel(inputGroupsIterator.next().getInputs());
+        } finally {
+            blockingLatch.countDown();
+        }
+    }
+    
+    @Test
+    public void assertGroupExecuteWithTimeoutCancelsFirstGroup() throws SQLException {
+        final CountDownLatch blockingLatch = new CountDownLatch(1);
+        ShardingGroupExecuteCancelCallback<StatementExecuteUnit> releasingCancelCallback = new ShardingGroupExecuteCancelCallback<StatementExecuteUnit>() {
+            
+            @Override
+            public void cancel(final Collection<StatementExecuteUnit> inputs) {
+                blockingLatch.countDown();
+            }
+        };
+        try {
+            shardingExecuteEngine.groupExecute(mockInputGroups(1, 2), null, new TrunkThreadBlockingGroupExecuteCallback(blockingLatch, 10000L), releasingCancelCallback, 10L);
+            fail("Expected execution timeout.");
+        } catch (final SQLTimeoutException ex) {
+            assertThat(blockingLatch.getCount(), is(0L));
+        }
+    }
+    
+    @Test(expected = SQLTimeoutException.class)
+    public void assertGroupExecuteWithTimeoutWhenFirstGroupCanNotBeCancelled() throws SQLException {
+        shardingExecuteEngine.groupExecute(mockInputGroups(1, 2), null, new TrunkThreadBlockingGroupExecuteCallback(new CountDownLatch(1), 100L), cancelCallback, 10L);
+    }
+    
+    @Test
+    public void assertGroupExecuteWithoutTimeout() throws SQLException, InterruptedException {
+        List<String> actual = shardingExecuteEngine.groupExecute(inputGroups, firstCallback, callback, cancelCallback, 1000L);
+        latch.await();
+        assertThat(actual.size(), is(4));
+        verify(cancelCallback, never()).cancel(ArgumentMatchers.<Collection<StatementExecuteUnit>>any());
+    }
+    
+    @Test
+    public void assertGroupExecuteWithTimeoutExecutesFirstGroupInTrunkThread() throws SQLException {
+        TrunkThreadGroupExecuteCallback trunkThreadCallback = new TrunkThreadGroupExecuteCallback();
+        List<Boolean> actual = shardingExecuteEngine.groupExecute(inputGroups, null, trunkThreadCallback, cancelCallback, 1000L);
+        assertThat(actual, is(Arrays.asList(true, true, false, false)));
+        assertThat(trunkThreadCallback.trunkThread, is(Thread.currentThread()));
+    }
+    
     @Test
     public void assertInputGroupIsEmpty() throws SQLException {
         CountDownLatch latch = new CountDownLatch(1);
@@ -124,4 +263,81 @@ public final class ShardingExecuteEngineTest {
             return result;
         }
     }
+    
+    private final class TrunkThreadGroupExecuteCallback implements ShardingGroupExecuteCallback<StatementExecuteUnit, Boolean> {
+        
+        private volatile Thread trunkThread;
+        
+        @Override
+        public Collection<Boolean> execute(final Collection<StatementExecuteUnit> inputs, final boolean isTrunkThread, final Map<String, Object> shardingExecuteDataMap) {
+            if (isTrunkThread) {
+                trunkThread = Thread.currentThread();
+            }
+            return Collections.nCopies(inputs.size(), isTrunkThread);
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private final class BlockingGroupExecuteCallback implements ShardingGroupExecuteCallback<StatementExecuteUnit, String> {
+        
+        private final CountDownLatch latch;
+        
+        @Override
+        public Collection<String> execute(final Collection<StatementExecuteUnit> inputs, final boolean isTrunkThread, final Map<String, Object> shardingExecuteDataMap) throws SQLException {
+            if (!isTrunkThread) {
+                try {
+                    latch.await();
+                } catch (final InterruptedException ex) {
+                    throw new SQLException(ex);
+                }
+            }
+            return Collections.nCopies(inputs.size(), "succeed");
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private final class TrunkThreadBlockingGroupExecuteCallback implements ShardingGroupExecuteCallback<StatementExecuteUnit, String> {
+        
+        private final CountDownLatch latch;
+        
+        private final long blockingMilliseconds;
+        
+        @Override
+        public Collection<String> execute(final Collection<StatementExecuteUnit> inputs, final boolean isTrunkThread, final Map<String, Object> shardingExecuteDataMap) throws SQLException {
+            try {
+                if (latch.await(blockingMilliseconds, TimeUnit.MILLISECONDS)) {
+                    throw new SQLException("Statement is cancelled.");
+                }
+            } catch (final InterruptedException ex) {
+                throw new SQLException(ex);
+            }
+            return Collections.nCopies(inputs.size(), "succeed");
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private final class CompletionOrderGroupExecuteCallback implements ShardingGroupExecuteCallback<StatementExecuteUnit, String> {
+        
+        private final Collection<StatementExecuteUnit> slowInputs;
+        
+        private final CountDownLatch fastLatch = new CountDownLatch(1);
+        
+        @Override
+        public Collection<String> execute(final Collection<StatementExecuteUnit> inputs, final boolean isTrunkThread, final Map<String, Object> shardingExecuteDataMap) throws SQLException {
+            if (isTrunkThread) {
+                return Collections.nCopies(inputs.size(), "first");
+            }
+            if (slowInputs != inputs) {
+                fastLatch.countDown();
+                return Collections.nCopies(inputs.size(), "fast");
+            }
+            try {
+                fastLatch.await();
+                Thread.sleep(100L);
+            } catch (final InterruptedException ex) {
+                throw new SQLException(ex);
+            }
+            return Collections.nCopies(inputs.size(), "slow");
+        }
+    }
 }
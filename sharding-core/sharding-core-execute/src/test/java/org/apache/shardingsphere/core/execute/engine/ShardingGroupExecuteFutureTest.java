@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute.engine;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class ShardingGroupExecuteFutureTest {
+    
+    @Mock
+    private ShardingGroupExecuteCancelCallback<String> cancelCallback;
+    
+    private List<ShardingExecuteGroup<String>> inputGroups;
+    
+    private List<SettableFuture<Collection<String>>> groupFutures;
+    
+    private List<ListenableFuture<Collection<String>>> futures;
+    
+    private ShardingGroupExecuteFuture<String, String> actual;
+    
+    @Before
+    public void setUp() {
+        inputGroups = Arrays.asList(createInputGroup("first"), createInputGroup("slow"), createInputGroup("fast"));
+        groupFutures = new ArrayList<>(inputGroups.size());
+        futures = new ArrayList<>(inputGroups.size());
+        for (int i = 0; i < inputGroups.size(); i++) {
+            SettableFuture<Collection<String>> future = SettableFuture.create();
+            groupFutures.add(future);
+            futures.add(future);
+        }
+        actual = new ShardingGroupExecuteFuture<>(inputGroups, futures, cancelCallback, true);
+    }
+    
+    private ShardingExecuteGroup<String> createInputGroup(final String input) {
+        return new ShardingExecuteGroup<>(Collections.singletonList(input));
+    }
+    
+    @Test
+    public void assertGetInOrderOfCompletion() throws InterruptedException, ExecutionException {
+        groupFutures.get(2).set(Collections.singletonList("fast"));
+        groupFutures.get(1).set(Collections.singletonList("slow"));
+        assertFalse(actual.isDone());
+        groupFutures.get(0).set(Collections.singletonList("first"));
+        assertThat(actual.get(), is(Arrays.asList("first", "fast", "slow")));
+    }
+    
+    @Test
+    public void assertGetInOrderOfInputGroups() throws InterruptedException, ExecutionException {
+        actual = new ShardingGroupExecuteFuture<>(inputGroups, futures, cancelCallback, false);
+        groupFutures.get(2).set(Collections.singletonList("fast"));
+        groupFutures.get(0).set(Collections.singletonList("first"));
+        assertFalse(actual.isDone());
+        groupFutures.get(1).set(Collections.singletonList("slow"));
+        assertThat(actual.get(), is(Arrays.asList("first", "slow", "fast")));
+    }
+    
+    @Test
+    public void assertGetWhenGroupFailure() throws InterruptedException, SQLException {
+        groupFutures.get(2).set(Collections.singletonList("fast"));
+        groupFutures.get(0).setException(new SQLException("failure"));
+        try {
+            actual.get();
+            fail("Expected execution exception.");
+        } catch (final ExecutionException ex) {
+            assertThat(ex.getCause(), instanceOf(SQLException.class));
+        }
+        assertTrue(groupFutures.get(1).isCancelled());
+        verify(cancelCallback).cancel(inputGroups.get(1).getInputs());
+        verify(cancelCallback, never()).cancel(inputGroups.get(2).getInputs());
+    }
+    
+    @Test
+    public void assertCancel() throws SQLException {
+        groupFutures.get(0).set(Collections.singletonList("first"));
+        assertTrue(actual.cancel(false));
+        assertTrue(groupFutures.get(1).isCancelled());
+        assertTrue(groupFutures.get(2).isCancelled());
+        verify(cancelCallback, never()).cancel(inputGroups.get(0).getInputs());
+        verify(cancelCallback).cancel(inputGroups.get(1).getInputs());
+        verify(cancelCallback).cancel(inputGroups.get(2).getInputs());
+    }
+}
@@ -42,6 +42,8 @@ import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -58,25 +60,27 @@ public final class SQLExecuteCallbackTest {
     
     private Collection<StatementExecuteUnit> units;
     
+    private SQLExecuteCallback<Integer> sqlExecuteCallback;
+    
     @Before
-    public void setUp() throws Exception {
-        when(preparedStatement.getConnection()).thenReturn(connection);
-        when(connection.getMetaData()).thenReturn(metaData);
-        when(metaData.getURL()).thenReturn("jdbc:mysql://localhost:3306/test");
+    public void setUp() {
         units = Collections.singletonList(new StatementExecuteUnit(new RouteUnit("ds", new SQLUnit("SELECT now()", Collections.emptyList())), preparedStatement, ConnectionMode.CONNECTION_STRICTLY));
-    }
-    
-    @Test
-    @SneakyThrows
-    @SuppressWarnings("unchecked")
-    public void execute() {
-        SQLExecuteCallback sqlExecuteCallback = new SQLExecuteCallback<Integer>(DatabaseTypes.getActualDatabaseType("MySQL"), true) {
+        sqlExecuteCallback = new SQLExecuteCallback<Integer>(DatabaseTypes.getActualDatabaseType("MySQL"), true) {
             
             @Override
             protected Integer executeSQL(final String sql, final Statement statement, final ConnectionMode connectionMode) throws SQLException {
                 return ((PreparedStatement) statement).executeUpdate();
             }
         };
+    }
+    
+    @Test
+    @SneakyThrows
+    @SuppressWarnings("unchecked")
+    public void execute() {
+        when(preparedStatement.getConnection()).thenReturn(connection);
+        when(connection.getMetaData()).thenReturn(metaData);
+        when(metaData.getURL()).thenReturn("jdbc:mysql://localhost:3306/test");
         Field field = SQLExecuteCallback.class.getDeclaredField("CACHED_DATASOURCE_METADATA");
         field.setAccessible(true);
         Map<String, DataSourceMetaData> cachedDataSourceMetaData = (Map<String, DataSourceMetaData>) field.get(sqlExecuteCallback);
@@ -86,4 +90,14 @@ public final class SQLExecuteCallbackTest {
         sqlExecuteCallback.execute(units, true, null);
         assertThat(cachedDataSourceMetaData.size(), is(1));
     }
+    
+    @Test
+    public void assertExecuteWithDataSourceMetaData() throws SQLException {
+        DataSourceMetaData dataSourceMetaData = DatabaseTypes.getActualDatabaseType("MySQL").getDataSourceMetaData("jdbc:mysql://localhost:3306/test", "root");
+        when(preparedStatement.executeUpdate()).thenReturn(1);
+        Collection<Integer> actual = sqlExecuteCallback.execute(Collections.singletonList(new StatementExecuteUnit(
+                new RouteUnit("ds", new SQLUnit("SELECT now()", Collections.emptyList())), preparedStatement, ConnectionMode.CONNECTION_STRICTLY, dataSourceMetaData)), true, null);
+        assertThat(actual, is((Collection<Integer>) Collections.singletonList(1)));
+        verify(preparedStatement, never()).getConnection();
+    }
 }
@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute.sql.execute;
+
+import org.apache.shardingsphere.core.constant.ConnectionMode;
+import org.apache.shardingsphere.core.execute.sql.StatementExecuteUnit;
+import org.apache.shardingsphere.core.route.RouteUnit;
+import org.apache.shardingsphere.core.route.SQLUnit;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class SQLExecuteCancelCallbackTest {
+    
+    @Mock
+    private Statement statement0;
+    
+    @Mock
+    private Statement statement1;
+    
+    @Test
+    public void assertCancel() throws SQLException {
+        new SQLExecuteCancelCallback().cancel(Arrays.asList(createStatementExecuteUnit(statement0), createStatementExecuteUnit(statement1)));
+        verify(statement0).cancel();
+        verify(statement1).cancel();
+    }
+    
+    @Test
+    public void assertCancelWhenStatementCancelFailure() throws SQLException {
+        SQLException exception = new SQLException("cancel failure");
+        doThrow(exception).when(statement0).cancel();
+        try {
+            new SQLExecuteCancelCallback().cancel(Arrays.asList(createStatementExecuteUnit(statement0), createStatementExecuteUnit(statement1)));
+            fail("Expected cancel failure.");
+        } catch (final SQLException ex) {
+            assertThat(ex, is(exception));
+        }
+        verify(statement1).cancel();
+    }
+    
+    private StatementExecuteUnit createStatementExecuteUnit(final Statement statement) {
+        return new StatementExecuteUnit(new RouteUnit("ds", new SQLUnit("SELECT 1", Collections.emptyList())), statement, ConnectionMode.MEMORY_STRICTLY);
+    }
+}
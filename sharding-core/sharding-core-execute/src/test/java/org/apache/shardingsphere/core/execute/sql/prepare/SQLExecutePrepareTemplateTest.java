@@ -70,6 +70,18 @@ public final class SQLExecutePrepareTemplateTest {
         }
     }
     
+    @Test
+    public void assertGetExecuteUnitGroupWithSchemaName() throws SQLException {
+        mockConnections(callback, ConnectionMode.MEMORY_STRICTLY, 1);
+        sqlExecutePrepareTemplate = new SQLExecutePrepareTemplate(2, "sharding_db");
+        Collection<ShardingExecuteGroup<StatementExecuteUnit>> actual = sqlExecutePrepareTemplate.getExecuteUnitGroups(mockShardRouteUnit(1, 1), callback);
+        assertThat(actual.size(), is(1));
+        for (ShardingExecuteGroup<StatementExecuteUnit> each : actual) {
+            assertThat(each.getSchemaName(), is("sharding_db"));
+            assertThat(each.getDataSourceName(), is("ds_0"));
+        }
+    }
+    
     private void mockConnections(final SQLExecutePrepareCallback callback, final ConnectionMode connectionMode, final int size) throws SQLException {
         List<Connection> connections = new ArrayList<>(size);
         for (int i = 0; i < size; i++) {
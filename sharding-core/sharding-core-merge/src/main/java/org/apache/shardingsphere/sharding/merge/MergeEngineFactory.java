@@ -19,6 +19,8 @@ package org.apache.shardingsphere.sharding.merge;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
+import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import org.apache.shardingsphere.core.route.SQLRouteResult;
 import org.apache.shardingsphere.core.rule.ShardingRule;
 import org.apache.shardingsphere.sharding.merge.dal.DALMergeEngine;
@@ -31,6 +33,7 @@ import org.apache.shardingsphere.underlying.execute.QueryResult;
 import org.apache.shardingsphere.underlying.merge.MergeEngine;
 
 import java.util.List;
+import java.util.Properties;
 
 /**
  * Result merge engine factory.
@@ -53,12 +56,29 @@ public final class MergeEngineFactory {
      */
     public static MergeEngine newInstance(final DatabaseType databaseType, final ShardingRule shardingRule,
                                           final SQLRouteResult routeResult, final RelationMetas relationMetas, final List<QueryResult> queryResults) {
+        return newInstance(databaseType, shardingRule, routeResult, relationMetas, queryResults, new ShardingProperties(new Properties()));
+    }
+    
+    /**
+     * Create merge engine instance.
+     *
+     * @param databaseType database type
+     * @param shardingRule sharding rule
+     * @param routeResult SQL route result
+     * @param relationMetas relation metas
+     * @param queryResults query results
+     * @param shardingProperties sharding properties
+     * @return merge engine instance
+     */
+    public static MergeEngine newInstance(final DatabaseType databaseType, final ShardingRule shardingRule, final SQLRouteResult routeResult, 
+                                          final RelationMetas relationMetas, final List<QueryResult> queryResults, final ShardingProperties shardingProperties) {
 
         /**
          * 如果是查询语句，就创建一个 {@link DQLMergeEngine#merge()}
          */
         if (routeResult.getSqlStatementContext() instanceof SelectSQLStatementContext) {
-            return new DQLMergeEngine(databaseType, (SelectSQLStatementContext) routeResult.getSqlStatementContext(), queryResults);
+            return new DQLMergeEngine(databaseType, (SelectSQLStatementContext) routeResult.getSqlStatementContext(), queryResults, 
+                    shardingProperties.<Integer>getValue(ShardingPropertiesConstant.MAX_GROUP_BY_ROWS_IN_MEMORY));
         }
 
         // 如果是数据库管理语句，就创建一个 DALMergeEngine
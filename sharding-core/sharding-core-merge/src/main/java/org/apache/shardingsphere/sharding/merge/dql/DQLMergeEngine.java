@@ -17,9 +17,11 @@
 
 package org.apache.shardingsphere.sharding.merge.dql;
 
+import com.google.common.base.Optional;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.core.database.DatabaseTypes;
 import org.apache.shardingsphere.sharding.merge.dql.groupby.GroupByMemoryMergedResult;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.GroupBySpillMergedResult;
 import org.apache.shardingsphere.sharding.merge.dql.groupby.GroupByStreamMergedResult;
 import org.apache.shardingsphere.sharding.merge.dql.iterator.IteratorStreamMergedResult;
 import org.apache.shardingsphere.sharding.merge.dql.orderby.OrderByStreamMergedResult;
@@ -57,6 +59,12 @@ public final class DQLMergeEngine implements MergeEngine {
     
     private final List<QueryResult> queryResults;
     
+    private final int maxGroupByRowsInMemory;
+    
+    public DQLMergeEngine(final DatabaseType databaseType, final SelectSQLStatementContext selectSQLStatementContext, final List<QueryResult> queryResults) {
+        this(databaseType, selectSQLStatementContext, queryResults, 0);
+    }
+    
     @Override
     public MergedResult merge() throws SQLException {
         // 如果结果集数量为 1
@@ -140,9 +148,20 @@ public final class DQLMergeEngine implements MergeEngine {
      *      不相同,使用内存分组归并 {@link GroupByMemoryMergedResult}
      */
     private MergedResult getGroupByMergedResult(final Map<String, Integer> columnLabelIndexMap) throws SQLException {
-        return selectSQLStatementContext.isSameGroupByAndOrderByItems()
-                ? new GroupByStreamMergedResult(columnLabelIndexMap, queryResults, selectSQLStatementContext)
-                : new GroupByMemoryMergedResult(queryResults, selectSQLStatementContext);
+        if (selectSQLStatementContext.isSameGroupByAndOrderByItems()) {
+            return new GroupByStreamMergedResult(columnLabelIndexMap, queryResults, selectSQLStatementContext);
+        }
+        long maxRowCount = getMaxRowCountOfPagination();
+        return maxGroupByRowsInMemory > 0 ? new GroupBySpillMergedResult(queryResults, selectSQLStatementContext, maxGroupByRowsInMemory, maxRowCount)
+                : new GroupByMemoryMergedResult(queryResults, selectSQLStatementContext, maxRowCount);
+    }
+    
+    private long getMaxRowCountOfPagination() {
+        PaginationContext paginationContext = selectSQLStatementContext.getPaginationContext();
+        if (!paginationContext.isHasPagination() || !paginationContext.getActualRowCount().isPresent() || !findPaginationDecorator().isPresent()) {
+            return 0L;
+        }
+        return paginationContext.getActualOffset() + paginationContext.getActualRowCount().get();
     }
     
     private boolean isNeedProcessOrderBy() {
@@ -159,16 +178,36 @@ public final class DQLMergeEngine implements MergeEngine {
         }
 
         //根据不同的数据库类型对相应的分页结果集执行归并
+        Optional<PaginationDecorator> paginationDecorator = findPaginationDecorator();
+        if (!paginationDecorator.isPresent()) {
+            return mergedResult;
+        }
+        switch (paginationDecorator.get()) {
+            case LIMIT:
+                return new LimitDecoratorMergedResult(mergedResult, paginationContext);
+            case ROW_NUMBER:
+                return new RowNumberDecoratorMergedResult(mergedResult, paginationContext);
+            default:
+                return new TopAndRowNumberDecoratorMergedResult(mergedResult, paginationContext);
+        }
+    }
+    
+    private Optional<PaginationDecorator> findPaginationDecorator() {
         String trunkDatabaseName = DatabaseTypes.getTrunkDatabaseType(databaseType.getName()).getName();
         if ("MySQL".equals(trunkDatabaseName) || "PostgreSQL".equals(trunkDatabaseName)) {
-            return new LimitDecoratorMergedResult(mergedResult, paginationContext);
+            return Optional.of(PaginationDecorator.LIMIT);
         }
         if ("Oracle".equals(trunkDatabaseName)) {
-            return new RowNumberDecoratorMergedResult(mergedResult, paginationContext);
+            return Optional.of(PaginationDecorator.ROW_NUMBER);
         }
         if ("SQLServer".equals(trunkDatabaseName)) {
-            return new TopAndRowNumberDecoratorMergedResult(mergedResult, paginationContext);
+            return Optional.of(PaginationDecorator.TOP_AND_ROW_NUMBER);
         }
-        return mergedResult;
+        return Optional.absent();
+    }
+    
+    private enum PaginationDecorator {
+        
+        LIMIT, ROW_NUMBER, TOP_AND_ROW_NUMBER
     }
 }
@@ -0,0 +1,168 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import com.google.common.base.Function;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Maps;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnit;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnitFactory;
+import org.apache.shardingsphere.sql.parser.relation.segment.select.projection.impl.AggregationDistinctProjection;
+import org.apache.shardingsphere.sql.parser.relation.segment.select.projection.impl.AggregationProjection;
+import org.apache.shardingsphere.sql.parser.relation.statement.impl.SelectSQLStatementContext;
+import org.apache.shardingsphere.underlying.execute.QueryResult;
+import org.apache.shardingsphere.underlying.merge.impl.MemoryQueryResultRow;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.PriorityQueue;
+import java.util.Queue;
+
+/**
+ * Aggregator for group by.
+ * 
+ * <p>Keep first row and aggregation units of every group in memory.</p>
+ */
+public final class GroupByAggregator {
+    
+    private final SelectSQLStatementContext selectSQLStatementContext;
+    
+    private final Map<GroupByValue, MemoryQueryResultRow> dataMap = new HashMap<>(1024);
+    
+    private final Map<GroupByValue, Map<AggregationProjection, AggregationUnit>> aggregationMap = new HashMap<>(1024);
+    
+    public GroupByAggregator(final SelectSQLStatementContext selectSQLStatementContext) {
+        this.selectSQLStatementContext = selectSQLStatementContext;
+    }
+    
+    /**
+     * Judge whether contains group or not.
+     * 
+     * @param groupByValue group by value
+     * @return contains group or not
+     */
+    public boolean contains(final GroupByValue groupByValue) {
+        return dataMap.containsKey(groupByValue);
+    }
+    
+    /**
+     * Get group size.
+     * 
+     * @return group size
+     */
+    public int size() {
+        return dataMap.size();
+    }
+    
+    /**
+     * Aggregate current row of query result.
+     * 
+     * @param queryResult query result
+     * @param groupByValue group by value of current row
+     * @throws SQLException SQL exception
+     */
+    public void aggregate(final QueryResult queryResult, final GroupByValue groupByValue) throws SQLException {
+        initForFirstGroupByValue(queryResult, groupByValue);
+        for (AggregationProjection each : selectSQLStatementContext.getProjectionsContext().getAggregationProjections()) {
+            List<Comparable<?>> values = new ArrayList<>(2);
+            if (each.getDerivedAggregationProjections().isEmpty()) {
+                values.add(getAggregationValue(queryResult, each));
+            } else {
+                for (AggregationProjection derived : each.getDerivedAggregationProjections()) {
+                    values.add(getAggregationValue(queryResult, derived));
+                }
+            }
+            aggregationMap.get(groupByValue).get(each).merge(values);
+        }
+    }
+    
+    private void initForFirstGroupByValue(final QueryResult queryResult, final GroupByValue groupByValue) throws SQLException {
+        if (!dataMap.containsKey(groupByValue)) {
+            dataMap.put(groupByValue, new MemoryQueryResultRow(queryResult));
+        }
+        if (!aggregationMap.containsKey(groupByValue)) {
+            Map<AggregationProjection, AggregationUnit> map = Maps.toMap(
+                    selectSQLStatementContext.getProjectionsContext().getAggregationProjections(), new Function<AggregationProjection, AggregationUnit>() {
+                        
+                        @Override
+                        public AggregationUnit apply(final AggregationProjection input) {
+                            return AggregationUnitFactory.create(input.getType(), input instanceof AggregationDistinctProjection);
+                        }
+                    });
+            aggregationMap.put(groupByValue, map);
+        }
+    }
+    
+    private Comparable<?> getAggregationValue(final QueryResult queryResult, final AggregationProjection aggregationSelectItem) throws SQLException {
+        Object result = queryResult.getValue(aggregationSelectItem.getIndex(), Object.class);
+        Preconditions.checkState(null == result || result instanceof Comparable, "Aggregation value must implements Comparable");
+        return (Comparable<?>) result;
+    }
+    
+    /**
+     * Get sorted aggregated rows and clear aggregator.
+     * 
+     * <p>If max row count is less than group size, only top rows are kept by a bounded heap, costs O(n log k) instead of O(n log n).</p>
+     * 
+     * @param comparator row comparator
+     * @param maxRowCount max row count, {@code 0} means all rows
+     * @return sorted aggregated rows
+     */
+    public List<MemoryQueryResultRow> getSortedAggregatedRows(final Comparator<MemoryQueryResultRow> comparator, final long maxRowCount) {
+        List<MemoryQueryResultRow> result = maxRowCount > 0 && maxRowCount < dataMap.size() ? getTopAggregatedRows(comparator, (int) maxRowCount) : getAllAggregatedRows();
+        Collections.sort(result, comparator);
+        dataMap.clear();
+        aggregationMap.clear();
+        return result;
+    }
+    
+    private List<MemoryQueryResultRow> getAllAggregatedRows() {
+        List<MemoryQueryResultRow> result = new ArrayList<>(dataMap.size());
+        for (Entry<GroupByValue, MemoryQueryResultRow> entry : dataMap.entrySet()) {
+            result.add(getAggregatedRow(entry));
+        }
+        return result;
+    }
+    
+    private List<MemoryQueryResultRow> getTopAggregatedRows(final Comparator<MemoryQueryResultRow> comparator, final int maxRowCount) {
+        Queue<MemoryQueryResultRow> heap = new PriorityQueue<>(maxRowCount, Collections.reverseOrder(comparator));
+        for (Entry<GroupByValue, MemoryQueryResultRow> entry : dataMap.entrySet()) {
+            MemoryQueryResultRow row = getAggregatedRow(entry);
+            if (heap.size() < maxRowCount) {
+                heap.offer(row);
+            } else if (comparator.compare(row, heap.peek()) < 0) {
+                heap.poll();
+                heap.offer(row);
+            }
+        }
+        return new ArrayList<>(heap);
+    }
+    
+    private MemoryQueryResultRow getAggregatedRow(final Entry<GroupByValue, MemoryQueryResultRow> entry) {
+        for (AggregationProjection each : selectSQLStatementContext.getProjectionsContext().getAggregationProjections()) {
+            entry.getValue().setCell(each.getIndex(), aggregationMap.get(entry.getKey()).get(each).getResult());
+        }
+        return entry.getValue();
+    }
+}
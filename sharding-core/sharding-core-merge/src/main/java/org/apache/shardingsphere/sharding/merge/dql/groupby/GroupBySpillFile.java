@@ -0,0 +1,196 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import com.google.common.base.Optional;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.SQLException;
+import java.sql.SQLXML;
+
+/**
+ * Temporary file to spill rows of group by.
+ * 
+ * <p>
+ * Rows are written and read in same order, file is deleted after all rows are read or {@link #delete()} is called.
+ * Values of rows must be serializable, rows loaded from database should be converted by {@link #toSerializableRow(Object[])} before written.
+ * </p>
+ */
+public final class GroupBySpillFile {
+    
+    private static final int RESET_INTERVAL = 256;
+    
+    private final File file;
+    
+    private ObjectOutputStream outputStream;
+    
+    private ObjectInputStream inputStream;
+    
+    private int writtenCount;
+    
+    public GroupBySpillFile() throws IOException {
+        file = File.createTempFile("sharding-group-by-", ".spill");
+        try {
+            outputStream = new ObjectOutputStream(new BufferedOutputStream(new FileOutputStream(file)));
+        } catch (final IOException ex) {
+            file.delete();
+            throw ex;
+        }
+    }
+    
+    /**
+     * Convert row to serializable row.
+     * 
+     * <p>
+     * Large objects are loaded as {@code byte[]} or {@code String}, other values which are not serializable can not be spilled.
+     * </p>
+     * 
+     * @param row row
+     * @return serializable row, absent if any value of row is not serializable
+     * @throws SQLException SQL exception
+     */
+    public static Optional<Object[]> toSerializableRow(final Object[] row) throws SQLException {
+        Object[] result = new Object[row.length];
+        for (int i = 0; i < row.length; i++) {
+            result[i] = row[i] instanceof Serializable ? row[i] : loadLargeObject(row[i]);
+            if (null != result[i] && !(result[i] instanceof Serializable)) {
+                return Optional.absent();
+            }
+        }
+        return Optional.of(result);
+    }
+    
+    private static Object loadLargeObject(final Object value) throws SQLException {
+        if (value instanceof Blob) {
+            return ((Blob) value).getBytes(1L, (int) ((Blob) value).length());
+        }
+        if (value instanceof Clob) {
+            return ((Clob) value).getSubString(1L, (int) ((Clob) value).length());
+        }
+        if (value instanceof SQLXML) {
+            return ((SQLXML) value).getString();
+        }
+        return value;
+    }
+    
+    /**
+     * Write row.
+     * 
+     * @param row row
+     * @throws IOException IO exception
+     */
+    public void write(final Object[] row) throws IOException {
+        outputStream.writeObject(row);
+        if (0 == ++writtenCount % RESET_INTERVAL) {
+            outputStream.reset();
+        }
+    }
+    
+    /**
+     * Finish writing.
+     * 
+     * @throws IOException IO exception
+     */
+    public void finishWriting() throws IOException {
+        if (null != outputStream) {
+            outputStream.writeObject(null);
+            outputStream.close();
+            outputStream = null;
+        }
+    }
+    
+    /**
+     * Read next row.
+     * 
+     * @return next row, return {@code null} if all rows are read
+     * @throws IOException IO exception
+     */
+    public Object[] read() throws IOException {
+        finishWriting();
+        if (null == inputStream) {
+            if (!file.exists()) {
+                return null;
+            }
+            inputStream = new ObjectInputStream(new BufferedInputStream(new FileInputStream(file)));
+        }
+        Object[] result;
+        try {
+            result = (Object[]) inputStream.readObject();
+        } catch (final ClassNotFoundException ex) {
+            throw new IOException(ex);
+        }
+        if (null == result) {
+            delete();
+        }
+        return result;
+    }
+    
+    /**
+     * Close streams and delete file.
+     * 
+     * <p>
+     * Reading a deleted file returns {@code null}.
+     * </p>
+     */
+    public void delete() {
+        closeQuietly();
+        file.delete();
+    }
+    
+    private void closeQuietly() {
+        try {
+            if (null != outputStream) {
+                outputStream.close();
+            }
+            if (null != inputStream) {
+                inputStream.close();
+            }
+        } catch (final IOException ignore) {
+        }
+        outputStream = null;
+        inputStream = null;
+    }
+    
+    /**
+     * Judge whether file is deleted.
+     * 
+     * @return file is deleted or not
+     */
+    public boolean isDeleted() {
+        return !file.exists();
+    }
+    
+    /**
+     * Get written row count.
+     * 
+     * @return written row count
+     */
+    public int getWrittenCount() {
+        return writtenCount;
+    }
+}
@@ -0,0 +1,366 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import com.google.common.base.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.sql.parser.relation.statement.impl.SelectSQLStatementContext;
+import org.apache.shardingsphere.underlying.execute.QueryResult;
+import org.apache.shardingsphere.underlying.merge.CloseableMergedResult;
+import org.apache.shardingsphere.underlying.merge.impl.MemoryQueryResultRow;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLXML;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Queue;
+
+/**
+ * Memory bounded merged result for group by.
+ * 
+ * <p>
+ * Groups are aggregated in memory until group size reaches max rows in memory, 
+ * rows of other groups are hash partitioned into temporary files and aggregated partition by partition later.
+ * Aggregated rows of every partition are sorted and spilled again, then merged by order.
+ * Rows of one group are always aggregated together, so aggregation result is same as {@link GroupByMemoryMergedResult}.
+ * With max row count, only top rows of every partition are spilled.
+ * Temporary files are deleted after all rows are read or merged result is closed.
+ * If value of row is not serializable even after large objects are loaded, rows are aggregated or kept in memory instead of spilled.
+ * </p>
+ */
+@Slf4j
+public final class GroupBySpillMergedResult implements CloseableMergedResult {
+    
+    private static final int PARTITION_BITS = 4;
+    
+    private static final int PARTITION_COUNT = 1 << PARTITION_BITS;
+    
+    private static final int MAX_PARTITION_DEPTH = Integer.SIZE / PARTITION_BITS;
+    
+    private final SelectSQLStatementContext selectSQLStatementContext;
+    
+    private final int maxRowsInMemory;
+    
+    private final long maxRowCount;
+    
+    private final List<String> columnLabels;
+    
+    private final List<Boolean> columnCaseSensitives;
+    
+    private final Comparator<MemoryQueryResultRow> rowComparator;
+    
+    private final Queue<RowCursor> rowCursors;
+    
+    private final Collection<GroupBySpillFile> spillFiles = new LinkedList<>();
+    
+    private RowCursor currentRowCursor;
+    
+    private boolean wasNull;
+    
+    private boolean closed;
+    
+    public GroupBySpillMergedResult(final List<QueryResult> queryResults, final SelectSQLStatementContext selectSQLStatementContext, final int maxRowsInMemory) throws SQLException {
+        this(queryResults, selectSQLStatementContext, maxRowsInMemory, 0L);
+    }
+    
+    public GroupBySpillMergedResult(final List<QueryResult> queryResults, final SelectSQLStatementContext selectSQLStatementContext, 
+                                    final int maxRowsInMemory, final long maxRowCount) throws SQLException {
+        this.selectSQLStatementContext = selectSQLStatementContext;
+        this.maxRowsInMemory = maxRowsInMemory;
+        this.maxRowCount = maxRowCount;
+        columnLabels = new ArrayList<>();
+        columnCaseSensitives = new ArrayList<>();
+        if (!queryResults.isEmpty()) {
+            loadColumnMetaData(queryResults.get(0));
+        }
+        rowComparator = new GroupByRowComparator(selectSQLStatementContext,
+                queryResults.isEmpty() ? Collections.<Boolean>emptyList() : GroupByMemoryMergedResult.getValueCaseSensitive(queryResults.get(0)));
+        rowCursors = new PriorityQueue<>(PARTITION_COUNT + 1, new Comparator<RowCursor>() {
+            
+            @Override
+            public int compare(final RowCursor o1, final RowCursor o2) {
+                return rowComparator.compare(o1.getCurrentRow(), o2.getCurrentRow());
+            }
+        });
+        boolean aggregated = false;
+        try {
+            aggregate(queryResults);
+            aggregated = true;
+        } catch (final IOException ex) {
+            throw new SQLException(ex);
+        } finally {
+            if (!aggregated) {
+                close();
+            }
+        }
+    }
+    
+    private void loadColumnMetaData(final QueryResult queryResult) throws SQLException {
+        for (int columnIndex = 1; columnIndex <= queryResult.getColumnCount(); columnIndex++) {
+            columnLabels.add(queryResult.getColumnLabel(columnIndex));
+            columnCaseSensitives.add(queryResult.isCaseSensitive(columnIndex));
+        }
+    }
+    
+    private void aggregate(final List<QueryResult> queryResults) throws SQLException, IOException {
+        GroupByAggregator aggregator = new GroupByAggregator(selectSQLStatementContext);
+        GroupBySpillFile[] partitions = null;
+        boolean spillable = true;
+        for (QueryResult each : queryResults) {
+            while (each.next()) {
+                GroupByValue groupByValue = new GroupByValue(each, selectSQLStatementContext.getGroupByContext().getItems());
+                if (!spillable || aggregator.size() < maxRowsInMemory || aggregator.contains(groupByValue)) {
+                    aggregator.aggregate(each, groupByValue);
+                    continue;
+                }
+                Optional<Object[]> row = GroupBySpillFile.toSerializableRow(loadRow(each));
+                if (row.isPresent()) {
+                    partitions = null == partitions ? createPartitions() : partitions;
+                    partitions[getPartitionIndex(groupByValue, 0)].write(row.get());
+                } else {
+                    log.warn("Rows of group by can not be spilled because value is not serializable, all groups are aggregated in memory.");
+                    spillable = false;
+                    aggregator.aggregate(each, groupByValue);
+                }
+            }
+        }
+        if (!spillable && null != partitions) {
+            aggregateSpilledRows(partitions, aggregator);
+            partitions = null;
+        }
+        if (null == partitions) {
+            addRowCursor(new MemoryRowCursor(getSortedAggregatedRows(aggregator).iterator()));
+            return;
+        }
+        spill(getSortedAggregatedRows(aggregator));
+        for (GroupBySpillFile each : partitions) {
+            aggregatePartition(each, 1);
+        }
+    }
+    
+    private void aggregateSpilledRows(final GroupBySpillFile[] partitions, final GroupByAggregator aggregator) throws SQLException {
+        for (GroupBySpillFile each : partitions) {
+            QueryResult queryResult = new GroupBySpillQueryResult(each, columnLabels, columnCaseSensitives);
+            while (queryResult.next()) {
+                aggregator.aggregate(queryResult, new GroupByValue(queryResult, selectSQLStatementContext.getGroupByContext().getItems()));
+            }
+        }
+    }
+    
+    private void aggregatePartition(final GroupBySpillFile partition, final int depth) throws SQLException, IOException {
+        GroupByAggregator aggregator = new GroupByAggregator(selectSQLStatementContext);
+        GroupBySpillFile[] subPartitions = null;
+        QueryResult queryResult = new GroupBySpillQueryResult(partition, columnLabels, columnCaseSensitives);
+        while (queryResult.next()) {
+            GroupByValue groupByValue = new GroupByValue(queryResult, selectSQLStatementContext.getGroupByContext().getItems());
+            if (depth >= MAX_PARTITION_DEPTH || aggregator.size() < maxRowsInMemory || aggregator.contains(groupByValue)) {
+                aggregator.aggregate(queryResult, groupByValue);
+            } else {
+                subPartitions = null == subPartitions ? createPartitions() : subPartitions;
+                subPartitions[getPartitionIndex(groupByValue, depth)].write(loadRow(queryResult));
+            }
+        }
+        spill(getSortedAggregatedRows(aggregator));
+        if (null != subPartitions) {
+            for (GroupBySpillFile each : subPartitions) {
+                aggregatePartition(each, depth + 1);
+            }
+        }
+    }
+    
+    private GroupBySpillFile[] createPartitions() throws IOException {
+        GroupBySpillFile[] result = new GroupBySpillFile[PARTITION_COUNT];
+        for (int i = 0; i < PARTITION_COUNT; i++) {
+            result[i] = createSpillFile();
+        }
+        return result;
+    }
+    
+    private GroupBySpillFile createSpillFile() throws IOException {
+        GroupBySpillFile result = new GroupBySpillFile();
+        spillFiles.add(result);
+        return result;
+    }
+    
+    private int getPartitionIndex(final GroupByValue groupByValue, final int depth) {
+        int hash = groupByValue.hashCode();
+        hash ^= hash >>> 16;
+        hash *= 0x85ebca6b;
+        hash ^= hash >>> 13;
+        hash *= 0xc2b2ae35;
+        hash ^= hash >>> 16;
+        return (hash >>> (depth * PARTITION_BITS)) & (PARTITION_COUNT - 1);
+    }
+    
+    private Object[] loadRow(final QueryResult queryResult) throws SQLException {
+        Object[] result = new Object[columnLabels.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = queryResult.getValue(i + 1, Object.class);
+        }
+        return result;
+    }
+    
+    private List<MemoryQueryResultRow> getSortedAggregatedRows(final GroupByAggregator aggregator) {
+        return aggregator.getSortedAggregatedRows(rowComparator, maxRowCount);
+    }
+    
+    private void spill(final List<MemoryQueryResultRow> sortedRows) throws SQLException, IOException {
+        if (sortedRows.isEmpty()) {
+            return;
+        }
+        GroupBySpillFile spillFile = createSpillFile();
+        for (MemoryQueryResultRow each : sortedRows) {
+            Object[] row = new Object[columnLabels.size()];
+            for (int i = 0; i < row.length; i++) {
+                row[i] = each.getCell(i + 1);
+            }
+            Optional<Object[]> serializableRow = GroupBySpillFile.toSerializableRow(row);
+            if (!serializableRow.isPresent()) {
+                log.warn("Aggregated rows of group by can not be spilled because value is not serializable, they are kept in memory.");
+                spillFile.delete();
+                addRowCursor(new MemoryRowCursor(sortedRows.iterator()));
+                return;
+            }
+            spillFile.write(serializableRow.get());
+        }
+        spillFile.finishWriting();
+        addRowCursor(new SpillFileRowCursor(new GroupBySpillQueryResult(spillFile, columnLabels, columnCaseSensitives)));
+    }
+    
+    private void addRowCursor(final RowCursor rowCursor) throws SQLException {
+        if (rowCursor.next()) {
+            rowCursors.offer(rowCursor);
+        }
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        if (closed) {
+            return false;
+        }
+        if (null != currentRowCursor && currentRowCursor.next()) {
+            rowCursors.offer(currentRowCursor);
+        }
+        currentRowCursor = rowCursors.poll();
+        return null != currentRowCursor;
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
+        if (Blob.class == type || Clob.class == type || Reader.class == type || InputStream.class == type || SQLXML.class == type) {
+            throw new SQLFeatureNotSupportedException();
+        }
+        Object result = currentRowCursor.getCurrentRow().getCell(columnIndex);
+        wasNull = null == result;
+        return result;
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) throws SQLException {
+        return GroupBySpillQueryResult.toCalendarValue(getValue(columnIndex, type), calendar);
+    }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) throws SQLException {
+        throw new SQLFeatureNotSupportedException();
+    }
+    
+    @Override
+    public boolean wasNull() {
+        return wasNull;
+    }
+    
+    @Override
+    public void close() {
+        closed = true;
+        for (GroupBySpillFile each : spillFiles) {
+            each.delete();
+        }
+        spillFiles.clear();
+        rowCursors.clear();
+        currentRowCursor = null;
+    }
+    
+    Collection<GroupBySpillFile> getSpillFiles() {
+        return spillFiles;
+    }
+    
+    private interface RowCursor {
+        
+        boolean next() throws SQLException;
+        
+        MemoryQueryResultRow getCurrentRow();
+    }
+    
+    private static final class MemoryRowCursor implements RowCursor {
+        
+        private final Iterator<MemoryQueryResultRow> rows;
+        
+        private MemoryQueryResultRow currentRow;
+        
+        MemoryRowCursor(final Iterator<MemoryQueryResultRow> rows) {
+            this.rows = rows;
+        }
+        
+        @Override
+        public boolean next() {
+            currentRow = rows.hasNext() ? rows.next() : null;
+            return null != currentRow;
+        }
+        
+        @Override
+        public MemoryQueryResultRow getCurrentRow() {
+            return currentRow;
+        }
+    }
+    
+    private static final class SpillFileRowCursor implements RowCursor {
+        
+        private final QueryResult queryResult;
+        
+        private MemoryQueryResultRow currentRow;
+        
+        SpillFileRowCursor(final QueryResult queryResult) {
+            this.queryResult = queryResult;
+        }
+        
+        @Override
+        public boolean next() throws SQLException {
+            currentRow = queryResult.next() ? new MemoryQueryResultRow(queryResult) : null;
+            return null != currentRow;
+        }
+        
+        @Override
+        public MemoryQueryResultRow getCurrentRow() {
+            return currentRow;
+        }
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import org.apache.shardingsphere.underlying.execute.QueryResult;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLXML;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Query result which reads rows from group by spill file.
+ */
+public final class GroupBySpillQueryResult implements QueryResult {
+    
+    private static final int[] CALENDAR_FIELDS = {Calendar.ERA, Calendar.YEAR, Calendar.MONTH, Calendar.DAY_OF_MONTH, Calendar.HOUR_OF_DAY, Calendar.MINUTE, Calendar.SECOND, Calendar.MILLISECOND};
+    
+    private final GroupBySpillFile spillFile;
+    
+    private final List<String> columnLabels;
+    
+    private final List<Boolean> columnCaseSensitives;
+    
+    private Object[] currentRow;
+    
+    private boolean wasNull;
+    
+    public GroupBySpillQueryResult(final GroupBySpillFile spillFile, final List<String> columnLabels, final List<Boolean> columnCaseSensitives) {
+        this.spillFile = spillFile;
+        this.columnLabels = columnLabels;
+        this.columnCaseSensitives = columnCaseSensitives;
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        try {
+            currentRow = spillFile.read();
+        } catch (final IOException ex) {
+            throw new SQLException(ex);
+        }
+        return null != currentRow;
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
+        if (Blob.class == type || Clob.class == type || Reader.class == type || InputStream.class == type || SQLXML.class == type) {
+            throw new SQLFeatureNotSupportedException();
+        }
+        Object result = currentRow[columnIndex - 1];
+        wasNull = null == result;
+        return result;
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) throws SQLException {
+        return toCalendarValue(getValue(columnIndex, type), calendar);
+    }
+    
+    /**
+     * Convert date time value to value of calendar.
+     * 
+     * <p>
+     * Date time values are loaded by default time zone, the wall clock time is kept and interpreted in time zone of calendar, 
+     * same as getting value from result set with calendar.
+     * </p>
+     * 
+     * @param value value
+     * @param calendar calendar
+     * @return value of calendar, return value as it is if value is not date time
+     */
+    public static Object toCalendarValue(final Object value, final Calendar calendar) {
+        if (!(value instanceof Date) || null == calendar) {
+            return value;
+        }
+        Calendar source = Calendar.getInstance();
+        source.setTime((Date) value);
+        Calendar target = (Calendar) calendar.clone();
+        target.clear();
+        for (int each : CALENDAR_FIELDS) {
+            target.set(each, source.get(each));
+        }
+        long millis = target.getTimeInMillis();
+        if (value instanceof Timestamp) {
+            Timestamp result = new Timestamp(millis);
+            result.setNanos(((Timestamp) value).getNanos());
+            return result;
+        }
+        if (value instanceof Time) {
+            return new Time(millis);
+        }
+        if (value instanceof java.sql.Date) {
+            return new java.sql.Date(millis);
+        }
+        return new Date(millis);
+    }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) throws SQLException {
+        throw new SQLFeatureNotSupportedException();
+    }
+    
+    @Override
+    public boolean wasNull() {
+        return wasNull;
+    }
+    
+    @Override
+    public int getColumnCount() {
+        return columnLabels.size();
+    }
+    
+    @Override
+    public String getColumnLabel(final int columnIndex) {
+        return columnLabels.get(columnIndex - 1);
+    }
+    
+    @Override
+    public boolean isCaseSensitive(final int columnIndex) {
+        return columnCaseSensitives.get(columnIndex - 1);
+    }
+}
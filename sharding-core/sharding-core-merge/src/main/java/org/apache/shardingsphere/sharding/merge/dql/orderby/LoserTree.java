@@ -0,0 +1,178 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import com.google.common.base.Preconditions;
+
+import java.util.AbstractQueue;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+
+/**
+ * Loser tree for k-way merge.
+ * 
+ * <p>
+ * Leaves hold head elements of each sorted cursor, internal nodes hold losers of their sub trees, root holds winner.
+ * Polling winner and offering next element of same cursor replays only one path from leaf to root, which is {@code log(k)} comparisons.
+ * Replay of polled leaf is delayed until next operation, so poll and offer replay once together.
+ * Offering to other leaves rebuilds the whole tree before next poll, which only happens when the tree is filled at the beginning.
+ * </p>
+ *
+ * @param <T> type of element
+ */
+public final class LoserTree<T extends Comparable<T>> extends AbstractQueue<T> {
+    
+    private final Object[] leaves;
+    
+    private final int[] tree;
+    
+    private int size;
+    
+    private int pendingLeaf = -1;
+    
+    private boolean rebuildRequired;
+    
+    public LoserTree(final int capacity) {
+        Preconditions.checkArgument(capacity > 0, "Capacity of loser tree must be positive.");
+        leaves = new Object[capacity];
+        tree = new int[capacity];
+        build();
+    }
+    
+    private void build() {
+        int capacity = leaves.length;
+        int[] winners = new int[capacity];
+        for (int node = capacity - 1; node > 0; node--) {
+            int left = getWinner(winners, node * 2);
+            int right = getWinner(winners, node * 2 + 1);
+            if (isLess(right, left)) {
+                winners[node] = right;
+                tree[node] = left;
+            } else {
+                winners[node] = left;
+                tree[node] = right;
+            }
+        }
+        tree[0] = 1 == capacity ? 0 : winners[1];
+    }
+    
+    private int getWinner(final int[] winners, final int node) {
+        return node >= leaves.length ? node - leaves.length : winners[node];
+    }
+    
+    private void replay(final int leaf) {
+        int winner = leaf;
+        for (int node = (leaf + leaves.length) / 2; node > 0; node /= 2) {
+            if (isLess(tree[node], winner)) {
+                int loser = winner;
+                winner = tree[node];
+                tree[node] = loser;
+            }
+        }
+        tree[0] = winner;
+    }
+    
+    @SuppressWarnings("unchecked")
+    private boolean isLess(final int leaf1, final int leaf2) {
+        if (null == leaves[leaf1]) {
+            return false;
+        }
+        if (null == leaves[leaf2]) {
+            return true;
+        }
+        int result = ((T) leaves[leaf1]).compareTo((T) leaves[leaf2]);
+        return 0 == result ? leaf1 < leaf2 : result < 0;
+    }
+    
+    private void adjust() {
+        if (rebuildRequired) {
+            build();
+            rebuildRequired = false;
+            pendingLeaf = -1;
+        } else if (pendingLeaf >= 0) {
+            replay(pendingLeaf);
+            pendingLeaf = -1;
+        }
+    }
+    
+    @Override
+    public boolean offer(final T element) {
+        Preconditions.checkNotNull(element, "Element of loser tree can not be null.");
+        int leaf = pendingLeaf >= 0 ? pendingLeaf : findEmptyLeaf();
+        if (leaf < 0) {
+            return false;
+        }
+        leaves[leaf] = element;
+        size++;
+        if (!rebuildRequired && leaf == tree[0]) {
+            replay(leaf);
+            pendingLeaf = -1;
+        } else {
+            rebuildRequired = true;
+        }
+        return true;
+    }
+    
+    private int findEmptyLeaf() {
+        for (int i = 0; i < leaves.length; i++) {
+            if (null == leaves[i]) {
+                return i;
+            }
+        }
+        return -1;
+    }
+    
+    @Override
+    @SuppressWarnings("unchecked")
+    public T poll() {
+        adjust();
+        T result = (T) leaves[tree[0]];
+        if (null != result) {
+            leaves[tree[0]] = null;
+            size--;
+            pendingLeaf = tree[0];
+        }
+        return result;
+    }
+    
+    @Override
+    @SuppressWarnings("unchecked")
+    public T peek() {
+        adjust();
+        return (T) leaves[tree[0]];
+    }
+    
+    @Override
+    public int size() {
+        return size;
+    }
+    
+    @Override
+    @SuppressWarnings("unchecked")
+    public Iterator<T> iterator() {
+        Collection<T> result = new ArrayList<>(size);
+        for (Object each : leaves) {
+            if (null != each) {
+                result.add((T) each);
+            }
+        }
+        return Collections.unmodifiableCollection(result).iterator();
+    }
+}
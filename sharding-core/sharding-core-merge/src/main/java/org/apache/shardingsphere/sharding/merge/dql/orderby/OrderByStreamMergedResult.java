@@ -38,6 +38,8 @@ import java.util.Queue;
  */
 public class OrderByStreamMergedResult extends StreamMergedResult {
     
+    private static final int LOSER_TREE_THRESHOLD = 16;
+    
     private final Collection<OrderByItem> orderByItems;
     
     @Getter(AccessLevel.PROTECTED)
@@ -50,7 +52,7 @@ public class OrderByStreamMergedResult extends StreamMergedResult {
         this.orderByItems = orderByItems;
 
         // 构建 PriorityQueue
-        this.orderByValuesQueue = new PriorityQueue<>(queryResults.size());
+        this.orderByValuesQueue = queryResults.size() > LOSER_TREE_THRESHOLD ? new LoserTree<OrderByValue>(queryResults.size()) : new PriorityQueue<OrderByValue>(queryResults.size());
 
         /**
          * 初始化 PriorityQueue {@link #orderResultSetsToQueue(List)}
@@ -21,17 +21,24 @@ import com.google.common.base.Preconditions;
 import lombok.Getter;
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.underlying.execute.QueryResult;
+import org.apache.shardingsphere.sql.parser.core.constant.OrderDirection;
 import org.apache.shardingsphere.sql.parser.relation.segment.select.orderby.OrderByItem;
 
 import java.sql.SQLException;
-import java.util.ArrayList;
+import java.sql.Timestamp;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.List;
+import java.util.Date;
 
 /**
  * Order by value.
  * 
+ * <p>
+ * Integral, floating point and date time order values are also kept as primitive sort keys, 
+ * type of sort key is chosen by class of first value of each order by item and falls back to comparable value if later values are of other classes.
+ * Values are compared by primitive sort keys if both sides have same type of sort keys.
+ * </p>
+ * 
  * @author zhangliang
  * @author yangyi
  */
@@ -40,23 +47,49 @@ public final class OrderByValue implements Comparable<OrderByValue> {
     @Getter
     private final QueryResult queryResult;
     
-    private final Collection<OrderByItem> orderByItems;
+    private final OrderByItem[] orderByItems;
+    
+    private final OrderDirection[] orderDirections;
+    
+    private final OrderDirection[] nullOrderDirections;
+    
+    private final boolean[] orderValuesCaseSensitive;
+    
+    private final Comparable<?>[] orderValues;
+    
+    private final Class<?>[] sortKeyClasses;
+    
+    private final SortKeyType[] sortKeyTypes;
     
-    private final List<Boolean> orderValuesCaseSensitive;
+    private final long[] longSortKeys;
     
-    private List<Comparable<?>> orderValues;
+    private final double[] doubleSortKeys;
+    
+    private final int[] nanosSortKeys;
     
     public OrderByValue(final QueryResult queryResult, final Collection<OrderByItem> orderByItems) {
         this.queryResult = queryResult;
-        this.orderByItems = orderByItems;
-        this.orderValuesCaseSensitive = getOrderValuesCaseSensitive();
+        this.orderByItems = orderByItems.toArray(new OrderByItem[orderByItems.size()]);
+        orderDirections = new OrderDirection[orderByItems.size()];
+        nullOrderDirections = new OrderDirection[orderByItems.size()];
+        for (int i = 0; i < this.orderByItems.length; i++) {
+            orderDirections[i] = this.orderByItems[i].getSegment().getOrderDirection();
+            nullOrderDirections[i] = this.orderByItems[i].getSegment().getNullOrderDirection();
+        }
+        orderValuesCaseSensitive = getOrderValuesCaseSensitive();
+        orderValues = new Comparable<?>[orderByItems.size()];
+        sortKeyClasses = new Class<?>[orderByItems.size()];
+        sortKeyTypes = new SortKeyType[orderByItems.size()];
+        longSortKeys = new long[orderByItems.size()];
+        doubleSortKeys = new double[orderByItems.size()];
+        nanosSortKeys = new int[orderByItems.size()];
     }
     
     @SneakyThrows
-    private List<Boolean> getOrderValuesCaseSensitive() {
-        List<Boolean> result = new ArrayList<>(orderByItems.size());
-        for (OrderByItem each : orderByItems) {
-            result.add(queryResult.isCaseSensitive(each.getIndex()));
+    private boolean[] getOrderValuesCaseSensitive() {
+        boolean[] result = new boolean[orderByItems.length];
+        for (int i = 0; i < orderByItems.length; i++) {
+            result[i] = queryResult.isCaseSensitive(orderByItems[i].getIndex());
         }
         return result;
     }
@@ -69,31 +102,96 @@ public final class OrderByValue implements Comparable<OrderByValue> {
      */
     public boolean next() throws SQLException {
         boolean result = queryResult.next();
-        orderValues = result ? getOrderValues() : Collections.<Comparable<?>>emptyList();
+        if (result) {
+            loadOrderValues();
+        } else {
+            Arrays.fill(orderValues, null);
+        }
         return result;
     }
     
-    private List<Comparable<?>> getOrderValues() throws SQLException {
-        List<Comparable<?>> result = new ArrayList<>(orderByItems.size());
-        for (OrderByItem each : orderByItems) {
-            Object value = queryResult.getValue(each.getIndex(), Object.class);
+    private void loadOrderValues() throws SQLException {
+        for (int i = 0; i < orderByItems.length; i++) {
+            Object value = queryResult.getValue(orderByItems[i].getIndex(), Object.class);
             Preconditions.checkState(null == value || value instanceof Comparable, "Order by value must implements Comparable");
-            result.add((Comparable<?>) value);
+            orderValues[i] = (Comparable<?>) value;
+            if (null != value) {
+                loadSortKey(i, value);
+            }
+        }
+    }
+    
+    private void loadSortKey(final int index, final Object value) {
+        if (null == sortKeyClasses[index]) {
+            sortKeyClasses[index] = value.getClass();
+            sortKeyTypes[index] = SortKeyType.getSortKeyType(value.getClass());
+        } else if (sortKeyClasses[index] != value.getClass()) {
+            sortKeyTypes[index] = SortKeyType.COMPARABLE;
+        }
+        switch (sortKeyTypes[index]) {
+            case LONG:
+                longSortKeys[index] = ((Number) value).longValue();
+                break;
+            case DOUBLE:
+                doubleSortKeys[index] = ((Number) value).doubleValue();
+                break;
+            case DATE_TIME:
+                longSortKeys[index] = ((Date) value).getTime();
+                nanosSortKeys[index] = value instanceof Timestamp ? ((Timestamp) value).getNanos() : 0;
+                break;
+            default:
+                break;
         }
-        return result;
     }
     
     @Override
     public int compareTo(final OrderByValue o) {
-        int i = 0;
-        for (OrderByItem each : orderByItems) {
-            int result = CompareUtil.compareTo(orderValues.get(i), o.orderValues.get(i), each.getSegment().getOrderDirection(),
-                each.getSegment().getNullOrderDirection(), orderValuesCaseSensitive.get(i));
+        for (int i = 0; i < orderByItems.length; i++) {
+            int result = compareTo(o, i);
             if (0 != result) {
                 return result;
             }
-            i++;
         }
         return 0;
     }
+    
+    private int compareTo(final OrderByValue o, final int index) {
+        if (null == orderValues[index] || null == o.orderValues[index] || SortKeyType.COMPARABLE == sortKeyTypes[index] || sortKeyTypes[index] != o.sortKeyTypes[index]) {
+            return CompareUtil.compareTo(orderValues[index], o.orderValues[index], orderDirections[index], nullOrderDirections[index], orderValuesCaseSensitive[index]);
+        }
+        int result;
+        switch (sortKeyTypes[index]) {
+            case LONG:
+                result = Long.compare(longSortKeys[index], o.longSortKeys[index]);
+                break;
+            case DOUBLE:
+                result = Double.compare(doubleSortKeys[index], o.doubleSortKeys[index]);
+                break;
+            default:
+                result = Long.compare(longSortKeys[index], o.longSortKeys[index]);
+                if (0 == result) {
+                    result = Integer.compare(nanosSortKeys[index], o.nanosSortKeys[index]);
+                }
+                break;
+        }
+        return OrderDirection.ASC == orderDirections[index] ? result : -result;
+    }
+    
+    private enum SortKeyType {
+        
+        LONG, DOUBLE, DATE_TIME, COMPARABLE;
+        
+        private static SortKeyType getSortKeyType(final Class<?> valueClass) {
+            if (Integer.class == valueClass || Long.class == valueClass || Short.class == valueClass || Byte.class == valueClass) {
+                return LONG;
+            }
+            if (Double.class == valueClass || Float.class == valueClass) {
+                return DOUBLE;
+            }
+            if (Date.class.isAssignableFrom(valueClass)) {
+                return DATE_TIME;
+            }
+            return COMPARABLE;
+        }
+    }
 }
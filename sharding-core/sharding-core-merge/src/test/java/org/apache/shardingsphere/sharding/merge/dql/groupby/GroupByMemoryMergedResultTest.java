@@ -30,6 +30,7 @@ import org.apache.shardingsphere.sql.parser.relation.segment.select.projection.P
 import org.apache.shardingsphere.sql.parser.relation.segment.select.projection.impl.AggregationProjection;
 import org.apache.shardingsphere.sql.parser.relation.statement.impl.SelectSQLStatementContext;
 import org.apache.shardingsphere.sql.parser.sql.segment.dml.order.item.IndexOrderByItemSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.pagination.limit.NumberLiteralLimitValueSegment;
 import org.apache.shardingsphere.sql.parser.sql.statement.dml.SelectStatement;
 import org.apache.shardingsphere.underlying.execute.QueryResult;
 import org.apache.shardingsphere.underlying.merge.MergedResult;
@@ -39,6 +40,7 @@ import java.math.BigDecimal;
 import java.sql.SQLException;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
@@ -59,6 +61,35 @@ public final class GroupByMemoryMergedResultTest {
     
     @Test
     public void assertNextForSomeResultSetsEmpty() throws SQLException {
+        DQLMergeEngine mergeEngine = new DQLMergeEngine(DatabaseTypes.getActualDatabaseType("MySQL"), createSelectSQLStatementContext(), createQueryResults());
+        MergedResult actual = mergeEngine.merge();
+        assertTrue(actual.next());
+        assertThat((BigDecimal) actual.getValue(1, Object.class), is(new BigDecimal(30)));
+        assertThat(((BigDecimal) actual.getValue(2, Object.class)).intValue(), is(10));
+        assertThat((Integer) actual.getValue(3, Object.class), is(3));
+        assertThat((BigDecimal) actual.getValue(4, Object.class), is(new BigDecimal(3)));
+        assertThat((BigDecimal) actual.getValue(5, Object.class), is(new BigDecimal(30)));
+        assertTrue(actual.next());
+        assertThat((BigDecimal) actual.getValue(1, Object.class), is(new BigDecimal(40)));
+        assertThat(((BigDecimal) actual.getValue(2, Object.class)).intValue(), is(10));
+        assertThat((Integer) actual.getValue(3, Object.class), is(2));
+        assertThat((BigDecimal) actual.getValue(4, Object.class), is(new BigDecimal(4)));
+        assertThat((BigDecimal) actual.getValue(5, Object.class), is(new BigDecimal(40)));
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertNextWithLimit() throws SQLException {
+        SelectSQLStatementContext selectSQLStatementContext = createSelectSQLStatementContext(
+                new PaginationContext(new NumberLiteralLimitValueSegment(0, 0, 1), new NumberLiteralLimitValueSegment(0, 0, 1), Collections.emptyList()));
+        MergedResult actual = new DQLMergeEngine(DatabaseTypes.getActualDatabaseType("MySQL"), selectSQLStatementContext, createQueryResults()).merge();
+        assertTrue(actual.next());
+        assertThat((BigDecimal) actual.getValue(1, Object.class), is(new BigDecimal(40)));
+        assertThat((Integer) actual.getValue(3, Object.class), is(2));
+        assertFalse(actual.next());
+    }
+    
+    private List<QueryResult> createQueryResults() throws SQLException {
         QueryResult queryResult1 = createQueryResult();
         when(queryResult1.next()).thenReturn(true, false);
         when(queryResult1.getValue(1, Object.class)).thenReturn(20);
@@ -74,24 +105,14 @@ public final class GroupByMemoryMergedResultTest {
         when(queryResult3.getValue(3, Object.class)).thenReturn(2, 3);
         when(queryResult3.getValue(4, Object.class)).thenReturn(2, 2, 3);
         when(queryResult3.getValue(5, Object.class)).thenReturn(20, 20, 30);
-        DQLMergeEngine mergeEngine = new DQLMergeEngine(DatabaseTypes.getActualDatabaseType("MySQL"), createSelectSQLStatementContext(), Arrays.asList(queryResult1, queryResult2, queryResult3));
-        MergedResult actual = mergeEngine.merge();
-        assertTrue(actual.next());
-        assertThat((BigDecimal) actual.getValue(1, Object.class), is(new BigDecimal(30)));
-        assertThat(((BigDecimal) actual.getValue(2, Object.class)).intValue(), is(10));
-        assertThat((Integer) actual.getValue(3, Object.class), is(3));
-        assertThat((BigDecimal) actual.getValue(4, Object.class), is(new BigDecimal(3)));
-        assertThat((BigDecimal) actual.getValue(5, Object.class), is(new BigDecimal(30)));
-        assertTrue(actual.next());
-        assertThat((BigDecimal) actual.getValue(1, Object.class), is(new BigDecimal(40)));
-        assertThat(((BigDecimal) actual.getValue(2, Object.class)).intValue(), is(10));
-        assertThat((Integer) actual.getValue(3, Object.class), is(2));
-        assertThat((BigDecimal) actual.getValue(4, Object.class), is(new BigDecimal(4)));
-        assertThat((BigDecimal) actual.getValue(5, Object.class), is(new BigDecimal(40)));
-        assertFalse(actual.next());
+        return Arrays.asList(queryResult1, queryResult2, queryResult3);
     }
     
     private SelectSQLStatementContext createSelectSQLStatementContext() {
+        return createSelectSQLStatementContext(new PaginationContext(null, null, Collections.emptyList()));
+    }
+    
+    private SelectSQLStatementContext createSelectSQLStatementContext(final PaginationContext paginationContext) {
         AggregationProjection aggregationSelectItem1 = new AggregationProjection(AggregationType.COUNT, "(*)", null);
         aggregationSelectItem1.setIndex(1);
         AggregationProjection aggregationSelectItem2 = new AggregationProjection(AggregationType.AVG, "(num)", null);
@@ -106,7 +127,7 @@ public final class GroupByMemoryMergedResultTest {
         return new SelectSQLStatementContext(new SelectStatement(),
                 new GroupByContext(Collections.singletonList(createOrderByItem(new IndexOrderByItemSegment(0, 0, 3, OrderDirection.ASC, OrderDirection.ASC))), 0),
                 new OrderByContext(Collections.singletonList(createOrderByItem(new IndexOrderByItemSegment(0, 0, 3, OrderDirection.DESC, OrderDirection.ASC))), false),
-                projectionsContext, new PaginationContext(null, null, Collections.emptyList()));
+                projectionsContext, paginationContext);
     }
     
     private OrderByItem createOrderByItem(final IndexOrderByItemSegment indexOrderByItemSegment) {
@@ -0,0 +1,239 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import org.apache.shardingsphere.core.database.DatabaseTypes;
+import org.apache.shardingsphere.sharding.merge.dql.DQLMergeEngine;
+import org.apache.shardingsphere.sql.parser.core.constant.AggregationType;
+import org.apache.shardingsphere.sql.parser.core.constant.OrderDirection;
+import org.apache.shardingsphere.sql.parser.relation.segment.select.groupby.GroupByContext;
+import org.apache.shardingsphere.sql.parser.relation.segment.select.orderby.OrderByContext;
+import org.apache.shardingsphere.sql.parser.relation.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.sql.parser.relation.segment.select.pagination.PaginationContext;
+import org.apache.shardingsphere.sql.parser.relation.segment.select.projection.Projection;
+import org.apache.shardingsphere.sql.parser.relation.segment.select.projection.ProjectionsContext;
+import org.apache.shardingsphere.sql.parser.relation.segment.select.projection.impl.AggregationProjection;
+import org.apache.shardingsphere.sql.parser.relation.statement.impl.SelectSQLStatementContext;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.order.item.IndexOrderByItemSegment;
+import org.apache.shardingsphere.sql.parser.sql.statement.dml.SelectStatement;
+import org.apache.shardingsphere.underlying.execute.QueryResult;
+import org.apache.shardingsphere.underlying.merge.MergedResult;
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.List;
+import java.util.TimeZone;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class GroupBySpillMergedResultTest {
+    
+    @Test
+    public void assertNextForResultSetsAllEmpty() throws SQLException {
+        MergedResult actual = new DQLMergeEngine(DatabaseTypes.getActualDatabaseType("MySQL"), createSelectSQLStatementContext(), 
+                Arrays.asList(createQueryResult(new Object[0][]), createQueryResult(new Object[0][])), 1).merge();
+        assertThat(actual, instanceOf(GroupBySpillMergedResult.class));
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertNextWithoutSpill() throws SQLException {
+        assertNextForSomeGroups(new GroupBySpillMergedResult(createQueryResults(), createSelectSQLStatementContext(), 10));
+    }
+    
+    @Test
+    public void assertNextWithSpill() throws SQLException {
+        assertNextForSomeGroups(new GroupBySpillMergedResult(createQueryResults(), createSelectSQLStatementContext(), 1));
+    }
+    
+    @Test
+    public void assertCloseBeforeAllRowsRead() throws SQLException {
+        GroupBySpillMergedResult actual = new GroupBySpillMergedResult(createManyGroupsQueryResults(), createSelectSQLStatementContext(), 3);
+        assertTrue(actual.next());
+        List<GroupBySpillFile> spillFiles = new ArrayList<>(actual.getSpillFiles());
+        assertFalse(spillFiles.isEmpty());
+        actual.close();
+        for (GroupBySpillFile each : spillFiles) {
+            assertTrue(each.isDeleted());
+        }
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertGetCalendarValue() throws SQLException {
+        Timestamp timestamp = Timestamp.valueOf("2020-01-01 10:00:00.123456789");
+        QueryResult queryResult = createQueryResult(new Object[][] {{1, 0, timestamp, 1, 10}});
+        MergedResult actual = new GroupBySpillMergedResult(Collections.singletonList(queryResult), createSelectSQLStatementContext(), 1);
+        assertTrue(actual.next());
+        Timestamp actualTimestamp = (Timestamp) actual.getCalendarValue(3, Timestamp.class, Calendar.getInstance(TimeZone.getTimeZone("GMT")));
+        assertThat(actualTimestamp.getTime(), is(1577872800123L));
+        assertThat(actualTimestamp.getNanos(), is(123456789));
+    }
+    
+    private List<QueryResult> createQueryResults() throws SQLException {
+        QueryResult queryResult1 = createQueryResult(new Object[][] {{1, 0, 1, 1, 10}, {1, 0, 2, 1, 20}, {1, 0, 3, 1, 30}});
+        QueryResult queryResult2 = createQueryResult(new Object[][] {{2, 0, 2, 2, 40}, {1, 0, 4, 1, 5}, {1, 0, 1, 1, 30}});
+        return Arrays.asList(queryResult1, queryResult2);
+    }
+    
+    private void assertNextForSomeGroups(final MergedResult actual) throws SQLException {
+        assertRow(actual, 4, 1, 5, 5);
+        assertRow(actual, 3, 1, 30, 30);
+        assertRow(actual, 2, 3, 60, 20);
+        assertRow(actual, 1, 2, 40, 20);
+        assertFalse(actual.next());
+    }
+    
+    private void assertRow(final MergedResult actual, final int id, final int count, final int sum, final int avg) throws SQLException {
+        assertTrue(actual.next());
+        assertThat((BigDecimal) actual.getValue(1, Object.class), is(new BigDecimal(count)));
+        assertThat(((BigDecimal) actual.getValue(2, Object.class)).intValue(), is(avg));
+        assertThat((Integer) actual.getValue(3, Object.class), is(id));
+        assertThat((BigDecimal) actual.getValue(4, Object.class), is(new BigDecimal(count)));
+        assertThat((BigDecimal) actual.getValue(5, Object.class), is(new BigDecimal(sum)));
+    }
+    
+    @Test
+    public void assertNextForManyGroupsSameAsMemoryMergedResult() throws SQLException {
+        MergedResult expected = new GroupByMemoryMergedResult(createManyGroupsQueryResults(), createSelectSQLStatementContext());
+        MergedResult actual = new GroupBySpillMergedResult(createManyGroupsQueryResults(), createSelectSQLStatementContext(), 3);
+        int rowCount = 0;
+        while (expected.next()) {
+            assertTrue(actual.next());
+            for (int i = 1; i <= 5; i++) {
+                assertThat(actual.getValue(i, Object.class), is(expected.getValue(i, Object.class)));
+            }
+            rowCount++;
+        }
+        assertFalse(actual.next());
+        assertThat(rowCount, is(100));
+    }
+    
+    @Test
+    public void assertNextForManyGroupsWithMaxRowCount() throws SQLException {
+        MergedResult expected = new GroupByMemoryMergedResult(createManyGroupsQueryResults(), createSelectSQLStatementContext());
+        MergedResult actual = new GroupBySpillMergedResult(createManyGroupsQueryResults(), createSelectSQLStatementContext(), 3, 10L);
+        for (int i = 0; i < 10; i++) {
+            assertTrue(expected.next());
+            assertTrue(actual.next());
+            assertThat(actual.getValue(3, Object.class), is(expected.getValue(3, Object.class)));
+            assertThat(actual.getValue(5, Object.class), is(expected.getValue(5, Object.class)));
+        }
+    }
+    
+    @Test
+    public void assertNextForManyGroupsWithNotSerializableValue() throws SQLException {
+        MergedResult expected = new GroupByMemoryMergedResult(createManyGroupsQueryResults(), createSelectSQLStatementContext());
+        GroupBySpillMergedResult actual = new GroupBySpillMergedResult(createManyGroupsQueryResults(new Object()), createSelectSQLStatementContext(), 3);
+        int rowCount = 0;
+        while (expected.next()) {
+            assertTrue(actual.next());
+            assertThat(actual.getValue(3, Object.class), is(expected.getValue(3, Object.class)));
+            assertThat(actual.getValue(5, Object.class), is(expected.getValue(5, Object.class)));
+            rowCount++;
+        }
+        assertFalse(actual.next());
+        assertThat(rowCount, is(100));
+        for (GroupBySpillFile each : actual.getSpillFiles()) {
+            assertTrue(each.isDeleted());
+        }
+    }
+    
+    private List<QueryResult> createManyGroupsQueryResults() throws SQLException {
+        return createManyGroupsQueryResults(0);
+    }
+    
+    private List<QueryResult> createManyGroupsQueryResults(final Object lastAverageValue) throws SQLException {
+        List<QueryResult> result = new ArrayList<>(4);
+        for (int i = 0; i < 4; i++) {
+            Object[][] rows = new Object[100][];
+            for (int j = 0; j < 100; j++) {
+                int id = (j * 37 + i * 11) % 100;
+                rows[j] = new Object[] {1, 99 == j ? lastAverageValue : 0, id, 1, id + i};
+            }
+            result.add(createQueryResult(rows));
+        }
+        return result;
+    }
+    
+    private SelectSQLStatementContext createSelectSQLStatementContext() {
+        AggregationProjection aggregationSelectItem1 = new AggregationProjection(AggregationType.COUNT, "(*)", null);
+        aggregationSelectItem1.setIndex(1);
+        AggregationProjection aggregationSelectItem2 = new AggregationProjection(AggregationType.AVG, "(num)", null);
+        aggregationSelectItem2.setIndex(2);
+        AggregationProjection derivedAggregationSelectItem1 = new AggregationProjection(AggregationType.COUNT, "(num)", "AVG_DERIVED_COUNT_0");
+        derivedAggregationSelectItem1.setIndex(4);
+        aggregationSelectItem2.getDerivedAggregationProjections().add(derivedAggregationSelectItem1);
+        AggregationProjection derivedAggregationSelectItem2 = new AggregationProjection(AggregationType.SUM, "(num)", "AVG_DERIVED_SUM_0");
+        derivedAggregationSelectItem2.setIndex(5);
+        aggregationSelectItem2.getDerivedAggregationProjections().add(derivedAggregationSelectItem2);
+        ProjectionsContext projectionsContext = new ProjectionsContext(0, 0, false, Arrays.<Projection>asList(aggregationSelectItem1, aggregationSelectItem2), Collections.<String>emptyList());
+        return new SelectSQLStatementContext(new SelectStatement(),
+                new GroupByContext(Collections.singletonList(createOrderByItem(new IndexOrderByItemSegment(0, 0, 3, OrderDirection.ASC, OrderDirection.ASC))), 0),
+                new OrderByContext(Collections.singletonList(createOrderByItem(new IndexOrderByItemSegment(0, 0, 3, OrderDirection.DESC, OrderDirection.ASC))), false),
+                projectionsContext, new PaginationContext(null, null, Collections.emptyList()));
+    }
+    
+    private OrderByItem createOrderByItem(final IndexOrderByItemSegment indexOrderByItemSegment) {
+        OrderByItem result = new OrderByItem(indexOrderByItemSegment);
+        result.setIndex(indexOrderByItemSegment.getColumnIndex());
+        return result;
+    }
+    
+    private QueryResult createQueryResult(final Object[][] rows) throws SQLException {
+        QueryResult result = mock(QueryResult.class);
+        final int[] rowIndex = {-1};
+        when(result.next()).thenAnswer(new Answer<Boolean>() {
+            
+            @Override
+            public Boolean answer(final InvocationOnMock invocation) {
+                return ++rowIndex[0] < rows.length;
+            }
+        });
+        when(result.getValue(anyInt(), any(Class.class))).thenAnswer(new Answer<Object>() {
+            
+            @Override
+            public Object answer(final InvocationOnMock invocation) {
+                return rows[rowIndex[0]][(Integer) invocation.getArgument(0) - 1];
+            }
+        });
+        when(result.getColumnCount()).thenReturn(5);
+        when(result.getColumnLabel(1)).thenReturn("COUNT(*)");
+        when(result.getColumnLabel(2)).thenReturn("AVG(num)");
+        when(result.getColumnLabel(3)).thenReturn("id");
+        when(result.getColumnLabel(4)).thenReturn("AVG_DERIVED_COUNT_0");
+        when(result.getColumnLabel(5)).thenReturn("AVG_DERIVED_SUM_0");
+        return result;
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.Date;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Time;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.TimeZone;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class GroupBySpillQueryResultTest {
+    
+    private GroupBySpillFile spillFile;
+    
+    private GroupBySpillQueryResult queryResult;
+    
+    @Before
+    public void setUp() throws IOException {
+        spillFile = new GroupBySpillFile();
+        spillFile.write(new Object[] {1, "foo"});
+        spillFile.write(new Object[] {null, "bar"});
+        queryResult = new GroupBySpillQueryResult(spillFile, Arrays.asList("id", "name"), Arrays.asList(false, true));
+    }
+    
+    @After
+    public void tearDown() {
+        spillFile.delete();
+    }
+    
+    @Test
+    public void assertNext() throws SQLException {
+        assertTrue(queryResult.next());
+        assertThat((Integer) queryResult.getValue(1, Object.class), is(1));
+        assertThat((String) queryResult.getValue(2, Object.class), is("foo"));
+        assertTrue(queryResult.next());
+        assertThat((String) queryResult.getValue(2, Object.class), is("bar"));
+        assertFalse(queryResult.next());
+        assertTrue(spillFile.isDeleted());
+    }
+    
+    @Test
+    public void assertNextForLargeObjectValues() throws SQLException, IOException {
+        Blob blob = mock(Blob.class);
+        when(blob.length()).thenReturn(3L);
+        when(blob.getBytes(1L, 3)).thenReturn(new byte[] {1, 2, 3});
+        Clob clob = mock(Clob.class);
+        when(clob.length()).thenReturn(3L);
+        when(clob.getSubString(1L, 3)).thenReturn("foo");
+        GroupBySpillFile largeObjectSpillFile = new GroupBySpillFile();
+        largeObjectSpillFile.write(GroupBySpillFile.toSerializableRow(new Object[] {blob, clob}).get());
+        GroupBySpillQueryResult actual = new GroupBySpillQueryResult(largeObjectSpillFile, Arrays.asList("data", "text"), Arrays.asList(false, false));
+        assertTrue(actual.next());
+        assertThat((byte[]) actual.getValue(1, Object.class), is(new byte[] {1, 2, 3}));
+        assertThat((String) actual.getValue(2, Object.class), is("foo"));
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertToSerializableRowWithNotSerializableValue() throws SQLException {
+        assertFalse(GroupBySpillFile.toSerializableRow(new Object[] {1, new Object()}).isPresent());
+    }
+    
+    @Test
+    public void assertWasNull() throws SQLException {
+        assertTrue(queryResult.next());
+        queryResult.getValue(1, Object.class);
+        assertFalse(queryResult.wasNull());
+        assertTrue(queryResult.next());
+        assertNull(queryResult.getValue(1, Object.class));
+        assertTrue(queryResult.wasNull());
+    }
+    
+    @Test(expected = SQLFeatureNotSupportedException.class)
+    public void assertGetValueWithInputStream() throws SQLException {
+        assertTrue(queryResult.next());
+        queryResult.getValue(1, InputStream.class);
+    }
+    
+    @Test(expected = SQLFeatureNotSupportedException.class)
+    public void assertGetInputStream() throws SQLException {
+        queryResult.getInputStream(1, "Unicode");
+    }
+    
+    @Test
+    public void assertGetColumnMetaData() {
+        assertThat(queryResult.getColumnCount(), is(2));
+        assertThat(queryResult.getColumnLabel(1), is("id"));
+        assertThat(queryResult.getColumnLabel(2), is("name"));
+        assertFalse(queryResult.isCaseSensitive(1));
+        assertTrue(queryResult.isCaseSensitive(2));
+    }
+    
+    @Test
+    public void assertGetCalendarValueWithoutDateTime() throws SQLException {
+        assertTrue(queryResult.next());
+        assertThat((Integer) queryResult.getCalendarValue(1, Object.class, Calendar.getInstance()), is(1));
+    }
+    
+    @Test
+    public void assertToCalendarValueWithDate() {
+        Date actual = (Date) GroupBySpillQueryResult.toCalendarValue(Date.valueOf("2020-01-01"), Calendar.getInstance(TimeZone.getTimeZone("GMT")));
+        assertThat(actual.getTime(), is(1577836800000L));
+    }
+    
+    @Test
+    public void assertToCalendarValueWithTime() {
+        Time actual = (Time) GroupBySpillQueryResult.toCalendarValue(Time.valueOf("10:00:00"), Calendar.getInstance(TimeZone.getTimeZone("GMT")));
+        assertThat(actual.getTime(), is(36000000L));
+    }
+    
+    @Test
+    public void assertToCalendarValueWithDefaultTimeZone() {
+        Date date = Date.valueOf("2020-01-01");
+        assertThat((Date) GroupBySpillQueryResult.toCalendarValue(date, Calendar.getInstance()), is(date));
+    }
+}
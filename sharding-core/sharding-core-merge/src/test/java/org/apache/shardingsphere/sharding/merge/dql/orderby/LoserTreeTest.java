@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class LoserTreeTest {
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertNewInstanceWithoutCapacity() {
+        new LoserTree<Integer>(0);
+    }
+    
+    @Test
+    public void assertPollWhenEmpty() {
+        LoserTree<Integer> actual = new LoserTree<>(3);
+        assertTrue(actual.isEmpty());
+        assertNull(actual.peek());
+        assertNull(actual.poll());
+    }
+    
+    @Test
+    public void assertOfferAndPoll() {
+        LoserTree<Integer> actual = new LoserTree<>(3);
+        assertTrue(actual.offer(3));
+        assertTrue(actual.offer(1));
+        assertTrue(actual.offer(2));
+        assertFalse(actual.offer(4));
+        assertThat(actual.size(), is(3));
+        assertThat(actual.peek(), is(1));
+        assertThat(actual.poll(), is(1));
+        assertThat(actual.size(), is(2));
+        assertTrue(actual.offer(0));
+        assertThat(actual.poll(), is(0));
+        assertThat(actual.poll(), is(2));
+        assertThat(actual.poll(), is(3));
+        assertTrue(actual.isEmpty());
+    }
+    
+    @Test
+    public void assertIterator() {
+        LoserTree<Integer> actual = new LoserTree<>(4);
+        actual.addAll(Arrays.asList(2, 4, 1));
+        List<Integer> values = new ArrayList<>(actual);
+        Collections.sort(values);
+        assertThat(values, is(Arrays.asList(1, 2, 4)));
+    }
+    
+    @Test
+    public void assertMergeSortedCursors() {
+        Random random = new Random(7L);
+        for (int capacity = 1; capacity <= 33; capacity++) {
+            List<List<Integer>> cursors = new ArrayList<>(capacity);
+            List<Integer> expected = new ArrayList<>();
+            for (int i = 0; i < capacity; i++) {
+                List<Integer> cursor = new ArrayList<>();
+                for (int j = random.nextInt(10); j > 0; j--) {
+                    cursor.add(random.nextInt(50));
+                }
+                Collections.sort(cursor);
+                cursors.add(cursor);
+                expected.addAll(cursor);
+            }
+            Collections.sort(expected);
+            assertThat(merge(cursors), is(expected));
+        }
+    }
+    
+    private List<Integer> merge(final List<List<Integer>> cursors) {
+        LoserTree<Cursor> loserTree = new LoserTree<>(cursors.size());
+        for (List<Integer> each : cursors) {
+            Cursor cursor = new Cursor(each);
+            if (cursor.next()) {
+                loserTree.offer(cursor);
+            }
+        }
+        List<Integer> result = new ArrayList<>();
+        while (!loserTree.isEmpty()) {
+            Cursor first = loserTree.poll();
+            result.add(first.current);
+            if (first.next()) {
+                loserTree.offer(first);
+            }
+        }
+        return result;
+    }
+    
+    private static final class Cursor implements Comparable<Cursor> {
+        
+        private final List<Integer> values;
+        
+        private int index = -1;
+        
+        private Integer current;
+        
+        Cursor(final List<Integer> values) {
+            this.values = values;
+        }
+        
+        boolean next() {
+            index++;
+            current = index < values.size() ? values.get(index) : null;
+            return null != current;
+        }
+        
+        @Override
+        public int compareTo(final Cursor o) {
+            return current.compareTo(o.current);
+        }
+    }
+}
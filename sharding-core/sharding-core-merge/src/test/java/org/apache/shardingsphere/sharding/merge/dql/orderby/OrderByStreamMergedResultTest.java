@@ -35,6 +35,7 @@ import org.junit.Before;
 import org.junit.Test;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -159,4 +160,23 @@ public final class OrderByStreamMergedResultTest {
         assertThat(actual.getValue(1, Object.class).toString(), is("b"));
         assertFalse(actual.next());
     }
+    
+    @Test
+    public void assertNextForManyResultSets() throws SQLException {
+        List<QueryResult> queryResults = new ArrayList<>(20);
+        for (int i = 0; i < 20; i++) {
+            QueryResult queryResult = mock(QueryResult.class);
+            when(queryResult.next()).thenReturn(true, true, false);
+            when(queryResult.getValue(1, Object.class)).thenReturn(i, i, i + 20, i + 20);
+            queryResults.add(queryResult);
+        }
+        Collections.reverse(queryResults);
+        DQLMergeEngine mergeEngine = new DQLMergeEngine(DatabaseTypes.getActualDatabaseType("MySQL"), selectSQLStatementContext, queryResults);
+        MergedResult actual = mergeEngine.merge();
+        for (int i = 0; i < 40; i++) {
+            assertTrue(actual.next());
+            assertThat(actual.getValue(1, Object.class), is((Object) i));
+        }
+        assertFalse(actual.next());
+    }
 }
@@ -23,8 +23,11 @@ import org.apache.shardingsphere.sql.parser.relation.segment.select.orderby.Orde
 import org.apache.shardingsphere.sql.parser.sql.segment.dml.order.item.IndexOrderByItemSegment;
 import org.junit.Test;
 
+import java.math.BigDecimal;
 import java.sql.SQLException;
+import java.sql.Timestamp;
 import java.util.Arrays;
+import java.util.Collections;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
@@ -86,7 +89,56 @@ public final class OrderByValueTest {
         assertFalse(orderByValue2.getQueryResult().next());
     }
     
-    private QueryResult createQueryResult(final String... values) throws SQLException {
+    @Test
+    public void assertCompareToForIntegralValuesOfDifferentTypes() throws SQLException {
+        OrderByValue orderByValue1 = createOrderByValue(OrderDirection.ASC, createQueryResult(Integer.MAX_VALUE));
+        OrderByValue orderByValue2 = createOrderByValue(OrderDirection.ASC, createQueryResult(Integer.MAX_VALUE + 1L));
+        assertTrue(orderByValue1.compareTo(orderByValue2) < 0);
+        assertTrue(orderByValue2.compareTo(orderByValue1) > 0);
+    }
+    
+    @Test
+    public void assertCompareToForDoubleValuesWithDesc() throws SQLException {
+        OrderByValue orderByValue1 = createOrderByValue(OrderDirection.DESC, createQueryResult(1.5D));
+        OrderByValue orderByValue2 = createOrderByValue(OrderDirection.DESC, createQueryResult(-2.5D));
+        assertTrue(orderByValue1.compareTo(orderByValue2) < 0);
+    }
+    
+    @Test
+    public void assertCompareToForTimestampValuesOfSameMillisecond() throws SQLException {
+        Timestamp timestamp1 = Timestamp.valueOf("2020-01-01 10:00:00.123000001");
+        Timestamp timestamp2 = Timestamp.valueOf("2020-01-01 10:00:00.123000002");
+        OrderByValue orderByValue1 = createOrderByValue(OrderDirection.ASC, createQueryResult(timestamp1));
+        OrderByValue orderByValue2 = createOrderByValue(OrderDirection.ASC, createQueryResult(timestamp2));
+        assertTrue(orderByValue1.compareTo(orderByValue2) < 0);
+        assertThat(orderByValue1.compareTo(createOrderByValue(OrderDirection.ASC, createQueryResult(new Timestamp(timestamp1.getTime())))), is(1));
+    }
+    
+    @Test
+    public void assertCompareToForNullValues() throws SQLException {
+        OrderByValue orderByValue1 = createOrderByValue(OrderDirection.ASC, createQueryResult(1));
+        OrderByValue orderByValue2 = createOrderByValue(OrderDirection.ASC, createQueryResult((Object) null));
+        assertTrue(orderByValue1.compareTo(orderByValue2) > 0);
+    }
+    
+    @Test
+    public void assertCompareToAfterValueClassChanged() throws SQLException {
+        QueryResult queryResult = mock(QueryResult.class);
+        when(queryResult.next()).thenReturn(true, true, false);
+        when(queryResult.getValue(1, Object.class)).thenReturn(1, new BigDecimal("2.5"));
+        OrderByValue orderByValue1 = createOrderByValue(OrderDirection.ASC, queryResult);
+        assertTrue(orderByValue1.next());
+        OrderByValue orderByValue2 = createOrderByValue(OrderDirection.ASC, createQueryResult(new BigDecimal("3")));
+        assertThat(orderByValue1.compareTo(orderByValue2), is(-1));
+    }
+    
+    private OrderByValue createOrderByValue(final OrderDirection orderDirection, final QueryResult queryResult) throws SQLException {
+        OrderByValue result = new OrderByValue(queryResult, Collections.singletonList(createOrderByItem(new IndexOrderByItemSegment(0, 0, 1, orderDirection, OrderDirection.ASC))));
+        assertTrue(result.next());
+        return result;
+    }
+    
+    private QueryResult createQueryResult(final Object... values) throws SQLException {
         QueryResult result = mock(QueryResult.class);
         when(result.next()).thenReturn(true, false);
         for (int i = 0; i < values.length; i++) {
@@ -32,7 +32,7 @@ import org.apache.shardingsphere.underlying.rewrite.parameter.builder.impl.Group
 import org.apache.shardingsphere.underlying.rewrite.parameter.builder.impl.StandardParameterBuilder;
 import org.apache.shardingsphere.underlying.rewrite.sql.impl.AbstractSQLBuilder;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -62,10 +62,10 @@ public final class ShardingSQLRewriteEngine implements SQLRewriteEngine {
     }
     
     private List<Object> getParameters(final ParameterBuilder parameterBuilder) {
-        if (parameterBuilder instanceof StandardParameterBuilder || shardingConditions.getConditions().isEmpty() || parameterBuilder.getParameters().isEmpty()) {
+        if (parameterBuilder instanceof StandardParameterBuilder || shardingConditions.getConditions().isEmpty()) {
             return parameterBuilder.getParameters();
         }
-        List<Object> result = new LinkedList<>();
+        List<Object> result = new ArrayList<>();
         int count = 0;
         for (ShardingCondition each : shardingConditions.getConditions()) {
             if (isInSameDataNode(each)) {
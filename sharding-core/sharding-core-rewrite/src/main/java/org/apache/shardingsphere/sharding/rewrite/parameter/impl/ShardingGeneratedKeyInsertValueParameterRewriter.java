@@ -55,7 +55,7 @@ public final class ShardingGeneratedKeyInsertValueParameterRewriter implements P
         ((GroupedParameterBuilder) parameterBuilder).setDerivedColumnName(sqlRouteResult.getGeneratedKey().get().getColumnName());
 
         // 获取 GeneratedKey
-        Iterator<Comparable<?>> generatedValues = sqlRouteResult.getGeneratedKey().get().getGeneratedValues().descendingIterator();
+        Iterator<Comparable<?>> generatedValues = getGeneratedValues(sqlRouteResult.getGeneratedKey().get().getGeneratedValues(), (InsertSQLStatementContext) sqlStatementContext);
         int count = 0;
         int parametersCount = 0;
         for (List<Object> each : ((InsertSQLStatementContext) sqlStatementContext).getGroupedParameters()) {
@@ -69,4 +69,8 @@ public final class ShardingGeneratedKeyInsertValueParameterRewriter implements P
             count++;
         }
     }
+    
+    private Iterator<Comparable<?>> getGeneratedValues(final List<Comparable<?>> generatedValues, final InsertSQLStatementContext insertSQLStatementContext) {
+        return generatedValues.listIterator(generatedValues.size() - insertSQLStatementContext.getInsertValueContexts().size());
+    }
 }
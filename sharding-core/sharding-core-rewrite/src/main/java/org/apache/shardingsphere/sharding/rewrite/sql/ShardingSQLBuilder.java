@@ -44,6 +44,8 @@ public final class ShardingSQLBuilder extends AbstractSQLBuilder {
     
     private final RoutingUnit routingUnit;
     
+    private Map<String, String> logicAndActualTables;
+    
     public ShardingSQLBuilder(final SQLRewriteContext context, final ShardingRule shardingRule, final RoutingUnit routingUnit) {
         super(context);
         this.shardingRule = shardingRule;
@@ -67,7 +69,10 @@ public final class ShardingSQLBuilder extends AbstractSQLBuilder {
          *      2、拼接SQLToken {@link org.apache.shardingsphere.sharding.rewrite.token.pojo.impl.TableToken#toString(Map)}
          */
         if (sqlToken instanceof LogicAndActualTablesAware) {
-            return ((LogicAndActualTablesAware) sqlToken).toString(getLogicAndActualTables());
+            if (null == logicAndActualTables) {
+                logicAndActualTables = getLogicAndActualTables();
+            }
+            return ((LogicAndActualTablesAware) sqlToken).toString(logicAndActualTables);
         }
         return sqlToken.toString();
     }
@@ -57,14 +57,13 @@ public final class GeneratedKeyInsertValuesTokenGenerator extends BaseGeneratedK
     protected SQLToken generateSQLToken(final SQLStatementContext sqlStatementContext, final GeneratedKey generatedKey) {
         Optional<InsertValuesToken> result = findPreviousSQLToken();
         Preconditions.checkState(result.isPresent());
-        Iterator<Comparable<?>> generatedValues = generatedKey.getGeneratedValues().descendingIterator();
-        int count = 0;
-        for (InsertValueContext each : ((InsertSQLStatementContext) sqlStatementContext).getInsertValueContexts()) {
-            InsertValue insertValueToken = result.get().getInsertValues().get(count);
-            DerivedSimpleExpressionSegment expressionSegment = isToAddDerivedLiteralExpression((InsertSQLStatementContext) sqlStatementContext, count)
+        List<InsertValueContext> insertValueContexts = ((InsertSQLStatementContext) sqlStatementContext).getInsertValueContexts();
+        Iterator<Comparable<?>> generatedValues = generatedKey.getGeneratedValues().listIterator(generatedKey.getGeneratedValues().size() - insertValueContexts.size());
+        Iterator<InsertValue> insertValueTokens = result.get().getInsertValues().iterator();
+        for (InsertValueContext each : insertValueContexts) {
+            DerivedSimpleExpressionSegment expressionSegment = each.getParameters().isEmpty()
                     ? new DerivedLiteralExpressionSegment(generatedValues.next()) : new DerivedParameterMarkerExpressionSegment(each.getParametersCount());
-            insertValueToken.getValues().add(expressionSegment);
-            count++;
+            insertValueTokens.next().getValues().add(expressionSegment);
         }
         return result.get();
     }
@@ -77,8 +76,4 @@ public final class GeneratedKeyInsertValuesTokenGenerator extends BaseGeneratedK
         }
         return Optional.absent();
     }
-    
-    private boolean isToAddDerivedLiteralExpression(final InsertSQLStatementContext insertSQLStatementContext, final int insertValueCount) {
-        return insertSQLStatementContext.getGroupedParameters().get(insertValueCount).isEmpty();
-    }
 }
@@ -22,8 +22,11 @@ import org.apache.shardingsphere.sql.parser.SQLParseEngine;
 import org.apache.shardingsphere.sql.parser.sql.statement.SQLStatement;
 import org.apache.shardingsphere.core.route.router.masterslave.ShardingMasterSlaveRouter;
 import org.apache.shardingsphere.core.route.router.sharding.ShardingRouter;
+import org.apache.shardingsphere.core.route.router.sharding.cache.RoutingResultCache;
+import org.apache.shardingsphere.core.route.router.sharding.chunk.SQLStatementChunk;
 import org.apache.shardingsphere.core.rule.ShardingRule;
 
+import java.util.Iterator;
 import java.util.List;
 
 /**
@@ -43,15 +46,26 @@ public final class PreparedStatementRoutingEngine {
     private SQLStatement sqlStatement;
     
     public PreparedStatementRoutingEngine(final String logicSQL, final ShardingRule shardingRule, final ShardingSphereMetaData metaData, final SQLParseEngine sqlParseEngine) {
+        this(logicSQL, shardingRule, metaData, sqlParseEngine, null);
+    }
+    
+    public PreparedStatementRoutingEngine(final String logicSQL, final ShardingRule shardingRule, final ShardingSphereMetaData metaData, 
+                                          final SQLParseEngine sqlParseEngine, final RoutingResultCache routingResultCache) {
+        this(logicSQL, null, shardingRule, metaData, sqlParseEngine, routingResultCache);
+    }
+    
+    public PreparedStatementRoutingEngine(final String logicSQL, final SQLStatement sqlStatement, final ShardingRule shardingRule, final ShardingSphereMetaData metaData,
+                                          final SQLParseEngine sqlParseEngine, final RoutingResultCache routingResultCache) {
         this.logicSQL = logicSQL;
-        shardingRouter = new ShardingRouter(shardingRule, metaData, sqlParseEngine);
+        this.sqlStatement = sqlStatement;
+        shardingRouter = new ShardingRouter(shardingRule, metaData, sqlParseEngine, routingResultCache);
         masterSlaveRouter = new ShardingMasterSlaveRouter(shardingRule.getMasterSlaveRules());
     }
     
     /**
      * SQL route.
      * 
-     * <p>First routing time will parse SQL, after second time will reuse first parsed result.</p>
+     * <p>First routing time will parse SQL if SQL statement is not given, after second time will reuse first parsed result.</p>
      * 
      * @param parameters parameters of SQL placeholder
      * @return route result
@@ -62,4 +76,30 @@ public final class PreparedStatementRoutingEngine {
         }
         return masterSlaveRouter.route(shardingRouter.route(logicSQL, parameters, sqlStatement));
     }
+    
+    /**
+     * SQL route for chunk.
+     *
+     * @param chunk SQL statement chunk
+     * @return route result of chunk
+     */
+    public SQLRouteResult route(final SQLStatementChunk chunk) {
+        return masterSlaveRouter.route(shardingRouter.route(logicSQL, chunk.getParameters(), chunk.getSqlStatement()));
+    }
+    
+    /**
+     * Split SQL into chunks.
+     *
+     * <p>First splitting time will parse SQL if SQL statement is not given, after second time will reuse first parsed result.</p>
+     *
+     * @param parameters parameters of SQL placeholder
+     * @param maxInsertValuesPerChunk max insert values per chunk
+     * @return SQL statement chunks
+     */
+    public Iterator<SQLStatementChunk> split(final List<Object> parameters, final int maxInsertValuesPerChunk) {
+        if (null == sqlStatement) {
+            sqlStatement = shardingRouter.parse(logicSQL, true);
+        }
+        return shardingRouter.split(sqlStatement, parameters, maxInsertValuesPerChunk);
+    }
 }
@@ -27,7 +27,7 @@ import org.apache.shardingsphere.core.route.router.sharding.keygen.GeneratedKey;
 import org.apache.shardingsphere.core.route.type.RoutingResult;
 
 import java.util.Collection;
-import java.util.LinkedHashSet;
+import java.util.LinkedList;
 
 /**
  * SQL route result.
@@ -51,7 +51,7 @@ public final class SQLRouteResult {
     private final GeneratedKey generatedKey;
 
     // 一组路由单元
-    private final Collection<RouteUnit> routeUnits = new LinkedHashSet<>();
+    private final Collection<RouteUnit> routeUnits = new LinkedList<>();
 
     // 由 RoutingEngine 生成的 RoutingResult
     private RoutingResult routingResult;
@@ -22,9 +22,11 @@ import org.apache.shardingsphere.sql.parser.SQLParseEngine;
 import org.apache.shardingsphere.sql.parser.sql.statement.SQLStatement;
 import org.apache.shardingsphere.core.route.router.masterslave.ShardingMasterSlaveRouter;
 import org.apache.shardingsphere.core.route.router.sharding.ShardingRouter;
+import org.apache.shardingsphere.core.route.router.sharding.chunk.SQLStatementChunk;
 import org.apache.shardingsphere.core.rule.ShardingRule;
 
 import java.util.Collections;
+import java.util.Iterator;
 
 /**
  * Statement routing engine.
@@ -38,9 +40,15 @@ public final class StatementRoutingEngine {
     
     private final ShardingMasterSlaveRouter masterSlaveRouter;
     
-    public StatementRoutingEngine(final ShardingRule shardingRule, final ShardingSphereMetaData metaData, final SQLParseEngine sqlParseEngine) {
+    private final SQLParseEngine sqlParseEngine;
+    
+    private final boolean shapeCacheEnabled;
+    
+    public StatementRoutingEngine(final ShardingRule shardingRule, final ShardingSphereMetaData metaData, final SQLParseEngine sqlParseEngine, final boolean shapeCacheEnabled) {
         shardingRouter = new ShardingRouter(shardingRule, metaData, sqlParseEngine);
         masterSlaveRouter = new ShardingMasterSlaveRouter(shardingRule.getMasterSlaveRules());
+        this.sqlParseEngine = sqlParseEngine;
+        this.shapeCacheEnabled = shapeCacheEnabled;
     }
     
     /**
@@ -50,7 +58,32 @@ public final class StatementRoutingEngine {
      * @return route result
      */
     public SQLRouteResult route(final String logicSQL) {
-        SQLStatement sqlStatement = shardingRouter.parse(logicSQL, false);
-        return masterSlaveRouter.route(shardingRouter.route(logicSQL, Collections.emptyList(), sqlStatement));
+        return masterSlaveRouter.route(shardingRouter.route(logicSQL, Collections.emptyList(), parse(logicSQL)));
+    }
+    
+    /**
+     * SQL route for chunk.
+     *
+     * @param logicSQL logic SQL
+     * @param chunk SQL statement chunk
+     * @return route result of chunk
+     */
+    public SQLRouteResult route(final String logicSQL, final SQLStatementChunk chunk) {
+        return masterSlaveRouter.route(shardingRouter.route(logicSQL, chunk.getParameters(), chunk.getSqlStatement()));
+    }
+    
+    /**
+     * Split SQL into chunks.
+     *
+     * @param logicSQL logic SQL
+     * @param maxInsertValuesPerChunk max insert values per chunk
+     * @return SQL statement chunks
+     */
+    public Iterator<SQLStatementChunk> split(final String logicSQL, final int maxInsertValuesPerChunk) {
+        return shardingRouter.split(parse(logicSQL), Collections.emptyList(), maxInsertValuesPerChunk);
+    }
+    
+    private SQLStatement parse(final String logicSQL) {
+        return shapeCacheEnabled ? sqlParseEngine.parseWithShapeCache(logicSQL) : shardingRouter.parse(logicSQL, false);
     }
 }
@@ -19,11 +19,16 @@ package org.apache.shardingsphere.core.route.router.sharding;
 
 import com.google.common.base.Optional;
 import com.google.common.base.Preconditions;
+import com.google.common.collect.Iterators;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.api.hint.HintManager;
 import org.apache.shardingsphere.core.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.core.metadata.table.TableMetas;
 import org.apache.shardingsphere.core.route.SQLRouteResult;
+import org.apache.shardingsphere.core.route.router.sharding.cache.RoutingResultCache;
+import org.apache.shardingsphere.core.route.router.sharding.cache.RoutingResultCacheKey;
+import org.apache.shardingsphere.core.route.router.sharding.chunk.InsertValuesChunkIterator;
+import org.apache.shardingsphere.core.route.router.sharding.chunk.SQLStatementChunk;
 import org.apache.shardingsphere.core.route.router.sharding.condition.ShardingCondition;
 import org.apache.shardingsphere.core.route.router.sharding.condition.ShardingConditions;
 import org.apache.shardingsphere.core.route.router.sharding.condition.engine.InsertClauseShardingConditionEngine;
@@ -33,6 +38,8 @@ import org.apache.shardingsphere.core.route.router.sharding.validator.ShardingSt
 import org.apache.shardingsphere.core.route.router.sharding.validator.ShardingStatementValidatorFactory;
 import org.apache.shardingsphere.core.route.type.RoutingEngine;
 import org.apache.shardingsphere.core.route.type.RoutingResult;
+import org.apache.shardingsphere.core.route.type.complex.ComplexRoutingEngine;
+import org.apache.shardingsphere.core.route.type.standard.StandardRoutingEngine;
 import org.apache.shardingsphere.core.rule.BindingTableRule;
 import org.apache.shardingsphere.core.rule.ShardingRule;
 import org.apache.shardingsphere.core.rule.TableRule;
@@ -51,6 +58,7 @@ import org.apache.shardingsphere.sql.parser.sql.statement.dml.InsertStatement;
 import org.apache.shardingsphere.sql.parser.sql.statement.dml.UpdateStatement;
 
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 
@@ -73,8 +81,14 @@ public final class ShardingRouter {
     // SQL 解析引擎
     private final SQLParseEngine parseEngine;
     
+    private final RoutingResultCache routingResultCache;
+    
     private final List<Comparable<?>> generatedValues = new LinkedList<>();
     
+    public ShardingRouter(final ShardingRule shardingRule, final ShardingSphereMetaData metaData, final SQLParseEngine parseEngine) {
+        this(shardingRule, metaData, parseEngine, null);
+    }
+    
     /**
      * Parse SQL.
      * To make sure SkyWalking will be available at the next release of ShardingSphere,
@@ -95,6 +109,27 @@ public final class ShardingRouter {
         return parseEngine.parse(logicSQL, useCache);
     }
     
+    /**
+     * Split SQL statement into chunks.
+     * 
+     * <p>Multi-row insert with more value groups than max insert values per chunk is split, other SQL statement is one chunk.
+     * Max insert values per chunk not greater than 0 means never split.</p>
+     *
+     * @param sqlStatement SQL statement
+     * @param parameters SQL parameters
+     * @param maxInsertValuesPerChunk max insert values per chunk
+     * @return SQL statement chunks
+     */
+    public Iterator<SQLStatementChunk> split(final SQLStatement sqlStatement, final List<Object> parameters, final int maxInsertValuesPerChunk) {
+        return isSplitInsertValues(sqlStatement, maxInsertValuesPerChunk)
+                ? new InsertValuesChunkIterator((InsertStatement) sqlStatement, parameters, maxInsertValuesPerChunk) : Iterators.singletonIterator(new SQLStatementChunk(sqlStatement, parameters));
+    }
+    
+    private boolean isSplitInsertValues(final SQLStatement sqlStatement, final int maxInsertValuesPerChunk) {
+        return 0 < maxInsertValuesPerChunk && sqlStatement instanceof InsertStatement
+                && !((InsertStatement) sqlStatement).getSetAssignment().isPresent() && ((InsertStatement) sqlStatement).getValues().size() > maxInsertValuesPerChunk;
+    }
+    
     /**
      * Route SQL.
      *
@@ -144,10 +179,7 @@ public final class ShardingRouter {
         /**
          * 5、基于 SQLStatement 生成具体 RoutingEngine  {@link RoutingEngineFactory#newInstance(ShardingRule, ShardingSphereMetaData, SQLStatementContext, ShardingConditions)}
          */
-        RoutingEngine routingEngine = RoutingEngineFactory.newInstance(shardingRule, metaData, sqlStatementContext, shardingConditions);
-
-        // 执行结果
-        RoutingResult routingResult = routingEngine.route();
+        RoutingResult routingResult = getRoutingResult(logicSQL, sqlStatementContext, shardingConditions, needMergeShardingValues);
         if (needMergeShardingValues) {
             Preconditions.checkState(1 == routingResult.getRoutingUnits().size(), "Must have one sharding with subquery.");
         }
@@ -165,6 +197,37 @@ public final class ShardingRouter {
         return result;
     }
 
+    private RoutingResult getRoutingResult(final String logicSQL, final SQLStatementContext sqlStatementContext, final ShardingConditions shardingConditions, final boolean needMergeShardingValues) {
+        if (!isRoutingResultCacheable(sqlStatementContext, needMergeShardingValues)) {
+            return RoutingEngineFactory.newInstance(shardingRule, metaData, sqlStatementContext, shardingConditions).route();
+        }
+        RoutingResultCacheKey cacheKey = new RoutingResultCacheKey(logicSQL, shardingConditions);
+        Optional<RoutingResult> cachedRoutingResult = routingResultCache.getRoutingResult(cacheKey);
+        if (cachedRoutingResult.isPresent()) {
+            return cachedRoutingResult.get();
+        }
+        RoutingEngine routingEngine = RoutingEngineFactory.newInstance(shardingRule, metaData, sqlStatementContext, shardingConditions);
+        RoutingResult result = routingEngine.route();
+        if (routingEngine instanceof StandardRoutingEngine || routingEngine instanceof ComplexRoutingEngine) {
+            routingResultCache.put(cacheKey, result);
+        }
+        return result;
+    }
+    
+    private boolean isRoutingResultCacheable(final SQLStatementContext sqlStatementContext, final boolean needMergeShardingValues) {
+        if (null == routingResultCache || needMergeShardingValues || sqlStatementContext instanceof InsertSQLStatementContext || HintManager.isDatabaseShardingOnly()) {
+            return false;
+        }
+        for (String each : sqlStatementContext.getTablesContext().getTableNames()) {
+            Optional<TableRule> tableRule = shardingRule.findTableRule(each);
+            if (tableRule.isPresent() && (shardingRule.getDatabaseShardingStrategy(tableRule.get()) instanceof HintShardingStrategy
+                    || shardingRule.getTableShardingStrategy(tableRule.get()) instanceof HintShardingStrategy)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
     /**
      * 创建分片条件
      */
@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.route.router.sharding.cache;
+
+import com.google.common.base.Optional;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.apache.shardingsphere.core.route.type.RoutingResult;
+import org.apache.shardingsphere.core.route.type.RoutingUnit;
+import org.apache.shardingsphere.core.rule.ShardingRule;
+
+/**
+ * Routing result cache.
+ * 
+ * <p>
+ * One cache per sharding rule, cache is dropped when sharding rule is renewed.
+ * Cached routing results are copied on both put and get, because master-slave router changes routing units of route result.
+ * </p>
+ */
+public final class RoutingResultCache {
+    
+    private static final Cache<ShardingRule, RoutingResultCache> INSTANCES = CacheBuilder.newBuilder().weakKeys().build();
+    
+    private final Cache<RoutingResultCacheKey, RoutingResult> cache;
+    
+    public RoutingResultCache(final int maximumSize) {
+        cache = CacheBuilder.newBuilder().maximumSize(maximumSize).build();
+    }
+    
+    /**
+     * Get routing result cache of sharding rule.
+     * 
+     * @param shardingRule sharding rule
+     * @param maximumSize maximum size of cache, only effective when cache is created
+     * @return routing result cache
+     */
+    public static synchronized RoutingResultCache getInstance(final ShardingRule shardingRule, final int maximumSize) {
+        RoutingResultCache result = INSTANCES.getIfPresent(shardingRule);
+        if (null == result) {
+            result = new RoutingResultCache(maximumSize);
+            INSTANCES.put(shardingRule, result);
+        }
+        return result;
+    }
+    
+    /**
+     * Invalidate routing result cache of sharding rule.
+     * 
+     * @param shardingRule sharding rule
+     */
+    public static void invalidate(final ShardingRule shardingRule) {
+        INSTANCES.invalidate(shardingRule);
+    }
+    
+    /**
+     * Put routing result.
+     * 
+     * @param key routing result cache key
+     * @param routingResult routing result
+     */
+    public void put(final RoutingResultCacheKey key, final RoutingResult routingResult) {
+        cache.put(key, copy(routingResult));
+    }
+    
+    /**
+     * Get routing result.
+     * 
+     * @param key routing result cache key
+     * @return routing result
+     */
+    public Optional<RoutingResult> getRoutingResult(final RoutingResultCacheKey key) {
+        RoutingResult result = cache.getIfPresent(key);
+        return null == result ? Optional.<RoutingResult>absent() : Optional.of(copy(result));
+    }
+    
+    /**
+     * Get size of cache.
+     * 
+     * @return size of cache
+     */
+    public long size() {
+        return cache.size();
+    }
+    
+    /**
+     * Clear cache.
+     */
+    public synchronized void clear() {
+        cache.invalidateAll();
+    }
+    
+    private RoutingResult copy(final RoutingResult routingResult) {
+        RoutingResult result = new RoutingResult();
+        for (RoutingUnit each : routingResult.getRoutingUnits()) {
+            RoutingUnit routingUnit = new RoutingUnit(each.getDataSourceName(), each.getMasterSlaveLogicDataSourceName());
+            routingUnit.getTableUnits().addAll(each.getTableUnits());
+            result.getRoutingUnits().add(routingUnit);
+        }
+        return result;
+    }
+}
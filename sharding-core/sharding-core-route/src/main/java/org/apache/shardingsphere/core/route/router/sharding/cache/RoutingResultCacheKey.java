@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.route.router.sharding.cache;
+
+import lombok.EqualsAndHashCode;
+import org.apache.shardingsphere.core.route.router.sharding.condition.ShardingCondition;
+import org.apache.shardingsphere.core.route.router.sharding.condition.ShardingConditions;
+import org.apache.shardingsphere.core.strategy.route.value.ListRouteValue;
+import org.apache.shardingsphere.core.strategy.route.value.RangeRouteValue;
+import org.apache.shardingsphere.core.strategy.route.value.RouteValue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Routing result cache key.
+ * 
+ * <p>Logic SQL and route values of sharding conditions decide routing result.</p>
+ */
+@EqualsAndHashCode
+public final class RoutingResultCacheKey {
+    
+    private final String logicSQL;
+    
+    private final List<List<Object>> routeValues;
+    
+    public RoutingResultCacheKey(final String logicSQL, final ShardingConditions shardingConditions) {
+        this.logicSQL = logicSQL;
+        routeValues = new ArrayList<>(shardingConditions.getConditions().size());
+        for (ShardingCondition each : shardingConditions.getConditions()) {
+            routeValues.add(getRouteValues(each));
+        }
+    }
+    
+    private List<Object> getRouteValues(final ShardingCondition shardingCondition) {
+        List<Object> result = new ArrayList<>(shardingCondition.getRouteValues().size() + 1);
+        result.add(shardingCondition.getClass());
+        for (RouteValue each : shardingCondition.getRouteValues()) {
+            result.add(getRouteValue(each));
+        }
+        return result;
+    }
+    
+    private List<Object> getRouteValue(final RouteValue routeValue) {
+        if (routeValue instanceof ListRouteValue) {
+            return Arrays.<Object>asList(routeValue.getTableName(), routeValue.getColumnName(), new ArrayList<Object>(((ListRouteValue) routeValue).getValues()));
+        }
+        if (routeValue instanceof RangeRouteValue) {
+            return Arrays.<Object>asList(routeValue.getTableName(), routeValue.getColumnName(), ((RangeRouteValue) routeValue).getValueRange());
+        }
+        return Arrays.<Object>asList(routeValue.getTableName(), routeValue.getColumnName(), routeValue.getClass());
+    }
+}
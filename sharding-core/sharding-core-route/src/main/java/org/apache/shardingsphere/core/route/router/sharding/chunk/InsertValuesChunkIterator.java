@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.route.router.sharding.chunk;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.AbstractIterator;
+import org.apache.shardingsphere.sql.parser.sql.segment.SQLSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.assignment.InsertValuesSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.expr.ExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.statement.dml.InsertStatement;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Insert values chunk iterator.
+ * 
+ * <p>Value groups of multi-row insert statement are split into insert statements of at most max insert values per chunk, each chunk is created only when iterated.</p>
+ * 
+ * <p>Values segments of chunk span all values of logic SQL, so that rewritten values of each chunk replace all values of logic SQL.</p>
+ */
+public final class InsertValuesChunkIterator extends AbstractIterator<SQLStatementChunk> {
+    
+    private final InsertStatement insertStatement;
+    
+    private final List<Object> parameters;
+    
+    private final int maxInsertValuesPerChunk;
+    
+    private final Collection<SQLSegment> sqlSegmentsWithoutValues = new LinkedList<>();
+    
+    private final Iterator<InsertValuesSegment> insertValuesSegments;
+    
+    private final int valuesStartIndex;
+    
+    private final int valuesStopIndex;
+    
+    private int parametersOffset;
+    
+    public InsertValuesChunkIterator(final InsertStatement insertStatement, final List<Object> parameters, final int maxInsertValuesPerChunk) {
+        Preconditions.checkArgument(maxInsertValuesPerChunk > 0, "Max insert values per chunk must be greater than 0.");
+        this.insertStatement = insertStatement;
+        this.parameters = parameters;
+        this.maxInsertValuesPerChunk = maxInsertValuesPerChunk;
+        int startIndex = Integer.MAX_VALUE;
+        int stopIndex = Integer.MIN_VALUE;
+        for (SQLSegment each : insertStatement.getAllSQLSegments()) {
+            if (each instanceof InsertValuesSegment) {
+                startIndex = Math.min(startIndex, each.getStartIndex());
+                stopIndex = Math.max(stopIndex, each.getStopIndex());
+            } else {
+                sqlSegmentsWithoutValues.add(each);
+            }
+        }
+        valuesStartIndex = startIndex;
+        valuesStopIndex = stopIndex;
+        insertValuesSegments = insertStatement.getValues().iterator();
+    }
+    
+    @Override
+    protected SQLStatementChunk computeNext() {
+        if (!insertValuesSegments.hasNext()) {
+            return endOfData();
+        }
+        List<InsertValuesSegment> chunkValuesSegments = new ArrayList<>(maxInsertValuesPerChunk);
+        while (chunkValuesSegments.size() < maxInsertValuesPerChunk && insertValuesSegments.hasNext()) {
+            chunkValuesSegments.add(insertValuesSegments.next());
+        }
+        InsertStatement chunkInsertStatement = createChunkInsertStatement();
+        int chunkParametersCount = 0;
+        for (int i = 0; i < chunkValuesSegments.size(); i++) {
+            InsertValuesSegment each = chunkValuesSegments.get(i);
+            List<ExpressionSegment> values = new ArrayList<>(each.getValues().size());
+            for (ExpressionSegment eachValue : each.getValues()) {
+                values.add(eachValue instanceof ParameterMarkerExpressionSegment ? createChunkParameterMarker((ParameterMarkerExpressionSegment) eachValue) : eachValue);
+                chunkParametersCount += eachValue instanceof ParameterMarkerExpressionSegment ? 1 : 0;
+            }
+            InsertValuesSegment chunkValuesSegment = new InsertValuesSegment(
+                    0 == i ? valuesStartIndex : each.getStartIndex(), chunkValuesSegments.size() - 1 == i ? valuesStopIndex : each.getStopIndex(), values);
+            chunkInsertStatement.getValues().add(chunkValuesSegment);
+            chunkInsertStatement.getAllSQLSegments().add(chunkValuesSegment);
+        }
+        chunkInsertStatement.setParametersCount(chunkParametersCount);
+        SQLStatementChunk result = new SQLStatementChunk(chunkInsertStatement, parameters.subList(parametersOffset, parametersOffset + chunkParametersCount));
+        parametersOffset += chunkParametersCount;
+        return result;
+    }
+    
+    private InsertStatement createChunkInsertStatement() {
+        InsertStatement result = new InsertStatement();
+        result.setTable(insertStatement.getTable());
+        result.getColumns().addAll(insertStatement.getColumns());
+        result.getAllSQLSegments().addAll(sqlSegmentsWithoutValues);
+        return result;
+    }
+    
+    private ParameterMarkerExpressionSegment createChunkParameterMarker(final ParameterMarkerExpressionSegment parameterMarker) {
+        return 0 == parametersOffset
+                ? parameterMarker : new ParameterMarkerExpressionSegment(parameterMarker.getStartIndex(), parameterMarker.getStopIndex(), parameterMarker.getParameterMarkerIndex() - parametersOffset);
+    }
+}
@@ -32,6 +32,7 @@ import org.apache.shardingsphere.core.route.spi.SPITimeService;
 import org.apache.shardingsphere.core.rule.ShardingRule;
 import org.apache.shardingsphere.core.strategy.route.value.ListRouteValue;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
@@ -57,11 +58,12 @@ public final class InsertClauseShardingConditionEngine {
      * @return sharding conditions
      */
     public List<ShardingCondition> createShardingConditions(final InsertSQLStatementContext insertSQLStatementContext, final GeneratedKey generatedKey, final List<Object> parameters) {
-        List<ShardingCondition> result = new LinkedList<>();
+        List<ShardingCondition> result = new ArrayList<>(insertSQLStatementContext.getInsertValueContexts().size());
         String tableName = insertSQLStatementContext.getTablesContext().getSingleTableName();
         Collection<String> columnNames = getColumnNames(insertSQLStatementContext, generatedKey);
+        SPITimeService timeService = new SPITimeService();
         for (InsertValueContext each : insertSQLStatementContext.getInsertValueContexts()) {
-            result.add(createShardingCondition(tableName, columnNames.iterator(), each, parameters));
+            result.add(createShardingCondition(tableName, columnNames.iterator(), each, parameters, timeService));
         }
         if (null != generatedKey && generatedKey.isGenerated() && shardingRule.isShardingColumn(generatedKey.getColumnName(), tableName)) {
             appendGeneratedKeyCondition(generatedKey, tableName, result);
@@ -78,9 +80,9 @@ public final class InsertClauseShardingConditionEngine {
         return result;
     }
     
-    private ShardingCondition createShardingCondition(final String tableName, final Iterator<String> columnNames, final InsertValueContext insertValueContext, final List<Object> parameters) {
+    private ShardingCondition createShardingCondition(final String tableName, final Iterator<String> columnNames, 
+                                                      final InsertValueContext insertValueContext, final List<Object> parameters, final SPITimeService timeService) {
         ShardingCondition result = new ShardingCondition();
-        SPITimeService timeService = new SPITimeService();
         for (ExpressionSegment each : insertValueContext.getValueExpressions()) {
             String columnName = columnNames.next();
             if (shardingRule.isShardingColumn(columnName, tableName)) {
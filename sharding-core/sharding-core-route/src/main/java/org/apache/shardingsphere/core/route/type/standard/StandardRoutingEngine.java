@@ -45,9 +45,11 @@ import org.apache.shardingsphere.core.strategy.route.value.RouteValue;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Standard routing engine.
@@ -150,14 +152,13 @@ public final class StandardRoutingEngine implements RoutingEngine {
     }
     
     private Collection<DataNode> routeByShardingConditionsWithCondition(final TableRule tableRule) {
-        Collection<DataNode> result = new LinkedList<>();
+        Map<DataNode, DataNode> result = new LinkedHashMap<>();
         for (ShardingCondition each : shardingConditions.getConditions()) {
             Collection<DataNode> dataNodes = route0(tableRule, getShardingValuesFromShardingConditions(shardingRule.getDatabaseShardingStrategy(tableRule).getShardingColumns(), each),
                     getShardingValuesFromShardingConditions(shardingRule.getTableShardingStrategy(tableRule).getShardingColumns(), each));
-            each.getDataNodes().addAll(dataNodes);
-            result.addAll(dataNodes);
+            addDataNodes(each, dataNodes, result);
         }
-        return result;
+        return result.keySet();
     }
     
     private Collection<DataNode> routeByMixedConditions(final TableRule tableRule) {
@@ -165,13 +166,23 @@ public final class StandardRoutingEngine implements RoutingEngine {
     }
     
     private Collection<DataNode> routeByMixedConditionsWithCondition(final TableRule tableRule) {
-        Collection<DataNode> result = new LinkedList<>();
+        Map<DataNode, DataNode> result = new LinkedHashMap<>();
         for (ShardingCondition each : shardingConditions.getConditions()) {
             Collection<DataNode> dataNodes = route0(tableRule, getDatabaseShardingValues(tableRule, each), getTableShardingValues(tableRule, each));
-            each.getDataNodes().addAll(dataNodes);
-            result.addAll(dataNodes);
+            addDataNodes(each, dataNodes, result);
+        }
+        return result.keySet();
+    }
+    
+    private void addDataNodes(final ShardingCondition shardingCondition, final Collection<DataNode> dataNodes, final Map<DataNode, DataNode> routedDataNodes) {
+        for (DataNode each : dataNodes) {
+            DataNode routedDataNode = routedDataNodes.get(each);
+            if (null == routedDataNode) {
+                routedDataNodes.put(each, each);
+                routedDataNode = each;
+            }
+            shardingCondition.getDataNodes().add(routedDataNode);
         }
-        return result;
     }
     
     private Collection<DataNode> routeByMixedConditionsWithHint(final TableRule tableRule) {
@@ -33,6 +33,7 @@ import org.apache.shardingsphere.core.rule.ShardingRule;
 import org.apache.shardingsphere.spi.database.DataSourceMetaData;
 import org.apache.shardingsphere.sql.parser.SQLParseEngine;
 import org.apache.shardingsphere.sql.parser.SQLParseEngineFactory;
+import org.apache.shardingsphere.sql.parser.sql.statement.SQLStatement;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -46,6 +47,8 @@ import java.util.Map;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public final class DatabaseTest {
@@ -67,7 +70,7 @@ public final class DatabaseTest {
     public void assertDatabaseAllRoutingSQL() {
         String originSQL = "select * from tesT";
         SQLParseEngine parseEngine = SQLParseEngineFactory.getSQLParseEngine("MySQL");
-        SQLRouteResult actual = new StatementRoutingEngine(shardingRule, getMetaDataForAllRoutingSQL(), parseEngine).route(originSQL);
+        SQLRouteResult actual = new StatementRoutingEngine(shardingRule, getMetaDataForAllRoutingSQL(), parseEngine, false).route(originSQL);
         assertThat(actual.getRoutingResult().getRoutingUnits().size(), is(1));
         Collection<String> actualDataSources = actual.getRoutingResult().getDataSourceNames();
         assertThat(actualDataSources.size(), is(1));
@@ -88,11 +91,11 @@ public final class DatabaseTest {
     public void assertDatabaseSelectSQLPagination() {
         String originSQL = "select user_id from tbl_pagination limit 0,5";
         SQLParseEngine parseEngine = SQLParseEngineFactory.getSQLParseEngine("MySQL");
-        SQLRouteResult actual = new StatementRoutingEngine(shardingRule, getMetaDataForPagination(), parseEngine).route(originSQL);
+        SQLRouteResult actual = new StatementRoutingEngine(shardingRule, getMetaDataForPagination(), parseEngine, false).route(originSQL);
         assertThat(((SelectSQLStatementContext) actual.getSqlStatementContext()).getPaginationContext().getActualOffset(), is(0L));
         assertThat(((SelectSQLStatementContext) actual.getSqlStatementContext()).getPaginationContext().getActualRowCount().orNull(), is(5L));
         originSQL = "select user_id from tbl_pagination limit 5,5";
-        actual = new StatementRoutingEngine(shardingRule, getMetaDataForPagination(), parseEngine).route(originSQL);
+        actual = new StatementRoutingEngine(shardingRule, getMetaDataForPagination(), parseEngine, false).route(originSQL);
         assertThat(((SelectSQLStatementContext) actual.getSqlStatementContext()).getPaginationContext().getActualOffset(), is(5L));
         assertThat(((SelectSQLStatementContext) actual.getSqlStatementContext()).getPaginationContext().getActualRowCount().orNull(), is(5L));
     }
@@ -136,4 +139,26 @@ public final class DatabaseTest {
         assertThat(((SelectSQLStatementContext) actual.getSqlStatementContext()).getPaginationContext().getActualOffset(), is(5L));
         assertThat(((SelectSQLStatementContext) actual.getSqlStatementContext()).getPaginationContext().getActualRowCount().orNull(), is(10L));
     }
+    
+    @Test
+    public void assertDatabasePrepareSelectSQLPaginationWithSQLStatement() {
+        Map<String, DataSource> dataSourceMap = new HashMap<>();
+        dataSourceMap.put("user_db1", null);
+        dataSourceMap.put("user_db2", null);
+        TableRuleConfiguration tableRuleConfig = new TableRuleConfiguration("t_user", "user_db${1..2}.t_user");
+        tableRuleConfig.setDatabaseShardingStrategyConfig(new InlineShardingStrategyConfiguration("city_id", "user_db${city_id % 2 + 1}"));
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        shardingRuleConfig.getTableRuleConfigs().add(tableRuleConfig);
+        ShardingRule rule = new ShardingRule(shardingRuleConfig, dataSourceMap.keySet());
+        String originSQL = "select city_id from t_user where city_id in (?,?) limit 5,10";
+        ShardingSphereMetaData metaData = mock(ShardingSphereMetaData.class);
+        when(metaData.getTables()).thenReturn(mock(TableMetas.class));
+        SQLStatement sqlStatement = SQLParseEngineFactory.getSQLParseEngine("MySQL").parse(originSQL, true);
+        SQLParseEngine parseEngine = mock(SQLParseEngine.class);
+        SQLRouteResult actual = new PreparedStatementRoutingEngine(originSQL, sqlStatement, rule, metaData, parseEngine, null).route(Lists.<Object>newArrayList(13, 173));
+        assertThat(((SelectSQLStatementContext) actual.getSqlStatementContext()).getPaginationContext().getActualOffset(), is(5L));
+        assertThat(((SelectSQLStatementContext) actual.getSqlStatementContext()).getPaginationContext().getActualRowCount().orNull(), is(10L));
+        assertThat(actual.getRoutingResult().getRoutingUnits().size(), is(1));
+        verify(parseEngine, never()).parse(originSQL, true);
+    }
 }
@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.route.router.sharding.cache;
+
+import com.google.common.base.Optional;
+import com.google.common.collect.Range;
+import org.apache.shardingsphere.core.route.router.sharding.condition.ShardingCondition;
+import org.apache.shardingsphere.core.route.router.sharding.condition.ShardingConditions;
+import org.apache.shardingsphere.core.route.type.RoutingResult;
+import org.apache.shardingsphere.core.route.type.RoutingUnit;
+import org.apache.shardingsphere.core.route.type.TableUnit;
+import org.apache.shardingsphere.core.rule.ShardingRule;
+import org.apache.shardingsphere.core.strategy.route.value.ListRouteValue;
+import org.apache.shardingsphere.core.strategy.route.value.RangeRouteValue;
+import org.junit.Test;
+
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+public final class RoutingResultCacheTest {
+    
+    @Test
+    public void assertGetInstance() {
+        ShardingRule shardingRule = mock(ShardingRule.class);
+        RoutingResultCache actual = RoutingResultCache.getInstance(shardingRule, 16);
+        assertThat(RoutingResultCache.getInstance(shardingRule, 16), sameInstance(actual));
+        assertThat(RoutingResultCache.getInstance(mock(ShardingRule.class), 16), not(sameInstance(actual)));
+        RoutingResultCache.invalidate(shardingRule);
+        assertThat(RoutingResultCache.getInstance(shardingRule, 16), not(sameInstance(actual)));
+    }
+    
+    @Test
+    public void assertGetRoutingResult() {
+        RoutingResultCache routingResultCache = new RoutingResultCache(16);
+        RoutingResultCacheKey key = new RoutingResultCacheKey("SELECT * FROM t_order WHERE order_id = ?", createShardingConditions(new ListRouteValue<>("order_id", "t_order", Collections.singleton(1))));
+        assertFalse(routingResultCache.getRoutingResult(key).isPresent());
+        RoutingResult routingResult = createRoutingResult();
+        routingResultCache.put(key, routingResult);
+        routingResult.getRoutingUnits().clear();
+        Optional<RoutingResult> actual = routingResultCache.getRoutingResult(key);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getRoutingUnits().size(), is(1));
+        actual.get().getRoutingUnits().clear();
+        assertThat(routingResultCache.getRoutingResult(key).get().getRoutingUnits().iterator().next(), is(createRoutingResult().getRoutingUnits().iterator().next()));
+        routingResultCache.clear();
+        assertThat(routingResultCache.size(), is(0L));
+    }
+    
+    @Test
+    public void assertCacheKeyEquals() {
+        String sql = "SELECT * FROM t_order WHERE order_id = ?";
+        RoutingResultCacheKey key = new RoutingResultCacheKey(sql, createShardingConditions(new ListRouteValue<>("order_id", "t_order", Collections.singleton(1))));
+        assertThat(new RoutingResultCacheKey(sql, createShardingConditions(new ListRouteValue<>("order_id", "t_order", Collections.singletonList(1)))), is(key));
+        assertThat(new RoutingResultCacheKey(sql, createShardingConditions(new ListRouteValue<>("order_id", "t_order", Collections.singleton(2)))), not(key));
+        assertThat(new RoutingResultCacheKey("SELECT order_id FROM t_order WHERE order_id = ?", createShardingConditions(new ListRouteValue<>("order_id", "t_order", Collections.singleton(1)))), not(key));
+        assertThat(new RoutingResultCacheKey(sql, createShardingConditions(new RangeRouteValue<>("order_id", "t_order", Range.closed(1, 2)))),
+                is(new RoutingResultCacheKey(sql, createShardingConditions(new RangeRouteValue<>("order_id", "t_order", Range.closed(1, 2))))));
+    }
+    
+    private ShardingConditions createShardingConditions(final ListRouteValue<Integer> routeValue) {
+        ShardingCondition shardingCondition = new ShardingCondition();
+        shardingCondition.getRouteValues().add(routeValue);
+        return new ShardingConditions(Collections.singletonList(shardingCondition));
+    }
+    
+    private ShardingConditions createShardingConditions(final RangeRouteValue<Integer> routeValue) {
+        ShardingCondition shardingCondition = new ShardingCondition();
+        shardingCondition.getRouteValues().add(routeValue);
+        return new ShardingConditions(Collections.singletonList(shardingCondition));
+    }
+    
+    private RoutingResult createRoutingResult() {
+        RoutingResult result = new RoutingResult();
+        RoutingUnit routingUnit = new RoutingUnit("ds_0");
+        routingUnit.getTableUnits().add(new TableUnit("t_order", "t_order_0"));
+        result.getRoutingUnits().add(routingUnit);
+        return result;
+    }
+}
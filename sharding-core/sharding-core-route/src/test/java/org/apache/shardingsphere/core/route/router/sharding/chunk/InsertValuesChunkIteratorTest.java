@@ -0,0 +1,154 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.route.router.sharding.chunk;
+
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.assignment.InsertValuesSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.column.ColumnSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.expr.ExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.expr.simple.LiteralExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.generic.TableSegment;
+import org.apache.shardingsphere.sql.parser.sql.statement.dml.InsertStatement;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class InsertValuesChunkIteratorTest {
+    
+    private static final int VALUES_START_INDEX = "INSERT INTO t_order (order_id, user_id) VALUES ".length();
+    
+    @Test
+    public void assertNextWithParameters() {
+        List<Object> parameters = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            parameters.add(i);
+        }
+        InsertStatement insertStatement = createInsertStatement(5, true);
+        Iterator<SQLStatementChunk> actual = new InsertValuesChunkIterator(insertStatement, parameters, 2);
+        assertChunkWithParameters(actual.next(), insertStatement, Arrays.<Object>asList(0, 1, 2, 3));
+        assertChunkWithParameters(actual.next(), insertStatement, Arrays.<Object>asList(4, 5, 6, 7));
+        assertChunkWithParameters(actual.next(), insertStatement, Arrays.<Object>asList(8, 9));
+        assertFalse(actual.hasNext());
+    }
+    
+    private void assertChunkWithParameters(final SQLStatementChunk actual, final InsertStatement insertStatement, final List<Object> expectedParameters) {
+        InsertStatement actualInsertStatement = (InsertStatement) actual.getSqlStatement();
+        assertThat(actual.getParameters(), is(expectedParameters));
+        assertThat(actualInsertStatement.getParametersCount(), is(expectedParameters.size()));
+        assertThat(actualInsertStatement.getTable(), sameInstance(insertStatement.getTable()));
+        assertThat(actualInsertStatement.getColumnNames(), is(Arrays.asList("order_id", "user_id")));
+        assertThat(actualInsertStatement.getValues().size(), is(expectedParameters.size() / 2));
+        assertThat(actualInsertStatement.findSQLSegments(InsertValuesSegment.class).size(), is(expectedParameters.size() / 2));
+        assertThat(actualInsertStatement.findSQLSegment(TableSegment.class).get(), sameInstance(insertStatement.getTable()));
+        int parameterMarkerIndex = 0;
+        for (InsertValuesSegment each : actualInsertStatement.getValues()) {
+            for (ExpressionSegment eachValue : each.getValues()) {
+                assertThat(((ParameterMarkerExpressionSegment) eachValue).getParameterMarkerIndex(), is(parameterMarkerIndex++));
+            }
+        }
+        assertValuesIndexes(actualInsertStatement, insertStatement);
+    }
+    
+    @Test
+    public void assertNextWithLiterals() {
+        InsertStatement insertStatement = createInsertStatement(3, false);
+        Iterator<SQLStatementChunk> actual = new InsertValuesChunkIterator(insertStatement, Collections.emptyList(), 2);
+        InsertStatement firstInsertStatement = (InsertStatement) actual.next().getSqlStatement();
+        SQLStatementChunk secondChunk = actual.next();
+        InsertStatement secondInsertStatement = (InsertStatement) secondChunk.getSqlStatement();
+        assertFalse(actual.hasNext());
+        assertThat(firstInsertStatement.getValues().size(), is(2));
+        assertThat(secondInsertStatement.getValues().size(), is(1));
+        assertTrue(secondChunk.getParameters().isEmpty());
+        assertThat(secondInsertStatement.getValues().iterator().next().getValues().get(0), sameInstance(insertStatement.getAllValueExpressions().get(2).get(0)));
+        assertValuesIndexes(firstInsertStatement, insertStatement);
+        assertValuesIndexes(secondInsertStatement, insertStatement);
+    }
+    
+    @Test
+    public void assertChunksAreBoundedByMaxInsertValuesPerChunk() {
+        List<Object> parameters = new ArrayList<>(40000);
+        for (int i = 0; i < 40000; i++) {
+            parameters.add(i);
+        }
+        Iterator<SQLStatementChunk> actual = new InsertValuesChunkIterator(createInsertStatement(20000, true), parameters, 1000);
+        int chunkCount = 0;
+        int parameterOffset = 0;
+        while (actual.hasNext()) {
+            SQLStatementChunk each = actual.next();
+            assertThat(((InsertStatement) each.getSqlStatement()).getValues().size(), is(1000));
+            assertThat(each.getParameters().size(), is(2000));
+            assertThat(each.getParameters().get(0), is((Object) parameterOffset));
+            parameterOffset += 2000;
+            chunkCount++;
+        }
+        assertThat(chunkCount, is(20));
+    }
+    
+    @Test(expected = NoSuchElementException.class)
+    public void assertNextWithoutMoreChunks() {
+        Iterator<SQLStatementChunk> actual = new InsertValuesChunkIterator(createInsertStatement(1, false), Collections.emptyList(), 2);
+        actual.next();
+        actual.next();
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertNewInstanceWithoutPositiveMaxInsertValuesPerChunk() {
+        new InsertValuesChunkIterator(createInsertStatement(1, false), Collections.emptyList(), 0);
+    }
+    
+    private void assertValuesIndexes(final InsertStatement actual, final InsertStatement insertStatement) {
+        int expectedStopIndex = VALUES_START_INDEX + insertStatement.getValues().size() * 8 - 3;
+        List<InsertValuesSegment> actualValuesSegments = new ArrayList<>(actual.getValues());
+        assertThat(actualValuesSegments.get(0).getStartIndex(), is(VALUES_START_INDEX));
+        assertThat(actualValuesSegments.get(actualValuesSegments.size() - 1).getStopIndex(), is(expectedStopIndex));
+    }
+    
+    private InsertStatement createInsertStatement(final int valuesCount, final boolean withParameters) {
+        InsertStatement result = new InsertStatement();
+        TableSegment tableSegment = new TableSegment(12, 18, "t_order");
+        result.setTable(tableSegment);
+        result.getAllSQLSegments().add(tableSegment);
+        result.getColumns().add(new ColumnSegment(21, 28, "order_id"));
+        result.getColumns().add(new ColumnSegment(31, 37, "user_id"));
+        for (int i = 0; i < valuesCount; i++) {
+            int startIndex = VALUES_START_INDEX + i * 8;
+            InsertValuesSegment insertValuesSegment = new InsertValuesSegment(startIndex, startIndex + 5, Arrays.asList(
+                    createValue(startIndex + 1, i * 2, withParameters), createValue(startIndex + 4, i * 2 + 1, withParameters)));
+            result.getValues().add(insertValuesSegment);
+            result.getAllSQLSegments().add(insertValuesSegment);
+        }
+        result.setParametersCount(withParameters ? valuesCount * 2 : 0);
+        return result;
+    }
+    
+    private ExpressionSegment createValue(final int index, final int value, final boolean withParameters) {
+        return withParameters ? new ParameterMarkerExpressionSegment(index, index, value) : new LiteralExpressionSegment(index, index, value);
+    }
+}
@@ -27,6 +27,7 @@ import org.apache.shardingsphere.core.metadata.table.TableMetas;
 import org.apache.shardingsphere.core.route.PreparedStatementRoutingEngine;
 import org.apache.shardingsphere.core.route.SQLRouteResult;
 import org.apache.shardingsphere.core.route.fixture.AbstractRoutingEngineTest;
+import org.apache.shardingsphere.core.route.router.sharding.cache.RoutingResultCache;
 import org.apache.shardingsphere.core.rule.ShardingRule;
 import org.apache.shardingsphere.sql.parser.SQLParseEngine;
 import org.apache.shardingsphere.sql.parser.SQLParseEngineFactory;
@@ -43,10 +44,13 @@ import static org.junit.Assert.assertThat;
 public abstract class AbstractSQLRouteTest extends AbstractRoutingEngineTest {
     
     protected final SQLRouteResult assertRoute(final String sql, final List<Object> parameters) {
-        ShardingRule shardingRule = createAllShardingRule();
+        return assertRoute(sql, parameters, createAllShardingRule(), null);
+    }
+    
+    protected final SQLRouteResult assertRoute(final String sql, final List<Object> parameters, final ShardingRule shardingRule, final RoutingResultCache routingResultCache) {
         ShardingSphereMetaData metaData = new ShardingSphereMetaData(buildDataSourceMetas(), buildTableMetas());
         SQLParseEngine parseEngine = SQLParseEngineFactory.getSQLParseEngine("MySQL");
-        PreparedStatementRoutingEngine engine = new PreparedStatementRoutingEngine(sql, shardingRule, metaData, parseEngine);
+        PreparedStatementRoutingEngine engine = new PreparedStatementRoutingEngine(sql, shardingRule, metaData, parseEngine, routingResultCache);
         SQLRouteResult result = engine.route(parameters);
         assertThat(result.getRoutingResult().getRoutingUnits().size(), is(1));
         return result;
@@ -18,12 +18,17 @@
 package org.apache.shardingsphere.core.route.type.standard;
 
 import org.apache.shardingsphere.core.route.SQLRouteResult;
+import org.apache.shardingsphere.core.route.router.sharding.cache.RoutingResultCache;
+import org.apache.shardingsphere.core.rule.ShardingRule;
 import org.junit.Test;
 
+import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.List;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.junit.Assert.assertThat;
 
 public final class SQLRouteTest extends AbstractSQLRouteTest {
@@ -78,4 +83,27 @@ public final class SQLRouteTest extends AbstractSQLRouteTest {
         parameters.add(1);
         assertRoute(sql, parameters);
     }
+    
+    @Test
+    public void assertRouteWithRoutingResultCache() {
+        String sql = "SELECT id,name from t_order where user_id = ? and order_id = ?";
+        ShardingRule shardingRule = createAllShardingRule();
+        RoutingResultCache routingResultCache = new RoutingResultCache(16);
+        SQLRouteResult expected = assertRoute(sql, Arrays.<Object>asList(1, 1), shardingRule, routingResultCache);
+        assertThat(routingResultCache.size(), is(1L));
+        SQLRouteResult actual = assertRoute(sql, Arrays.<Object>asList(1, 1), shardingRule, routingResultCache);
+        assertThat(routingResultCache.size(), is(1L));
+        assertThat(actual.getRoutingResult(), not(sameInstance(expected.getRoutingResult())));
+        assertThat(actual.getRoutingResult().getRoutingUnits(), is(expected.getRoutingResult().getRoutingUnits()));
+        assertRoute(sql, Arrays.<Object>asList(2, 2), shardingRule, routingResultCache);
+        assertThat(routingResultCache.size(), is(2L));
+    }
+    
+    @Test
+    public void assertInsertTableWithoutRoutingResultCache() {
+        String sql = "INSERT INTO t_order (order_id, user_id) VALUES (?, ?)";
+        RoutingResultCache routingResultCache = new RoutingResultCache(16);
+        assertRoute(sql, Arrays.<Object>asList(1, 1), createAllShardingRule(), routingResultCache);
+        assertThat(routingResultCache.size(), is(0L));
+    }
 }
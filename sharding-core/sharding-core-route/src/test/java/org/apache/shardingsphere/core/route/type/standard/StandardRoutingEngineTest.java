@@ -35,16 +35,20 @@ import org.apache.shardingsphere.core.route.router.sharding.condition.ShardingCo
 import org.apache.shardingsphere.core.route.router.sharding.condition.ShardingConditions;
 import org.apache.shardingsphere.core.route.type.RoutingResult;
 import org.apache.shardingsphere.core.route.type.RoutingUnit;
+import org.apache.shardingsphere.core.rule.DataNode;
 import org.apache.shardingsphere.core.rule.ShardingRule;
+import org.apache.shardingsphere.core.strategy.route.value.ListRouteValue;
 import org.junit.After;
 import org.junit.Test;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -105,6 +109,23 @@ public final class StandardRoutingEngineTest extends AbstractRoutingEngineTest {
         assertThat(tableUnitList.get(0).getTableUnits().get(0).getLogicTableName(), is("t_order"));
     }
     
+    @Test
+    public void assertRouteByShardingConditionsWithSameDataNodes() {
+        ShardingConditions shardingConditions = new ShardingConditions(Arrays.asList(createShardingCondition(1L, 1L), createShardingCondition(0L, 0L), createShardingCondition(1L, 1L)));
+        StandardRoutingEngine standardRoutingEngine = createStandardRoutingEngine(createBasedShardingRule(), "t_order", shardingConditions);
+        RoutingResult routingResult = standardRoutingEngine.route();
+        List<RoutingUnit> tableUnitList = new ArrayList<>(routingResult.getRoutingUnits());
+        assertThat(routingResult.getRoutingUnits().size(), is(2));
+        assertThat(tableUnitList.get(0).getDataSourceName(), is("ds_1"));
+        assertThat(tableUnitList.get(0).getTableUnits().get(0).getActualTableName(), is("t_order_1"));
+        assertThat(tableUnitList.get(1).getDataSourceName(), is("ds_0"));
+        assertThat(tableUnitList.get(1).getTableUnits().get(0).getActualTableName(), is("t_order_0"));
+        DataNode firstDataNode = shardingConditions.getConditions().get(0).getDataNodes().iterator().next();
+        assertThat(firstDataNode, is(new DataNode("ds_1", "t_order_1")));
+        assertThat(shardingConditions.getConditions().get(1).getDataNodes().iterator().next(), is(new DataNode("ds_0", "t_order_0")));
+        assertThat(shardingConditions.getConditions().get(2).getDataNodes().iterator().next(), sameInstance(firstDataNode));
+    }
+    
     @Test
     public void assertRouteByHint() {
         StandardRoutingEngine standardRoutingEngine = createStandardRoutingEngine(createHintShardingRule(), "t_hint_test", new ShardingConditions(Collections.<ShardingCondition>emptyList()));
@@ -189,6 +210,13 @@ public final class StandardRoutingEngineTest extends AbstractRoutingEngineTest {
         assertThat(tableUnitList.get(1).getTableUnits().get(0).getLogicTableName(), is("t_hint_table_test"));
     }
     
+    private ShardingCondition createShardingCondition(final long userId, final long orderId) {
+        ShardingCondition result = new ShardingCondition();
+        result.getRouteValues().add(new ListRouteValue<>("user_id", "t_order", Collections.singleton(userId)));
+        result.getRouteValues().add(new ListRouteValue<>("order_id", "t_order", Collections.singleton(orderId)));
+        return result;
+    }
+    
     private StandardRoutingEngine createStandardRoutingEngine(final ShardingRule shardingRule, final String logicTableName, final ShardingConditions shardingConditions) {
         return new StandardRoutingEngine(shardingRule, logicTableName, new SelectSQLStatementContext(new SelectStatement(),
                 new GroupByContext(Collections.<OrderByItem>emptyList(), 0), new OrderByContext(Collections.<OrderByItem>emptyList(), false),
@@ -32,6 +32,7 @@ import org.apache.shardingsphere.core.execute.metadata.TableMetaDataInitializer;
 import org.apache.shardingsphere.core.execute.sql.execute.SQLExecuteCallback;
 import org.apache.shardingsphere.core.execute.sql.execute.SQLExecuteTemplate;
 import org.apache.shardingsphere.core.execute.sql.prepare.SQLExecutePrepareTemplate;
+import org.apache.shardingsphere.core.metadata.datasource.DataSourceMetas;
 import org.apache.shardingsphere.core.metadata.table.TableMetaData;
 import org.apache.shardingsphere.core.metadata.table.TableMetas;
 import org.apache.shardingsphere.sql.parser.relation.statement.SQLStatementContext;
@@ -41,6 +42,7 @@ import org.apache.shardingsphere.sql.parser.sql.statement.ddl.CreateIndexStateme
 import org.apache.shardingsphere.sql.parser.sql.statement.ddl.CreateTableStatement;
 import org.apache.shardingsphere.sql.parser.sql.statement.ddl.DropIndexStatement;
 import org.apache.shardingsphere.sql.parser.sql.statement.ddl.DropTableStatement;
+import org.apache.shardingsphere.sql.parser.sql.statement.dml.SelectStatement;
 import org.apache.shardingsphere.shardingjdbc.jdbc.core.connection.ShardingConnection;
 import org.apache.shardingsphere.shardingjdbc.jdbc.core.context.ShardingRuntimeContext;
 import org.apache.shardingsphere.shardingjdbc.jdbc.metadata.JDBCTableMetaDataConnectionManager;
@@ -87,6 +89,8 @@ public abstract class AbstractStatementExecutor {
 
     //SQL 执行模板类
     private final SQLExecuteTemplate sqlExecuteTemplate;
+    
+    private final DataSourceMetas dataSourceMetas;
 
     //JDBC的Connection列表
     private final Collection<Connection> connections = new LinkedList<>();
@@ -120,7 +124,9 @@ public abstract class AbstractStatementExecutor {
         int maxConnectionsSizePerQuery = connection.getRuntimeContext().getProps().<Integer>getValue(ShardingPropertiesConstant.MAX_CONNECTIONS_SIZE_PER_QUERY);
         ShardingExecuteEngine executeEngine = connection.getRuntimeContext().getExecuteEngine();
         sqlExecutePrepareTemplate = new SQLExecutePrepareTemplate(maxConnectionsSizePerQuery);
-        sqlExecuteTemplate = new SQLExecuteTemplate(executeEngine, connection.isHoldTransaction());
+        int timeoutMillisecondsPerQuery = connection.getRuntimeContext().getProps().<Integer>getValue(ShardingPropertiesConstant.EXECUTOR_TIMEOUT_MILLISECONDS_PER_QUERY);
+        sqlExecuteTemplate = new SQLExecuteTemplate(executeEngine, connection.isHoldTransaction(), timeoutMillisecondsPerQuery);
+        dataSourceMetas = connection.getRuntimeContext().getMetaData().getDataSources();
     }
     
     protected final void cacheStatements() {
@@ -154,13 +160,18 @@ public abstract class AbstractStatementExecutor {
         /**
          *  [executeGroup] {@link SQLExecuteTemplate#executeGroup(Collection, SQLExecuteCallback)}
          */
-        List<T> result = sqlExecuteTemplate.executeGroup((Collection) executeGroups, executeCallback);
+        List<T> result = isQuery()
+                ? sqlExecuteTemplate.executeGroupInCompletionOrder((Collection) executeGroups, executeCallback) : sqlExecuteTemplate.executeGroup((Collection) executeGroups, executeCallback);
 
         // 刷新元数据
         refreshMetaDataIfNeeded(connection.getRuntimeContext(), sqlStatementContext);
         return result;
     }
     
+    private boolean isQuery() {
+        return null != sqlStatementContext && sqlStatementContext.getSqlStatement() instanceof SelectStatement;
+    }
+    
     protected final boolean isAccumulate() {
         return !connection.getRuntimeContext().getRule().isAllBroadcastTables(sqlStatementContext.getTablesContext().getTableNames());
     }
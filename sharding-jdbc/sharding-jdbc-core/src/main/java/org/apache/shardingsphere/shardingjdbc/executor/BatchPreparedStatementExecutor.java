@@ -96,7 +96,8 @@ public final class BatchPreparedStatementExecutor extends AbstractStatementExecu
             
             @Override
             public StatementExecuteUnit createStatementExecuteUnit(final Connection connection, final RouteUnit routeUnit, final ConnectionMode connectionMode) throws SQLException {
-                return new StatementExecuteUnit(routeUnit, createPreparedStatement(connection, routeUnit.getSqlUnit().getSql()), connectionMode);
+                return new StatementExecuteUnit(routeUnit, createPreparedStatement(connection, routeUnit.getSqlUnit().getSql()), connectionMode, 
+                        getDataSourceMetas().getDataSourceMetaData(routeUnit.getDataSourceName()));
             }
         });
     }
@@ -82,7 +82,8 @@ public final class PreparedStatementExecutor extends AbstractStatementExecutor {
             
             @Override
             public StatementExecuteUnit createStatementExecuteUnit(final Connection connection, final RouteUnit routeUnit, final ConnectionMode connectionMode) throws SQLException {
-                return new StatementExecuteUnit(routeUnit, createPreparedStatement(connection, routeUnit.getSqlUnit().getSql()), connectionMode);
+                return new StatementExecuteUnit(routeUnit, createPreparedStatement(connection, routeUnit.getSqlUnit().getSql()), connectionMode, 
+                        getDataSourceMetas().getDataSourceMetaData(routeUnit.getDataSourceName()));
             }
         });
     }
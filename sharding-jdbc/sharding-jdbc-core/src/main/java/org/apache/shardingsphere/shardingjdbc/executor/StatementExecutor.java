@@ -77,7 +77,8 @@ public final class StatementExecutor extends AbstractStatementExecutor {
             @SuppressWarnings("MagicConstant")
             @Override
             public StatementExecuteUnit createStatementExecuteUnit(final Connection connection, final RouteUnit routeUnit, final ConnectionMode connectionMode) throws SQLException {
-                return new StatementExecuteUnit(routeUnit, connection.createStatement(getResultSetType(), getResultSetConcurrency(), getResultSetHoldability()), connectionMode);
+                return new StatementExecuteUnit(routeUnit, connection.createStatement(getResultSetType(), getResultSetConcurrency(), getResultSetHoldability()), connectionMode, 
+                        getDataSourceMetas().getDataSourceMetaData(routeUnit.getDataSourceName()));
             }
         });
     }
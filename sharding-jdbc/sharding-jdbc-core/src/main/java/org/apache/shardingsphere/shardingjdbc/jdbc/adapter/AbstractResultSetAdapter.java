@@ -114,7 +114,7 @@ public abstract class AbstractResultSetAdapter extends AbstractUnsupportedOperat
     }
     
     @Override
-    public final void close() throws SQLException {
+    public void close() throws SQLException {
         closed = true;
         forceExecuteTemplate.execute(resultSets, new ForceExecuteCallback<ResultSet>() {
             
@@ -63,16 +63,25 @@ public abstract class AbstractRuntimeContext<T extends BaseRule> implements Runt
         /**
          *  [SQL 执行] 分片执行引擎 {@link ShardingExecuteEngine
          */
-        executeEngine = new ShardingExecuteEngine(this.props.<Integer>getValue(ShardingPropertiesConstant.EXECUTOR_SIZE));
+        executeEngine = new ShardingExecuteEngine(this.props.<Integer>getValue(ShardingPropertiesConstant.EXECUTOR_SIZE), 
+                this.props.<Integer>getValue(ShardingPropertiesConstant.EXECUTOR_MAX_CONCURRENCY_PER_DATASOURCE), 
+                this.props.<Integer>getValue(ShardingPropertiesConstant.EXECUTOR_MAX_QUEUE_SIZE_PER_DATASOURCE));
 
         /**
          *  [SQL 解析] SQLParseEngine SQL 解析工厂方法 {@link SQLParseEngineFactory#getSQLParseEngine(String)}
          */
-        parseEngine = SQLParseEngineFactory.getSQLParseEngine(DatabaseTypes.getTrunkDatabaseTypeName(databaseType));
+        parseEngine = createParseEngine(DatabaseTypes.getTrunkDatabaseTypeName(databaseType));
         ConfigurationLogger.log(rule.getRuleConfiguration());
         ConfigurationLogger.log(props);
     }
     
+    private SQLParseEngine createParseEngine(final String databaseTypeName) {
+        String cacheType = props.getValue(ShardingPropertiesConstant.SQL_PARSE_CACHE_TYPE);
+        int cacheMaximumSize = props.<Integer>getValue(ShardingPropertiesConstant.SQL_PARSE_CACHE_MAXIMUM_SIZE);
+        return props.<Boolean>getValue(ShardingPropertiesConstant.SQL_PARSE_CACHE_SHARED)
+                ? SQLParseEngineFactory.getSQLParseEngine(databaseTypeName, cacheType, cacheMaximumSize) : SQLParseEngineFactory.newSQLParseEngine(databaseTypeName, cacheType, cacheMaximumSize);
+    }
+    
     @Override
     public void close() throws Exception {
         executeEngine.close();
@@ -24,6 +24,7 @@ import org.apache.shardingsphere.core.execute.metadata.TableMetaDataInitializer;
 import org.apache.shardingsphere.core.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.core.metadata.datasource.DataSourceMetas;
 import org.apache.shardingsphere.core.metadata.table.TableMetas;
+import org.apache.shardingsphere.core.route.router.sharding.cache.RoutingResultCache;
 import org.apache.shardingsphere.core.rule.ShardingRule;
 import org.apache.shardingsphere.shardingjdbc.jdbc.core.datasource.metadata.CachedDatabaseMetaData;
 import org.apache.shardingsphere.shardingjdbc.jdbc.metadata.JDBCTableMetaDataConnectionManager;
@@ -116,6 +117,7 @@ public final class ShardingRuntimeContext extends AbstractRuntimeContext<Shardin
     @Override
     public void close() throws Exception {
         shardingTransactionManagerEngine.close();
+        RoutingResultCache.invalidate(getRule());
         super.close();
     }
 }
@@ -29,6 +29,7 @@ import org.apache.shardingsphere.shardingjdbc.jdbc.unsupported.AbstractUnsupport
 import org.apache.shardingsphere.sql.parser.relation.statement.SQLStatementContext;
 import org.apache.shardingsphere.sql.parser.sql.statement.dal.DALStatement;
 import org.apache.shardingsphere.underlying.execute.QueryResult;
+import org.apache.shardingsphere.underlying.merge.CloseableMergedResult;
 import org.apache.shardingsphere.underlying.merge.MergedResult;
 
 import java.io.InputStream;
@@ -439,7 +440,13 @@ public final class EncryptResultSet extends AbstractUnsupportedOperationResultSe
     
     @Override
     public void close() throws SQLException {
-        originalResultSet.close();
+        try {
+            if (mergedResult instanceof CloseableMergedResult) {
+                ((CloseableMergedResult) mergedResult).close();
+            }
+        } finally {
+            originalResultSet.close();
+        }
     }
     
     @Override
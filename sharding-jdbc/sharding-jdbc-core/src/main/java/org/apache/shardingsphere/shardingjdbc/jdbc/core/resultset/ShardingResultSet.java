@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.shardingjdbc.jdbc.core.resultset;
 
+import org.apache.shardingsphere.underlying.merge.CloseableMergedResult;
 import org.apache.shardingsphere.underlying.merge.MergedResult;
 import org.apache.shardingsphere.core.route.SQLRouteResult;
 import org.apache.shardingsphere.shardingjdbc.jdbc.adapter.AbstractResultSetAdapter;
@@ -365,4 +366,15 @@ public final class ShardingResultSet extends AbstractResultSetAdapter {
         int columnIndex = columnLabelAndIndexMap.get(getActualColumnLabel(columnLabel));
         return mergeResultSet.getValue(columnIndex, Object.class);
     }
+    
+    @Override
+    public void close() throws SQLException {
+        try {
+            if (mergeResultSet instanceof CloseableMergedResult) {
+                ((CloseableMergedResult) mergeResultSet).close();
+            }
+        } finally {
+            super.close();
+        }
+    }
 }
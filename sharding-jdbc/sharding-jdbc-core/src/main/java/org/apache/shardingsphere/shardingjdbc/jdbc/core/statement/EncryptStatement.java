@@ -97,7 +97,8 @@ public final class EncryptStatement extends AbstractUnsupportedOperationStatemen
     private String getRewriteSQL(final String sql) {
 
         //通过 ParseEngine 对 SQL 进行解析
-        SQLStatement sqlStatement = connection.getRuntimeContext().getParseEngine().parse(sql, false);
+        SQLStatement sqlStatement = connection.getRuntimeContext().getProps().<Boolean>getValue(ShardingPropertiesConstant.SQL_SHAPE_CACHE_ENABLED)
+                ? connection.getRuntimeContext().getParseEngine().parseWithShapeCache(sql) : connection.getRuntimeContext().getParseEngine().parse(sql, false);
 
         // 获取关系元数据 RelationMetas
         RelationMetas relationMetas = getRelationMetas(connection.getRuntimeContext().getTableMetas());
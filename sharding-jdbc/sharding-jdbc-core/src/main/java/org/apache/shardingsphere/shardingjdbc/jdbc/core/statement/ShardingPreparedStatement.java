@@ -135,7 +135,7 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
              * 调用归并引擎 {@link PreparedStatementExecutor#executeQuery()}
              */
             MergeEngine mergeEngine = MergeEngineFactory.newInstance(connection.getRuntimeContext().getDatabaseType(), 
-                    connection.getRuntimeContext().getRule(), sqlRouteResult, connection.getRuntimeContext().getMetaData().getRelationMetas(), preparedStatementExecutor.executeQuery());
+                    connection.getRuntimeContext().getRule(), sqlRouteResult, connection.getRuntimeContext().getMetaData().getRelationMetas(), preparedStatementExecutor.executeQuery(), connection.getRuntimeContext().getProps());
 
             /**
              * 获取结果 {@link #getResultSet(MergeEngine)}
@@ -164,7 +164,7 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
         }
         if (sqlRouteResult.getSqlStatementContext() instanceof SelectSQLStatementContext || sqlRouteResult.getSqlStatementContext().getSqlStatement() instanceof DALStatement) {
             MergeEngine mergeEngine = MergeEngineFactory.newInstance(connection.getRuntimeContext().getDatabaseType(),
-                    connection.getRuntimeContext().getRule(), sqlRouteResult, connection.getRuntimeContext().getMetaData().getRelationMetas(), queryResults);
+                    connection.getRuntimeContext().getRule(), sqlRouteResult, connection.getRuntimeContext().getMetaData().getRelationMetas(), queryResults, connection.getRuntimeContext().getProps());
             currentResultSet = getCurrentResultSet(resultSets, mergeEngine);
         }
         return currentResultSet;
@@ -262,7 +262,7 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
     @Override
     public void addBatch() {
         try {
-            shard();
+            sqlRouteResult = shardingEngine.shardForBatch(sql, getParameters());
             batchPreparedStatementExecutor.addBatchForRouteUnits(sqlRouteResult);
         } finally {
             currentResultSet = null;
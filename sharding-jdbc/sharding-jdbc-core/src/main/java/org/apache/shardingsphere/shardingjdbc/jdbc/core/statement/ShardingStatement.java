@@ -118,7 +118,7 @@ public final class ShardingStatement extends AbstractStatementAdapter {
              * 调用归并引擎 {@link MergeEngineFactory#newInstance(DatabaseType, ShardingRule, SQLRouteResult, RelationMetas, List)}
              */
             MergeEngine mergeEngine = MergeEngineFactory.newInstance(connection.getRuntimeContext().getDatabaseType(), 
-                    connection.getRuntimeContext().getRule(), sqlRouteResult, connection.getRuntimeContext().getMetaData().getRelationMetas(), statementExecutor.executeQuery());
+                    connection.getRuntimeContext().getRule(), sqlRouteResult, connection.getRuntimeContext().getMetaData().getRelationMetas(), statementExecutor.executeQuery(), connection.getRuntimeContext().getProps());
             result = getResultSet(mergeEngine);
         } finally {
             currentResultSet = null;
@@ -143,7 +143,7 @@ public final class ShardingStatement extends AbstractStatementAdapter {
         }
         if (sqlRouteResult.getSqlStatementContext() instanceof SelectSQLStatementContext || sqlRouteResult.getSqlStatementContext().getSqlStatement() instanceof DALStatement) {
             MergeEngine mergeEngine = MergeEngineFactory.newInstance(connection.getRuntimeContext().getDatabaseType(),
-                    connection.getRuntimeContext().getRule(), sqlRouteResult, connection.getRuntimeContext().getMetaData().getRelationMetas(), queryResults);
+                    connection.getRuntimeContext().getRule(), sqlRouteResult, connection.getRuntimeContext().getMetaData().getRelationMetas(), queryResults, connection.getRuntimeContext().getProps());
             currentResultSet = getCurrentResultSet(resultSets, mergeEngine);
         }
         return currentResultSet;
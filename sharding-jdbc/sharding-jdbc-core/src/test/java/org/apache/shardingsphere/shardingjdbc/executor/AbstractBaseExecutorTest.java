@@ -20,11 +20,16 @@ package org.apache.shardingsphere.shardingjdbc.executor;
 import com.google.common.base.Optional;
 import lombok.AccessLevel;
 import lombok.Getter;
+import org.apache.shardingsphere.core.config.DatabaseAccessConfiguration;
 import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
 import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import org.apache.shardingsphere.core.database.DatabaseTypes;
 import org.apache.shardingsphere.core.execute.engine.ShardingExecuteEngine;
 import org.apache.shardingsphere.core.execute.sql.execute.threadlocal.ExecutorExceptionHandler;
+import org.apache.shardingsphere.core.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.core.metadata.datasource.DataSourceMetas;
+import org.apache.shardingsphere.core.metadata.table.TableMetaData;
+import org.apache.shardingsphere.core.metadata.table.TableMetas;
 import org.apache.shardingsphere.sql.parser.relation.segment.table.TablesContext;
 import org.apache.shardingsphere.sql.parser.relation.statement.SQLStatementContext;
 import org.apache.shardingsphere.core.rule.EncryptRule;
@@ -75,6 +80,8 @@ public abstract class AbstractBaseExecutorTest {
         ShardingRule shardingRule = getShardingRule();
         when(runtimeContext.getRule()).thenReturn(shardingRule);
         when(runtimeContext.getShardingTransactionManagerEngine()).thenReturn(new ShardingTransactionManagerEngine());
+        when(runtimeContext.getMetaData()).thenReturn(new ShardingSphereMetaData(
+                new DataSourceMetas(DatabaseTypes.getActualDatabaseType("H2"), Collections.<String, DatabaseAccessConfiguration>emptyMap()), new TableMetas(Collections.<String, TableMetaData>emptyMap())));
         DataSource dataSource = mock(DataSource.class);
         when(dataSource.getConnection()).thenReturn(mock(Connection.class));
         Map<String, DataSource> dataSourceSourceMap = new LinkedHashMap<>();
@@ -19,12 +19,17 @@ package org.apache.shardingsphere.shardingjdbc.executor;
 
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.core.constant.ConnectionMode;
+import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
+import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
+import org.apache.shardingsphere.core.execute.engine.ShardingExecuteEngine;
 import org.apache.shardingsphere.core.execute.engine.ShardingExecuteGroup;
 import org.apache.shardingsphere.core.execute.sql.StatementExecuteUnit;
 import org.apache.shardingsphere.core.route.BatchRouteUnit;
 import org.apache.shardingsphere.core.route.RouteUnit;
 import org.apache.shardingsphere.core.route.SQLUnit;
 import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
 
 import java.lang.reflect.Field;
 import java.sql.Connection;
@@ -36,6 +41,9 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
@@ -121,6 +129,61 @@ public final class BatchPreparedStatementExecutorTest extends AbstractBaseExecut
         verify(preparedStatement2).executeBatch();
     }
     
+    @Test
+    public void assertExecuteBatchForMultipleGroupsWithTimeout() throws SQLException {
+        Properties props = new Properties();
+        props.setProperty(ShardingPropertiesConstant.MAX_CONNECTIONS_SIZE_PER_QUERY.getKey(), ShardingPropertiesConstant.MAX_CONNECTIONS_SIZE_PER_QUERY.getDefaultValue());
+        props.setProperty(ShardingPropertiesConstant.EXECUTOR_TIMEOUT_MILLISECONDS_PER_QUERY.getKey(), "10000");
+        when(getConnection().getRuntimeContext().getProps()).thenReturn(new ShardingProperties(props));
+        ShardingExecuteEngine executeEngine = new ShardingExecuteEngine(3);
+        when(getConnection().getRuntimeContext().getExecuteEngine()).thenReturn(executeEngine);
+        actual = spy(new BatchPreparedStatementExecutor(1, 1, 1, false, getConnection()));
+        doReturn(true).when(actual).isAccumulate();
+        final CountDownLatch fastLatch = new CountDownLatch(1);
+        PreparedStatement preparedStatement1 = getPreparedStatement();
+        PreparedStatement preparedStatement2 = getPreparedStatement();
+        PreparedStatement preparedStatement3 = getPreparedStatement();
+        when(preparedStatement1.executeBatch()).thenReturn(new int[] {10});
+        when(preparedStatement2.executeBatch()).thenAnswer(new Answer<int[]>() {
+            
+            @Override
+            public int[] answer(final InvocationOnMock invocation) throws InterruptedException {
+                fastLatch.await(1, TimeUnit.SECONDS);
+                Thread.sleep(100L);
+                return new int[] {20};
+            }
+        });
+        when(preparedStatement3.executeBatch()).thenAnswer(new Answer<int[]>() {
+            
+            @Override
+            public int[] answer(final InvocationOnMock invocation) {
+                fastLatch.countDown();
+                return new int[] {30};
+            }
+        });
+        setExecuteGroupsOfDataSources(Arrays.asList(preparedStatement1, preparedStatement2, preparedStatement3));
+        try {
+            assertThat(actual.executeBatch(), is(new int[] {10, 20, 30}));
+        } finally {
+            executeEngine.close();
+        }
+    }
+    
+    private void setExecuteGroupsOfDataSources(final List<PreparedStatement> preparedStatements) {
+        Collection<ShardingExecuteGroup<StatementExecuteUnit>> executeGroups = new LinkedList<>();
+        Collection<BatchRouteUnit> routeUnits = new LinkedList<>();
+        int count = 0;
+        for (PreparedStatement each : preparedStatements) {
+            RouteUnit routeUnit = new RouteUnit("ds_" + count, new SQLUnit(SQL, Collections.singletonList((Object) 1)));
+            BatchRouteUnit batchRouteUnit = new BatchRouteUnit(routeUnit);
+            batchRouteUnit.mapAddBatchCount(count);
+            routeUnits.add(batchRouteUnit);
+            executeGroups.add(new ShardingExecuteGroup<>(Collections.singletonList(new StatementExecuteUnit(routeUnit, each, ConnectionMode.MEMORY_STRICTLY)), null, routeUnit.getDataSourceName()));
+            count++;
+        }
+        setFields(executeGroups, routeUnits, preparedStatements.size());
+    }
+    
     private void setExecuteGroups(final List<PreparedStatement> preparedStatements) {
         Collection<ShardingExecuteGroup<StatementExecuteUnit>> executeGroups = new LinkedList<>();
         List<StatementExecuteUnit> preparedStatementExecuteUnits = new LinkedList<>();
@@ -133,11 +196,11 @@ public final class BatchPreparedStatementExecutorTest extends AbstractBaseExecut
             routeUnits.add(batchRouteUnit);
             preparedStatementExecuteUnits.add(new StatementExecuteUnit(new RouteUnit("ds_0", new SQLUnit(SQL, Collections.singletonList((Object) 1))), each, ConnectionMode.MEMORY_STRICTLY));
         }
-        setFields(executeGroups, routeUnits);
+        setFields(executeGroups, routeUnits, 2);
     }
     
     @SneakyThrows
-    private void setFields(final Collection<ShardingExecuteGroup<StatementExecuteUnit>> executeGroups, final Collection<BatchRouteUnit> routeUnits) {
+    private void setFields(final Collection<ShardingExecuteGroup<StatementExecuteUnit>> executeGroups, final Collection<BatchRouteUnit> routeUnits, final int batchCount) {
         Field field = BatchPreparedStatementExecutor.class.getSuperclass().getDeclaredField("executeGroups");
         field.setAccessible(true);
         field.set(actual, executeGroups);
@@ -146,6 +209,6 @@ public final class BatchPreparedStatementExecutorTest extends AbstractBaseExecut
         field.set(actual, routeUnits);
         field = BatchPreparedStatementExecutor.class.getDeclaredField("batchCount");
         field.setAccessible(true);
-        field.set(actual, 2);
+        field.set(actual, batchCount);
     }
 }
@@ -19,6 +19,7 @@ package org.apache.shardingsphere.shardingjdbc.jdbc.core.resultset;
 
 import com.google.common.base.Optional;
 import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
+import org.apache.shardingsphere.underlying.merge.CloseableMergedResult;
 import org.apache.shardingsphere.underlying.merge.MergedResult;
 import org.apache.shardingsphere.core.route.SQLRouteResult;
 import org.apache.shardingsphere.core.rule.EncryptRule;
@@ -58,6 +59,7 @@ import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public final class ShardingResultSetTest {
@@ -452,4 +454,14 @@ public final class ShardingResultSetTest {
         when(mergeResultSet.getValue(1, Object.class)).thenReturn("object_value");
         assertThat(shardingResultSet.getObject("label"), is((Object) "object_value"));
     }
+    
+    @Test
+    public void assertCloseWithCloseableMergedResult() throws SQLException {
+        CloseableMergedResult closeableMergedResult = mock(CloseableMergedResult.class);
+        ShardingResultSet actual = new ShardingResultSet(getResultSets(), closeableMergedResult, getShardingStatement(), createSQLRouteResult());
+        actual.close();
+        verify(closeableMergedResult).close();
+        verify(actual.getResultSets().get(0)).close();
+        assertTrue(actual.isClosed());
+    }
 }
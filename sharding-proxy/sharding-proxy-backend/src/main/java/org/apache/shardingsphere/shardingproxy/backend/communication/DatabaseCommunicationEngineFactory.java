@@ -25,6 +25,7 @@ import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.execut
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.wrapper.PreparedStatementExecutorWrapper;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.wrapper.StatementExecutorWrapper;
 import org.apache.shardingsphere.shardingproxy.backend.schema.LogicSchema;
+import org.apache.shardingsphere.sql.parser.sql.statement.SQLStatement;
 
 import java.util.List;
 
@@ -66,11 +67,13 @@ public final class DatabaseCommunicationEngineFactory {
      *
      * @param logicSchema logic schema
      * @param sql SQL to be executed
+     * @param sqlStatement SQL statement parsed when prepared, parse SQL again if {@code null}
      * @param parameters SQL parameters
      * @param backendConnection backend connection
      * @return instance of text protocol backend handler
      */
-    public DatabaseCommunicationEngine newBinaryProtocolInstance(final LogicSchema logicSchema, final String sql, final List<Object> parameters, final BackendConnection backendConnection) {
-        return new JDBCDatabaseCommunicationEngine(logicSchema, sql, new JDBCExecuteEngine(backendConnection, new PreparedStatementExecutorWrapper(logicSchema, parameters)));
+    public DatabaseCommunicationEngine newBinaryProtocolInstance(
+            final LogicSchema logicSchema, final String sql, final SQLStatement sqlStatement, final List<Object> parameters, final BackendConnection backendConnection) {
+        return new JDBCDatabaseCommunicationEngine(logicSchema, sql, new JDBCExecuteEngine(backendConnection, new PreparedStatementExecutorWrapper(logicSchema, sqlStatement, parameters)));
     }
 }
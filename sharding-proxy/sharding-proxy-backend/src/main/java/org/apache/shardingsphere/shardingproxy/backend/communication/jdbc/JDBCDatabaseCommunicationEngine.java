@@ -48,6 +48,7 @@ import org.apache.shardingsphere.sql.parser.sql.statement.SQLStatement;
 import org.apache.shardingsphere.sql.parser.sql.statement.dal.DALStatement;
 import org.apache.shardingsphere.sql.parser.sql.statement.ddl.DDLStatement;
 import org.apache.shardingsphere.transaction.core.TransactionType;
+import org.apache.shardingsphere.underlying.merge.CloseableMergedResult;
 import org.apache.shardingsphere.underlying.merge.MergedResult;
 
 import java.sql.SQLException;
@@ -77,6 +78,10 @@ public final class JDBCDatabaseCommunicationEngine implements DatabaseCommunicat
     
     private MergedResult mergedResult;
     
+    private List<Integer> columnTypes;
+    
+    private ShardingEncryptor[] columnEncryptors;
+    
     @Override
     public BackendResponse execute() {
         try {
@@ -97,6 +102,7 @@ public final class JDBCDatabaseCommunicationEngine implements DatabaseCommunicat
                     sqlStatementContext.getTablesContext().isSingleTable() ? sqlStatementContext.getTablesContext().getSingleTableName() : "unknown_table"));
         }
         response = executeEngine.execute(routeResult);
+        columnTypes = null;
         if (logicSchema instanceof ShardingSchema) {
             logicSchema.refreshTableMetaData(routeResult.getSqlStatementContext());
         }
@@ -114,6 +120,9 @@ public final class JDBCDatabaseCommunicationEngine implements DatabaseCommunicat
             return response;
         }
         this.mergedResult = getMergedResult(routeResult);
+        if (mergedResult instanceof CloseableMergedResult) {
+            executeEngine.getBackendConnection().add((CloseableMergedResult) mergedResult);
+        }
         handleColumnsForQueryHeader(routeResult);
         return response;
     }
@@ -134,7 +143,7 @@ public final class JDBCDatabaseCommunicationEngine implements DatabaseCommunicat
             return new DALEncryptMergeEngine(encryptRule, ((QueryResponse) response).getQueryResults(), routeResult.getSqlStatementContext()).merge();
         }
         MergedResult mergedResult = MergeEngineFactory.newInstance(LogicSchemas.getInstance().getDatabaseType(),
-                logicSchema.getShardingRule(), routeResult, logicSchema.getMetaData().getRelationMetas(), ((QueryResponse) response).getQueryResults()).merge();
+                logicSchema.getShardingRule(), routeResult, logicSchema.getMetaData().getRelationMetas(), ((QueryResponse) response).getQueryResults(), ShardingProxyContext.getInstance().getShardingProperties()).merge();
         if (null == encryptRule) {
             return mergedResult;
         }
@@ -203,22 +212,31 @@ public final class JDBCDatabaseCommunicationEngine implements DatabaseCommunicat
     
     @Override
     public QueryData getQueryData() throws SQLException {
+        if (null == columnTypes) {
+            List<QueryHeader> queryHeaders = ((QueryResponse) response).getQueryHeaders();
+            columnTypes = getColumnTypes(queryHeaders);
+            columnEncryptors = getColumnEncryptors(queryHeaders);
+        }
+        List<Object> row = new ArrayList<>(columnTypes.size());
+        for (int columnIndex = 1; columnIndex <= columnTypes.size(); columnIndex++) {
+            Object value = mergedResult.getValue(columnIndex, Object.class);
+            ShardingEncryptor shardingEncryptor = columnEncryptors[columnIndex - 1];
+            row.add(null == shardingEncryptor ? value : shardingEncryptor.decrypt(getCiphertext(value)));
+        }
+        return new QueryData(columnTypes, row);
+    }
+    
+    private ShardingEncryptor[] getColumnEncryptors(final List<QueryHeader> queryHeaders) {
+        ShardingEncryptor[] result = new ShardingEncryptor[queryHeaders.size()];
         Optional<EncryptRule> encryptRule = findEncryptRule();
         boolean isQueryWithCipherColumn = ShardingProxyContext.getInstance().getShardingProperties().getValue(ShardingPropertiesConstant.QUERY_WITH_CIPHER_COLUMN);
-        List<QueryHeader> queryHeaders = ((QueryResponse) response).getQueryHeaders();
-        List<Object> row = new ArrayList<>(queryHeaders.size());
-        for (int columnIndex = 1; columnIndex <= queryHeaders.size(); columnIndex++) {
-            Object value = mergedResult.getValue(columnIndex, Object.class);
-            if (isQueryWithCipherColumn && encryptRule.isPresent()) {
-                QueryHeader queryHeader = ((QueryResponse) response).getQueryHeaders().get(columnIndex - 1);
-                Optional<ShardingEncryptor> shardingEncryptor = encryptRule.get().findShardingEncryptor(queryHeader.getTable(), queryHeader.getColumnName());
-                if (shardingEncryptor.isPresent()) {
-                    value = shardingEncryptor.get().decrypt(getCiphertext(value));
-                }
-            }
-            row.add(value);
+        if (!isQueryWithCipherColumn || !encryptRule.isPresent()) {
+            return result;
+        }
+        for (int i = 0; i < queryHeaders.size(); i++) {
+            result[i] = encryptRule.get().findShardingEncryptor(queryHeaders.get(i).getTable(), queryHeaders.get(i).getColumnName()).orNull();
         }
-        return new QueryData(getColumnTypes(queryHeaders), row);
+        return result;
     }
     
     private Optional<EncryptRule> findEncryptRule() {
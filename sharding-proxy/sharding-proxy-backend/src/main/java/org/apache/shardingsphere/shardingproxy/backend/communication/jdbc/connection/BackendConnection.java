@@ -30,6 +30,7 @@ import org.apache.shardingsphere.core.route.router.masterslave.MasterVisitedMana
 import org.apache.shardingsphere.shardingproxy.backend.schema.LogicSchema;
 import org.apache.shardingsphere.shardingproxy.backend.schema.LogicSchemas;
 import org.apache.shardingsphere.transaction.core.TransactionType;
+import org.apache.shardingsphere.underlying.merge.CloseableMergedResult;
 
 import java.sql.Connection;
 import java.sql.ResultSet;
@@ -74,6 +75,8 @@ public final class BackendConnection implements AutoCloseable {
     
     private final Collection<ResultSet> cachedResultSets = new CopyOnWriteArrayList<>();
     
+    private final Collection<CloseableMergedResult> cachedMergedResults = new CopyOnWriteArrayList<>();
+    
     private final Collection<MethodInvocation> methodInvocations = new ArrayList<>();
     
     @Getter
@@ -234,6 +237,15 @@ public final class BackendConnection implements AutoCloseable {
         cachedResultSets.add(resultSet);
     }
     
+    /**
+     * Add merged result.
+     *
+     * @param mergedResult merged result to be added
+     */
+    public void add(final CloseableMergedResult mergedResult) {
+        cachedMergedResults.add(mergedResult);
+    }
+    
     @Override
     public void close() throws SQLException {
         close(false);
@@ -248,6 +260,7 @@ public final class BackendConnection implements AutoCloseable {
     public synchronized void close(final boolean forceClose) throws SQLException {
         Collection<SQLException> exceptions = new LinkedList<>();
         MasterVisitedManager.clear();
+        exceptions.addAll(closeMergedResults());
         exceptions.addAll(closeResultSets());
         exceptions.addAll(closeStatements());
         if (!stateHandler.isInTransaction() || forceClose) {
@@ -257,6 +270,19 @@ public final class BackendConnection implements AutoCloseable {
         throwSQLExceptionIfNecessary(exceptions);
     }
     
+    private Collection<SQLException> closeMergedResults() {
+        Collection<SQLException> result = new LinkedList<>();
+        for (CloseableMergedResult each : cachedMergedResults) {
+            try {
+                each.close();
+            } catch (final SQLException ex) {
+                result.add(ex);
+            }
+        }
+        cachedMergedResults.clear();
+        return result;
+    }
+    
     private Collection<SQLException> closeResultSets() {
         Collection<SQLException> result = new LinkedList<>();
         for (ResultSet each : cachedResultSets) {
@@ -35,20 +35,6 @@ public final class ResourceSynchronizer {
     
     private final Condition condition = lock.newCondition();
     
-    /**
-     * Do await.
-     *
-     */
-    public void doAwait() {
-        lock.lock();
-        try {
-            condition.await();
-        } catch (final InterruptedException ignore) {
-        } finally {
-            lock.unlock();
-        }
-    }
-    
     /**
      * Do await until default timeout milliseconds.
      *
@@ -59,11 +59,19 @@ public abstract class LogicSchema {
     
     public LogicSchema(final String name, final Map<String, YamlDataSourceParameter> dataSources) {
         this.name = name;
-        parseEngine = SQLParseEngineFactory.getSQLParseEngine(DatabaseTypes.getTrunkDatabaseTypeName(LogicSchemas.getInstance().getDatabaseType()));
+        parseEngine = createParseEngine(DatabaseTypes.getTrunkDatabaseTypeName(LogicSchemas.getInstance().getDatabaseType()));
         backendDataSource = new JDBCBackendDataSource(dataSources);
         ShardingOrchestrationEventBus.getInstance().register(this);
     }
     
+    private SQLParseEngine createParseEngine(final String databaseTypeName) {
+        ShardingProperties shardingProperties = ShardingProxyContext.getInstance().getShardingProperties();
+        String cacheType = shardingProperties.getValue(ShardingPropertiesConstant.SQL_PARSE_CACHE_TYPE);
+        int cacheMaximumSize = shardingProperties.<Integer>getValue(ShardingPropertiesConstant.SQL_PARSE_CACHE_MAXIMUM_SIZE);
+        return shardingProperties.<Boolean>getValue(ShardingPropertiesConstant.SQL_PARSE_CACHE_SHARED)
+                ? SQLParseEngineFactory.getSQLParseEngine(databaseTypeName, cacheType, cacheMaximumSize) : SQLParseEngineFactory.newSQLParseEngine(databaseTypeName, cacheType, cacheMaximumSize);
+    }
+    
     protected final Map<String, DatabaseAccessConfiguration> getDatabaseAccessConfigurationMap() {
         Map<String, DatabaseAccessConfiguration> result = new HashMap<>(backendDataSource.getDataSourceParameters().size(), 1);
         for (Entry<String, YamlDataSourceParameter> entry : backendDataSource.getDataSourceParameters().entrySet()) {
@@ -103,7 +111,7 @@ public abstract class LogicSchema {
         return new TableMetaDataInitializer(
                 dataSourceMetas, BackendExecutorContext.getInstance().getExecuteEngine(), new ProxyTableMetaDataConnectionManager(getBackendDataSource()),
                 shardingProperties.<Integer>getValue(ShardingPropertiesConstant.MAX_CONNECTIONS_SIZE_PER_QUERY),
-                shardingProperties.<Boolean>getValue(ShardingPropertiesConstant.CHECK_TABLE_METADATA_ENABLED));
+                shardingProperties.<Boolean>getValue(ShardingPropertiesConstant.CHECK_TABLE_METADATA_ENABLED), name);
     }
     
     /**
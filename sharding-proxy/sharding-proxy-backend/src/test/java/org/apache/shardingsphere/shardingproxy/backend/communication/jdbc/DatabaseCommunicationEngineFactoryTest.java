@@ -42,7 +42,7 @@ public final class DatabaseCommunicationEngineFactoryTest {
     @Test
     public void assertNewBinaryProtocolInstance() {
         DatabaseCommunicationEngine engine = DatabaseCommunicationEngineFactory.getInstance()
-                .newBinaryProtocolInstance(mock(LogicSchema.class), "schemaName", Collections.emptyList(), mock(BackendConnection.class));
+                .newBinaryProtocolInstance(mock(LogicSchema.class), "schemaName", null, Collections.emptyList(), mock(BackendConnection.class));
         assertNotNull(engine);
         assertThat(engine, instanceOf(JDBCDatabaseCommunicationEngine.class));
     }
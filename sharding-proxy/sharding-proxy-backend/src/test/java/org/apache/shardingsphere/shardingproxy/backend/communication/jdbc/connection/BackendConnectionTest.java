@@ -24,6 +24,7 @@ import org.apache.shardingsphere.shardingproxy.backend.MockLogicSchemasUtil;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.datasource.JDBCBackendDataSource;
 import org.apache.shardingsphere.transaction.ShardingTransactionManagerEngine;
 import org.apache.shardingsphere.transaction.core.TransactionType;
+import org.apache.shardingsphere.underlying.merge.CloseableMergedResult;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -167,6 +168,7 @@ public final class BackendConnectionTest {
         }
         assertThat(actual.getConnectionSize(), is(0));
         assertTrue(actual.getCachedConnections().isEmpty());
+        assertTrue(actual.getCachedMergedResults().isEmpty());
         assertTrue(actual.getCachedResultSets().isEmpty());
         assertTrue(actual.getCachedStatements().isEmpty());
         assertThat(actual.getStateHandler().getStatus(), is(ConnectionStatus.RELEASE));
@@ -186,6 +188,7 @@ public final class BackendConnectionTest {
         }
         assertThat(actual.getConnectionSize(), is(12));
         assertThat(actual.getCachedConnections().get("ds1").size(), is(12));
+        assertTrue(actual.getCachedMergedResults().isEmpty());
         assertTrue(actual.getCachedResultSets().isEmpty());
         assertTrue(actual.getCachedStatements().isEmpty());
     }
@@ -215,8 +218,10 @@ public final class BackendConnectionTest {
     }
     
     private void mockResultSetAndStatement(final BackendConnection backendConnection) {
+        CloseableMergedResult mergedResult = mock(CloseableMergedResult.class);
         ResultSet resultSet = mock(ResultSet.class);
         Statement statement = mock(Statement.class);
+        backendConnection.add(mergedResult);
         backendConnection.add(resultSet);
         backendConnection.add(statement);
     }
@@ -17,12 +17,19 @@
 
 package org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.execute.callback;
 
+import org.apache.shardingsphere.core.config.DatabaseAccessConfiguration;
 import org.apache.shardingsphere.core.constant.ConnectionMode;
+import org.apache.shardingsphere.core.database.DatabaseTypes;
 import org.apache.shardingsphere.core.execute.sql.StatementExecuteUnit;
+import org.apache.shardingsphere.core.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.core.metadata.datasource.DataSourceMetas;
+import org.apache.shardingsphere.core.metadata.table.TableMetaData;
+import org.apache.shardingsphere.core.metadata.table.TableMetas;
 import org.apache.shardingsphere.core.route.RouteUnit;
 import org.apache.shardingsphere.core.route.SQLUnit;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.wrapper.JDBCExecutorWrapper;
+import org.apache.shardingsphere.shardingproxy.backend.schema.LogicSchema;
 import org.junit.Test;
 
 import java.sql.Connection;
@@ -56,17 +63,31 @@ public final class ProxyJDBCExecutePrepareCallbackTest {
     public void assertCreateStatementExecuteUnitWhenNotMemoryStrictly() throws SQLException {
         JDBCExecutorWrapper jdbcExecutorWrapper = mock(JDBCExecutorWrapper.class);
         when(jdbcExecutorWrapper.createStatement((Connection) any(), (SQLUnit) any(), anyBoolean())).thenReturn(mock(Statement.class));
-        ProxyJDBCExecutePrepareCallback proxyJDBCExecutePrepareCallback = new ProxyJDBCExecutePrepareCallback(mock(BackendConnection.class), jdbcExecutorWrapper, false);
-        assertThat(proxyJDBCExecutePrepareCallback.createStatementExecuteUnit(
-                null, new RouteUnit("ds", new SQLUnit("SELECT 1", Collections.emptyList())), ConnectionMode.CONNECTION_STRICTLY), instanceOf(StatementExecuteUnit.class));
+        ProxyJDBCExecutePrepareCallback proxyJDBCExecutePrepareCallback = new ProxyJDBCExecutePrepareCallback(mockBackendConnection(), jdbcExecutorWrapper, false);
+        StatementExecuteUnit actual = proxyJDBCExecutePrepareCallback.createStatementExecuteUnit(
+                null, new RouteUnit("ds", new SQLUnit("SELECT 1", Collections.emptyList())), ConnectionMode.CONNECTION_STRICTLY);
+        assertThat(actual, instanceOf(StatementExecuteUnit.class));
+        assertThat(actual.getDataSourceMetaData().getCatalog(), is("test"));
     }
     
     @Test
     public void assertCreateStatementExecuteUnitWhenMemoryStrictly() throws SQLException {
         JDBCExecutorWrapper jdbcExecutorWrapper = mock(JDBCExecutorWrapper.class);
         when(jdbcExecutorWrapper.createStatement((Connection) any(), (SQLUnit) any(), anyBoolean())).thenReturn(mock(Statement.class));
-        ProxyJDBCExecutePrepareCallback proxyJDBCExecutePrepareCallback = new ProxyJDBCExecutePrepareCallback(mock(BackendConnection.class), jdbcExecutorWrapper, false);
-        assertThat(proxyJDBCExecutePrepareCallback.createStatementExecuteUnit(
-                null, new RouteUnit("ds", new SQLUnit("SELECT 1", Collections.emptyList())), ConnectionMode.MEMORY_STRICTLY), instanceOf(StatementExecuteUnit.class));
+        ProxyJDBCExecutePrepareCallback proxyJDBCExecutePrepareCallback = new ProxyJDBCExecutePrepareCallback(mockBackendConnection(), jdbcExecutorWrapper, false);
+        StatementExecuteUnit actual = proxyJDBCExecutePrepareCallback.createStatementExecuteUnit(
+                null, new RouteUnit("ds", new SQLUnit("SELECT 1", Collections.emptyList())), ConnectionMode.MEMORY_STRICTLY);
+        assertThat(actual, instanceOf(StatementExecuteUnit.class));
+        assertThat(actual.getDataSourceMetaData().getCatalog(), is("test"));
+    }
+    
+    private BackendConnection mockBackendConnection() {
+        BackendConnection result = mock(BackendConnection.class);
+        LogicSchema logicSchema = mock(LogicSchema.class);
+        DataSourceMetas dataSourceMetas = new DataSourceMetas(DatabaseTypes.getActualDatabaseType("MySQL"), 
+                Collections.singletonMap("ds", new DatabaseAccessConfiguration("jdbc:mysql://127.0.0.1:3306/test", "root", "")));
+        when(logicSchema.getMetaData()).thenReturn(new ShardingSphereMetaData(dataSourceMetas, new TableMetas(Collections.<String, TableMetaData>emptyMap())));
+        when(result.getLogicSchema()).thenReturn(logicSchema);
+        return result;
     }
 }
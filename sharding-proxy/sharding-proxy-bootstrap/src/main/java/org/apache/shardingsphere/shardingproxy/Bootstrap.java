@@ -17,9 +17,13 @@
 
 package org.apache.shardingsphere.shardingproxy;
 
+import com.google.common.base.Charsets;
+import com.google.common.base.Strings;
+import com.google.common.io.Files;
 import com.google.common.primitives.Ints;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.shardingsphere.api.config.RuleConfiguration;
 import org.apache.shardingsphere.core.config.DataSourceConfiguration;
@@ -43,15 +47,22 @@ import org.apache.shardingsphere.shardingproxy.config.yaml.YamlProxyServerConfig
 import org.apache.shardingsphere.shardingproxy.context.ShardingProxyContext;
 import org.apache.shardingsphere.shardingproxy.frontend.bootstrap.ShardingProxy;
 import org.apache.shardingsphere.shardingproxy.util.DataSourceConverter;
+import org.apache.shardingsphere.sql.parser.SQLParseEngine;
 
+import java.io.File;
 import java.io.IOException;
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Properties;
+import java.util.Set;
 
 /**
  * Sharding-Proxy Bootstrap.
@@ -62,6 +73,7 @@ import java.util.Properties;
  * @author sunbufu
  */
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
+@Slf4j
 public final class Bootstrap {
     
     private static final int DEFAULT_PORT = 3307;
@@ -95,7 +107,7 @@ public final class Bootstrap {
     }
     
     private static void startWithoutRegistryCenter(final Map<String, YamlProxyRuleConfiguration> ruleConfigs,
-                                                   final YamlAuthenticationConfiguration authentication, final Properties prop, final int port) throws SQLException {
+                                                   final YamlAuthenticationConfiguration authentication, final Properties prop, final int port) throws SQLException, IOException {
         Authentication authenticationConfiguration = getAuthentication(authentication);
         ConfigurationLogger.log(authenticationConfiguration);
         ConfigurationLogger.log(prop);
@@ -107,6 +119,7 @@ public final class Bootstrap {
          * 初始化，OpenTracing {@link #initOpenTracing()}
          */
         initOpenTracing();
+        warmUpParser();
         ShardingProxy.getInstance().start(port);
     }
     
@@ -127,8 +140,9 @@ public final class Bootstrap {
 
             // 初始化 OpenTracing
             initOpenTracing();
+            warmUpParser();
             ShardingProxy.getInstance().start(port);
-        } catch (SQLException e) {
+        } catch (final SQLException | IOException e) {
             e.printStackTrace();
         }
     }
@@ -179,6 +193,29 @@ public final class Bootstrap {
         }
     }
     
+    private static void warmUpParser() throws IOException {
+        String warmUpFile = ShardingProxyContext.getInstance().getShardingProperties().getValue(ShardingPropertiesConstant.PROXY_PARSER_WARM_UP_FILE);
+        List<String> schemaNames = LogicSchemas.getInstance().getSchemaNames();
+        if (Strings.isNullOrEmpty(warmUpFile) || schemaNames.isEmpty()) {
+            return;
+        }
+        List<String> sqls = new LinkedList<>();
+        for (String each : Files.readLines(new File(warmUpFile), Charsets.UTF_8)) {
+            String sql = each.trim();
+            if (!sql.isEmpty() && !sql.startsWith("#")) {
+                sqls.add(sql);
+            }
+        }
+        Set<SQLParseEngine> warmedParseEngines = Collections.newSetFromMap(new IdentityHashMap<SQLParseEngine, Boolean>());
+        for (String each : schemaNames) {
+            SQLParseEngine parseEngine = LogicSchemas.getInstance().getLogicSchema(each).getParseEngine();
+            if (warmedParseEngines.add(parseEngine)) {
+                int warmedCount = parseEngine.warmUp(sqls);
+                log.info("Parser of schema `{}` warmed up with {} of {} SQL from `{}`.", each, warmedCount, sqls.size(), warmUpFile);
+            }
+        }
+    }
+    
     private static Map<String, Map<String, DataSourceConfiguration>> getDataSourceConfigurationMap(final Map<String, YamlProxyRuleConfiguration> ruleConfigs) {
         Map<String, Map<String, DataSourceConfiguration>> result = new LinkedHashMap<>();
         for (Entry<String, YamlProxyRuleConfiguration> entry : ruleConfigs.entrySet()) {
@@ -19,7 +19,6 @@ package org.apache.shardingsphere.shardingproxy.frontend.command;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.core.execute.hook.RootInvokeHook;
 import org.apache.shardingsphere.core.execute.hook.SPIRootInvokeHook;
@@ -35,13 +34,19 @@ import org.apache.shardingsphere.shardingproxy.transport.payload.PacketPayload;
 
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Command executor task.
+ * 
+ * <p>
+ * Messages received in one batch, such as pipelined Parse, Bind, Describe, Execute and Sync messages of PostgreSQL, are executed back-to-back in one task and flushed once.
+ * If writing query data is suspended, remaining messages are executed after query data are written.
+ * </p>
  *
  * @author zhangliang
  */
-@RequiredArgsConstructor
 @Slf4j
 public final class CommandExecutorTask implements Runnable {
     
@@ -51,7 +56,26 @@ public final class CommandExecutorTask implements Runnable {
     
     private final ChannelHandlerContext context;
     
-    private final Object message;
+    private final Queue<Object> messages;
+    
+    private final CommandExecuteCallback callback;
+    
+    private final CommandExecuteCallback queryDataWriteCallback = new QueryDataWriteCallback();
+    
+    private final AtomicBoolean queryDataWriting = new AtomicBoolean();
+    
+    private QueryDataWriteTask queryDataWriteTask;
+    
+    private boolean isNeedFlush;
+    
+    public CommandExecutorTask(final DatabaseProtocolFrontendEngine databaseProtocolFrontendEngine, final BackendConnection backendConnection, 
+                               final ChannelHandlerContext context, final Queue<Object> messages, final CommandExecuteCallback callback) {
+        this.databaseProtocolFrontendEngine = databaseProtocolFrontendEngine;
+        this.backendConnection = backendConnection;
+        this.context = context;
+        this.messages = messages;
+        this.callback = callback;
+    }
     
     /**
      * To make sure SkyWalking will be available at the next release of ShardingSphere,
@@ -61,25 +85,42 @@ public final class CommandExecutorTask implements Runnable {
      */
     @Override
     public void run() {
+        Object message = messages.poll();
+        while (null != message) {
+            executeMessage(message);
+            if (null != queryDataWriteTask && !writeQueryData()) {
+                return;
+            }
+            message = messages.poll();
+        }
+        if (isNeedFlush) {
+            context.flush();
+        }
+        callback.onFinished();
+    }
+    
+    private void executeMessage(final Object message) {
         RootInvokeHook rootInvokeHook = new SPIRootInvokeHook();
         rootInvokeHook.start();
         int connectionSize = 0;
-        boolean isNeedFlush = false;
-        try (BackendConnection backendConnection = this.backendConnection;
-             PacketPayload payload = databaseProtocolFrontendEngine.getCodecEngine().createPacketPayload((ByteBuf) message)) {
-            backendConnection.getStateHandler().waitUntilConnectionReleasedIfNecessary();
-            backendConnection.getStateHandler().setRunningStatusIfNecessary();
-            isNeedFlush = executeCommand(context, payload, backendConnection);
-            connectionSize = backendConnection.getConnectionSize();
+        try {
+            try (PacketPayload payload = databaseProtocolFrontendEngine.getCodecEngine().createPacketPayload((ByteBuf) message)) {
+                backendConnection.getStateHandler().waitUntilConnectionReleasedIfNecessary();
+                backendConnection.getStateHandler().setRunningStatusIfNecessary();
+                isNeedFlush = executeCommand(context, payload, backendConnection) || isNeedFlush;
+                connectionSize = backendConnection.getConnectionSize();
+            }
+            if (null == queryDataWriteTask) {
+                backendConnection.close();
+            }
             // CHECKSTYLE:OFF
         } catch (final Exception ex) {
             // CHECKSTYLE:ON
             log.error("Exception occur: ", ex);
             context.writeAndFlush(databaseProtocolFrontendEngine.getCommandExecuteEngine().getErrorPacket(ex));
+            queryDataWriteTask = null;
+            closeBackendConnection();
         } finally {
-            if (isNeedFlush) {
-                context.flush();
-            }
             rootInvokeHook.finish(connectionSize);
         }
     }
@@ -97,9 +138,40 @@ public final class CommandExecutorTask implements Runnable {
             context.write(each);
         }
         if (commandExecutor instanceof QueryCommandExecutor) {
-            commandExecuteEngine.writeQueryData(context, backendConnection, (QueryCommandExecutor) commandExecutor, responsePackets.size());
-            return true;
+            queryDataWriteTask = new QueryDataWriteTask(commandExecuteEngine, backendConnection, context, (QueryCommandExecutor) commandExecutor, responsePackets.size(), queryDataWriteCallback);
+            return false;
         }
         return databaseProtocolFrontendEngine.getFrontendContext().isFlushForPerCommandPacket();
     }
+    
+    private boolean writeQueryData() {
+        QueryDataWriteTask task = queryDataWriteTask;
+        queryDataWriteTask = null;
+        queryDataWriting.set(true);
+        task.run();
+        return !queryDataWriting.compareAndSet(true, false);
+    }
+    
+    private void closeBackendConnection() {
+        try {
+            backendConnection.close();
+        } catch (final SQLException ex) {
+            log.error("Exception occur: ", ex);
+        }
+    }
+    
+    private final class QueryDataWriteCallback implements CommandExecuteCallback {
+        
+        @Override
+        public void resumeWhenWritable(final Runnable task) {
+            callback.resumeWhenWritable(task);
+        }
+        
+        @Override
+        public void onFinished() {
+            if (!queryDataWriting.compareAndSet(true, false)) {
+                run();
+            }
+        }
+    }
 }
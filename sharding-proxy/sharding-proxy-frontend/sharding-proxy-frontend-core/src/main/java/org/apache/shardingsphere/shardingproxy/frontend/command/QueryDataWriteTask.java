@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.frontend.command;
+
+import io.netty.channel.ChannelHandlerContext;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.shardingproxy.context.ShardingProxyContext;
+import org.apache.shardingsphere.shardingproxy.frontend.api.QueryCommandExecutor;
+import org.apache.shardingsphere.shardingproxy.frontend.engine.CommandExecuteEngine;
+import org.apache.shardingsphere.shardingproxy.transport.packet.DatabasePacket;
+
+import java.sql.SQLException;
+
+/**
+ * Query data write task.
+ * 
+ * <p>
+ * Query data are written until channel becomes not writable, then task is suspended without blocking thread and resumed after channel becomes writable.
+ * Written data are flushed when channel becomes not writable, which means pending bytes exceed high water mark, or flush threshold rows are written.
+ * Backend connection is closed after all query data are written.
+ * </p>
+ */
+@Slf4j
+public final class QueryDataWriteTask implements Runnable {
+    
+    private final CommandExecuteEngine commandExecuteEngine;
+    
+    private final BackendConnection backendConnection;
+    
+    private final ChannelHandlerContext context;
+    
+    private final QueryCommandExecutor queryCommandExecutor;
+    
+    private final int headerPackagesCount;
+    
+    private final CommandExecuteCallback callback;
+    
+    private final int flushThreshold;
+    
+    private int dataPackagesCount;
+    
+    private int unflushedCount;
+    
+    public QueryDataWriteTask(final CommandExecuteEngine commandExecuteEngine, final BackendConnection backendConnection, final ChannelHandlerContext context, 
+                              final QueryCommandExecutor queryCommandExecutor, final int headerPackagesCount, final CommandExecuteCallback callback) {
+        this.commandExecuteEngine = commandExecuteEngine;
+        this.backendConnection = backendConnection;
+        this.context = context;
+        this.queryCommandExecutor = queryCommandExecutor;
+        this.headerPackagesCount = headerPackagesCount;
+        this.callback = callback;
+        flushThreshold = ShardingProxyContext.getInstance().getShardingProperties().<Integer>getValue(ShardingPropertiesConstant.PROXY_FRONTEND_FLUSH_THRESHOLD);
+    }
+    
+    @Override
+    public void run() {
+        try {
+            if (!writeQueryData()) {
+                context.flush();
+                callback.resumeWhenWritable(this);
+                return;
+            }
+            for (DatabasePacket each : commandExecuteEngine.getQueryDataEndPackets(queryCommandExecutor, headerPackagesCount, dataPackagesCount)) {
+                context.write(each);
+            }
+            backendConnection.close();
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            log.error("Exception occur: ", ex);
+            context.write(commandExecuteEngine.getErrorPacket(ex));
+            closeBackendConnection();
+        }
+        context.flush();
+        callback.onFinished();
+    }
+    
+    private boolean writeQueryData() throws SQLException {
+        if (!queryCommandExecutor.isQuery()) {
+            return true;
+        }
+        while (context.channel().isActive()) {
+            if (!context.channel().isWritable()) {
+                unflushedCount = 0;
+                return false;
+            }
+            if (!queryCommandExecutor.next()) {
+                return true;
+            }
+            context.write(queryCommandExecutor.getQueryData());
+            dataPackagesCount++;
+            if (flushThreshold == ++unflushedCount) {
+                context.flush();
+                unflushedCount = 0;
+            }
+        }
+        return true;
+    }
+    
+    private void closeBackendConnection() {
+        try {
+            backendConnection.close();
+        } catch (final SQLException ex) {
+            log.error("Exception occur: ", ex);
+        }
+    }
+}
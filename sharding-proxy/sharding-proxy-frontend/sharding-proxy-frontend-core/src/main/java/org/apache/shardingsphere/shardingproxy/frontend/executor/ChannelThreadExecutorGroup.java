@@ -20,11 +20,16 @@ package org.apache.shardingsphere.shardingproxy.frontend.executor;
 import io.netty.channel.ChannelId;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.core.execute.engine.ShardingThreadFactoryBuilder;
 
 import java.util.Map;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Channel thread executor group.
@@ -34,6 +39,12 @@ import java.util.concurrent.Executors;
  *     This ensure XA transaction framework processed by current thread id.
  * </p>
  * 
+ * <p>
+ *     Every channel leases a single thread executor exclusively, so thread affinity of transaction and hint is kept.
+ *     Executors of unregistered channels are recycled for next channels instead of creating new threads,
+ *     threads of idle executors are terminated after keep alive time.
+ * </p>
+ * 
  * @author zhaojun
  * @author zhangliang
  */
@@ -42,7 +53,17 @@ public final class ChannelThreadExecutorGroup {
     
     private static final ChannelThreadExecutorGroup INSTANCE = new ChannelThreadExecutorGroup();
     
-    private final Map<ChannelId, ExecutorService> executorServices = new ConcurrentHashMap<>();
+    private static final String NAME_FORMAT = "Channel-Command-%d";
+    
+    private static final int MAX_IDLE_EXECUTOR_SIZE = 1024;
+    
+    private static final long IDLE_KEEP_ALIVE_SECONDS = 60L;
+    
+    private final ThreadFactory threadFactory = ShardingThreadFactoryBuilder.build(NAME_FORMAT);
+    
+    private final Map<ChannelId, ThreadPoolExecutor> executorServices = new ConcurrentHashMap<>();
+    
+    private final BlockingQueue<ThreadPoolExecutor> idleExecutorServices = new LinkedBlockingQueue<>(MAX_IDLE_EXECUTOR_SIZE);
     
     /**
      * Get channel thread executor group.
@@ -59,7 +80,17 @@ public final class ChannelThreadExecutorGroup {
      * @param channelId channel id
      */
     public void register(final ChannelId channelId) {
-        executorServices.put(channelId, Executors.newSingleThreadExecutor());
+        executorServices.put(channelId, leaseExecutorService());
+    }
+    
+    private ThreadPoolExecutor leaseExecutorService() {
+        ThreadPoolExecutor result = idleExecutorServices.poll();
+        if (null == result) {
+            result = new ThreadPoolExecutor(1, 1, IDLE_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>(), threadFactory);
+        } else {
+            result.allowCoreThreadTimeOut(false);
+        }
+        return result;
     }
     
     /**
@@ -74,10 +105,34 @@ public final class ChannelThreadExecutorGroup {
     
     /**
      * Unregister channel.
+     * 
+     * <p>Executor of channel is recycled, tasks submitted before are still executed before tasks of next channel.</p>
      *
      * @param channelId channel id
      */
     public void unregister(final ChannelId channelId) {
-        executorServices.remove(channelId).shutdown();
+        unregister(channelId, true);
+    }
+    
+    /**
+     * Unregister channel.
+     * 
+     * <p>Executor should not be recycled if thread of channel may keep states, for example unfinished distributed transaction.</p>
+     *
+     * @param channelId channel id
+     * @param recyclable executor of channel can be recycled or not
+     */
+    public void unregister(final ChannelId channelId, final boolean recyclable) {
+        ThreadPoolExecutor executorService = executorServices.remove(channelId);
+        if (null == executorService) {
+            return;
+        }
+        if (recyclable) {
+            executorService.allowCoreThreadTimeOut(true);
+            if (idleExecutorServices.offer(executorService)) {
+                return;
+            }
+        }
+        executorService.shutdown();
     }
 }
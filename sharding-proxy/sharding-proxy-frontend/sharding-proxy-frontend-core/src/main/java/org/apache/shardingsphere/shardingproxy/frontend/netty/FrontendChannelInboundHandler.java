@@ -20,22 +20,36 @@ package org.apache.shardingsphere.shardingproxy.frontend.netty;
 import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.util.ReferenceCountUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.shardingproxy.backend.text.sctl.hint.internal.HintManagerHolder;
 import org.apache.shardingsphere.shardingproxy.context.ShardingProxyContext;
+import org.apache.shardingsphere.shardingproxy.frontend.command.CommandExecuteCallback;
 import org.apache.shardingsphere.shardingproxy.frontend.command.CommandExecutorTask;
 import org.apache.shardingsphere.shardingproxy.frontend.executor.ChannelThreadExecutorGroup;
 import org.apache.shardingsphere.shardingproxy.frontend.executor.CommandExecutorSelector;
+import org.apache.shardingsphere.shardingproxy.frontend.executor.UserExecutorGroup;
 import org.apache.shardingsphere.shardingproxy.frontend.spi.DatabaseProtocolFrontendEngine;
 import org.apache.shardingsphere.shardingproxy.transport.payload.PacketPayload;
 import org.apache.shardingsphere.transaction.core.TransactionType;
 
+import java.util.LinkedList;
+import java.util.Queue;
+import java.util.concurrent.ExecutorService;
+
 /**
  * Frontend channel inbound handler.
  * 
+ * <p>
+ * Commands of one channel are executed one by one, messages received during command executing are pending until previous command finished.
+ * Messages received in one read are executed as one batch, pending messages are executed as one batch after previous batch finished.
+ * Writing query data is suspended without blocking thread if channel is not writable, and resumed after channel becomes writable.
+ * </p>
+ * 
  * @author zhangliang
  * @author liya
  */
@@ -51,6 +65,12 @@ public final class FrontendChannelInboundHandler extends ChannelInboundHandlerAd
             TransactionType.valueOf(ShardingProxyContext.getInstance().getShardingProperties().<String>getValue(ShardingPropertiesConstant.PROXY_TRANSACTION_TYPE)),
             ShardingProxyContext.getInstance().getShardingProperties().<Boolean>getValue(ShardingPropertiesConstant.PROXY_HINT_ENABLED));
     
+    private final Queue<Object> pendingMessages = new LinkedList<>();
+    
+    private boolean commandExecuting;
+    
+    private Runnable suspendedTask;
+    
     @Override
     public void channelActive(final ChannelHandlerContext context) {
         ChannelThreadExecutorGroup.getInstance().register(context.channel().id());
@@ -63,8 +83,28 @@ public final class FrontendChannelInboundHandler extends ChannelInboundHandlerAd
             authorized = auth(context, (ByteBuf) message);
             return;
         }
-        CommandExecutorSelector.getExecutor(databaseProtocolFrontendEngine.getFrontendContext().isOccupyThreadForPerConnection(), backendConnection.isSupportHint(),
-                backendConnection.getTransactionType(), context.channel().id()).execute(new CommandExecutorTask(databaseProtocolFrontendEngine, backendConnection, context, message));
+        pendingMessages.offer(message);
+    }
+    
+    @Override
+    public void channelReadComplete(final ChannelHandlerContext context) {
+        if (!commandExecuting && !pendingMessages.isEmpty()) {
+            executeCommands(context);
+        }
+        context.fireChannelReadComplete();
+    }
+    
+    private void executeCommands(final ChannelHandlerContext context) {
+        commandExecuting = true;
+        Queue<Object> messages = new LinkedList<>(pendingMessages);
+        pendingMessages.clear();
+        getExecutorService(context).execute(new CommandExecutorTask(databaseProtocolFrontendEngine, backendConnection, context, messages, new FrontendCommandExecuteCallback(context)));
+    }
+    
+    private ExecutorService getExecutorService(final ChannelHandlerContext context) {
+        ExecutorService result = CommandExecutorSelector.getExecutor(databaseProtocolFrontendEngine.getFrontendContext().isOccupyThreadForPerConnection(), backendConnection.isSupportHint(),
+                backendConnection.getTransactionType(), context.channel().id());
+        return null == result ? UserExecutorGroup.getInstance().getExecutorService() : result;
     }
     
     private boolean auth(final ChannelHandlerContext context, final ByteBuf message) {
@@ -83,15 +123,85 @@ public final class FrontendChannelInboundHandler extends ChannelInboundHandlerAd
     @SneakyThrows
     public void channelInactive(final ChannelHandlerContext context) {
         context.fireChannelInactive();
+        boolean inTransaction = backendConnection.getStateHandler().isInTransaction();
         databaseProtocolFrontendEngine.release(backendConnection);
         backendConnection.close(true);
-        ChannelThreadExecutorGroup.getInstance().unregister(context.channel().id());
+        resumeSuspendedTask(context);
+        releasePendingMessages();
+        clearHintIfNecessary(context);
+        ChannelThreadExecutorGroup.getInstance().unregister(context.channel().id(), !inTransaction);
+    }
+    
+    private void resumeSuspendedTask(final ChannelHandlerContext context) {
+        if (null != suspendedTask) {
+            getExecutorService(context).execute(suspendedTask);
+            suspendedTask = null;
+        }
+    }
+    
+    private void releasePendingMessages() {
+        Object message = pendingMessages.poll();
+        while (null != message) {
+            ReferenceCountUtil.release(message);
+            message = pendingMessages.poll();
+        }
+    }
+    
+    private void clearHintIfNecessary(final ChannelHandlerContext context) {
+        ExecutorService executorService = ChannelThreadExecutorGroup.getInstance().get(context.channel().id());
+        if (backendConnection.isSupportHint() && null != executorService) {
+            executorService.execute(new Runnable() {
+                
+                @Override
+                public void run() {
+                    HintManagerHolder.remove();
+                }
+            });
+        }
     }
     
     @Override
     public void channelWritabilityChanged(final ChannelHandlerContext context) {
         if (context.channel().isWritable()) {
-            backendConnection.getResourceSynchronizer().doNotify();
+            resumeSuspendedTask(context);
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private final class FrontendCommandExecuteCallback implements CommandExecuteCallback {
+        
+        private final ChannelHandlerContext context;
+        
+        @Override
+        public void resumeWhenWritable(final Runnable task) {
+            context.executor().execute(new Runnable() {
+                
+                @Override
+                public void run() {
+                    suspendedTask = task;
+                    if (context.channel().isWritable() || !context.channel().isActive()) {
+                        resumeSuspendedTask(context);
+                    }
+                }
+            });
+        }
+        
+        @Override
+        public void onFinished() {
+            context.executor().execute(new Runnable() {
+                
+                @Override
+                public void run() {
+                    if (pendingMessages.isEmpty()) {
+                        commandExecuting = false;
+                    } else if (context.channel().isActive()) {
+                        executeCommands(context);
+                    } else {
+                        releasePendingMessages();
+                        commandExecuting = false;
+                    }
+                }
+            });
         }
     }
 }
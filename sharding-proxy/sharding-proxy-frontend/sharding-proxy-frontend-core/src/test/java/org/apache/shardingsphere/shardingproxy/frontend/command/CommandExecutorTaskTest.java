@@ -0,0 +1,228 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.frontend.command;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.ConnectionStateHandler;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.ConnectionStatus;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.ResourceSynchronizer;
+import org.apache.shardingsphere.shardingproxy.frontend.api.CommandExecutor;
+import org.apache.shardingsphere.shardingproxy.frontend.api.QueryCommandExecutor;
+import org.apache.shardingsphere.shardingproxy.frontend.context.FrontendContext;
+import org.apache.shardingsphere.shardingproxy.frontend.engine.CommandExecuteEngine;
+import org.apache.shardingsphere.shardingproxy.frontend.spi.DatabaseProtocolFrontendEngine;
+import org.apache.shardingsphere.shardingproxy.transport.codec.DatabasePacketCodecEngine;
+import org.apache.shardingsphere.shardingproxy.transport.packet.CommandPacket;
+import org.apache.shardingsphere.shardingproxy.transport.packet.CommandPacketType;
+import org.apache.shardingsphere.shardingproxy.transport.packet.DatabasePacket;
+import org.apache.shardingsphere.shardingproxy.transport.payload.PacketPayload;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.mockito.stubbing.Answer;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedList;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class CommandExecutorTaskTest {
+    
+    @Mock
+    private DatabaseProtocolFrontendEngine databaseProtocolFrontendEngine;
+    
+    @Mock
+    private DatabasePacketCodecEngine codecEngine;
+    
+    @Mock
+    private CommandExecuteEngine commandExecuteEngine;
+    
+    @Mock
+    private BackendConnection backendConnection;
+    
+    @Mock
+    private ChannelHandlerContext context;
+    
+    @Mock
+    private Channel channel;
+    
+    @Mock
+    private CommandExecuteCallback callback;
+    
+    @Mock
+    private ByteBuf firstMessage;
+    
+    @Mock
+    private ByteBuf secondMessage;
+    
+    @Mock
+    private PacketPayload firstPayload;
+    
+    @Mock
+    private PacketPayload secondPayload;
+    
+    @Mock
+    private DatabasePacket firstPacket;
+    
+    @Mock
+    private DatabasePacket secondPacket;
+    
+    @Before
+    public void setUp() throws SQLException {
+        when(databaseProtocolFrontendEngine.getCodecEngine()).thenReturn(codecEngine);
+        when(databaseProtocolFrontendEngine.getCommandExecuteEngine()).thenReturn(commandExecuteEngine);
+        final ConnectionStateHandler stateHandler = new ConnectionStateHandler(new ResourceSynchronizer());
+        when(backendConnection.getStateHandler()).thenReturn(stateHandler);
+        doAnswer(new Answer<Void>() {
+            
+            @Override
+            public Void answer(final InvocationOnMock invocation) {
+                stateHandler.setStatus(ConnectionStatus.RELEASE);
+                return null;
+            }
+        }).when(backendConnection).close();
+        when(codecEngine.createPacketPayload(firstMessage)).thenReturn(firstPayload);
+        when(codecEngine.createPacketPayload(secondMessage)).thenReturn(secondPayload);
+    }
+    
+    @Test
+    public void assertRunWithFlushOnceForBatch() throws SQLException {
+        when(databaseProtocolFrontendEngine.getFrontendContext()).thenReturn(new FrontendContext(false, true));
+        mockCommandExecutor(firstPayload, mockCommandExecutor(firstPacket));
+        mockCommandExecutor(secondPayload, mockCommandExecutor(secondPacket));
+        newCommandExecutorTask().run();
+        InOrder inOrder = inOrder(context, callback);
+        inOrder.verify(context).write(firstPacket);
+        inOrder.verify(context).write(secondPacket);
+        inOrder.verify(context).flush();
+        inOrder.verify(callback).onFinished();
+        verify(backendConnection, times(2)).close();
+    }
+    
+    @Test
+    public void assertRunWithoutFlushForBatch() throws SQLException {
+        when(databaseProtocolFrontendEngine.getFrontendContext()).thenReturn(new FrontendContext(true, false));
+        mockCommandExecutor(firstPayload, mockCommandExecutor(firstPacket));
+        mockCommandExecutor(secondPayload, mock(CommandExecutor.class));
+        newCommandExecutorTask().run();
+        verify(context).write(firstPacket);
+        verify(context, never()).flush();
+        verify(callback).onFinished();
+    }
+    
+    @Test
+    public void assertRunWithQueryData() throws SQLException {
+        when(channel.isActive()).thenReturn(true);
+        when(channel.isWritable()).thenReturn(true);
+        when(context.channel()).thenReturn(channel);
+        when(databaseProtocolFrontendEngine.getFrontendContext()).thenReturn(new FrontendContext(false, true));
+        QueryCommandExecutor queryCommandExecutor = mockQueryCommandExecutor();
+        mockCommandExecutor(firstPayload, queryCommandExecutor);
+        mockCommandExecutor(secondPayload, mockCommandExecutor(secondPacket));
+        newCommandExecutorTask().run();
+        InOrder inOrder = inOrder(context, callback);
+        inOrder.verify(context).write(firstPacket);
+        inOrder.verify(context).flush();
+        inOrder.verify(context).write(secondPacket);
+        inOrder.verify(context).flush();
+        inOrder.verify(callback).onFinished();
+        verify(callback, never()).resumeWhenWritable(any(Runnable.class));
+    }
+    
+    @Test
+    public void assertRunWithSuspendedQueryData() throws SQLException {
+        when(channel.isActive()).thenReturn(true);
+        when(channel.isWritable()).thenReturn(false, true);
+        when(context.channel()).thenReturn(channel);
+        when(databaseProtocolFrontendEngine.getFrontendContext()).thenReturn(new FrontendContext(false, true));
+        QueryCommandExecutor queryCommandExecutor = mockQueryCommandExecutor();
+        mockCommandExecutor(firstPayload, queryCommandExecutor);
+        mockCommandExecutor(secondPayload, mockCommandExecutor(secondPacket));
+        newCommandExecutorTask().run();
+        ArgumentCaptor<Runnable> suspendedTask = ArgumentCaptor.forClass(Runnable.class);
+        verify(callback).resumeWhenWritable(suspendedTask.capture());
+        verify(context, never()).write(secondPacket);
+        verify(callback, never()).onFinished();
+        suspendedTask.getValue().run();
+        verify(context).write(secondPacket);
+        verify(callback).onFinished();
+    }
+    
+    @Test
+    public void assertRunWithException() throws SQLException {
+        when(databaseProtocolFrontendEngine.getFrontendContext()).thenReturn(new FrontendContext(false, true));
+        SQLException ex = new SQLException("");
+        CommandPacketType type = mock(CommandPacketType.class);
+        when(commandExecuteEngine.getCommandPacketType(firstPayload)).thenReturn(type);
+        when(commandExecuteEngine.getCommandPacket(firstPayload, type, backendConnection)).thenThrow(ex);
+        DatabasePacket errorPacket = mock(DatabasePacket.class);
+        when(commandExecuteEngine.getErrorPacket(ex)).thenReturn(errorPacket);
+        mockCommandExecutor(secondPayload, mockCommandExecutor(secondPacket));
+        newCommandExecutorTask().run();
+        InOrder inOrder = inOrder(context, callback);
+        inOrder.verify(context).writeAndFlush(errorPacket);
+        inOrder.verify(context).write(secondPacket);
+        inOrder.verify(context).flush();
+        inOrder.verify(callback).onFinished();
+    }
+    
+    private CommandExecutorTask newCommandExecutorTask() {
+        return new CommandExecutorTask(databaseProtocolFrontendEngine, backendConnection, context, new LinkedList<Object>(Arrays.asList(firstMessage, secondMessage)), callback);
+    }
+    
+    private CommandExecutor mockCommandExecutor(final DatabasePacket responsePacket) throws SQLException {
+        CommandExecutor result = mock(CommandExecutor.class);
+        when(result.execute()).thenReturn(Collections.singletonList(responsePacket));
+        return result;
+    }
+    
+    private QueryCommandExecutor mockQueryCommandExecutor() throws SQLException {
+        QueryCommandExecutor result = mock(QueryCommandExecutor.class);
+        when(result.execute()).thenReturn(Collections.singletonList(firstPacket));
+        when(result.isQuery()).thenReturn(true);
+        when(result.next()).thenReturn(false);
+        when(commandExecuteEngine.getQueryDataEndPackets(result, 1, 0)).thenReturn(Collections.<DatabasePacket>emptyList());
+        return result;
+    }
+    
+    private void mockCommandExecutor(final PacketPayload payload, final CommandExecutor commandExecutor) throws SQLException {
+        CommandPacketType type = mock(CommandPacketType.class);
+        CommandPacket commandPacket = mock(CommandPacket.class);
+        when(commandExecuteEngine.getCommandPacketType(payload)).thenReturn(type);
+        when(commandExecuteEngine.getCommandPacket(payload, type, backendConnection)).thenReturn(commandPacket);
+        when(commandExecuteEngine.getCommandExecutor(type, commandPacket, backendConnection)).thenReturn(commandExecutor);
+    }
+}
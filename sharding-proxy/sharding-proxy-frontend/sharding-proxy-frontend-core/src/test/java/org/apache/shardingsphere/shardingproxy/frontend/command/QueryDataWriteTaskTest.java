@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.frontend.command;
+
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.shardingproxy.frontend.api.QueryCommandExecutor;
+import org.apache.shardingsphere.shardingproxy.frontend.engine.CommandExecuteEngine;
+import org.apache.shardingsphere.shardingproxy.transport.packet.DatabasePacket;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.sql.SQLException;
+import java.util.Collections;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class QueryDataWriteTaskTest {
+    
+    @Mock
+    private CommandExecuteEngine commandExecuteEngine;
+    
+    @Mock
+    private BackendConnection backendConnection;
+    
+    @Mock
+    private ChannelHandlerContext context;
+    
+    @Mock
+    private Channel channel;
+    
+    @Mock
+    private QueryCommandExecutor queryCommandExecutor;
+    
+    @Mock
+    private CommandExecuteCallback callback;
+    
+    @Mock
+    private DatabasePacket dataPacket;
+    
+    @Mock
+    private DatabasePacket endPacket;
+    
+    @Before
+    public void setUp() {
+        when(context.channel()).thenReturn(channel);
+        when(channel.isActive()).thenReturn(true);
+    }
+    
+    @Test
+    public void assertRunWithoutSuspend() throws SQLException {
+        when(channel.isWritable()).thenReturn(true);
+        when(queryCommandExecutor.isQuery()).thenReturn(true);
+        when(queryCommandExecutor.next()).thenReturn(true, true, false);
+        when(queryCommandExecutor.getQueryData()).thenReturn(dataPacket);
+        when(commandExecuteEngine.getQueryDataEndPackets(queryCommandExecutor, 3, 2)).thenReturn(Collections.singletonList(endPacket));
+        new QueryDataWriteTask(commandExecuteEngine, backendConnection, context, queryCommandExecutor, 3, callback).run();
+        verify(context, times(2)).write(dataPacket);
+        verify(context).write(endPacket);
+        verify(backendConnection).close();
+        verify(callback).onFinished();
+        verify(callback, never()).resumeWhenWritable(any(Runnable.class));
+    }
+    
+    @Test
+    public void assertRunWithSuspend() throws SQLException {
+        when(channel.isWritable()).thenReturn(true, false, true, true);
+        when(queryCommandExecutor.isQuery()).thenReturn(true);
+        when(queryCommandExecutor.next()).thenReturn(true, true, false);
+        when(queryCommandExecutor.getQueryData()).thenReturn(dataPacket);
+        when(commandExecuteEngine.getQueryDataEndPackets(queryCommandExecutor, 3, 2)).thenReturn(Collections.singletonList(endPacket));
+        QueryDataWriteTask task = new QueryDataWriteTask(commandExecuteEngine, backendConnection, context, queryCommandExecutor, 3, callback);
+        task.run();
+        verify(context).write(dataPacket);
+        verify(context).flush();
+        verify(callback).resumeWhenWritable(task);
+        verify(backendConnection, never()).close();
+        verify(callback, never()).onFinished();
+        task.run();
+        verify(context, times(2)).write(dataPacket);
+        verify(context).write(endPacket);
+        verify(backendConnection).close();
+        verify(callback).onFinished();
+    }
+    
+    @Test
+    public void assertRunWithException() throws SQLException {
+        when(channel.isWritable()).thenReturn(true);
+        when(queryCommandExecutor.isQuery()).thenReturn(true);
+        SQLException ex = new SQLException("");
+        when(queryCommandExecutor.next()).thenThrow(ex);
+        DatabasePacket errorPacket = mock(DatabasePacket.class);
+        when(commandExecuteEngine.getErrorPacket(ex)).thenReturn(errorPacket);
+        new QueryDataWriteTask(commandExecuteEngine, backendConnection, context, queryCommandExecutor, 3, callback).run();
+        verify(context).write(errorPacket);
+        verify(backendConnection).close();
+        verify(callback).onFinished();
+    }
+}
@@ -20,8 +20,16 @@ package org.apache.shardingsphere.shardingproxy.frontend.executor;
 import io.netty.channel.ChannelId;
 import org.junit.Test;
 
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 
 public final class ChannelThreadExecutorGroupTest {
@@ -41,4 +49,33 @@ public final class ChannelThreadExecutorGroupTest {
         ChannelThreadExecutorGroup.getInstance().unregister(channelId);
         assertNull(ChannelThreadExecutorGroup.getInstance().get(channelId));
     }
+    
+    @Test
+    public void assertUnregisterWithRecycle() throws InterruptedException, ExecutionException {
+        ChannelId channelId = mock(ChannelId.class);
+        ChannelThreadExecutorGroup.getInstance().register(channelId);
+        ExecutorService executorService = ChannelThreadExecutorGroup.getInstance().get(channelId);
+        ChannelThreadExecutorGroup.getInstance().unregister(channelId, true);
+        assertFalse(executorService.isShutdown());
+        ChannelId nextChannelId = mock(ChannelId.class);
+        ChannelThreadExecutorGroup.getInstance().register(nextChannelId);
+        assertThat(ChannelThreadExecutorGroup.getInstance().get(nextChannelId).submit(new Callable<Boolean>() {
+            
+            @Override
+            public Boolean call() {
+                return true;
+            }
+        }).get(), is(true));
+        ChannelThreadExecutorGroup.getInstance().unregister(nextChannelId);
+    }
+    
+    @Test
+    public void assertUnregisterWithoutRecycle() {
+        ChannelId channelId = mock(ChannelId.class);
+        ChannelThreadExecutorGroup.getInstance().register(channelId);
+        ExecutorService executorService = ChannelThreadExecutorGroup.getInstance().get(channelId);
+        ChannelThreadExecutorGroup.getInstance().unregister(channelId, false);
+        assertTrue(executorService.isShutdown());
+        assertNull(ChannelThreadExecutorGroup.getInstance().get(channelId));
+    }
 }
@@ -17,10 +17,7 @@
 
 package org.apache.shardingsphere.shardingproxy.frontend.mysql.command;
 
-import io.netty.channel.ChannelHandlerContext;
-import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
-import org.apache.shardingsphere.shardingproxy.context.ShardingProxyContext;
 import org.apache.shardingsphere.shardingproxy.frontend.api.CommandExecutor;
 import org.apache.shardingsphere.shardingproxy.frontend.api.QueryCommandExecutor;
 import org.apache.shardingsphere.shardingproxy.frontend.engine.CommandExecuteEngine;
@@ -37,6 +34,8 @@ import org.apache.shardingsphere.shardingproxy.transport.packet.DatabasePacket;
 import org.apache.shardingsphere.shardingproxy.transport.payload.PacketPayload;
 
 import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
 
 /**
  * Command execute engine for MySQL.
@@ -52,7 +51,7 @@ public final class MySQLCommandExecuteEngine implements CommandExecuteEngine {
     
     @Override
     public MySQLCommandPacket getCommandPacket(final PacketPayload payload, final CommandPacketType type, final BackendConnection backendConnection) throws SQLException {
-        return MySQLCommandPacketFactory.newInstance((MySQLCommandPacketType) type, (MySQLPacketPayload) payload);
+        return MySQLCommandPacketFactory.newInstance((MySQLCommandPacketType) type, (MySQLPacketPayload) payload, backendConnection.getConnectionId());
     }
     
     @Override
@@ -66,28 +65,7 @@ public final class MySQLCommandExecuteEngine implements CommandExecuteEngine {
     }
     
     @Override
-    public void writeQueryData(final ChannelHandlerContext context,
-                               final BackendConnection backendConnection, final QueryCommandExecutor queryCommandExecutor, final int headerPackagesCount) throws SQLException {
-        if (!queryCommandExecutor.isQuery() || !context.channel().isActive()) {
-            return;
-        }
-        int count = 0;
-        int flushThreshold = ShardingProxyContext.getInstance().getShardingProperties().<Integer>getValue(ShardingPropertiesConstant.PROXY_FRONTEND_FLUSH_THRESHOLD);
-        int currentSequenceId = 0;
-        while (queryCommandExecutor.next()) {
-            count++;
-            while (!context.channel().isWritable() && context.channel().isActive()) {
-                context.flush();
-                backendConnection.getResourceSynchronizer().doAwait();
-            }
-            DatabasePacket dataValue = queryCommandExecutor.getQueryData();
-            context.write(dataValue);
-            if (flushThreshold == count) {
-                context.flush();
-                count = 0;
-            }
-            currentSequenceId++;
-        }
-        context.write(new MySQLEofPacket(++currentSequenceId + headerPackagesCount));
+    public Collection<DatabasePacket> getQueryDataEndPackets(final QueryCommandExecutor queryCommandExecutor, final int headerPackagesCount, final int dataPackagesCount) {
+        return queryCommandExecutor.isQuery() ? Collections.<DatabasePacket>singletonList(new MySQLEofPacket(headerPackagesCount + dataPackagesCount + 1)) : Collections.<DatabasePacket>emptyList();
     }
 }
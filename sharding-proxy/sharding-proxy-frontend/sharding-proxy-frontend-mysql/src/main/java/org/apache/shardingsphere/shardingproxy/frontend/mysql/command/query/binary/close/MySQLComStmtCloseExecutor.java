@@ -18,7 +18,10 @@
 package org.apache.shardingsphere.shardingproxy.frontend.mysql.command.query.binary.close;
 
 import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
 import org.apache.shardingsphere.shardingproxy.frontend.api.CommandExecutor;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.binary.MySQLBinaryStatementRegistry;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.binary.MySQLConnectionScopeBinaryStatementRegistry;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.binary.close.MySQLComStmtClosePacket;
 import org.apache.shardingsphere.shardingproxy.transport.packet.DatabasePacket;
 
@@ -35,10 +38,14 @@ public final class MySQLComStmtCloseExecutor implements CommandExecutor {
     
     private final MySQLComStmtClosePacket packet;
     
+    private final BackendConnection backendConnection;
+    
     @Override
     public Collection<DatabasePacket> execute() {
-        //TODO we need to design the cache in future.
-//        packet.removeCachedStatement();
+        MySQLConnectionScopeBinaryStatementRegistry binaryStatementRegistry = MySQLBinaryStatementRegistry.getInstance().get(backendConnection.getConnectionId());
+        if (null != binaryStatementRegistry) {
+            binaryStatementRegistry.remove(packet.getStatementId());
+        }
         return Collections.emptyList();
     }
 }
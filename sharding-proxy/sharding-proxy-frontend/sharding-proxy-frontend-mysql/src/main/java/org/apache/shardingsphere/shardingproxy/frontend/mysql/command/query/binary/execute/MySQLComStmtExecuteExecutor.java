@@ -62,9 +62,11 @@ public final class MySQLComStmtExecuteExecutor implements QueryCommandExecutor {
     
     private int currentSequenceId;
     
+    private List<MySQLColumnType> mySQLColumnTypes;
+    
     public MySQLComStmtExecuteExecutor(final MySQLComStmtExecutePacket comStmtExecutePacket, final BackendConnection backendConnection) {
         databaseCommunicationEngine = DatabaseCommunicationEngineFactory.getInstance().newBinaryProtocolInstance(
-                backendConnection.getLogicSchema(), comStmtExecutePacket.getSql(), comStmtExecutePacket.getParameters(), backendConnection);
+                backendConnection.getLogicSchema(), comStmtExecutePacket.getSql(), comStmtExecutePacket.getSqlStatement(), comStmtExecutePacket.getParameters(), backendConnection);
     }
     
     @Override
@@ -116,7 +118,10 @@ public final class MySQLComStmtExecuteExecutor implements QueryCommandExecutor {
     @Override
     public MySQLPacket getQueryData() throws SQLException {
         QueryData queryData = databaseCommunicationEngine.getQueryData();
-        return new MySQLBinaryResultSetRowPacket(++currentSequenceId, queryData.getData(), getMySQLColumnTypes(queryData));
+        if (null == mySQLColumnTypes) {
+            mySQLColumnTypes = getMySQLColumnTypes(queryData);
+        }
+        return new MySQLBinaryResultSetRowPacket(++currentSequenceId, queryData.getData(), mySQLColumnTypes);
     }
     
     private List<MySQLColumnType> getMySQLColumnTypes(final QueryData queryData) {
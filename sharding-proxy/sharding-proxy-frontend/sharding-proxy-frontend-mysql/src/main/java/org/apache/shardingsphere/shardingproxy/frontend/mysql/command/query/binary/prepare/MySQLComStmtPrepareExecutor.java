@@ -41,18 +41,19 @@ import java.util.LinkedList;
  */
 public final class MySQLComStmtPrepareExecutor implements CommandExecutor {
     
-    private static final MySQLBinaryStatementRegistry PREPARED_STATEMENT_REGISTRY = MySQLBinaryStatementRegistry.getInstance();
-    
     private final MySQLComStmtPreparePacket packet;
     
     private final LogicSchema logicSchema;
     
     private final String schemaName;
     
+    private final int connectionId;
+    
     public MySQLComStmtPrepareExecutor(final MySQLComStmtPreparePacket packet, final BackendConnection backendConnection) {
         this.packet = packet;
         logicSchema = backendConnection.getLogicSchema();
         schemaName = backendConnection.getSchemaName();
+        connectionId = backendConnection.getConnectionId();
     }
     
     @Override
@@ -61,7 +62,7 @@ public final class MySQLComStmtPrepareExecutor implements CommandExecutor {
         int currentSequenceId = 0;
         SQLStatement sqlStatement = logicSchema.getParseEngine().parse(packet.getSql(), true);
         int parametersCount = sqlStatement.getParametersCount();
-        result.add(new MySQLComStmtPrepareOKPacket(++currentSequenceId, PREPARED_STATEMENT_REGISTRY.register(packet.getSql(), parametersCount), getNumColumns(), parametersCount, 0));
+        result.add(new MySQLComStmtPrepareOKPacket(++currentSequenceId, MySQLBinaryStatementRegistry.getInstance().get(connectionId).register(packet.getSql(), parametersCount, sqlStatement), getNumColumns(), parametersCount, 0));
         TablesContext tablesContext = new TablesContext(sqlStatement);
         for (int i = 0; i < parametersCount; i++) {
             // TODO add column name
@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.frontend.mysql.command.query.binary.close;
+
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.binary.MySQLBinaryStatementRegistry;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.binary.close.MySQLComStmtClosePacket;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class MySQLComStmtCloseExecutorTest {
+    
+    @Mock
+    private MySQLComStmtClosePacket packet;
+    
+    @Mock
+    private BackendConnection backendConnection;
+    
+    @Before
+    public void setUp() {
+        MySQLBinaryStatementRegistry.getInstance().register(1);
+        when(backendConnection.getConnectionId()).thenReturn(1);
+    }
+    
+    @After
+    public void tearDown() {
+        MySQLBinaryStatementRegistry.getInstance().unregister(1);
+    }
+    
+    @Test
+    public void assertExecute() {
+        int statementId = MySQLBinaryStatementRegistry.getInstance().get(1).register("SELECT 1", 0);
+        assertNotNull(MySQLBinaryStatementRegistry.getInstance().get(1).getBinaryStatement(statementId));
+        when(packet.getStatementId()).thenReturn(statementId);
+        assertTrue(new MySQLComStmtCloseExecutor(packet, backendConnection).execute().isEmpty());
+        assertNull(MySQLBinaryStatementRegistry.getInstance().get(1).getBinaryStatement(statementId));
+    }
+}
@@ -54,7 +54,7 @@ public final class PostgreSQLComParseExecutor implements CommandExecutor {
     public Collection<DatabasePacket> execute() {
         if (!packet.getSql().isEmpty()) {
             SQLStatement sqlStatement = logicSchema.getParseEngine().parse(packet.getSql(), true);
-            binaryStatementRegistry.register(packet.getStatementId(), packet.getSql(), sqlStatement.getParametersCount(), packet.getBinaryStatementParameterTypes());
+            binaryStatementRegistry.register(packet.getStatementId(), packet.getSql(), sqlStatement.getParametersCount(), packet.getBinaryStatementParameterTypes(), packet.getParameterIndexes(), sqlStatement);
         }
         return Collections.<DatabasePacket>singletonList(new PostgreSQLParseCompletePacket());
     }
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.q
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
+import org.apache.shardingsphere.sql.parser.sql.statement.SQLStatement;
 
 import java.util.List;
 
@@ -37,5 +38,7 @@ public final class MySQLBinaryStatement {
     
     private final int parametersCount;
     
+    private final SQLStatement sqlStatement;
+    
     private List<MySQLBinaryStatementParameterType> parameterTypes;
 }
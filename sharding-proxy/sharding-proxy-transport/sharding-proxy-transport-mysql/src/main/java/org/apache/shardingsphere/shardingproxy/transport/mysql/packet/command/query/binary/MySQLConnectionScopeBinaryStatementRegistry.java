@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.binary;
+
+import org.apache.shardingsphere.sql.parser.sql.statement.SQLStatement;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * Connection scope binary prepared statement registry for MySQL.
+ *
+ * <p>
+ * Statement ID is assigned for every prepare in connection scope, same as MySQL server.
+ * Least recently used statements are evicted when statements count exceeds {@code MAX_STATEMENT_COUNT}, 
+ * to avoid leaking statements which never closed by client.
+ * </p>
+ */
+public final class MySQLConnectionScopeBinaryStatementRegistry {
+    
+    /**
+     * Same as default value of {@code max_prepared_stmt_count} of MySQL.
+     */
+    private static final int MAX_STATEMENT_COUNT = 16382;
+    
+    private final Map<Integer, MySQLBinaryStatement> binaryStatements;
+    
+    private int sequence;
+    
+    public MySQLConnectionScopeBinaryStatementRegistry() {
+        this(MAX_STATEMENT_COUNT);
+    }
+    
+    public MySQLConnectionScopeBinaryStatementRegistry(final int maxStatementCount) {
+        binaryStatements = new LinkedHashMap<Integer, MySQLBinaryStatement>(16, 0.75f, true) {
+            
+            private static final long serialVersionUID = -4419391707367412745L;
+            
+            @Override
+            protected boolean removeEldestEntry(final Entry<Integer, MySQLBinaryStatement> eldest) {
+                return size() > maxStatementCount;
+            }
+        };
+    }
+    
+    /**
+     * Register SQL.
+     *
+     * @param sql SQL
+     * @param parametersCount parameters count
+     * @return statement ID
+     */
+    public int register(final String sql, final int parametersCount) {
+        return register(sql, parametersCount, null);
+    }
+    
+    /**
+     * Register SQL with parsed SQL statement.
+     *
+     * @param sql SQL
+     * @param parametersCount parameters count
+     * @param sqlStatement SQL statement
+     * @return statement ID
+     */
+    public synchronized int register(final String sql, final int parametersCount, final SQLStatement sqlStatement) {
+        sequence = Integer.MAX_VALUE == sequence ? 1 : sequence + 1;
+        binaryStatements.put(sequence, new MySQLBinaryStatement(sql, parametersCount, sqlStatement));
+        return sequence;
+    }
+    
+    /**
+     * Get binary prepared statement.
+     *
+     * @param statementId statement ID
+     * @return binary prepared statement, return {@code null} if absent
+     */
+    public synchronized MySQLBinaryStatement getBinaryStatement(final int statementId) {
+        return binaryStatements.get(statementId);
+    }
+    
+    /**
+     * Remove binary prepared statement.
+     *
+     * @param statementId statement ID
+     */
+    public synchronized void remove(final int statementId) {
+        binaryStatements.remove(statementId);
+    }
+}
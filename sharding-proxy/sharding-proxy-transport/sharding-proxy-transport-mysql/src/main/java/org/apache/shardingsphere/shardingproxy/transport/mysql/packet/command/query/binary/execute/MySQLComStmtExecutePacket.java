@@ -22,14 +22,17 @@ import lombok.Getter;
 import lombok.ToString;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.constant.MySQLColumnType;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.constant.MySQLNewParametersBoundFlag;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.constant.MySQLServerErrorCode;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.MySQLCommandPacket;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.MySQLCommandPacketType;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.binary.MySQLBinaryStatement;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.binary.MySQLBinaryStatementParameterType;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.binary.MySQLBinaryStatementRegistry;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.binary.MySQLConnectionScopeBinaryStatementRegistry;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.binary.execute.protocol.MySQLBinaryProtocolValue;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.binary.execute.protocol.MySQLBinaryProtocolValueFactory;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.payload.MySQLPacketPayload;
+import org.apache.shardingsphere.sql.parser.sql.statement.SQLStatement;
 
 import java.sql.SQLException;
 import java.util.ArrayList;
@@ -63,17 +66,21 @@ public final class MySQLComStmtExecutePacket extends MySQLCommandPacket {
     @Getter
     private final String sql;
     
+    @Getter
+    private final SQLStatement sqlStatement;
+    
     @Getter
     private final List<Object> parameters;
     
-    public MySQLComStmtExecutePacket(final MySQLPacketPayload payload) throws SQLException {
+    public MySQLComStmtExecutePacket(final MySQLPacketPayload payload, final int connectionId) throws SQLException {
         super(MySQLCommandPacketType.COM_STMT_EXECUTE);
         statementId = payload.readInt4();
-        binaryStatement = MySQLBinaryStatementRegistry.getInstance().getBinaryStatement(statementId);
+        binaryStatement = getBinaryStatement(connectionId, statementId);
         flags = payload.readInt1();
         Preconditions.checkArgument(ITERATION_COUNT == payload.readInt4());
         int parametersCount = binaryStatement.getParametersCount();
         sql = binaryStatement.getSql();
+        sqlStatement = binaryStatement.getSqlStatement();
         if (parametersCount > 0) {
             nullBitmap = new MySQLNullBitmap(parametersCount, NULL_BITMAP_OFFSET);
             for (int i = 0; i < nullBitmap.getNullBitmap().length; i++) {
@@ -91,6 +98,16 @@ public final class MySQLComStmtExecutePacket extends MySQLCommandPacket {
         }
     }
     
+    private MySQLBinaryStatement getBinaryStatement(final int connectionId, final int statementId) throws SQLException {
+        MySQLConnectionScopeBinaryStatementRegistry registry = MySQLBinaryStatementRegistry.getInstance().get(connectionId);
+        MySQLBinaryStatement result = null == registry ? null : registry.getBinaryStatement(statementId);
+        if (null == result) {
+            MySQLServerErrorCode errorCode = MySQLServerErrorCode.ER_UNKNOWN_STMT_HANDLER;
+            throw new SQLException(String.format(errorCode.getErrorMessage(), statementId, "mysqld_stmt_execute"), errorCode.getSqlState(), errorCode.getErrorCode());
+        }
+        return result;
+    }
+    
     private List<MySQLBinaryStatementParameterType> getParameterTypes(final MySQLPacketPayload payload, final int parametersCount) {
         List<MySQLBinaryStatementParameterType> result = new ArrayList<>(parametersCount);
         for (int parameterIndex = 0; parameterIndex < parametersCount; parameterIndex++) {
@@ -61,7 +61,7 @@ public final class MySQLTextResultSetRowPacket implements MySQLPacket {
                 if (each instanceof byte[]) {
                     payload.writeBytesLenenc((byte[]) each);
                 } else if ((each instanceof Timestamp) && (0 == ((Timestamp) each).getNanos())) {
-                    payload.writeStringLenenc(each.toString().split("\\.")[0]);
+                    payload.writeStringLenenc(getTimestampWithoutNanos((Timestamp) each));
                 } else if (each instanceof BigDecimal) {
                     payload.writeStringLenenc(((BigDecimal) each).toPlainString());
                 } else if (each instanceof Boolean) {
@@ -72,4 +72,10 @@ public final class MySQLTextResultSetRowPacket implements MySQLPacket {
             }
         }
     }
+    
+    private String getTimestampWithoutNanos(final Timestamp timestamp) {
+        String result = timestamp.toString();
+        int nanosIndex = result.lastIndexOf('.');
+        return -1 == nanosIndex ? result : result.substring(0, nanosIndex);
+    }
 }
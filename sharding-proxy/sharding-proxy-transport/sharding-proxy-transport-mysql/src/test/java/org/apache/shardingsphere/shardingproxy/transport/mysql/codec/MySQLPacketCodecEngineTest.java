@@ -18,15 +18,18 @@
 package org.apache.shardingsphere.shardingproxy.transport.mysql.codec;
 
 import io.netty.buffer.ByteBuf;
-import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.util.CharsetUtil;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.MySQLPacket;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.payload.MySQLPacketPayload;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.ArgumentMatchers;
 import org.mockito.Mock;
+import org.mockito.invocation.InvocationOnMock;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.mockito.stubbing.Answer;
 
 import java.util.LinkedList;
 import java.util.List;
@@ -35,8 +38,8 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -79,18 +82,21 @@ public final class MySQLPacketCodecEngineTest {
     
     @Test
     public void assertEncode() {
-        ByteBufAllocator byteBufAllocator = mock(ByteBufAllocator.class);
-        when(context.alloc()).thenReturn(byteBufAllocator);
-        ByteBuf payloadByteBuf = mock(ByteBuf.class);
-        when(byteBufAllocator.buffer()).thenReturn(payloadByteBuf);
-        when(payloadByteBuf.readableBytes()).thenReturn(50);
+        ByteBuf out = Unpooled.buffer();
         MySQLPacket actualMessage = mock(MySQLPacket.class);
         when(actualMessage.getSequenceId()).thenReturn(1);
-        new MySQLPacketCodecEngine().encode(context, actualMessage, byteBuf);
-        verify(actualMessage).write(ArgumentMatchers.<MySQLPacketPayload>any());
-        verify(byteBuf).writeMediumLE(50);
-        verify(byteBuf).writeByte(1);
-        verify(byteBuf).writeBytes(payloadByteBuf);
+        doAnswer(new Answer<Void>() {
+            
+            @Override
+            public Void answer(final InvocationOnMock invocation) {
+                ((MySQLPacketPayload) invocation.getArguments()[0]).writeStringEOF("foo");
+                return null;
+            }
+        }).when(actualMessage).write(ArgumentMatchers.<MySQLPacketPayload>any());
+        new MySQLPacketCodecEngine().encode(context, actualMessage, out);
+        assertThat(out.readMediumLE(), is(3));
+        assertThat(out.readByte(), is((byte) 1));
+        assertThat(out.toString(CharsetUtil.UTF_8), is("foo"));
     }
     
     @Test
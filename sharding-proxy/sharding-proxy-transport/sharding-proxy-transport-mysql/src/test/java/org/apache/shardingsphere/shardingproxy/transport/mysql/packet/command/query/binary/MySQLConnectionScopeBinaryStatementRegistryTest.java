@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.binary;
+
+import org.apache.shardingsphere.sql.parser.sql.statement.SQLStatement;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+
+public final class MySQLConnectionScopeBinaryStatementRegistryTest {
+    
+    private final String sql = "SELECT * FROM tbl WHERE id=?";
+    
+    @Test
+    public void assertRegister() {
+        MySQLConnectionScopeBinaryStatementRegistry registry = new MySQLConnectionScopeBinaryStatementRegistry();
+        assertThat(registry.register(sql, 1), is(1));
+        MySQLBinaryStatement actual = registry.getBinaryStatement(1);
+        assertThat(actual.getSql(), is(sql));
+        assertThat(actual.getParametersCount(), is(1));
+    }
+    
+    @Test
+    public void assertRegisterWithSQLStatement() {
+        MySQLConnectionScopeBinaryStatementRegistry registry = new MySQLConnectionScopeBinaryStatementRegistry();
+        SQLStatement sqlStatement = mock(SQLStatement.class);
+        assertThat(registry.register(sql, 1, sqlStatement), is(1));
+        assertThat(registry.getBinaryStatement(1).getSqlStatement(), is(sqlStatement));
+    }
+    
+    @Test
+    public void assertRegisterSameSQL() {
+        MySQLConnectionScopeBinaryStatementRegistry registry = new MySQLConnectionScopeBinaryStatementRegistry();
+        assertThat(registry.register(sql, 1), is(1));
+        assertThat(registry.register(sql, 1), is(2));
+        assertThat(registry.getBinaryStatement(1).getSql(), is(sql));
+        assertThat(registry.getBinaryStatement(2).getSql(), is(sql));
+    }
+    
+    @Test
+    public void assertRemove() {
+        MySQLConnectionScopeBinaryStatementRegistry registry = new MySQLConnectionScopeBinaryStatementRegistry();
+        registry.register(sql, 1);
+        registry.remove(1);
+        assertNull(registry.getBinaryStatement(1));
+    }
+    
+    @Test
+    public void assertEvictLeastRecentlyUsed() {
+        MySQLConnectionScopeBinaryStatementRegistry registry = new MySQLConnectionScopeBinaryStatementRegistry(2);
+        registry.register(sql, 1);
+        registry.register(sql, 1);
+        registry.getBinaryStatement(1);
+        registry.register(sql, 1);
+        assertNotNull(registry.getBinaryStatement(1));
+        assertNull(registry.getBinaryStatement(2));
+        assertNotNull(registry.getBinaryStatement(3));
+    }
+}
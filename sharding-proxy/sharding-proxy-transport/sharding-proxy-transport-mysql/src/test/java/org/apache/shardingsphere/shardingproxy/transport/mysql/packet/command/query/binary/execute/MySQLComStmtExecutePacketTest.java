@@ -18,7 +18,6 @@
 package org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.binary.execute;
 
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.binary.MySQLBinaryStatementRegistry;
-import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.binary.fixture.BinaryStatementRegistryUtil;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.payload.MySQLPacketPayload;
 import org.junit.After;
 import org.junit.Before;
@@ -43,17 +42,21 @@ public final class MySQLComStmtExecutePacketTest {
     private MySQLPacketPayload payload;
     
     @Before
+    public void setUp() {
+        MySQLBinaryStatementRegistry.getInstance().register(1);
+    }
+    
     @After
-    public void reset() {
-        BinaryStatementRegistryUtil.reset();
+    public void tearDown() {
+        MySQLBinaryStatementRegistry.getInstance().unregister(1);
     }
     
     @Test
     public void assertNewWithNotNullParameters() throws SQLException {
-        MySQLBinaryStatementRegistry.getInstance().register("SELECT id FROM tbl WHERE id=?", 1);
+        MySQLBinaryStatementRegistry.getInstance().get(1).register("SELECT id FROM tbl WHERE id=?", 1);
         when(payload.readInt4()).thenReturn(1);
         when(payload.readInt1()).thenReturn(0, 0, 1);
-        MySQLComStmtExecutePacket actual = new MySQLComStmtExecutePacket(payload);
+        MySQLComStmtExecutePacket actual = new MySQLComStmtExecutePacket(payload, 1);
         assertThat(actual.getSequenceId(), is(0));
         assertThat(actual.getSql(), is("SELECT id FROM tbl WHERE id=?"));
         assertThat(actual.getParameters(), is(Collections.<Object>singletonList(1)));
@@ -61,10 +64,10 @@ public final class MySQLComStmtExecutePacketTest {
     
     @Test
     public void assertNewWithNullParameters() throws SQLException {
-        MySQLBinaryStatementRegistry.getInstance().register("SELECT id FROM tbl WHERE id=?", 1);
+        MySQLBinaryStatementRegistry.getInstance().get(1).register("SELECT id FROM tbl WHERE id=?", 1);
         when(payload.readInt4()).thenReturn(1);
         when(payload.readInt1()).thenReturn(0, 1);
-        MySQLComStmtExecutePacket actual = new MySQLComStmtExecutePacket(payload);
+        MySQLComStmtExecutePacket actual = new MySQLComStmtExecutePacket(payload, 1);
         assertThat(actual.getSequenceId(), is(0));
         assertThat(actual.getSql(), is("SELECT id FROM tbl WHERE id=?"));
         assertThat(actual.getParameters(), is(Collections.singletonList(null)));
@@ -72,14 +75,20 @@ public final class MySQLComStmtExecutePacketTest {
     
     @Test
     public void assertWrite() throws SQLException {
-        MySQLBinaryStatementRegistry.getInstance().register("SELECT id FROM tbl WHERE id=?", 1);
+        MySQLBinaryStatementRegistry.getInstance().get(1).register("SELECT id FROM tbl WHERE id=?", 1);
         when(payload.readInt4()).thenReturn(1);
         when(payload.readInt1()).thenReturn(0, 1);
-        MySQLComStmtExecutePacket actual = new MySQLComStmtExecutePacket(payload);
+        MySQLComStmtExecutePacket actual = new MySQLComStmtExecutePacket(payload, 1);
         actual.write(payload);
         verify(payload, times(2)).writeInt4(1);
         verify(payload, times(4)).writeInt1(1);
         verify(payload).writeInt1(0);
         verify(payload).writeStringLenenc("");
     }
+    
+    @Test(expected = SQLException.class)
+    public void assertNewWithUnknownStatement() throws SQLException {
+        when(payload.readInt4()).thenReturn(1);
+        new MySQLComStmtExecutePacket(payload, 1);
+    }
 }
@@ -58,14 +58,15 @@ public final class PostgreSQLPacketCodecEngine implements DatabasePacketCodecEng
     
     @Override
     public void encode(final ChannelHandlerContext context, final PostgreSQLPacket message, final ByteBuf out) {
-        try (PostgreSQLPacketPayload payload = new PostgreSQLPacketPayload(context.alloc().buffer())) {
-            message.write(payload);
-            if (!(message instanceof PostgreSQLSSLNegativePacket)) {
-                out.writeByte(message.getMessageType());
-                out.writeInt(payload.getByteBuf().readableBytes() + PostgreSQLPacket.PAYLOAD_LENGTH);
-            }
-            out.writeBytes(payload.getByteBuf());
+        if (message instanceof PostgreSQLSSLNegativePacket) {
+            message.write(new PostgreSQLPacketPayload(out));
+            return;
         }
+        out.writeByte(message.getMessageType());
+        int lengthIndex = out.writerIndex();
+        out.writeInt(0);
+        message.write(new PostgreSQLPacketPayload(out));
+        out.setInt(lengthIndex, out.writerIndex() - lengthIndex);
     }
     
     @Override
@@ -17,6 +17,8 @@
 
 package org.apache.shardingsphere.shardingproxy.transport.postgresql.packet.command.query.binary;
 
+import org.apache.shardingsphere.sql.parser.sql.statement.SQLStatement;
+
 import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
@@ -37,9 +39,12 @@ public final class ConnectionScopeBinaryStatementRegistry {
      * @param sql SQL
      * @param parametersCount parameters count
      * @param binaryStatementParameterTypes binary statement parameter types
+     * @param parameterIndexes indexes of PostgreSQL parameters for every JDBC style parameter marker
+     * @param sqlStatement SQL statement
      */
-    public void register(final String statementId, final String sql, final int parametersCount, final List<PostgreSQLBinaryStatementParameterType> binaryStatementParameterTypes) {
-        binaryStatements.put(statementId, new PostgreSQLBinaryStatement(sql, parametersCount, binaryStatementParameterTypes));
+    public void register(final String statementId, final String sql, final int parametersCount, 
+                         final List<PostgreSQLBinaryStatementParameterType> binaryStatementParameterTypes, final List<Integer> parameterIndexes, final SQLStatement sqlStatement) {
+        binaryStatements.put(statementId, new PostgreSQLBinaryStatement(sql, parametersCount, binaryStatementParameterTypes, parameterIndexes, sqlStatement));
     }
     
     /**
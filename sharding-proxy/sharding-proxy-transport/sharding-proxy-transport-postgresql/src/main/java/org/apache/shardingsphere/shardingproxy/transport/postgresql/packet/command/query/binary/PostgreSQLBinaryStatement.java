@@ -20,6 +20,7 @@ package org.apache.shardingsphere.shardingproxy.transport.postgresql.packet.comm
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
+import org.apache.shardingsphere.sql.parser.sql.statement.SQLStatement;
 
 import java.util.List;
 
@@ -38,4 +39,8 @@ public final class PostgreSQLBinaryStatement {
     private final int parametersCount;
     
     private final List<PostgreSQLBinaryStatementParameterType> parameterTypes;
+    
+    private final List<Integer> parameterIndexes;
+    
+    private final SQLStatement sqlStatement;
 }
@@ -27,6 +27,7 @@ import org.apache.shardingsphere.shardingproxy.transport.postgresql.packet.comma
 import org.apache.shardingsphere.shardingproxy.transport.postgresql.packet.command.query.binary.bind.protocol.PostgreSQLBinaryProtocolValue;
 import org.apache.shardingsphere.shardingproxy.transport.postgresql.packet.command.query.binary.bind.protocol.PostgreSQLBinaryProtocolValueFactory;
 import org.apache.shardingsphere.shardingproxy.transport.postgresql.payload.PostgreSQLPacketPayload;
+import org.apache.shardingsphere.sql.parser.sql.statement.SQLStatement;
 
 import java.sql.SQLException;
 import java.util.ArrayList;
@@ -42,10 +43,14 @@ import java.util.List;
 @ToString
 public final class PostgreSQLComBindPacket extends PostgreSQLCommandPacket {
     
+    private static final String PROTOCOL_VIOLATION_SQL_STATE = "08P01";
+    
     private final String statementId;
     
     private final String sql;
     
+    private final SQLStatement sqlStatement;
+    
     private final List<Object> parameters;
     
     private final boolean binaryRowData;
@@ -60,7 +65,8 @@ public final class PostgreSQLComBindPacket extends PostgreSQLCommandPacket {
         }
         PostgreSQLBinaryStatement binaryStatement = BinaryStatementRegistry.getInstance().get(connectionId).getBinaryStatement(statementId);
         sql = null == binaryStatement ? null : binaryStatement.getSql();
-        parameters = null == sql ? Collections.emptyList() : getParameters(payload, binaryStatement.getParameterTypes());
+        sqlStatement = null == binaryStatement ? null : binaryStatement.getSqlStatement();
+        parameters = null == sql ? Collections.emptyList() : getParameters(payload, binaryStatement.getParameterTypes(), binaryStatement.getParameterIndexes());
         int resultFormatsLength = payload.readInt2();
         binaryRowData = resultFormatsLength > 0;
         for (int i = 0; i < resultFormatsLength; i++) {
@@ -68,13 +74,21 @@ public final class PostgreSQLComBindPacket extends PostgreSQLCommandPacket {
         }
     }
     
-    private List<Object> getParameters(final PostgreSQLPacketPayload payload, final List<PostgreSQLBinaryStatementParameterType> parameterTypes) throws SQLException {
+    private List<Object> getParameters(final PostgreSQLPacketPayload payload, 
+                                       final List<PostgreSQLBinaryStatementParameterType> parameterTypes, final List<Integer> parameterIndexes) throws SQLException {
         int parametersCount = payload.readInt2();
-        List<Object> result = new ArrayList<>(parametersCount);
+        List<Object> parameters = new ArrayList<>(parametersCount);
         for (int parameterIndex = 0; parameterIndex < parametersCount; parameterIndex++) {
             payload.readInt4();
             PostgreSQLBinaryProtocolValue binaryProtocolValue = PostgreSQLBinaryProtocolValueFactory.getBinaryProtocolValue(parameterTypes.get(parameterIndex).getColumnType());
-            result.add(binaryProtocolValue.read(payload));
+            parameters.add(binaryProtocolValue.read(payload));
+        }
+        List<Object> result = new ArrayList<>(parameterIndexes.size());
+        for (int each : parameterIndexes) {
+            if (each >= parametersCount) {
+                throw new SQLException(String.format("Parameter marker `$%d` is out of range, bind message supplies %d parameters.", each + 1, parametersCount), PROTOCOL_VIOLATION_SQL_STATE);
+            }
+            result.add(parameters.get(each));
         }
         return result;
     }
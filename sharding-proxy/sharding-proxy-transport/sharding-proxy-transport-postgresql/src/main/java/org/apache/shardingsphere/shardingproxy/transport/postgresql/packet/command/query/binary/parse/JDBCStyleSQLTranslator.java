@@ -0,0 +1,195 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.transport.postgresql.packet.command.query.binary.parse;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.sql.parser.cache.AbstractParseResultCache;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Translator of PostgreSQL parameter markers to JDBC style parameter markers.
+ * 
+ * <p>
+ * SQL is scanned in single pass, {@code $n} in string literals, quoted identifiers, comments and dollar-quoted strings are kept as they are.
+ * Translated SQL are cached by PostgreSQL SQL, cache is bounded by default maximum size of parse result cache.
+ * Parameter marker must be in range of {@code $1} to {@code $65535}, which is the max parameters count of bind message.
+ * </p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class JDBCStyleSQLTranslator {
+    
+    private static final int MAX_PARAMETER_INDEX = 65535;
+    
+    private static final String PROTOCOL_VIOLATION_SQL_STATE = "08P01";
+    
+    private static final Cache<String, JDBCStyleSQL> CACHE = CacheBuilder.newBuilder().maximumSize(AbstractParseResultCache.DEFAULT_MAXIMUM_SIZE).build();
+    
+    /**
+     * Translate PostgreSQL SQL to JDBC style SQL.
+     * 
+     * @param sql PostgreSQL SQL
+     * @return JDBC style SQL
+     * @throws SQLException SQL exception if parameter marker is out of range
+     */
+    public static JDBCStyleSQL translate(final String sql) throws SQLException {
+        JDBCStyleSQL result = CACHE.getIfPresent(sql);
+        if (null == result) {
+            result = scan(sql);
+            CACHE.put(sql, result);
+        }
+        return result;
+    }
+    
+    private static JDBCStyleSQL scan(final String sql) throws SQLException {
+        StringBuilder jdbcStyleSQL = null;
+        List<Integer> parameterIndexes = new ArrayList<>();
+        int length = sql.length();
+        int copiedIndex = 0;
+        int index = 0;
+        while (index < length) {
+            char current = sql.charAt(index);
+            if ('\'' == current) {
+                index = skipQuoted(sql, index, '\'', isEscapeString(sql, index));
+            } else if ('"' == current) {
+                index = skipQuoted(sql, index, '"', false);
+            } else if ('-' == current && isNextChar(sql, index, '-')) {
+                index = skipLineComment(sql, index);
+            } else if ('/' == current && isNextChar(sql, index, '*')) {
+                index = skipBlockComment(sql, index);
+            } else if ('$' == current && (0 == index || !isIdentifierPart(sql.charAt(index - 1)))) {
+                int parameterMarkerEnd = getParameterMarkerEnd(sql, index);
+                if (parameterMarkerEnd > index + 1) {
+                    jdbcStyleSQL = null == jdbcStyleSQL ? new StringBuilder(length) : jdbcStyleSQL;
+                    jdbcStyleSQL.append(sql, copiedIndex, index).append('?');
+                    parameterIndexes.add(getParameterIndex(sql.substring(index, parameterMarkerEnd)));
+                    copiedIndex = parameterMarkerEnd;
+                    index = parameterMarkerEnd;
+                } else {
+                    index = skipDollarQuoted(sql, index);
+                }
+            } else {
+                index++;
+            }
+        }
+        if (null == jdbcStyleSQL) {
+            return new JDBCStyleSQL(sql, Collections.<Integer>emptyList());
+        }
+        jdbcStyleSQL.append(sql, copiedIndex, length);
+        return new JDBCStyleSQL(jdbcStyleSQL.toString(), Collections.unmodifiableList(parameterIndexes));
+    }
+    
+    private static boolean isNextChar(final String sql, final int index, final char expected) {
+        return index + 1 < sql.length() && expected == sql.charAt(index + 1);
+    }
+    
+    private static boolean isIdentifierPart(final char ch) {
+        return Character.isLetterOrDigit(ch) || '_' == ch || '$' == ch;
+    }
+    
+    private static boolean isEscapeString(final String sql, final int index) {
+        if (0 == index) {
+            return false;
+        }
+        char previous = sql.charAt(index - 1);
+        return ('E' == previous || 'e' == previous) && (1 == index || !isIdentifierPart(sql.charAt(index - 2)));
+    }
+    
+    private static int skipQuoted(final String sql, final int index, final char quote, final boolean backslashEscape) {
+        int length = sql.length();
+        int result = index + 1;
+        while (result < length) {
+            char current = sql.charAt(result);
+            if (backslashEscape && '\\' == current) {
+                result += 2;
+            } else if (quote == current && isNextChar(sql, result, quote)) {
+                result += 2;
+            } else if (quote == current) {
+                return result + 1;
+            } else {
+                result++;
+            }
+        }
+        return length;
+    }
+    
+    private static int skipLineComment(final String sql, final int index) {
+        int result = sql.indexOf('\n', index + 2);
+        return -1 == result ? sql.length() : result + 1;
+    }
+    
+    private static int skipBlockComment(final String sql, final int index) {
+        int length = sql.length();
+        int depth = 1;
+        int result = index + 2;
+        while (result < length) {
+            if ('/' == sql.charAt(result) && isNextChar(sql, result, '*')) {
+                depth++;
+                result += 2;
+            } else if ('*' == sql.charAt(result) && isNextChar(sql, result, '/')) {
+                result += 2;
+                if (0 == --depth) {
+                    return result;
+                }
+            } else {
+                result++;
+            }
+        }
+        return length;
+    }
+    
+    private static int getParameterMarkerEnd(final String sql, final int index) {
+        int length = sql.length();
+        int result = index + 1;
+        while (result < length && Character.isDigit(sql.charAt(result))) {
+            result++;
+        }
+        return result;
+    }
+    
+    private static int getParameterIndex(final String parameterMarker) throws SQLException {
+        String digits = parameterMarker.substring(1);
+        int result = digits.length() > String.valueOf(MAX_PARAMETER_INDEX).length() ? 0 : Integer.parseInt(digits);
+        if (result < 1 || result > MAX_PARAMETER_INDEX) {
+            throw new SQLException(String.format("Invalid parameter marker `%s`, it should be in range of $1 to $%d.", parameterMarker, MAX_PARAMETER_INDEX), PROTOCOL_VIOLATION_SQL_STATE);
+        }
+        return result - 1;
+    }
+    
+    private static int skipDollarQuoted(final String sql, final int index) {
+        int length = sql.length();
+        int tagEnd = index + 1;
+        if (tagEnd < length && (Character.isLetter(sql.charAt(tagEnd)) || '_' == sql.charAt(tagEnd))) {
+            while (tagEnd < length && (Character.isLetterOrDigit(sql.charAt(tagEnd)) || '_' == sql.charAt(tagEnd))) {
+                tagEnd++;
+            }
+        }
+        if (tagEnd >= length || '$' != sql.charAt(tagEnd)) {
+            return index + 1;
+        }
+        String tag = sql.substring(index, tagEnd + 1);
+        int result = sql.indexOf(tag, tagEnd + 1);
+        return -1 == result ? length : result + tag.length();
+    }
+}
@@ -25,6 +25,7 @@ import org.apache.shardingsphere.shardingproxy.transport.postgresql.packet.comma
 import org.apache.shardingsphere.shardingproxy.transport.postgresql.packet.command.query.binary.PostgreSQLBinaryStatementParameterType;
 import org.apache.shardingsphere.shardingproxy.transport.postgresql.payload.PostgreSQLPacketPayload;
 
+import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -42,12 +43,16 @@ public final class PostgreSQLComParsePacket extends PostgreSQLCommandPacket {
     
     private final String sql;
     
+    private final List<Integer> parameterIndexes;
+    
     private final List<PostgreSQLBinaryStatementParameterType> binaryStatementParameterTypes;
     
-    public PostgreSQLComParsePacket(final PostgreSQLPacketPayload payload) {
+    public PostgreSQLComParsePacket(final PostgreSQLPacketPayload payload) throws SQLException {
         payload.readInt4();
         statementId = payload.readStringNul();
-        sql = alterSQLToJDBCStyle(payload.readStringNul());
+        JDBCStyleSQL jdbcStyleSQL = JDBCStyleSQLTranslator.translate(payload.readStringNul());
+        sql = jdbcStyleSQL.getSql();
+        parameterIndexes = jdbcStyleSQL.getParameterIndexes();
         binaryStatementParameterTypes = sql.isEmpty() ? Collections.<PostgreSQLBinaryStatementParameterType>emptyList() : getParameterTypes(payload);
     }
     
@@ -60,10 +65,6 @@ public final class PostgreSQLComParsePacket extends PostgreSQLCommandPacket {
         return result;
     }
     
-    private String alterSQLToJDBCStyle(final String sql) {
-        return sql.replaceAll("\\$[0-9]+", "?");
-    }
-    
     @Override
     public void write(final PostgreSQLPacketPayload payload) {
     }
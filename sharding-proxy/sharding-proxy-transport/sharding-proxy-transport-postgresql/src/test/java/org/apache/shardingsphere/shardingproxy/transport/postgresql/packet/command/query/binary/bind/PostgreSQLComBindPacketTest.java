@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.transport.postgresql.packet.command.query.binary.bind;
+
+import org.apache.shardingsphere.shardingproxy.transport.postgresql.constant.PostgreSQLColumnType;
+import org.apache.shardingsphere.shardingproxy.transport.postgresql.packet.command.query.binary.BinaryStatementRegistry;
+import org.apache.shardingsphere.shardingproxy.transport.postgresql.packet.command.query.binary.PostgreSQLBinaryStatementParameterType;
+import org.apache.shardingsphere.shardingproxy.transport.postgresql.payload.PostgreSQLPacketPayload;
+import org.apache.shardingsphere.sql.parser.sql.statement.SQLStatement;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class PostgreSQLComBindPacketTest {
+    
+    private static final int CONNECTION_ID = 1;
+    
+    @Mock
+    private PostgreSQLPacketPayload payload;
+    
+    @Before
+    public void setUp() {
+        BinaryStatementRegistry.getInstance().register(CONNECTION_ID);
+        when(payload.readStringNul()).thenReturn("", "S_1");
+        when(payload.readInt2()).thenReturn(0, 1, 0);
+        when(payload.readInt4()).thenReturn(0, 4, 10);
+    }
+    
+    @After
+    public void tearDown() {
+        BinaryStatementRegistry.getInstance().unregister(CONNECTION_ID);
+    }
+    
+    @Test
+    public void assertNewInstanceWithReorderedParameters() throws SQLException {
+        registerStatement(Arrays.asList(0, 0));
+        PostgreSQLComBindPacket actual = new PostgreSQLComBindPacket(payload, CONNECTION_ID);
+        assertThat(actual.getParameters(), is(Arrays.<Object>asList(10, 10)));
+    }
+    
+    @Test(expected = SQLException.class)
+    public void assertNewInstanceWithParameterMarkerOutOfRange() throws SQLException {
+        registerStatement(Collections.singletonList(1));
+        new PostgreSQLComBindPacket(payload, CONNECTION_ID);
+    }
+    
+    private void registerStatement(final List<Integer> parameterIndexes) {
+        BinaryStatementRegistry.getInstance().get(CONNECTION_ID).register("S_1", "SELECT ?", 1, 
+                Collections.singletonList(new PostgreSQLBinaryStatementParameterType(PostgreSQLColumnType.POSTGRESQL_TYPE_INT4)), parameterIndexes, mock(SQLStatement.class));
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.transport.postgresql.packet.command.query.binary.parse;
+
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class JDBCStyleSQLTranslatorTest {
+    
+    @Test
+    public void assertTranslateWithoutParameter() throws SQLException {
+        String sql = "SELECT * FROM t_order";
+        JDBCStyleSQL actual = JDBCStyleSQLTranslator.translate(sql);
+        assertTrue(sql == actual.getSql());
+        assertTrue(actual.getParameterIndexes().isEmpty());
+    }
+    
+    @Test
+    public void assertTranslateWithParameters() throws SQLException {
+        JDBCStyleSQL actual = JDBCStyleSQLTranslator.translate("SELECT * FROM t_order WHERE user_id=$1 AND order_id=$2");
+        assertThat(actual.getSql(), is("SELECT * FROM t_order WHERE user_id=? AND order_id=?"));
+        assertThat(actual.getParameterIndexes(), is(Arrays.asList(0, 1)));
+    }
+    
+    @Test
+    public void assertTranslateWithReorderedAndRepeatedParameters() throws SQLException {
+        JDBCStyleSQL actual = JDBCStyleSQLTranslator.translate("SELECT * FROM t_order WHERE order_id=$2 AND (user_id=$1 OR status_id=$1) LIMIT $10");
+        assertThat(actual.getSql(), is("SELECT * FROM t_order WHERE order_id=? AND (user_id=? OR status_id=?) LIMIT ?"));
+        assertThat(actual.getParameterIndexes(), is(Arrays.asList(1, 0, 0, 9)));
+    }
+    
+    @Test
+    public void assertTranslateWithQuotedAndCommented() throws SQLException {
+        JDBCStyleSQL actual = JDBCStyleSQLTranslator.translate(
+                "SELECT '$1', 'it''s $1', E'\\'$1', \"col$1\", a$1 -- $1\n/* $1 /* $1 */ $1 */ FROM t WHERE x=$1");
+        assertThat(actual.getSql(), is("SELECT '$1', 'it''s $1', E'\\'$1', \"col$1\", a$1 -- $1\n/* $1 /* $1 */ $1 */ FROM t WHERE x=?"));
+        assertThat(actual.getParameterIndexes(), is(Collections.singletonList(0)));
+    }
+    
+    @Test
+    public void assertTranslateWithDollarQuoted() throws SQLException {
+        JDBCStyleSQL actual = JDBCStyleSQLTranslator.translate("SELECT $$ $1 $$, $tag$ $1 $$ $1 $tag$, $1");
+        assertThat(actual.getSql(), is("SELECT $$ $1 $$, $tag$ $1 $$ $1 $tag$, ?"));
+        assertThat(actual.getParameterIndexes(), is(Collections.singletonList(0)));
+    }
+    
+    @Test
+    public void assertTranslateWithCache() throws SQLException {
+        String sql = "SELECT * FROM t_order WHERE order_id=$1";
+        assertTrue(JDBCStyleSQLTranslator.translate(sql) == JDBCStyleSQLTranslator.translate(sql));
+    }
+    
+    @Test(expected = SQLException.class)
+    public void assertTranslateWithZeroParameterMarker() throws SQLException {
+        JDBCStyleSQLTranslator.translate("SELECT * FROM t_order WHERE order_id=$0");
+    }
+    
+    @Test(expected = SQLException.class)
+    public void assertTranslateWithOverflowParameterMarker() throws SQLException {
+        JDBCStyleSQLTranslator.translate("SELECT * FROM t_order WHERE order_id=$99999999999");
+    }
+    
+    @Test(expected = SQLException.class)
+    public void assertTranslateWithParameterMarkerOutOfRange() throws SQLException {
+        JDBCStyleSQLTranslator.translate("SELECT * FROM t_order WHERE order_id=$65536");
+    }
+}
@@ -18,14 +18,21 @@
 package org.apache.shardingsphere.sql.parser;
 
 import com.google.common.base.Optional;
-import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.sql.parser.cache.ParseResultCache;
+import org.apache.shardingsphere.sql.parser.cache.ParseResultCacheStatistics;
 import org.apache.shardingsphere.sql.parser.cache.SQLParseResultCache;
+import org.apache.shardingsphere.sql.parser.cache.shape.SQLShape;
+import org.apache.shardingsphere.sql.parser.cache.shape.SQLShapeCache;
+import org.apache.shardingsphere.sql.parser.cache.shape.SQLShapeNormalizer;
+import org.apache.shardingsphere.sql.parser.cache.shape.SQLShapeTemplate;
 import org.apache.shardingsphere.sql.parser.core.SQLParseKernel;
 import org.apache.shardingsphere.sql.parser.core.rule.registry.ParseRuleRegistry;
 import org.apache.shardingsphere.sql.parser.hook.ParsingHook;
 import org.apache.shardingsphere.sql.parser.hook.SPIParsingHook;
 import org.apache.shardingsphere.sql.parser.sql.statement.SQLStatement;
 
+import java.util.Collection;
+
 /**
  * SQL parse engine.
  *
@@ -33,12 +40,23 @@ import org.apache.shardingsphere.sql.parser.sql.statement.SQLStatement;
  *
  *  SQL 解析
  */
-@RequiredArgsConstructor
 public final class SQLParseEngine {
     
     private final String databaseTypeName;
     
-    private final SQLParseResultCache cache = new SQLParseResultCache();
+    private final ParseResultCache cache;
+    
+    private final SQLShapeCache shapeCache;
+    
+    public SQLParseEngine(final String databaseTypeName) {
+        this(databaseTypeName, new SQLParseResultCache());
+    }
+    
+    public SQLParseEngine(final String databaseTypeName, final ParseResultCache cache) {
+        this.databaseTypeName = databaseTypeName;
+        this.cache = cache;
+        shapeCache = cache.createShapeCache();
+    }
     
     /**
      * Parse SQL.
@@ -70,6 +88,76 @@ public final class SQLParseEngine {
         }
     }
     
+    /**
+     * Parse SQL with shape cache.
+     * 
+     * <p>
+     * Literals of SQL are replaced to slots before looking up cache, 
+     * SQL only different on literal values reuse parse result of same shape and bind their own literal values.
+     * It is designed for SQL with literals, SQL with parameter markers should use {@code parse(sql, true)}.
+     * </p>
+     *
+     * @param sql SQL
+     * @return SQL statement
+     */
+    public SQLStatement parseWithShapeCache(final String sql) {
+        ParsingHook parsingHook = new SPIParsingHook();
+        parsingHook.start(sql);
+        try {
+            SQLStatement result = parseWithShape(sql);
+            parsingHook.finishSuccess(result);
+            return result;
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            parsingHook.finishFailure(ex);
+            throw ex;
+        }
+    }
+    
+    /**
+     * Get statistics of parse result cache.
+     *
+     * @return statistics of parse result cache
+     */
+    public ParseResultCacheStatistics getCacheStatistics() {
+        return cache.getStatistics();
+    }
+    
+    /**
+     * Get statistics of SQL shape cache.
+     *
+     * @return statistics of SQL shape cache
+     */
+    public ParseResultCacheStatistics getShapeCacheStatistics() {
+        return shapeCache.getStatistics();
+    }
+    
+    /**
+     * Warm up parser by parsing SQL corpus without cache.
+     *
+     * <p>
+     * DFA of ANTLR parser is shared by all parser instances of same database type, parsing representative SQL at startup avoids building DFA on serving traffic.
+     * Simple SQL parser is bypassed, so SQL it can parse warm up ANTLR parser too. SQL which cannot be parsed are ignored.
+     * </p>
+     *
+     * @param sqls SQL corpus
+     * @return count of SQL parsed successfully
+     */
+    public int warmUp(final Collection<String> sqls) {
+        int result = 0;
+        for (String each : sqls) {
+            try {
+                new SQLParseKernel(ParseRuleRegistry.getInstance(), databaseTypeName, each).parseByANTLR();
+                result++;
+                // CHECKSTYLE:OFF
+            } catch (final Exception ignored) {
+                // CHECKSTYLE:ON
+            }
+        }
+        return result;
+    }
+    
     private SQLStatement parse0(final String sql, final boolean useCache) {
 
         // 如果使用缓存，先尝试从缓存中，获取 SQLStatement
@@ -92,4 +180,20 @@ public final class SQLParseEngine {
         }
         return result;
     }
+    
+    private SQLStatement parseWithShape(final String sql) {
+        Optional<SQLShape> sqlShape = SQLShapeNormalizer.normalize(sql);
+        if (!sqlShape.isPresent()) {
+            return new SQLParseKernel(ParseRuleRegistry.getInstance(), databaseTypeName, sql).parse();
+        }
+        Optional<SQLShapeTemplate> cachedTemplate = shapeCache.getTemplate(sqlShape.get());
+        if (cachedTemplate.isPresent()) {
+            return cachedTemplate.get().bind(sqlShape.get().getLiteralSlots());
+        }
+        SQLShapeTemplate result = new SQLParseKernel(ParseRuleRegistry.getInstance(), databaseTypeName, sql).parseShapeTemplate(sqlShape.get().getLiteralSlots());
+        if (result.isBindable()) {
+            shapeCache.put(sqlShape.get(), result);
+        }
+        return result.getSqlStatement();
+    }
 }
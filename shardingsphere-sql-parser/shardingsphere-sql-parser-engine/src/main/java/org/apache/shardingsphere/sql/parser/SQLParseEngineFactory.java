@@ -18,9 +18,15 @@
 package org.apache.shardingsphere.sql.parser;
 
 import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.sql.parser.cache.AbstractParseResultCache;
+import org.apache.shardingsphere.sql.parser.cache.ParseResultCache;
+import org.apache.shardingsphere.sql.parser.cache.ParseResultCacheServiceLoader;
 
 import java.util.Map;
+import java.util.Properties;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
@@ -33,7 +39,9 @@ import java.util.concurrent.ConcurrentHashMap;
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class SQLParseEngineFactory {
     
-    private static final Map<String, SQLParseEngine> ENGINES = new ConcurrentHashMap<>();
+    private static final String DEFAULT_CACHE_TYPE = "LRU";
+    
+    private static final Map<SQLParseEngineKey, SQLParseEngine> ENGINES = new ConcurrentHashMap<>();
     
     /**
      * Get SQL parse engine.
@@ -44,24 +52,57 @@ public final class SQLParseEngineFactory {
      *  基于数据类类型，获取 SQL解析引擎
      */
     public static SQLParseEngine getSQLParseEngine(final String databaseTypeName) {
+        return getSQLParseEngine(databaseTypeName, DEFAULT_CACHE_TYPE, AbstractParseResultCache.DEFAULT_MAXIMUM_SIZE);
+    }
+    
+    /**
+     * Get SQL parse engine shared by all callers of same database type and parse result cache settings.
+     *
+     * @param databaseTypeName name of database type
+     * @param cacheType type of parse result cache
+     * @param cacheMaximumSize maximum size of parse result cache
+     * @return SQL parse engine
+     */
+    public static SQLParseEngine getSQLParseEngine(final String databaseTypeName, final String cacheType, final int cacheMaximumSize) {
+        SQLParseEngineKey key = new SQLParseEngineKey(databaseTypeName, cacheType, cacheMaximumSize);
 
-        // 如果缓存中包含了指定数据库类型对应的 SQLParseEngine，则直接返回
-        if (ENGINES.containsKey(databaseTypeName)) {
-            return ENGINES.get(databaseTypeName);
+        // 如果缓存中包含了指定数据库类型和缓存配置对应的 SQLParseEngine，则直接返回
+        if (ENGINES.containsKey(key)) {
+            return ENGINES.get(key);
         }
         synchronized (ENGINES) {
-            if (ENGINES.containsKey(databaseTypeName)) {
-                return ENGINES.get(databaseTypeName);
+            if (ENGINES.containsKey(key)) {
+                return ENGINES.get(key);
             }
-
-            /**
-             * 创建 SQLParseEngine {@link SQLParseEngine
-             */
-            SQLParseEngine result = new SQLParseEngine(databaseTypeName);
-
-            // 将新创建的 SQLParseEngine 放入缓存中
-            ENGINES.put(databaseTypeName, result);
+            SQLParseEngine result = newSQLParseEngine(databaseTypeName, cacheType, cacheMaximumSize);
+            ENGINES.put(key, result);
             return result;
         }
     }
+    
+    /**
+     * Create SQL parse engine with its own parse result cache.
+     *
+     * @param databaseTypeName name of database type
+     * @param cacheType type of parse result cache
+     * @param cacheMaximumSize maximum size of parse result cache
+     * @return SQL parse engine
+     */
+    public static SQLParseEngine newSQLParseEngine(final String databaseTypeName, final String cacheType, final int cacheMaximumSize) {
+        Properties cacheProps = new Properties();
+        cacheProps.setProperty(AbstractParseResultCache.MAXIMUM_SIZE, String.valueOf(cacheMaximumSize));
+        ParseResultCache cache = new ParseResultCacheServiceLoader().newService(cacheType, cacheProps);
+        return new SQLParseEngine(databaseTypeName, cache);
+    }
+    
+    @RequiredArgsConstructor
+    @EqualsAndHashCode
+    private static final class SQLParseEngineKey {
+        
+        private final String databaseTypeName;
+        
+        private final String cacheType;
+        
+        private final int cacheMaximumSize;
+    }
 }
@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.cache;
+
+import com.google.common.base.Optional;
+import com.google.common.base.Strings;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import lombok.Getter;
+import org.apache.shardingsphere.sql.parser.cache.shape.SQLShape;
+import org.apache.shardingsphere.sql.parser.cache.shape.SQLShapeCache;
+import org.apache.shardingsphere.sql.parser.cache.shape.SQLShapeTemplate;
+import org.apache.shardingsphere.sql.parser.sql.statement.SQLStatement;
+
+import java.util.Properties;
+
+/**
+ * Abstract parse result cache based on guava cache.
+ */
+public abstract class AbstractParseResultCache implements ParseResultCache {
+    
+    public static final String MAXIMUM_SIZE = "maximum.size";
+    
+    public static final int DEFAULT_MAXIMUM_SIZE = 65535;
+    
+    private static final int INITIAL_CAPACITY = 2000;
+    
+    @Getter
+    private Properties properties = new Properties();
+    
+    private volatile int maximumSize = DEFAULT_MAXIMUM_SIZE;
+    
+    private volatile Cache<String, SQLStatement> cache = createCache();
+    
+    @Override
+    public final void setProperties(final Properties properties) {
+        this.properties = properties;
+        String maximumSize = properties.getProperty(MAXIMUM_SIZE);
+        this.maximumSize = Strings.isNullOrEmpty(maximumSize) ? DEFAULT_MAXIMUM_SIZE : Integer.parseInt(maximumSize);
+        cache = createCache();
+    }
+    
+    private <K, V> Cache<K, V> createCache() {
+        return createCacheBuilder().initialCapacity(Math.min(INITIAL_CAPACITY, maximumSize)).maximumSize(maximumSize).recordStats().build();
+    }
+    
+    protected abstract CacheBuilder<Object, Object> createCacheBuilder();
+    
+    @Override
+    public final void put(final String sql, final SQLStatement sqlStatement) {
+        cache.put(sql, sqlStatement);
+    }
+    
+    @Override
+    public final Optional<SQLStatement> getSQLStatement(final String sql) {
+        return Optional.fromNullable(cache.getIfPresent(sql));
+    }
+    
+    @Override
+    public final ParseResultCacheStatistics getStatistics() {
+        CacheStats stats = cache.stats();
+        return new ParseResultCacheStatistics(stats.hitCount(), stats.missCount(), stats.evictionCount(), cache.size());
+    }
+    
+    @Override
+    public final SQLShapeCache createShapeCache() {
+        return new SQLShapeCache(this.<SQLShape, SQLShapeTemplate>createCache());
+    }
+    
+    @Override
+    public final synchronized void clear() {
+        cache.invalidateAll();
+    }
+}
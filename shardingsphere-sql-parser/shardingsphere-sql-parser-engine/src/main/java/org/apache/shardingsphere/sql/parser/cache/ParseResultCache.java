@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.cache;
+
+import com.google.common.base.Optional;
+import org.apache.shardingsphere.spi.TypeBasedSPI;
+import org.apache.shardingsphere.sql.parser.cache.shape.SQLShapeCache;
+import org.apache.shardingsphere.sql.parser.sql.statement.SQLStatement;
+
+/**
+ * Parse result cache.
+ */
+public interface ParseResultCache extends TypeBasedSPI {
+    
+    /**
+     * Put SQL and parse result into cache.
+     *
+     * @param sql SQL
+     * @param sqlStatement SQL statement
+     */
+    void put(String sql, SQLStatement sqlStatement);
+    
+    /**
+     * Get SQL statement.
+     *
+     * @param sql SQL
+     * @return SQL statement
+     */
+    Optional<SQLStatement> getSQLStatement(String sql);
+    
+    /**
+     * Get statistics.
+     *
+     * @return statistics of parse result cache
+     */
+    ParseResultCacheStatistics getStatistics();
+    
+    /**
+     * Create SQL shape cache with same eviction policy and maximum size of this cache.
+     *
+     * @return SQL shape cache
+     */
+    SQLShapeCache createShapeCache();
+    
+    /**
+     * Clear cache.
+     */
+    void clear();
+}
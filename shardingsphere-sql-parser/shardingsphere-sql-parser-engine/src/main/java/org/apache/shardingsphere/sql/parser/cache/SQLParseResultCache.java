@@ -17,45 +17,23 @@
 
 package org.apache.shardingsphere.sql.parser.cache;
 
-import com.google.common.base.Optional;
-import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
-import org.apache.shardingsphere.sql.parser.sql.statement.SQLStatement;
 
 /**
- * SQL parse result cache.
+ * Size bounded parse result cache with strong references, entries are evicted by least recently used.
  *
  * @author zhangliang
  * @author zhaojun
  */
-public final class SQLParseResultCache {
+public final class SQLParseResultCache extends AbstractParseResultCache {
     
-    private final Cache<String, SQLStatement> cache = CacheBuilder.newBuilder().softValues().initialCapacity(2000).maximumSize(65535).build();
-    
-    /**
-     * Put SQL and parse result into cache.
-     * 
-     * @param sql SQL
-     * @param sqlStatement SQL statement
-     */
-    public void put(final String sql, final SQLStatement sqlStatement) {
-        cache.put(sql, sqlStatement);
-    }
-    
-    /**
-     * Get SQL statement.
-     *
-     * @param sql SQL
-     * @return SQL statement
-     */
-    public Optional<SQLStatement> getSQLStatement(final String sql) {
-        return Optional.fromNullable(cache.getIfPresent(sql));
+    @Override
+    protected CacheBuilder<Object, Object> createCacheBuilder() {
+        return CacheBuilder.newBuilder();
     }
     
-    /**
-     * Clear cache.
-     */
-    public synchronized void clear() {
-        cache.invalidateAll();
+    @Override
+    public String getType() {
+        return "LRU";
     }
 }
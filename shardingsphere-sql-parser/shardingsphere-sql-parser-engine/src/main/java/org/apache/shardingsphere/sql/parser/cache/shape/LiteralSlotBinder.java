@@ -0,0 +1,280 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.cache.shape;
+
+import org.apache.shardingsphere.sql.parser.sql.segment.SQLSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.assignment.AssignmentSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.assignment.InsertValuesSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.assignment.SetAssignmentsSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.expr.ExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.expr.simple.LiteralExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.pagination.PaginationValueSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.pagination.limit.LimitSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.pagination.limit.NumberLiteralLimitValueSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.pagination.limit.ParameterMarkerLimitValueSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.predicate.AndPredicate;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.predicate.OrPredicateSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.predicate.PredicateSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.predicate.SubqueryPredicateSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.predicate.WhereSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.predicate.value.PredicateBetweenRightValue;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.predicate.value.PredicateCompareRightValue;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.predicate.value.PredicateInRightValue;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.predicate.value.PredicateRightValue;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Literal slot binder.
+ * 
+ * <p>
+ * Rebuild SQL segments which contain literals with values of literal slots.
+ * Only literals of where, insert values, set assignments and limit can be bound,
+ * SQL shape which has literal in other segments should not be cached.
+ * </p>
+ */
+public final class LiteralSlotBinder {
+    
+    private final Map<Integer, LiteralSlot> literalSlots;
+    
+    public LiteralSlotBinder(final Collection<LiteralSlot> literalSlots) {
+        this.literalSlots = new HashMap<>(literalSlots.size(), 1);
+        for (LiteralSlot each : literalSlots) {
+            this.literalSlots.put(each.getStartIndex(), each);
+        }
+    }
+    
+    /**
+     * Judge literal slots can be bound to SQL segments or not.
+     * 
+     * @param sqlSegments SQL segments
+     * @param literalSlots literal slots
+     * @return literal slots can be bound or not
+     */
+    public static boolean isBindable(final Collection<SQLSegment> sqlSegments, final Collection<LiteralSlot> literalSlots) {
+        if (literalSlots.isEmpty()) {
+            return true;
+        }
+        Map<Integer, SQLSegment> bindableSegments = new HashMap<>();
+        Collection<SQLSegment> opaqueSegments = new LinkedList<>();
+        for (SQLSegment each : sqlSegments) {
+            collectSegment(each, bindableSegments, opaqueSegments);
+        }
+        for (LiteralSlot each : literalSlots) {
+            if (!isMatched(each, bindableSegments.get(each.getStartIndex())) || isCovered(each, opaqueSegments)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private static void collectSegment(final SQLSegment sqlSegment, final Map<Integer, SQLSegment> bindableSegments, final Collection<SQLSegment> opaqueSegments) {
+        if (sqlSegment instanceof WhereSegment) {
+            collectAndPredicates(((WhereSegment) sqlSegment).getAndPredicates(), bindableSegments, opaqueSegments);
+        } else if (sqlSegment instanceof OrPredicateSegment) {
+            collectAndPredicates(((OrPredicateSegment) sqlSegment).getAndPredicates(), bindableSegments, opaqueSegments);
+        } else if (sqlSegment instanceof SubqueryPredicateSegment) {
+            collectAndPredicates(((SubqueryPredicateSegment) sqlSegment).getAndPredicates(), bindableSegments, opaqueSegments);
+        } else if (sqlSegment instanceof InsertValuesSegment) {
+            collectExpressions(((InsertValuesSegment) sqlSegment).getValues(), bindableSegments, opaqueSegments);
+        } else if (sqlSegment instanceof SetAssignmentsSegment) {
+            for (AssignmentSegment each : ((SetAssignmentsSegment) sqlSegment).getAssignments()) {
+                collectExpression(each.getValue(), bindableSegments, opaqueSegments);
+            }
+        } else if (sqlSegment instanceof LimitSegment) {
+            collectPaginationValue(((LimitSegment) sqlSegment).getOffset().orNull(), bindableSegments, opaqueSegments);
+            collectPaginationValue(((LimitSegment) sqlSegment).getRowCount().orNull(), bindableSegments, opaqueSegments);
+        } else {
+            opaqueSegments.add(sqlSegment);
+        }
+    }
+    
+    private static void collectAndPredicates(final Collection<AndPredicate> andPredicates, final Map<Integer, SQLSegment> bindableSegments, final Collection<SQLSegment> opaqueSegments) {
+        for (AndPredicate each : andPredicates) {
+            for (PredicateSegment predicate : each.getPredicates()) {
+                collectPredicate(predicate, bindableSegments, opaqueSegments);
+            }
+        }
+    }
+    
+    private static void collectPredicate(final PredicateSegment predicate, final Map<Integer, SQLSegment> bindableSegments, final Collection<SQLSegment> opaqueSegments) {
+        PredicateRightValue rightValue = predicate.getRightValue();
+        if (rightValue instanceof PredicateCompareRightValue) {
+            collectExpression(((PredicateCompareRightValue) rightValue).getExpression(), bindableSegments, opaqueSegments);
+        } else if (rightValue instanceof PredicateInRightValue) {
+            collectExpressions(((PredicateInRightValue) rightValue).getSqlExpressions(), bindableSegments, opaqueSegments);
+        } else if (rightValue instanceof PredicateBetweenRightValue) {
+            collectExpression(((PredicateBetweenRightValue) rightValue).getBetweenExpression(), bindableSegments, opaqueSegments);
+            collectExpression(((PredicateBetweenRightValue) rightValue).getAndExpression(), bindableSegments, opaqueSegments);
+        } else {
+            opaqueSegments.add(predicate);
+        }
+    }
+    
+    private static void collectExpressions(final Collection<ExpressionSegment> expressions, final Map<Integer, SQLSegment> bindableSegments, final Collection<SQLSegment> opaqueSegments) {
+        for (ExpressionSegment each : expressions) {
+            collectExpression(each, bindableSegments, opaqueSegments);
+        }
+    }
+    
+    private static void collectExpression(final ExpressionSegment expression, final Map<Integer, SQLSegment> bindableSegments, final Collection<SQLSegment> opaqueSegments) {
+        if (expression instanceof LiteralExpressionSegment) {
+            bindableSegments.put(expression.getStartIndex(), expression);
+        } else if (!(expression instanceof ParameterMarkerExpressionSegment)) {
+            opaqueSegments.add(expression);
+        }
+    }
+    
+    private static void collectPaginationValue(final PaginationValueSegment paginationValue, final Map<Integer, SQLSegment> bindableSegments, final Collection<SQLSegment> opaqueSegments) {
+        if (paginationValue instanceof NumberLiteralLimitValueSegment) {
+            bindableSegments.put(paginationValue.getStartIndex(), paginationValue);
+        } else if (null != paginationValue && !(paginationValue instanceof ParameterMarkerLimitValueSegment)) {
+            opaqueSegments.add(paginationValue);
+        }
+    }
+    
+    private static boolean isMatched(final LiteralSlot literalSlot, final SQLSegment bindableSegment) {
+        if (null == bindableSegment || bindableSegment.getStopIndex() != literalSlot.getStopIndex()) {
+            return false;
+        }
+        boolean isNumberSlot = literalSlot.getLiterals() instanceof Number;
+        if (bindableSegment instanceof NumberLiteralLimitValueSegment) {
+            return isNumberSlot;
+        }
+        return isNumberSlot == ((LiteralExpressionSegment) bindableSegment).getLiterals() instanceof Number;
+    }
+    
+    private static boolean isCovered(final LiteralSlot literalSlot, final Collection<SQLSegment> opaqueSegments) {
+        for (SQLSegment each : opaqueSegments) {
+            if (each.getStartIndex() <= literalSlot.getStartIndex() && literalSlot.getStopIndex() <= each.getStopIndex()) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * Bind literal slots to SQL segments.
+     * 
+     * @param sqlSegments SQL segments of template
+     * @return SQL segments with values of literal slots
+     */
+    public Collection<SQLSegment> bind(final Collection<SQLSegment> sqlSegments) {
+        Collection<SQLSegment> result = new LinkedList<>();
+        for (SQLSegment each : sqlSegments) {
+            result.add(bindSegment(each));
+        }
+        return result;
+    }
+    
+    private SQLSegment bindSegment(final SQLSegment sqlSegment) {
+        if (sqlSegment instanceof WhereSegment) {
+            return bindWhere((WhereSegment) sqlSegment);
+        }
+        if (sqlSegment instanceof OrPredicateSegment) {
+            OrPredicateSegment result = new OrPredicateSegment();
+            result.getAndPredicates().addAll(bindAndPredicates(((OrPredicateSegment) sqlSegment).getAndPredicates()));
+            return result;
+        }
+        if (sqlSegment instanceof SubqueryPredicateSegment) {
+            return new SubqueryPredicateSegment(bindAndPredicates(((SubqueryPredicateSegment) sqlSegment).getAndPredicates()));
+        }
+        if (sqlSegment instanceof InsertValuesSegment) {
+            InsertValuesSegment insertValues = (InsertValuesSegment) sqlSegment;
+            return new InsertValuesSegment(insertValues.getStartIndex(), insertValues.getStopIndex(), bindExpressions(insertValues.getValues()));
+        }
+        if (sqlSegment instanceof SetAssignmentsSegment) {
+            return bindSetAssignments((SetAssignmentsSegment) sqlSegment);
+        }
+        if (sqlSegment instanceof LimitSegment) {
+            LimitSegment limit = (LimitSegment) sqlSegment;
+            return new LimitSegment(limit.getStartIndex(), limit.getStopIndex(), bindPaginationValue(limit.getOffset().orNull()), bindPaginationValue(limit.getRowCount().orNull()));
+        }
+        return sqlSegment;
+    }
+    
+    private WhereSegment bindWhere(final WhereSegment where) {
+        WhereSegment result = new WhereSegment(where.getStartIndex(), where.getStopIndex(), where.getParametersCount());
+        result.getAndPredicates().addAll(bindAndPredicates(where.getAndPredicates()));
+        result.setParameterStartIndex(where.getParameterStartIndex());
+        return result;
+    }
+    
+    private Collection<AndPredicate> bindAndPredicates(final Collection<AndPredicate> andPredicates) {
+        Collection<AndPredicate> result = new LinkedList<>();
+        for (AndPredicate each : andPredicates) {
+            AndPredicate andPredicate = new AndPredicate();
+            for (PredicateSegment predicate : each.getPredicates()) {
+                andPredicate.getPredicates().add(new PredicateSegment(predicate.getStartIndex(), predicate.getStopIndex(), predicate.getColumn(), bindRightValue(predicate.getRightValue())));
+            }
+            result.add(andPredicate);
+        }
+        return result;
+    }
+    
+    private PredicateRightValue bindRightValue(final PredicateRightValue rightValue) {
+        if (rightValue instanceof PredicateCompareRightValue) {
+            return new PredicateCompareRightValue(((PredicateCompareRightValue) rightValue).getOperator(), bindExpression(((PredicateCompareRightValue) rightValue).getExpression()));
+        }
+        if (rightValue instanceof PredicateInRightValue) {
+            return new PredicateInRightValue(((PredicateInRightValue) rightValue).getPredicateBracketValue(), bindExpressions(((PredicateInRightValue) rightValue).getSqlExpressions()));
+        }
+        if (rightValue instanceof PredicateBetweenRightValue) {
+            return new PredicateBetweenRightValue(
+                    bindExpression(((PredicateBetweenRightValue) rightValue).getBetweenExpression()), bindExpression(((PredicateBetweenRightValue) rightValue).getAndExpression()));
+        }
+        return rightValue;
+    }
+    
+    private SetAssignmentsSegment bindSetAssignments(final SetAssignmentsSegment setAssignments) {
+        Collection<AssignmentSegment> assignments = new LinkedList<>();
+        for (AssignmentSegment each : setAssignments.getAssignments()) {
+            assignments.add(new AssignmentSegment(each.getStartIndex(), each.getStopIndex(), each.getColumn(), bindExpression(each.getValue())));
+        }
+        return new SetAssignmentsSegment(setAssignments.getStartIndex(), setAssignments.getStopIndex(), assignments);
+    }
+    
+    private List<ExpressionSegment> bindExpressions(final Collection<ExpressionSegment> expressions) {
+        List<ExpressionSegment> result = new ArrayList<>(expressions.size());
+        for (ExpressionSegment each : expressions) {
+            result.add(bindExpression(each));
+        }
+        return result;
+    }
+    
+    private ExpressionSegment bindExpression(final ExpressionSegment expression) {
+        LiteralSlot literalSlot = literalSlots.get(expression.getStartIndex());
+        return expression instanceof LiteralExpressionSegment && null != literalSlot
+                ? new LiteralExpressionSegment(expression.getStartIndex(), expression.getStopIndex(), literalSlot.getLiterals()) : expression;
+    }
+    
+    private PaginationValueSegment bindPaginationValue(final PaginationValueSegment paginationValue) {
+        if (!(paginationValue instanceof NumberLiteralLimitValueSegment)) {
+            return paginationValue;
+        }
+        LiteralSlot literalSlot = literalSlots.get(paginationValue.getStartIndex());
+        return null == literalSlot ? paginationValue
+                : new NumberLiteralLimitValueSegment(paginationValue.getStartIndex(), paginationValue.getStopIndex(), ((Number) literalSlot.getLiterals()).longValue());
+    }
+}
@@ -0,0 +1,263 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.cache.shape;
+
+import com.google.common.base.Defaults;
+import com.google.common.base.Preconditions;
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.sql.parser.sql.segment.SQLSegment;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * SQL segment position shifter.
+ * 
+ * <p>
+ * Move positions of SQL segments extracted from template SQL to positions of another SQL with same shape.
+ * Only lengths of literals are different between SQL with same shape, so positions are shifted by length differences of literal slots before them.
+ * </p>
+ */
+public final class SQLSegmentPositionShifter {
+    
+    private static final String SEGMENT_PACKAGE_PREFIX = SQLSegment.class.getPackage().getName() + ".";
+    
+    private static final String STOP_INDEX_FIELD_NAME = "stopIndex";
+    
+    private static final Collection<String> POSITION_FIELD_NAMES = Arrays.asList("startIndex", STOP_INDEX_FIELD_NAME, "innerExpressionStartIndex");
+    
+    private static final Map<Class<?>, Collection<Field>> FIELDS = new ConcurrentHashMap<>();
+    
+    private static final String PLACEHOLDER_TEXT = "placeholder";
+    
+    private static final Map<Class<?>, Instantiator> INSTANTIATORS = new ConcurrentHashMap<>();
+    
+    private final List<LiteralSlot> fromLiteralSlots;
+    
+    private final List<LiteralSlot> toLiteralSlots;
+    
+    public SQLSegmentPositionShifter(final List<LiteralSlot> fromLiteralSlots, final List<LiteralSlot> toLiteralSlots) {
+        Preconditions.checkArgument(fromLiteralSlots.size() == toLiteralSlots.size(), "Literal slots size of same shape should be same.");
+        this.fromLiteralSlots = fromLiteralSlots;
+        this.toLiteralSlots = toLiteralSlots;
+    }
+    
+    /**
+     * Shift positions of SQL segments.
+     * 
+     * <p>SQL segments of template SQL are not modified, shifted copies of them are returned.</p>
+     * 
+     * @param sqlSegments SQL segments of template SQL
+     * @return copies of SQL segments with shifted positions
+     */
+    @SuppressWarnings("unchecked")
+    public Collection<SQLSegment> shift(final Collection<SQLSegment> sqlSegments) {
+        return (Collection<SQLSegment>) copyObject(sqlSegments, new IdentityHashMap<Object, Object>());
+    }
+    
+    /**
+     * Shift start position.
+     * 
+     * @param index start position of template SQL
+     * @return start position of target SQL
+     */
+    public int shiftStartIndex(final int index) {
+        return shiftIndex(index, false);
+    }
+    
+    /**
+     * Shift stop position.
+     * 
+     * @param index stop position of template SQL
+     * @return stop position of target SQL
+     */
+    public int shiftStopIndex(final int index) {
+        return shiftIndex(index, true);
+    }
+    
+    private int shiftIndex(final int index, final boolean isStopIndex) {
+        int slotIndex = findLastSlotStartBefore(index);
+        if (slotIndex < 0) {
+            return index;
+        }
+        LiteralSlot from = fromLiteralSlots.get(slotIndex);
+        LiteralSlot to = toLiteralSlots.get(slotIndex);
+        if (isStopIndex && index == from.getStopIndex()) {
+            return to.getStopIndex();
+        }
+        if (index <= from.getStopIndex()) {
+            return Math.min(to.getStartIndex() + index - from.getStartIndex(), to.getStopIndex());
+        }
+        return index + to.getStopIndex() - from.getStopIndex();
+    }
+    
+    private int findLastSlotStartBefore(final int index) {
+        int low = 0;
+        int high = fromLiteralSlots.size() - 1;
+        int result = -1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            if (fromLiteralSlots.get(middle).getStartIndex() <= index) {
+                result = middle;
+                low = middle + 1;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return result;
+    }
+    
+    @SneakyThrows
+    @SuppressWarnings("unchecked")
+    private Object copyObject(final Object object, final Map<Object, Object> copies) {
+        if (null == object) {
+            return null;
+        }
+        Object result = copies.get(object);
+        if (null != result) {
+            return result;
+        }
+        if (object instanceof Collection) {
+            Collection<Object> collection = object instanceof List ? new ArrayList<>(((Collection<?>) object).size()) : new LinkedHashSet<>();
+            copies.put(object, collection);
+            for (Object each : (Collection<?>) object) {
+                collection.add(copyObject(each, copies));
+            }
+            return collection;
+        }
+        if (object instanceof Map) {
+            Map<Object, Object> map = new LinkedHashMap<>();
+            copies.put(object, map);
+            for (Entry<?, ?> entry : ((Map<?, ?>) object).entrySet()) {
+                map.put(entry.getKey(), copyObject(entry.getValue(), copies));
+            }
+            return map;
+        }
+        if (!isSegmentClass(object.getClass())) {
+            return object;
+        }
+        result = getInstantiator(object.getClass()).newInstance();
+        copies.put(object, result);
+        for (Field each : getFields(object.getClass())) {
+            if (isPositionField(each)) {
+                each.setInt(result, shiftIndex(each.getInt(object), STOP_INDEX_FIELD_NAME.equals(each.getName())));
+            } else {
+                each.set(result, copyObject(each.get(object), copies));
+            }
+        }
+        return result;
+    }
+    
+    private boolean isSegmentClass(final Class<?> clazz) {
+        return !clazz.isEnum() && clazz.getName().startsWith(SEGMENT_PACKAGE_PREFIX);
+    }
+    
+    private static Instantiator getInstantiator(final Class<?> clazz) {
+        Instantiator result = INSTANTIATORS.get(clazz);
+        if (null == result) {
+            result = new Instantiator(clazz);
+            INSTANTIATORS.put(clazz, result);
+        }
+        return result;
+    }
+    
+    private Collection<Field> getFields(final Class<?> clazz) {
+        Collection<Field> result = FIELDS.get(clazz);
+        if (null == result) {
+            result = loadFields(clazz);
+            FIELDS.put(clazz, result);
+        }
+        return result;
+    }
+    
+    private Collection<Field> loadFields(final Class<?> clazz) {
+        Collection<Field> result = new LinkedList<>();
+        for (Class<?> each = clazz; null != each && isSegmentClass(each); each = each.getSuperclass()) {
+            for (Field field : each.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers())) {
+                    continue;
+                }
+                field.setAccessible(true);
+                result.add(field);
+            }
+        }
+        return result;
+    }
+    
+    private boolean isPositionField(final Field field) {
+        return int.class == field.getType() && POSITION_FIELD_NAMES.contains(field.getName());
+    }
+    
+    /**
+     * Instantiator of SQL segment.
+     * 
+     * <p>
+     * SQL segments have no default constructor, so copy is created by constructor with placeholder arguments,
+     * and all fields of it are overwritten from original segment after created.
+     * </p>
+     */
+    private static final class Instantiator {
+        
+        private final Constructor<?> constructor;
+        
+        private final Object[] arguments;
+        
+        Instantiator(final Class<?> clazz) {
+            constructor = clazz.getDeclaredConstructors()[0];
+            constructor.setAccessible(true);
+            Class<?>[] parameterTypes = constructor.getParameterTypes();
+            arguments = new Object[parameterTypes.length];
+            for (int i = 0; i < parameterTypes.length; i++) {
+                arguments[i] = getPlaceholder(parameterTypes[i]);
+            }
+        }
+        
+        private static Object getPlaceholder(final Class<?> parameterType) {
+            if (parameterType.isPrimitive()) {
+                return Defaults.defaultValue(parameterType);
+            }
+            if (String.class == parameterType) {
+                return PLACEHOLDER_TEXT;
+            }
+            if (parameterType.isEnum()) {
+                return parameterType.getEnumConstants()[0];
+            }
+            if (!parameterType.isInterface() && !Modifier.isAbstract(parameterType.getModifiers()) && parameterType.getName().startsWith(SEGMENT_PACKAGE_PREFIX)) {
+                return getInstantiator(parameterType).newInstance();
+            }
+            return null;
+        }
+        
+        @SneakyThrows
+        Object newInstance() {
+            return constructor.newInstance(arguments);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.cache.shape;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.util.List;
+
+/**
+ * SQL shape.
+ * 
+ * <p>
+ * SQL shape is SQL which literals are replaced to slots, SQL only different on values of literals have same shape.
+ * Shapes are compared by skeleton and slot indexes of skeleton, slots are matched by ordinal, so literals with different length share same shape.
+ * </p>
+ */
+@RequiredArgsConstructor
+@Getter
+@EqualsAndHashCode(exclude = "literalSlots")
+@ToString
+public final class SQLShape {
+    
+    private final String skeleton;
+    
+    private final List<Integer> slotSkeletonIndexes;
+    
+    private final List<LiteralSlot> literalSlots;
+}
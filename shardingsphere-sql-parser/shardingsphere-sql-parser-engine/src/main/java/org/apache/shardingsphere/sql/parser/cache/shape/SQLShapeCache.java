@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.cache.shape;
+
+import com.google.common.base.Optional;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheStats;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.sql.parser.cache.ParseResultCacheStatistics;
+
+/**
+ * SQL shape cache.
+ * 
+ * <p>SQL shape cache is created by {@code ParseResultCache}, so it follows eviction policy and maximum size of configured parse result cache.</p>
+ */
+@RequiredArgsConstructor
+public final class SQLShapeCache {
+    
+    private final Cache<SQLShape, SQLShapeTemplate> cache;
+    
+    /**
+     * Put SQL shape and template into cache.
+     * 
+     * @param sqlShape SQL shape
+     * @param template SQL shape template
+     */
+    public void put(final SQLShape sqlShape, final SQLShapeTemplate template) {
+        cache.put(sqlShape, template);
+    }
+    
+    /**
+     * Get SQL shape template.
+     *
+     * @param sqlShape SQL shape
+     * @return SQL shape template
+     */
+    public Optional<SQLShapeTemplate> getTemplate(final SQLShape sqlShape) {
+        return Optional.fromNullable(cache.getIfPresent(sqlShape));
+    }
+    
+    /**
+     * Get statistics.
+     *
+     * @return statistics of SQL shape cache
+     */
+    public ParseResultCacheStatistics getStatistics() {
+        CacheStats stats = cache.stats();
+        return new ParseResultCacheStatistics(stats.hitCount(), stats.missCount(), stats.evictionCount(), cache.size());
+    }
+    
+    /**
+     * Clear cache.
+     */
+    public synchronized void clear() {
+        cache.invalidateAll();
+    }
+}
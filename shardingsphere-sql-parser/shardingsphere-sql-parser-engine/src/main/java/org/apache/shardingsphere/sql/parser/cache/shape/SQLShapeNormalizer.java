@@ -0,0 +1,200 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.cache.shape;
+
+import com.google.common.base.Optional;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.sql.parser.util.SQLUtil;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * SQL shape normalizer.
+ * 
+ * <p>
+ * Scan SQL once and replace number literals and simple string literals to slots.
+ * Literals which may be interpreted differently by dialects (escaped strings, prefixed strings, exponent numbers) are kept in skeleton as they are.
+ * </p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SQLShapeNormalizer {
+    
+    private static final String NUMBER_SLOT = "?";
+    
+    private static final String STRING_SLOT = "'?'";
+    
+    /**
+     * Normalize SQL to shape.
+     * 
+     * @param sql SQL
+     * @return SQL shape, absent if SQL cannot be normalized safely
+     */
+    public static Optional<SQLShape> normalize(final String sql) {
+        StringBuilder skeleton = new StringBuilder(sql.length());
+        List<Integer> slotSkeletonIndexes = new ArrayList<>();
+        List<LiteralSlot> literalSlots = new ArrayList<>();
+        int length = sql.length();
+        int index = 0;
+        while (index < length) {
+            char each = sql.charAt(index);
+            int end;
+            if ('\'' == each) {
+                end = skipQuoted(sql, index, '\'');
+                if (-1 == end) {
+                    return Optional.absent();
+                }
+                if (isSimpleString(sql, index, end)) {
+                    slotSkeletonIndexes.add(skeleton.length());
+                    literalSlots.add(new LiteralSlot(index, end - 1, sql.substring(index + 1, end - 1)));
+                    skeleton.append(STRING_SLOT);
+                } else {
+                    skeleton.append(sql, index, end);
+                }
+            } else if ('"' == each || '`' == each) {
+                end = skipQuoted(sql, index, each);
+                if (-1 == end) {
+                    return Optional.absent();
+                }
+                skeleton.append(sql, index, end);
+            } else if ('[' == each) {
+                end = sql.indexOf(']', index);
+                if (-1 == end) {
+                    return Optional.absent();
+                }
+                skeleton.append(sql, index, ++end);
+            } else if (('-' == each && isNextChar(sql, index, '-')) || '#' == each) {
+                end = skipLine(sql, index);
+                skeleton.append(sql, index, end);
+            } else if ('/' == each && isNextChar(sql, index, '*')) {
+                end = sql.indexOf("*/", index + 2);
+                if (-1 == end) {
+                    return Optional.absent();
+                }
+                end += 2;
+                skeleton.append(sql, index, end);
+            } else if ('$' == each) {
+                return Optional.absent();
+            } else if (isDigit(each) && !isIdentifierOrDot(sql, index - 1)) {
+                end = skipNumber(sql, index);
+                if (isIdentifierOrDot(sql, end)) {
+                    skeleton.append(sql, index, end);
+                } else {
+                    slotSkeletonIndexes.add(skeleton.length());
+                    literalSlots.add(new LiteralSlot(index, end - 1, SQLUtil.getExactlyNumber(sql.substring(index, end), 10)));
+                    skeleton.append(NUMBER_SLOT);
+                }
+            } else if (isIdentifierPart(each)) {
+                end = skipIdentifier(sql, index);
+                skeleton.append(sql, index, end);
+            } else {
+                end = index + 1;
+                skeleton.append(each);
+            }
+            index = end;
+        }
+        return Optional.of(new SQLShape(skeleton.toString(), slotSkeletonIndexes, literalSlots));
+    }
+    
+    private static int skipQuoted(final String sql, final int startIndex, final char quote) {
+        int length = sql.length();
+        int index = startIndex + 1;
+        while (index < length) {
+            char each = sql.charAt(index);
+            if ('\\' == each && '`' != quote) {
+                index += 2;
+                continue;
+            }
+            if (quote == each) {
+                if (isNextChar(sql, index, quote)) {
+                    index += 2;
+                    continue;
+                }
+                return index + 1;
+            }
+            index++;
+        }
+        return -1;
+    }
+    
+    private static boolean isSimpleString(final String sql, final int startIndex, final int endIndex) {
+        if (isIdentifierPart(sql, startIndex - 1)) {
+            return false;
+        }
+        for (int i = startIndex + 1; i < endIndex - 1; i++) {
+            char each = sql.charAt(i);
+            if ('\'' == each || '\\' == each) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private static int skipLine(final String sql, final int startIndex) {
+        int result = startIndex;
+        while (result < sql.length() && '\n' != sql.charAt(result)) {
+            result++;
+        }
+        return result;
+    }
+    
+    private static int skipNumber(final String sql, final int startIndex) {
+        int result = skipDigits(sql, startIndex);
+        if (isNextChar(sql, result - 1, '.') && result + 1 < sql.length() && isDigit(sql.charAt(result + 1))) {
+            result = skipDigits(sql, result + 1);
+        }
+        return result;
+    }
+    
+    private static int skipDigits(final String sql, final int startIndex) {
+        int result = startIndex;
+        while (result < sql.length() && isDigit(sql.charAt(result))) {
+            result++;
+        }
+        return result;
+    }
+    
+    private static int skipIdentifier(final String sql, final int startIndex) {
+        int result = startIndex;
+        while (isIdentifierPart(sql, result)) {
+            result++;
+        }
+        return result;
+    }
+    
+    private static boolean isDigit(final char ch) {
+        return ch >= '0' && ch <= '9';
+    }
+    
+    private static boolean isNextChar(final String sql, final int index, final char expected) {
+        return index + 1 < sql.length() && expected == sql.charAt(index + 1);
+    }
+    
+    private static boolean isIdentifierOrDot(final String sql, final int index) {
+        return isIdentifierPart(sql, index) || index >= 0 && index < sql.length() && '.' == sql.charAt(index);
+    }
+    
+    private static boolean isIdentifierPart(final String sql, final int index) {
+        return index >= 0 && index < sql.length() && isIdentifierPart(sql.charAt(index));
+    }
+    
+    private static boolean isIdentifierPart(final char ch) {
+        return Character.isLetterOrDigit(ch) || '_' == ch || '@' == ch;
+    }
+}
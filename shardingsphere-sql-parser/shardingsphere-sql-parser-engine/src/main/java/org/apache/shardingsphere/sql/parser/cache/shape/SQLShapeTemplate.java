@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.cache.shape;
+
+import lombok.Getter;
+import org.apache.shardingsphere.sql.parser.core.extractor.SQLSegmentsExtractorEngine;
+import org.apache.shardingsphere.sql.parser.core.filler.SQLStatementFillerEngine;
+import org.apache.shardingsphere.sql.parser.core.parser.SQLAST;
+import org.apache.shardingsphere.sql.parser.core.rule.registry.statement.SQLStatementRule;
+import org.apache.shardingsphere.sql.parser.sql.segment.SQLSegment;
+import org.apache.shardingsphere.sql.parser.sql.statement.SQLStatement;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * SQL shape template.
+ * 
+ * <p>
+ * Only SQL segments extracted from template SQL are kept, AST of template SQL is released after template created.
+ * For SQL which literals have different length, shifted copies of SQL segments are created before binding literals.
+ * </p>
+ */
+public final class SQLShapeTemplate {
+    
+    private final SQLStatementFillerEngine fillerEngine;
+    
+    private final int parametersCount;
+    
+    private final SQLStatementRule sqlStatementRule;
+    
+    private final List<LiteralSlot> literalSlots;
+    
+    private final Collection<SQLSegment> sqlSegments;
+    
+    @Getter
+    private final SQLStatement sqlStatement;
+    
+    public SQLShapeTemplate(final SQLSegmentsExtractorEngine extractorEngine, final SQLStatementFillerEngine fillerEngine, final SQLAST ast, final List<LiteralSlot> literalSlots) {
+        this.fillerEngine = fillerEngine;
+        parametersCount = ast.getParameterMarkerIndexes().size();
+        sqlStatementRule = ast.getSqlStatementRule();
+        this.literalSlots = literalSlots;
+        sqlSegments = extractorEngine.extract(ast);
+        sqlStatement = fill(sqlSegments);
+    }
+    
+    /**
+     * Judge literal slots of template SQL can be bound or not.
+     * 
+     * @return literal slots can be bound or not
+     */
+    public boolean isBindable() {
+        return LiteralSlotBinder.isBindable(sqlSegments, literalSlots);
+    }
+    
+    /**
+     * Bind literal slots to new SQL statement.
+     * 
+     * @param literalSlots literal slots of SQL with same shape
+     * @return SQL statement
+     */
+    public SQLStatement bind(final List<LiteralSlot> literalSlots) {
+        if (literalSlots.isEmpty()) {
+            return sqlStatement;
+        }
+        Collection<SQLSegment> segments = isSamePosition(literalSlots) ? sqlSegments : new SQLSegmentPositionShifter(this.literalSlots, literalSlots).shift(sqlSegments);
+        return fill(new LiteralSlotBinder(literalSlots).bind(segments));
+    }
+    
+    private boolean isSamePosition(final List<LiteralSlot> literalSlots) {
+        for (int i = 0; i < literalSlots.size(); i++) {
+            if (this.literalSlots.get(i).getStartIndex() != literalSlots.get(i).getStartIndex() || this.literalSlots.get(i).getStopIndex() != literalSlots.get(i).getStopIndex()) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private SQLStatement fill(final Collection<SQLSegment> sqlSegments) {
+        return fillerEngine.fill(sqlSegments, parametersCount, sqlStatementRule);
+    }
+}
@@ -17,17 +17,23 @@
 
 package org.apache.shardingsphere.sql.parser.core;
 
+import com.google.common.base.Optional;
 import org.antlr.v4.runtime.ParserRuleContext;
+import org.apache.shardingsphere.sql.parser.cache.shape.LiteralSlot;
+import org.apache.shardingsphere.sql.parser.cache.shape.SQLShapeTemplate;
 import org.apache.shardingsphere.sql.parser.core.extractor.SQLSegmentsExtractorEngine;
 import org.apache.shardingsphere.sql.parser.core.filler.SQLStatementFillerEngine;
 import org.apache.shardingsphere.sql.parser.core.parser.SQLAST;
 import org.apache.shardingsphere.sql.parser.core.parser.SQLParserEngine;
+import org.apache.shardingsphere.sql.parser.core.parser.SimpleSQLParseResult;
+import org.apache.shardingsphere.sql.parser.core.parser.SimpleSQLParser;
 import org.apache.shardingsphere.sql.parser.core.rule.registry.ParseRuleRegistry;
 import org.apache.shardingsphere.sql.parser.core.rule.registry.statement.SQLStatementRule;
 import org.apache.shardingsphere.sql.parser.sql.segment.SQLSegment;
 import org.apache.shardingsphere.sql.parser.sql.statement.SQLStatement;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -39,6 +45,8 @@ import java.util.Map;
  *  sql
  */
 public final class SQLParseKernel {
+    
+    private final SimpleSQLParser simpleParser;
 
     // SQL解析器引擎
     private final SQLParserEngine parserEngine;
@@ -50,6 +58,7 @@ public final class SQLParseKernel {
     private final SQLStatementFillerEngine fillerEngine;
     
     public SQLParseKernel(final ParseRuleRegistry parseRuleRegistry, final String databaseTypeName, final String sql) {
+        simpleParser = new SimpleSQLParser(parseRuleRegistry, databaseTypeName, sql);
         parserEngine = new SQLParserEngine(parseRuleRegistry, databaseTypeName, sql);
         extractorEngine = new SQLSegmentsExtractorEngine();
         fillerEngine = new SQLStatementFillerEngine(parseRuleRegistry, databaseTypeName);
@@ -61,6 +70,10 @@ public final class SQLParseKernel {
      * @return SQL statement
      */
     public SQLStatement parse() {
+        Optional<SimpleSQLParseResult> simpleParseResult = simpleParser.parse();
+        if (simpleParseResult.isPresent()) {
+            return fillerEngine.fill(simpleParseResult.get().getSqlSegments(), simpleParseResult.get().getParametersCount(), simpleParseResult.get().getSqlStatementRule());
+        }
 
         /**
          * 利用 ANTLR4 解析 SQL 抽象语法树 {@link SQLParserEngine#parse()}
@@ -78,4 +91,26 @@ public final class SQLParseKernel {
          */
         return fillerEngine.fill(sqlSegments, parameterMarkerIndexes.size(), ast.getSqlStatementRule());
     }
+    
+    /**
+     * Parse SQL by ANTLR parser only.
+     *
+     * <p>Simple SQL parser is bypassed, it is used to warm up ANTLR parser.</p>
+     *
+     * @return SQL statement
+     */
+    public SQLStatement parseByANTLR() {
+        SQLAST ast = parserEngine.parse();
+        return fillerEngine.fill(extractorEngine.extract(ast), ast.getParameterMarkerIndexes().size(), ast.getSqlStatementRule());
+    }
+    
+    /**
+     * Parse SQL to shape template.
+     *
+     * @param literalSlots literal slots of SQL
+     * @return SQL shape template
+     */
+    public SQLShapeTemplate parseShapeTemplate(final List<LiteralSlot> literalSlots) {
+        return new SQLShapeTemplate(extractorEngine, fillerEngine, parserEngine.parse(), literalSlots);
+    }
 }
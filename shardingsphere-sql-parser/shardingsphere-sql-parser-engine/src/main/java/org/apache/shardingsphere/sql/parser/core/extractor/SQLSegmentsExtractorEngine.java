@@ -22,6 +22,7 @@ import org.antlr.v4.runtime.ParserRuleContext;
 import org.apache.shardingsphere.sql.parser.core.extractor.api.CollectionSQLSegmentExtractor;
 import org.apache.shardingsphere.sql.parser.core.extractor.api.OptionalSQLSegmentExtractor;
 import org.apache.shardingsphere.sql.parser.core.extractor.api.SQLSegmentExtractor;
+import org.apache.shardingsphere.sql.parser.core.extractor.util.ParserRuleContextIndex;
 import org.apache.shardingsphere.sql.parser.core.parser.SQLAST;
 import org.apache.shardingsphere.sql.parser.sql.segment.SQLSegment;
 
@@ -49,22 +50,26 @@ public final class SQLSegmentsExtractorEngine {
      */
     public Collection<SQLSegment> extract(final SQLAST ast) {
         Collection<SQLSegment> result = new LinkedList<>();
+        ParserRuleContextIndex.setCurrent(ast.getIndex());
+        try {
+            // 遍历提取器，从 Context 中提取对应类型的 SQLSegment，比如 TableSegment
+            for (SQLSegmentExtractor each : ast.getSqlStatementRule().getExtractors()) {
 
-        // 遍历提取器，从 Context 中提取对应类型的 SQLSegment，比如 TableSegment
-        for (SQLSegmentExtractor each : ast.getSqlStatementRule().getExtractors()) {
-
-            // 单节点的场景，直接提取单一节点下的内容
-            if (each instanceof OptionalSQLSegmentExtractor) {
-                Optional<? extends SQLSegment> sqlSegment = ((OptionalSQLSegmentExtractor) each).extract(ast.getParserRuleContext(), ast.getParameterMarkerIndexes());
-                if (sqlSegment.isPresent()) {
-                    result.add(sqlSegment.get());
+                // 单节点的场景，直接提取单一节点下的内容
+                if (each instanceof OptionalSQLSegmentExtractor) {
+                    Optional<? extends SQLSegment> sqlSegment = ((OptionalSQLSegmentExtractor) each).extract(ast.getParserRuleContext(), ast.getParameterMarkerIndexes());
+                    if (sqlSegment.isPresent()) {
+                        result.add(sqlSegment.get());
+                    }
+                } else if (each instanceof CollectionSQLSegmentExtractor) {
+                    /**
+                     * 提取`SQLSegment` 、以 Table 为例 {@link org.apache.shardingsphere.sql.parser.core.extractor.impl.common.table.TableExtractor#extract(ParserRuleContext, Map)}
+                     */
+                    result.addAll(((CollectionSQLSegmentExtractor) each).extract(ast.getParserRuleContext(), ast.getParameterMarkerIndexes()));
                 }
-            } else if (each instanceof CollectionSQLSegmentExtractor) {
-                /**
-                 * 提取`SQLSegment` 、以 Table 为例 {@link org.apache.shardingsphere.sql.parser.core.extractor.impl.common.table.TableExtractor#extract(ParserRuleContext, Map)}
-                 */
-                result.addAll(((CollectionSQLSegmentExtractor) each).extract(ast.getParserRuleContext(), ast.getParameterMarkerIndexes()));
             }
+        } finally {
+            ParserRuleContextIndex.clearCurrent();
         }
         return result;
     }
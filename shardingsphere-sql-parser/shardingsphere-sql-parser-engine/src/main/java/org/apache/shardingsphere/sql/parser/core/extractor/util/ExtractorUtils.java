@@ -57,6 +57,10 @@ public final class ExtractorUtils {
      * @return matched node
      */
     public static Optional<ParserRuleContext> findFirstChildNode(final ParserRuleContext node, final RuleName ruleName) {
+        ParserRuleContextIndex index = ParserRuleContextIndex.getCurrent();
+        if (null != index && index.contains(node)) {
+            return index.findFirstChildNode(node, ruleName);
+        }
         Queue<ParserRuleContext> parserRuleContexts = new LinkedList<>();
         parserRuleContexts.add(node);
         ParserRuleContext parserRuleContext;
@@ -124,6 +128,10 @@ public final class ExtractorUtils {
      * @return all descendant nodes
      */
     public static Collection<ParserRuleContext> getAllDescendantNodes(final ParserRuleContext node, final RuleName ruleName) {
+        ParserRuleContextIndex index = ParserRuleContextIndex.getCurrent();
+        if (null != index && index.contains(node)) {
+            return index.getAllDescendantNodes(node, ruleName);
+        }
         Collection<ParserRuleContext> result = new LinkedList<>();
         for (ParserRuleContext each : getAllNodes(node)) {
             if (isMatchedNode(each, ruleName)) {
@@ -0,0 +1,207 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.core.extractor.util;
+
+import com.google.common.base.Optional;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.tree.ParseTree;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Index of parser rule context nodes.
+ *
+ * <p>
+ * Nodes of abstract syntax tree are bucketed by rule name with pre-order in one pass.
+ * Descendant nodes of an indexed node are continuous in bucket, so they can be found by binary search without traversing the tree again.
+ * </p>
+ */
+public final class ParserRuleContextIndex {
+    
+    private static final ThreadLocal<ParserRuleContextIndex> CURRENT = new ThreadLocal<>();
+    
+    private static final ConcurrentMap<Class<?>, String> RULE_NAMES = new ConcurrentHashMap<>();
+    
+    private final Map<ParserRuleContext, Integer> positions = new IdentityHashMap<>();
+    
+    private final Map<String, Bucket> buckets = new HashMap<>();
+    
+    private int[] subtreeEnds = new int[64];
+    
+    private int[] depths = new int[64];
+    
+    public ParserRuleContextIndex(final ParserRuleContext rootNode) {
+        index(rootNode);
+    }
+    
+    /**
+     * Set index of current thread.
+     *
+     * @param index index of parser rule context nodes
+     */
+    public static void setCurrent(final ParserRuleContextIndex index) {
+        CURRENT.set(index);
+    }
+    
+    /**
+     * Clear index of current thread.
+     */
+    public static void clearCurrent() {
+        CURRENT.remove();
+    }
+    
+    static ParserRuleContextIndex getCurrent() {
+        return CURRENT.get();
+    }
+    
+    private void index(final ParserRuleContext rootNode) {
+        Deque<Object> stack = new ArrayDeque<>();
+        stack.push(rootNode);
+        int depth = 0;
+        while (!stack.isEmpty()) {
+            Object each = stack.pop();
+            if (each instanceof Integer) {
+                subtreeEnds[(Integer) each] = positions.size();
+                depth--;
+                continue;
+            }
+            ParserRuleContext node = (ParserRuleContext) each;
+            int position = positions.size();
+            positions.put(node, position);
+            ensureCapacity(position);
+            depths[position] = depth++;
+            getBucket(node).add(node, position);
+            stack.push(position);
+            for (int i = node.getChildCount() - 1; i >= 0; i--) {
+                ParseTree child = node.getChild(i);
+                if (child instanceof ParserRuleContext) {
+                    stack.push(child);
+                }
+            }
+        }
+    }
+    
+    private void ensureCapacity(final int position) {
+        if (position == depths.length) {
+            depths = Arrays.copyOf(depths, position << 1);
+            subtreeEnds = Arrays.copyOf(subtreeEnds, position << 1);
+        }
+    }
+    
+    private Bucket getBucket(final ParserRuleContext node) {
+        String ruleName = getRuleName(node.getClass());
+        Bucket result = buckets.get(ruleName);
+        if (null == result) {
+            result = new Bucket();
+            buckets.put(ruleName, result);
+        }
+        return result;
+    }
+    
+    private static String getRuleName(final Class<?> nodeClass) {
+        String result = RULE_NAMES.get(nodeClass);
+        if (null == result) {
+            result = nodeClass.getSimpleName();
+            RULE_NAMES.putIfAbsent(nodeClass, result);
+        }
+        return result;
+    }
+    
+    /**
+     * Judge whether node is indexed.
+     *
+     * @param node node
+     * @return node is indexed or not
+     */
+    public boolean contains(final ParserRuleContext node) {
+        return positions.containsKey(node);
+    }
+    
+    /**
+     * Get all descendant nodes with pre-order, include start node itself.
+     *
+     * @param node start node, must be indexed
+     * @param ruleName rule name
+     * @return all descendant nodes
+     */
+    public Collection<ParserRuleContext> getAllDescendantNodes(final ParserRuleContext node, final RuleName ruleName) {
+        Bucket bucket = buckets.get(ruleName.getName());
+        if (null == bucket) {
+            return Collections.emptyList();
+        }
+        int position = positions.get(node);
+        return Collections.unmodifiableList(bucket.nodes.subList(bucket.lowerBound(position), bucket.lowerBound(subtreeEnds[position])));
+    }
+    
+    /**
+     * Find first child node with breadth-first order, include start node itself.
+     *
+     * @param node start node, must be indexed
+     * @param ruleName rule name
+     * @return matched node
+     */
+    public Optional<ParserRuleContext> findFirstChildNode(final ParserRuleContext node, final RuleName ruleName) {
+        Bucket bucket = buckets.get(ruleName.getName());
+        if (null == bucket) {
+            return Optional.absent();
+        }
+        int position = positions.get(node);
+        int end = bucket.lowerBound(subtreeEnds[position]);
+        int result = -1;
+        for (int i = bucket.lowerBound(position); i < end; i++) {
+            if (-1 == result || depths[bucket.positions[i]] < depths[bucket.positions[result]]) {
+                result = i;
+                if (depths[bucket.positions[i]] <= depths[position] + 1) {
+                    break;
+                }
+            }
+        }
+        return -1 == result ? Optional.<ParserRuleContext>absent() : Optional.of(bucket.nodes.get(result));
+    }
+    
+    private static final class Bucket {
+        
+        private final List<ParserRuleContext> nodes = new ArrayList<>();
+        
+        private int[] positions = new int[16];
+        
+        void add(final ParserRuleContext node, final int position) {
+            if (nodes.size() == positions.length) {
+                positions = Arrays.copyOf(positions, positions.length << 1);
+            }
+            positions[nodes.size()] = position;
+            nodes.add(node);
+        }
+        
+        int lowerBound(final int position) {
+            int result = Arrays.binarySearch(positions, 0, nodes.size(), position);
+            return result < 0 ? -result - 1 : result;
+        }
+    }
+}
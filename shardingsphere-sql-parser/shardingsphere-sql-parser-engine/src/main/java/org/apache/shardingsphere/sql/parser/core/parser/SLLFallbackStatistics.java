@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.core.parser;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Statistics of fallback from SLL to LL prediction mode.
+ *
+ * <p>
+ * Fallback means SQL is parsed twice, high count of a statement context indicates a grammar hot spot.
+ * </p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SLLFallbackStatistics {
+    
+    private static final SLLFallbackStatistics INSTANCE = new SLLFallbackStatistics();
+    
+    private final ConcurrentMap<String, AtomicLong> counters = new ConcurrentHashMap<>();
+    
+    /**
+     * Get instance.
+     *
+     * @return instance
+     */
+    public static SLLFallbackStatistics getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Increase fallback count.
+     *
+     * @param databaseTypeName name of database type
+     * @param statementContextName name of statement context
+     */
+    public void increase(final String databaseTypeName, final String statementContextName) {
+        String key = getKey(databaseTypeName, statementContextName);
+        AtomicLong counter = counters.get(key);
+        if (null == counter) {
+            AtomicLong newCounter = new AtomicLong();
+            counter = counters.putIfAbsent(key, newCounter);
+            if (null == counter) {
+                counter = newCounter;
+            }
+        }
+        counter.incrementAndGet();
+    }
+    
+    /**
+     * Get fallback count.
+     *
+     * @param databaseTypeName name of database type
+     * @param statementContextName name of statement context
+     * @return fallback count
+     */
+    public long getCount(final String databaseTypeName, final String statementContextName) {
+        AtomicLong counter = counters.get(getKey(databaseTypeName, statementContextName));
+        return null == counter ? 0L : counter.get();
+    }
+    
+    /**
+     * Get all fallback counts.
+     *
+     * @return fallback counts, key is database type name and statement context name joined by dot
+     */
+    public Map<String, Long> getCounts() {
+        Map<String, Long> result = new TreeMap<>();
+        for (Entry<String, AtomicLong> entry : counters.entrySet()) {
+            result.put(entry.getKey(), entry.getValue().get());
+        }
+        return result;
+    }
+    
+    /**
+     * Clear all fallback counts.
+     */
+    public void clear() {
+        counters.clear();
+    }
+    
+    private String getKey(final String databaseTypeName, final String statementContextName) {
+        return databaseTypeName + "." + statementContextName;
+    }
+}
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.sql.parser.core.parser;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.antlr.v4.runtime.ParserRuleContext;
+import org.apache.shardingsphere.sql.parser.core.extractor.util.ParserRuleContextIndex;
 import org.apache.shardingsphere.sql.parser.core.rule.registry.statement.SQLStatementRule;
 
 import java.util.Map;
@@ -38,4 +39,6 @@ public final class SQLAST {
     private final Map<ParserRuleContext, Integer> parameterMarkerIndexes;
     
     private final SQLStatementRule sqlStatementRule;
+    
+    private final ParserRuleContextIndex index;
 }
@@ -27,7 +27,7 @@ import org.antlr.v4.runtime.misc.ParseCancellationException;
 import org.antlr.v4.runtime.tree.ErrorNode;
 import org.antlr.v4.runtime.tree.ParseTree;
 import org.apache.shardingsphere.sql.parser.api.SQLParser;
-import org.apache.shardingsphere.sql.parser.core.extractor.util.ExtractorUtils;
+import org.apache.shardingsphere.sql.parser.core.extractor.util.ParserRuleContextIndex;
 import org.apache.shardingsphere.sql.parser.core.extractor.util.RuleName;
 import org.apache.shardingsphere.sql.parser.core.rule.registry.ParseRuleRegistry;
 import org.apache.shardingsphere.sql.parser.core.rule.registry.statement.SQLStatementRule;
@@ -61,21 +61,16 @@ public final class SQLParserEngine {
     public SQLAST parse() {
 
         /**
-         *  ‘抽象语法树‘ 扩展 {@link SQLParserFactory#newInstance(String, String)}
+         *  ‘抽象语法树‘ 扩展 {@link SQLParserFactory#getThreadLocalInstance(String, String)}
          */
-        SQLParser sqlParser = SQLParserFactory.newInstance(databaseTypeName, sql);
+        SQLParser sqlParser = SQLParserFactory.getThreadLocalInstance(databaseTypeName, sql);
 
         // 利用 ANTLR4 获取解析树
         ParseTree parseTree;
         try {
-            ((Parser) sqlParser).setErrorHandler(new BailErrorStrategy());
-            ((Parser) sqlParser).getInterpreter().setPredictionMode(PredictionMode.SLL);
-            parseTree = sqlParser.execute().getChild(0);
-        } catch (final ParseCancellationException ex) {
-            ((Parser) sqlParser).reset();
-            ((Parser) sqlParser).setErrorHandler(new DefaultErrorStrategy());
-            ((Parser) sqlParser).getInterpreter().setPredictionMode(PredictionMode.LL);
-            parseTree = sqlParser.execute().getChild(0);
+            parseTree = execute(sqlParser);
+        } finally {
+            SQLParserFactory.release(sqlParser);
         }
         if (parseTree instanceof ErrorNode) {
             throw new SQLParsingException(String.format("Unsupported SQL of `%s`", sql));
@@ -92,11 +87,27 @@ public final class SQLParserEngine {
         }
 
         // 封装抽象语法树 AST
-        return new SQLAST((ParserRuleContext) parseTree, getParameterMarkerIndexes((ParserRuleContext) parseTree), rule);
+        ParserRuleContextIndex index = new ParserRuleContextIndex((ParserRuleContext) parseTree);
+        return new SQLAST((ParserRuleContext) parseTree, getParameterMarkerIndexes((ParserRuleContext) parseTree, index), rule, index);
+    }
+    
+    private ParseTree execute(final SQLParser sqlParser) {
+        try {
+            ((Parser) sqlParser).setErrorHandler(new BailErrorStrategy());
+            ((Parser) sqlParser).getInterpreter().setPredictionMode(PredictionMode.SLL);
+            return sqlParser.execute().getChild(0);
+        } catch (final ParseCancellationException ex) {
+            ((Parser) sqlParser).reset();
+            ((Parser) sqlParser).setErrorHandler(new DefaultErrorStrategy());
+            ((Parser) sqlParser).getInterpreter().setPredictionMode(PredictionMode.LL);
+            ParseTree result = sqlParser.execute().getChild(0);
+            SLLFallbackStatistics.getInstance().increase(databaseTypeName, result.getClass().getSimpleName());
+            return result;
+        }
     }
     
-    private Map<ParserRuleContext, Integer> getParameterMarkerIndexes(final ParserRuleContext rootNode) {
-        Collection<ParserRuleContext> placeholderNodes = ExtractorUtils.getAllDescendantNodes(rootNode, RuleName.PARAMETER_MARKER);
+    private Map<ParserRuleContext, Integer> getParameterMarkerIndexes(final ParserRuleContext rootNode, final ParserRuleContextIndex nodeIndex) {
+        Collection<ParserRuleContext> placeholderNodes = nodeIndex.getAllDescendantNodes(rootNode, RuleName.PARAMETER_MARKER);
         Map<ParserRuleContext, Integer> result = new HashMap<>(placeholderNodes.size(), 1);
         int index = 0;
         for (ParserRuleContext each : placeholderNodes) {
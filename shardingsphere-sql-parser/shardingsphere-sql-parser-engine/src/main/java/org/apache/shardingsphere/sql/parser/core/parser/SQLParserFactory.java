@@ -24,11 +24,15 @@ import org.antlr.v4.runtime.CharStream;
 import org.antlr.v4.runtime.CharStreams;
 import org.antlr.v4.runtime.CommonTokenStream;
 import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.Parser;
 import org.antlr.v4.runtime.TokenStream;
 import org.apache.shardingsphere.spi.NewInstanceServiceLoader;
 import org.apache.shardingsphere.sql.parser.api.SQLParser;
 import org.apache.shardingsphere.sql.parser.spi.SQLParserEntry;
 
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * SQL parser factory.
  * 
@@ -38,6 +42,14 @@ import org.apache.shardingsphere.sql.parser.spi.SQLParserEntry;
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class SQLParserFactory {
     
+    private static final ThreadLocal<Map<String, SQLParser>> THREAD_LOCAL_PARSERS = new ThreadLocal<Map<String, SQLParser>>() {
+        
+        @Override
+        protected Map<String, SQLParser> initialValue() {
+            return new HashMap<>();
+        }
+    };
+    
     /** 
      * New instance of SQL parser.
      * 
@@ -58,6 +70,50 @@ public final class SQLParserFactory {
         throw new UnsupportedOperationException(String.format("Cannot support database type '%s'", databaseTypeName));
     }
     
+    /**
+     * Get SQL parser reused by current thread.
+     *
+     * <p>
+     * Lexer, token stream and parser are created once per thread and database type, then reset with new SQL for every call.
+     * Parse tree of previous SQL is still valid after reset, because tokens keep reference of their own char stream.
+     * Parser should be released by {@code release} after parsing, to avoid keeping char stream and tokens of last SQL alive.
+     * </p>
+     *
+     * @param databaseTypeName name of database type
+     * @param sql SQL
+     * @return SQL parser
+     */
+    public static SQLParser getThreadLocalInstance(final String databaseTypeName, final String sql) {
+        Map<String, SQLParser> parsers = THREAD_LOCAL_PARSERS.get();
+        SQLParser result = parsers.get(databaseTypeName);
+        if (null == result) {
+            result = newInstance(databaseTypeName, sql);
+            parsers.put(databaseTypeName, result);
+            return result;
+        }
+        reset((Parser) result, sql);
+        return result;
+    }
+    
+    /**
+     * Release SQL parser reused by current thread.
+     *
+     * <p>Input of parser is reset to empty SQL, char stream and tokens of parsed SQL are only referenced by its parse tree after releasing.</p>
+     *
+     * @param sqlParser SQL parser
+     */
+    public static void release(final SQLParser sqlParser) {
+        reset((Parser) sqlParser, "");
+    }
+    
+    private static void reset(final Parser parser, final String sql) {
+        CommonTokenStream tokenStream = (CommonTokenStream) parser.getTokenStream();
+        Lexer lexer = (Lexer) tokenStream.getTokenSource();
+        lexer.setInputStream(CharStreams.fromString(sql));
+        tokenStream.setTokenSource(lexer);
+        parser.setTokenStream(tokenStream);
+    }
+    
     @SneakyThrows
     private static SQLParser createSQLParser(final String sql, final SQLParserEntry parserEntry) {
         Lexer lexer = parserEntry.getLexerClass().getConstructor(CharStream.class).newInstance(CharStreams.fromString(sql));
@@ -0,0 +1,434 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.core.parser;
+
+import com.google.common.base.Optional;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.Token;
+import org.apache.shardingsphere.spi.NewInstanceServiceLoader;
+import org.apache.shardingsphere.sql.parser.core.rule.registry.ParseRuleRegistry;
+import org.apache.shardingsphere.sql.parser.core.rule.registry.statement.SQLStatementRule;
+import org.apache.shardingsphere.sql.parser.spi.SQLParserEntry;
+import org.apache.shardingsphere.sql.parser.sql.segment.SQLSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.assignment.AssignmentSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.assignment.InsertValuesSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.assignment.SetAssignmentsSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.column.ColumnSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.column.InsertColumnsSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.expr.ExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.item.ColumnSelectItemSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.item.SelectItemsSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.predicate.AndPredicate;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.predicate.PredicateSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.predicate.WhereSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.predicate.value.PredicateCompareRightValue;
+import org.apache.shardingsphere.sql.parser.sql.segment.generic.TableSegment;
+
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Simple SQL parser.
+ *
+ * <p>
+ * Hand-written parser for most common simple DML statements, SQL segments are created same as ANTLR parser and extractors without parse tree:
+ * {@code SELECT column, ... FROM table [WHERE column = ? [AND column = ?]...]},
+ * {@code INSERT INTO table (column, ...) VALUES (?, ...)[, (?, ...)]...},
+ * {@code UPDATE table SET column = ?[, column = ?]... [WHERE ...]} and {@code DELETE FROM table [WHERE ...]}.
+ * Identifiers must be recognized as identifier by lexer of database type, values must be parameter markers.
+ * Other SQL is not recognized and should be parsed by ANTLR.
+ * </p>
+ */
+@RequiredArgsConstructor
+public final class SimpleSQLParser {
+    
+    private static final String IDENTIFIER_TOKEN_NAME = "IDENTIFIER_";
+    
+    private static final int MAX_CACHED_IDENTIFIERS = 4096;
+    
+    private static final ConcurrentMap<String, IdentifierLexer> IDENTIFIER_LEXERS = new ConcurrentHashMap<>();
+    
+    private final ParseRuleRegistry parseRuleRegistry;
+    
+    private final String databaseTypeName;
+    
+    private final String sql;
+    
+    private final List<ColumnSegment> columns = new LinkedList<>();
+    
+    private int position;
+    
+    private int tokenStartIndex;
+    
+    private int parameterMarkerCount;
+    
+    /**
+     * Parse simple SQL.
+     *
+     * @return parse result, absent if SQL is not simple SQL
+     */
+    public Optional<SimpleSQLParseResult> parse() {
+        position = 0;
+        parameterMarkerCount = 0;
+        columns.clear();
+        if (acceptKeyword("SELECT")) {
+            return parseSelect();
+        }
+        if (acceptKeyword("INSERT")) {
+            return parseInsert();
+        }
+        if (acceptKeyword("UPDATE")) {
+            return parseUpdate();
+        }
+        if (acceptKeyword("DELETE")) {
+            return parseDelete();
+        }
+        return Optional.absent();
+    }
+    
+    private Optional<SimpleSQLParseResult> parseSelect() {
+        List<ColumnSegment> selectColumns = new LinkedList<>();
+        do {
+            ColumnSegment column = parseColumn();
+            if (null == column) {
+                return Optional.absent();
+            }
+            selectColumns.add(column);
+        } while (acceptChar(','));
+        if (!acceptKeyword("FROM")) {
+            return Optional.absent();
+        }
+        TableSegment table = parseTable();
+        if (null == table) {
+            return Optional.absent();
+        }
+        List<PredicateSegment> predicates = new LinkedList<>();
+        int whereStartIndex = -1;
+        if (acceptKeyword("WHERE")) {
+            whereStartIndex = tokenStartIndex;
+            if (!parsePredicates(predicates)) {
+                return Optional.absent();
+            }
+        }
+        if (!isEnd()) {
+            return Optional.absent();
+        }
+        Collection<SQLSegment> sqlSegments = createSQLSegments(table);
+        SelectItemsSegment selectItemsSegment = new SelectItemsSegment(selectColumns.get(0).getStartIndex(), selectColumns.get(selectColumns.size() - 1).getStopIndex(), false);
+        for (ColumnSegment each : selectColumns) {
+            selectItemsSegment.getSelectItems().add(new ColumnSelectItemSegment(each.getName(), each));
+        }
+        sqlSegments.add(selectItemsSegment);
+        addWhereSegment(sqlSegments, whereStartIndex, predicates);
+        return createParseResult("SelectContext", sqlSegments);
+    }
+    
+    private Optional<SimpleSQLParseResult> parseInsert() {
+        if (!acceptKeyword("INTO")) {
+            return Optional.absent();
+        }
+        TableSegment table = parseTable();
+        if (null == table || !acceptChar('(')) {
+            return Optional.absent();
+        }
+        int insertColumnsStartIndex = tokenStartIndex;
+        Collection<ColumnSegment> insertColumns = new LinkedList<>();
+        do {
+            ColumnSegment column = parseColumn();
+            if (null == column) {
+                return Optional.absent();
+            }
+            insertColumns.add(column);
+        } while (acceptChar(','));
+        if (!acceptChar(')')) {
+            return Optional.absent();
+        }
+        Collection<SQLSegment> sqlSegments = createSQLSegments(table);
+        sqlSegments.add(new InsertColumnsSegment(insertColumnsStartIndex, tokenStartIndex, insertColumns));
+        if (!acceptKeyword("VALUES")) {
+            return Optional.absent();
+        }
+        Collection<InsertValuesSegment> insertValuesSegments = new LinkedList<>();
+        do {
+            InsertValuesSegment insertValuesSegment = parseInsertValues();
+            if (null == insertValuesSegment) {
+                return Optional.absent();
+            }
+            insertValuesSegments.add(insertValuesSegment);
+        } while (acceptChar(','));
+        if (!isEnd()) {
+            return Optional.absent();
+        }
+        sqlSegments.addAll(insertValuesSegments);
+        return createParseResult("InsertContext", sqlSegments);
+    }
+    
+    private InsertValuesSegment parseInsertValues() {
+        if (!acceptChar('(')) {
+            return null;
+        }
+        int startIndex = tokenStartIndex;
+        List<ExpressionSegment> values = new LinkedList<>();
+        do {
+            ParameterMarkerExpressionSegment value = parseParameterMarker();
+            if (null == value) {
+                return null;
+            }
+            values.add(value);
+        } while (acceptChar(','));
+        return acceptChar(')') ? new InsertValuesSegment(startIndex, tokenStartIndex, values) : null;
+    }
+    
+    private Optional<SimpleSQLParseResult> parseUpdate() {
+        TableSegment table = parseTable();
+        if (null == table || !acceptKeyword("SET")) {
+            return Optional.absent();
+        }
+        int setAssignmentsStartIndex = tokenStartIndex;
+        Collection<AssignmentSegment> assignments = new LinkedList<>();
+        do {
+            ColumnSegment column = parseColumn();
+            if (null == column || !acceptChar('=')) {
+                return Optional.absent();
+            }
+            ParameterMarkerExpressionSegment value = parseParameterMarker();
+            if (null == value) {
+                return Optional.absent();
+            }
+            assignments.add(new AssignmentSegment(column.getStartIndex(), value.getStopIndex(), column, value));
+        } while (acceptChar(','));
+        SetAssignmentsSegment setAssignmentsSegment = new SetAssignmentsSegment(setAssignmentsStartIndex, tokenStartIndex, assignments);
+        List<PredicateSegment> predicates = new LinkedList<>();
+        int whereStartIndex = -1;
+        if (acceptKeyword("WHERE")) {
+            whereStartIndex = tokenStartIndex;
+            if (!parsePredicates(predicates)) {
+                return Optional.absent();
+            }
+        }
+        if (!isEnd()) {
+            return Optional.absent();
+        }
+        Collection<SQLSegment> sqlSegments = createSQLSegments(table);
+        sqlSegments.add(setAssignmentsSegment);
+        addWhereSegment(sqlSegments, whereStartIndex, predicates);
+        return createParseResult("UpdateContext", sqlSegments);
+    }
+    
+    private Optional<SimpleSQLParseResult> parseDelete() {
+        if (!acceptKeyword("FROM")) {
+            return Optional.absent();
+        }
+        TableSegment table = parseTable();
+        if (null == table) {
+            return Optional.absent();
+        }
+        List<PredicateSegment> predicates = new LinkedList<>();
+        int whereStartIndex = -1;
+        if (acceptKeyword("WHERE")) {
+            whereStartIndex = tokenStartIndex;
+            if (!parsePredicates(predicates)) {
+                return Optional.absent();
+            }
+        }
+        if (!isEnd()) {
+            return Optional.absent();
+        }
+        Collection<SQLSegment> sqlSegments = createSQLSegments(table);
+        addWhereSegment(sqlSegments, whereStartIndex, predicates);
+        return createParseResult("DeleteContext", sqlSegments);
+    }
+    
+    private boolean parsePredicates(final List<PredicateSegment> predicates) {
+        do {
+            ColumnSegment column = parseColumn();
+            if (null == column || !acceptChar('=')) {
+                return false;
+            }
+            ParameterMarkerExpressionSegment value = parseParameterMarker();
+            if (null == value) {
+                return false;
+            }
+            predicates.add(new PredicateSegment(column.getStartIndex(), value.getStopIndex(), column, new PredicateCompareRightValue("=", value)));
+        } while (acceptKeyword("AND"));
+        return true;
+    }
+    
+    private Collection<SQLSegment> createSQLSegments(final TableSegment table) {
+        Collection<SQLSegment> result = new LinkedList<>();
+        result.add(table);
+        result.addAll(columns);
+        return result;
+    }
+    
+    private void addWhereSegment(final Collection<SQLSegment> sqlSegments, final int whereStartIndex, final List<PredicateSegment> predicates) {
+        if (predicates.isEmpty()) {
+            return;
+        }
+        PredicateSegment lastPredicate = predicates.get(predicates.size() - 1);
+        WhereSegment whereSegment = new WhereSegment(whereStartIndex, lastPredicate.getStopIndex(), parameterMarkerCount);
+        AndPredicate andPredicate = new AndPredicate();
+        andPredicate.getPredicates().addAll(predicates);
+        whereSegment.getAndPredicates().add(andPredicate);
+        whereSegment.setParameterStartIndex(((ParameterMarkerExpressionSegment) ((PredicateCompareRightValue) predicates.get(0).getRightValue()).getExpression()).getParameterMarkerIndex());
+        sqlSegments.add(whereSegment);
+    }
+    
+    private Optional<SimpleSQLParseResult> createParseResult(final String statementContextName, final Collection<SQLSegment> sqlSegments) {
+        SQLStatementRule rule = parseRuleRegistry.getSQLStatementRule(databaseTypeName, statementContextName);
+        return null == rule ? Optional.<SimpleSQLParseResult>absent() : Optional.of(new SimpleSQLParseResult(sqlSegments, parameterMarkerCount, rule));
+    }
+    
+    private TableSegment parseTable() {
+        String name = parseIdentifier();
+        return null == name ? null : new TableSegment(tokenStartIndex, position - 1, name);
+    }
+    
+    private ColumnSegment parseColumn() {
+        String name = parseIdentifier();
+        if (null == name) {
+            return null;
+        }
+        columns.add(new ColumnSegment(tokenStartIndex, position - 1, name));
+        return new ColumnSegment(tokenStartIndex, position - 1, name);
+    }
+    
+    private ParameterMarkerExpressionSegment parseParameterMarker() {
+        return acceptChar('?') ? new ParameterMarkerExpressionSegment(tokenStartIndex, tokenStartIndex, parameterMarkerCount++) : null;
+    }
+    
+    private String parseIdentifier() {
+        skipWhitespace();
+        int startIndex = position;
+        while (position < sql.length() && isIdentifierCharacter(sql.charAt(position))) {
+            position++;
+        }
+        if (startIndex == position || Character.isDigit(sql.charAt(startIndex)) || position < sql.length() && isOtherIdentifierCharacter(sql.charAt(position))) {
+            return null;
+        }
+        String result = sql.substring(startIndex, position);
+        tokenStartIndex = startIndex;
+        return isIdentifier(databaseTypeName, result) ? result : null;
+    }
+    
+    private boolean acceptKeyword(final String keyword) {
+        skipWhitespace();
+        int endIndex = position + keyword.length();
+        if (!sql.regionMatches(true, position, keyword, 0, keyword.length())
+                || endIndex < sql.length() && (isIdentifierCharacter(sql.charAt(endIndex)) || isOtherIdentifierCharacter(sql.charAt(endIndex)))) {
+            return false;
+        }
+        tokenStartIndex = position;
+        position = endIndex;
+        return true;
+    }
+    
+    private boolean acceptChar(final char expected) {
+        skipWhitespace();
+        if (position >= sql.length() || expected != sql.charAt(position)) {
+            return false;
+        }
+        tokenStartIndex = position;
+        position++;
+        return true;
+    }
+    
+    private boolean isEnd() {
+        skipWhitespace();
+        return position == sql.length();
+    }
+    
+    private void skipWhitespace() {
+        while (position < sql.length() && isWhitespace(sql.charAt(position))) {
+            position++;
+        }
+    }
+    
+    private boolean isWhitespace(final char ch) {
+        return ' ' == ch || '\t' == ch || '\r' == ch || '\n' == ch;
+    }
+    
+    private boolean isIdentifierCharacter(final char ch) {
+        return ch >= 'a' && ch <= 'z' || ch >= 'A' && ch <= 'Z' || ch >= '0' && ch <= '9' || '_' == ch;
+    }
+    
+    private boolean isOtherIdentifierCharacter(final char ch) {
+        return '$' == ch || '#' == ch || '@' == ch || ch > 0x7F;
+    }
+    
+    private static boolean isIdentifier(final String databaseTypeName, final String text) {
+        IdentifierLexer identifierLexer = IDENTIFIER_LEXERS.get(databaseTypeName);
+        if (null == identifierLexer) {
+            IDENTIFIER_LEXERS.putIfAbsent(databaseTypeName, new IdentifierLexer(findSQLParserEntry(databaseTypeName)));
+            identifierLexer = IDENTIFIER_LEXERS.get(databaseTypeName);
+        }
+        return identifierLexer.isIdentifier(text);
+    }
+    
+    private static SQLParserEntry findSQLParserEntry(final String databaseTypeName) {
+        for (SQLParserEntry each : NewInstanceServiceLoader.newServiceInstances(SQLParserEntry.class)) {
+            if (each.getDatabaseTypeName().equals(databaseTypeName)) {
+                return each;
+            }
+        }
+        return null;
+    }
+    
+    /**
+     * Identifier lexer of one database type.
+     *
+     * <p>SQL parser entry is resolved once, lexed identifiers are cached with least recently used eviction.</p>
+     */
+    @RequiredArgsConstructor
+    private static final class IdentifierLexer {
+        
+        private final SQLParserEntry parserEntry;
+        
+        private final Cache<String, Boolean> identifiers = CacheBuilder.newBuilder().maximumSize(MAX_CACHED_IDENTIFIERS).build();
+        
+        boolean isIdentifier(final String text) {
+            if (null == parserEntry) {
+                return false;
+            }
+            Boolean result = identifiers.getIfPresent(text);
+            if (null == result) {
+                result = lex(text);
+                identifiers.put(text, result);
+            }
+            return result;
+        }
+        
+        @SneakyThrows
+        private boolean lex(final String text) {
+            Lexer lexer = parserEntry.getLexerClass().getConstructor(CharStream.class).newInstance(CharStreams.fromString(text));
+            lexer.removeErrorListeners();
+            Token token = lexer.nextToken();
+            return IDENTIFIER_TOKEN_NAME.equals(lexer.getVocabulary().getSymbolicName(token.getType())) && Token.EOF == lexer.nextToken().getType();
+        }
+    }
+}
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.sql.parser;
 
+import org.apache.shardingsphere.sql.parser.cache.AbstractParseResultCache;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -25,6 +26,7 @@ import java.lang.reflect.Field;
 import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertThat;
 
 public final class SQLParseEngineFactoryTest {
@@ -41,4 +43,26 @@ public final class SQLParseEngineFactoryTest {
     public void assertGetSQLParseEngine() {
         assertThat(SQLParseEngineFactory.getSQLParseEngine("MySQL"), is(SQLParseEngineFactory.getSQLParseEngine("MySQL")));
     }
+    
+    @Test
+    public void assertGetSQLParseEngineWithCache() {
+        assertThat(SQLParseEngineFactory.getSQLParseEngine("MySQL", "LRU", 10), is(SQLParseEngineFactory.getSQLParseEngine("MySQL", "LRU", 10)));
+    }
+    
+    @Test
+    public void assertGetSQLParseEngineWithDefaultCache() {
+        assertThat(SQLParseEngineFactory.getSQLParseEngine("MySQL", "LRU", AbstractParseResultCache.DEFAULT_MAXIMUM_SIZE), is(SQLParseEngineFactory.getSQLParseEngine("MySQL")));
+    }
+    
+    @Test
+    public void assertGetSQLParseEngineWithDifferentCache() {
+        SQLParseEngine defaultEngine = SQLParseEngineFactory.getSQLParseEngine("MySQL");
+        assertNotSame(defaultEngine, SQLParseEngineFactory.getSQLParseEngine("MySQL", "LRU", 10));
+        assertNotSame(defaultEngine, SQLParseEngineFactory.getSQLParseEngine("MySQL", "SOFT", AbstractParseResultCache.DEFAULT_MAXIMUM_SIZE));
+    }
+    
+    @Test
+    public void assertNewSQLParseEngine() {
+        assertNotSame(SQLParseEngineFactory.newSQLParseEngine("MySQL", "LRU", 10), SQLParseEngineFactory.getSQLParseEngine("MySQL", "LRU", 10));
+    }
 }
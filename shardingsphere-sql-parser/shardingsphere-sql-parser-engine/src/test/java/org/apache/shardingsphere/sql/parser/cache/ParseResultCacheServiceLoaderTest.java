@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.cache;
+
+import org.junit.Test;
+
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class ParseResultCacheServiceLoaderTest {
+    
+    @Test
+    public void assertNewLRUService() {
+        Properties props = new Properties();
+        props.setProperty(AbstractParseResultCache.MAXIMUM_SIZE, "10");
+        ParseResultCache actual = new ParseResultCacheServiceLoader().newService("LRU", props);
+        assertThat(actual, instanceOf(SQLParseResultCache.class));
+        assertThat(actual.getProperties().getProperty(AbstractParseResultCache.MAXIMUM_SIZE), is("10"));
+    }
+    
+    @Test
+    public void assertNewSoftService() {
+        assertThat(new ParseResultCacheServiceLoader().newService("SOFT", new Properties()), instanceOf(SoftReferenceParseResultCache.class));
+    }
+    
+    @Test(expected = RuntimeException.class)
+    public void assertNewServiceWithInvalidType() {
+        new ParseResultCacheServiceLoader().newService("INVALID", new Properties());
+    }
+}
@@ -17,10 +17,14 @@
 
 package org.apache.shardingsphere.sql.parser.cache;
 
+import org.apache.shardingsphere.sql.parser.cache.shape.SQLShapeCache;
+import org.apache.shardingsphere.sql.parser.cache.shape.SQLShapeNormalizer;
 import org.apache.shardingsphere.sql.parser.sql.statement.SQLStatement;
 import org.apache.shardingsphere.sql.parser.sql.statement.dml.SelectStatement;
 import org.junit.Test;
 
+import java.util.Properties;
+
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
@@ -53,4 +57,39 @@ public final class SQLParseResultCacheTest {
         actual.clear();
         assertFalse(actual.getSQLStatement("SELECT 1").isPresent());
     }
+    
+    @Test
+    public void assertEvictWhenExceedMaximumSize() {
+        SQLParseResultCache actual = new SQLParseResultCache();
+        Properties props = new Properties();
+        props.setProperty(AbstractParseResultCache.MAXIMUM_SIZE, "1");
+        actual.setProperties(props);
+        actual.put("SELECT 1", new SelectStatement());
+        actual.put("SELECT 2", new SelectStatement());
+        assertFalse(actual.getSQLStatement("SELECT 1").isPresent());
+        assertTrue(actual.getSQLStatement("SELECT 2").isPresent());
+        assertThat(actual.getStatistics().getEvictionCount(), is(1L));
+        assertThat(actual.getStatistics().getSize(), is(1L));
+    }
+    
+    @Test
+    public void assertGetStatistics() {
+        SQLParseResultCache actual = new SQLParseResultCache();
+        actual.put("SELECT 1", new SelectStatement());
+        actual.getSQLStatement("SELECT 1");
+        actual.getSQLStatement("SELECT 2");
+        ParseResultCacheStatistics statistics = actual.getStatistics();
+        assertThat(statistics.getHitCount(), is(1L));
+        assertThat(statistics.getMissCount(), is(1L));
+        assertThat(statistics.getEvictionCount(), is(0L));
+        assertThat(statistics.getSize(), is(1L));
+    }
+    
+    @Test
+    public void assertCreateShapeCache() {
+        SQLShapeCache actual = new SQLParseResultCache().createShapeCache();
+        assertFalse(actual.getTemplate(SQLShapeNormalizer.normalize("SELECT * FROM t WHERE id = 1").get()).isPresent());
+        assertThat(actual.getStatistics().getMissCount(), is(1L));
+        assertThat(actual.getStatistics().getSize(), is(0L));
+    }
 }
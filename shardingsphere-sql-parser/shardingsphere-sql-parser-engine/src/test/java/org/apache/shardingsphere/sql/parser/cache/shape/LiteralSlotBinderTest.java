@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.cache.shape;
+
+import org.apache.shardingsphere.sql.parser.sql.segment.SQLSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.assignment.InsertValuesSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.column.ColumnSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.expr.ExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.expr.complex.CommonExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.expr.simple.LiteralExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.pagination.limit.LimitSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.pagination.limit.NumberLiteralLimitValueSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.predicate.AndPredicate;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.predicate.PredicateSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.predicate.WhereSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.predicate.value.PredicateCompareRightValue;
+import org.apache.shardingsphere.sql.parser.sql.segment.generic.TableSegment;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class LiteralSlotBinderTest {
+    
+    @Test
+    public void assertIsBindableWithoutLiteralSlots() {
+        assertTrue(LiteralSlotBinder.isBindable(Collections.<SQLSegment>singletonList(new TableSegment(14, 20, "t_order")), Collections.<LiteralSlot>emptyList()));
+    }
+    
+    @Test
+    public void assertIsBindableWithWhereAndLimit() {
+        Collection<SQLSegment> sqlSegments = Arrays.asList(createWhereSegment(new LiteralExpressionSegment(39, 41, 123)), createLimitSegment());
+        assertTrue(LiteralSlotBinder.isBindable(sqlSegments, Arrays.asList(new LiteralSlot(39, 41, 456), new LiteralSlot(49, 50, 20))));
+    }
+    
+    @Test
+    public void assertIsNotBindableWithLiteralTypeChanged() {
+        Collection<SQLSegment> sqlSegments = Collections.<SQLSegment>singletonList(createWhereSegment(new LiteralExpressionSegment(39, 41, 123)));
+        assertFalse(LiteralSlotBinder.isBindable(sqlSegments, Collections.singletonList(new LiteralSlot(39, 41, "1"))));
+    }
+    
+    @Test
+    public void assertIsNotBindableWithLiteralInCommonExpression() {
+        Collection<SQLSegment> sqlSegments = Collections.<SQLSegment>singletonList(createWhereSegment(new CommonExpressionSegment(39, 45, "123 + 1")));
+        assertFalse(LiteralSlotBinder.isBindable(sqlSegments, Collections.singletonList(new LiteralSlot(39, 41, 123))));
+    }
+    
+    @Test
+    public void assertIsNotBindableWithLiteralCoveredByOtherSegment() {
+        Collection<SQLSegment> sqlSegments = Arrays.asList(createWhereSegment(new LiteralExpressionSegment(39, 41, 123)), new TableSegment(30, 45, "t_order"));
+        assertFalse(LiteralSlotBinder.isBindable(sqlSegments, Collections.singletonList(new LiteralSlot(39, 41, 123))));
+    }
+    
+    @Test
+    public void assertIsNotBindableWithUnmatchedLiteral() {
+        Collection<SQLSegment> sqlSegments = Collections.<SQLSegment>singletonList(createWhereSegment(new ParameterMarkerExpressionSegment(39, 39, 0)));
+        assertFalse(LiteralSlotBinder.isBindable(sqlSegments, Collections.singletonList(new LiteralSlot(50, 51, 10))));
+    }
+    
+    @Test
+    public void assertBind() {
+        TableSegment tableSegment = new TableSegment(14, 20, "t_order");
+        Collection<SQLSegment> sqlSegments = Arrays.asList(tableSegment, createWhereSegment(new LiteralExpressionSegment(39, 41, 123)), createLimitSegment(),
+                new InsertValuesSegment(60, 70, Arrays.<ExpressionSegment>asList(new LiteralExpressionSegment(61, 63, "abc"), new ParameterMarkerExpressionSegment(66, 66, 0))));
+        Iterator<SQLSegment> actual = new LiteralSlotBinder(Arrays.asList(new LiteralSlot(39, 41, 456), new LiteralSlot(49, 50, 20), new LiteralSlot(61, 63, "xyz"))).bind(sqlSegments).iterator();
+        assertThat(actual.next(), is((SQLSegment) tableSegment));
+        WhereSegment actualWhere = (WhereSegment) actual.next();
+        PredicateSegment actualPredicate = actualWhere.getAndPredicates().iterator().next().getPredicates().iterator().next();
+        assertThat(actualPredicate.getColumn().getName(), is("order_id"));
+        LiteralExpressionSegment actualLiteral = (LiteralExpressionSegment) ((PredicateCompareRightValue) actualPredicate.getRightValue()).getExpression();
+        assertThat(actualLiteral.getStartIndex(), is(39));
+        assertThat(actualLiteral.getStopIndex(), is(41));
+        assertThat(actualLiteral.getLiterals(), is((Object) 456));
+        assertThat(actualWhere.getParameterStartIndex(), is(0));
+        LimitSegment actualLimit = (LimitSegment) actual.next();
+        assertThat(((NumberLiteralLimitValueSegment) actualLimit.getRowCount().get()).getValue(), is(20L));
+        InsertValuesSegment actualInsertValues = (InsertValuesSegment) actual.next();
+        assertThat(((LiteralExpressionSegment) actualInsertValues.getValues().get(0)).getLiterals(), is((Object) "xyz"));
+        assertThat(actualInsertValues.getValues().get(1), sameInstance(((InsertValuesSegment) sqlSegments.toArray()[3]).getValues().get(1)));
+    }
+    
+    private WhereSegment createWhereSegment(final ExpressionSegment expression) {
+        WhereSegment result = new WhereSegment(22, 41, 0);
+        AndPredicate andPredicate = new AndPredicate();
+        andPredicate.getPredicates().add(new PredicateSegment(28, 41, new ColumnSegment(28, 35, "order_id"), new PredicateCompareRightValue("=", expression)));
+        result.getAndPredicates().add(andPredicate);
+        return result;
+    }
+    
+    private LimitSegment createLimitSegment() {
+        return new LimitSegment(43, 50, null, new NumberLiteralLimitValueSegment(49, 50, 10L));
+    }
+}
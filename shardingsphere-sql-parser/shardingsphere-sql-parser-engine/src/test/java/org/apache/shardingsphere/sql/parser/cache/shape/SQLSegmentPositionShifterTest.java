@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.cache.shape;
+
+import org.apache.shardingsphere.sql.parser.sql.segment.SQLSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.column.ColumnSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.expr.simple.LiteralExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.predicate.AndPredicate;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.predicate.PredicateSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.predicate.WhereSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.predicate.value.PredicateCompareRightValue;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public final class SQLSegmentPositionShifterTest {
+    
+    private final SQLSegmentPositionShifter shifter = new SQLSegmentPositionShifter(
+            Arrays.asList(new LiteralSlot(26, 26, 1), new LiteralSlot(37, 39, "a")), Arrays.asList(new LiteralSlot(26, 28, 100), new LiteralSlot(39, 43, "abc")));
+    
+    @Test
+    public void assertShiftBeforeFirstSlot() {
+        assertThat(shifter.shiftStartIndex(14), is(14));
+        assertThat(shifter.shiftStopIndex(14), is(14));
+    }
+    
+    @Test
+    public void assertShiftSlotBoundary() {
+        assertThat(shifter.shiftStartIndex(26), is(26));
+        assertThat(shifter.shiftStopIndex(26), is(28));
+        assertThat(shifter.shiftStartIndex(37), is(39));
+        assertThat(shifter.shiftStopIndex(39), is(43));
+    }
+    
+    @Test
+    public void assertShiftBetweenSlots() {
+        assertThat(shifter.shiftStartIndex(28), is(30));
+        assertThat(shifter.shiftStopIndex(33), is(35));
+    }
+    
+    @Test
+    public void assertShiftAfterLastSlot() {
+        assertThat(shifter.shiftStartIndex(45), is(49));
+    }
+    
+    @Test
+    public void assertShiftSegments() {
+        LiteralExpressionSegment literal = new LiteralExpressionSegment(37, 39, "a");
+        ColumnSegment column = new ColumnSegment(30, 33, "name");
+        PredicateSegment predicate = new PredicateSegment(30, 39, column, new PredicateCompareRightValue("=", literal));
+        AndPredicate andPredicate = new AndPredicate();
+        andPredicate.getPredicates().add(predicate);
+        WhereSegment whereSegment = new WhereSegment(16, 39, 0);
+        whereSegment.getAndPredicates().add(andPredicate);
+        Collection<SQLSegment> actual = shifter.shift(Collections.<SQLSegment>singletonList(whereSegment));
+        assertThat(actual.size(), is(1));
+        WhereSegment actualWhereSegment = (WhereSegment) actual.iterator().next();
+        assertThat(actualWhereSegment, not(sameInstance(whereSegment)));
+        assertThat(actualWhereSegment.getStartIndex(), is(16));
+        assertThat(actualWhereSegment.getStopIndex(), is(43));
+        PredicateSegment actualPredicate = actualWhereSegment.getAndPredicates().iterator().next().getPredicates().iterator().next();
+        assertThat(actualPredicate.getStartIndex(), is(32));
+        assertThat(actualPredicate.getColumn().getStartIndex(), is(32));
+        assertThat(actualPredicate.getColumn().getStopIndex(), is(35));
+        assertThat(actualPredicate.getColumn().getName(), is("name"));
+        LiteralExpressionSegment actualLiteral = (LiteralExpressionSegment) ((PredicateCompareRightValue) actualPredicate.getRightValue()).getExpression();
+        assertThat(actualLiteral.getStartIndex(), is(39));
+        assertThat(actualLiteral.getStopIndex(), is(43));
+        assertThat(actualLiteral.getLiterals(), is((Object) "a"));
+    }
+    
+    @Test
+    public void assertShiftSegmentsWithoutModifyingTemplate() {
+        ColumnSegment column = new ColumnSegment(30, 33, "name");
+        shifter.shift(Collections.<SQLSegment>singletonList(column));
+        assertThat(column.getStartIndex(), is(30));
+        assertThat(column.getStopIndex(), is(33));
+    }
+}
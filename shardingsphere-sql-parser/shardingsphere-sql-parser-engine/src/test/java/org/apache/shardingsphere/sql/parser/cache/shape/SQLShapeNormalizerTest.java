@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.cache.shape;
+
+import com.google.common.base.Optional;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class SQLShapeNormalizerTest {
+    
+    @Test
+    public void assertNormalizeWithNumberAndStringLiterals() {
+        Optional<SQLShape> actual = SQLShapeNormalizer.normalize("SELECT * FROM t_order WHERE order_id = 123 AND status = 'OK'");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSkeleton(), is("SELECT * FROM t_order WHERE order_id = ? AND status = '?'"));
+        assertThat(actual.get().getLiteralSlots().size(), is(2));
+        assertLiteralSlot(actual.get().getLiteralSlots().get(0), 39, 41, (Object) 123);
+        assertLiteralSlot(actual.get().getLiteralSlots().get(1), 56, 59, (Object) "OK");
+    }
+    
+    @Test
+    public void assertNormalizeWithDecimalAndLongLiterals() {
+        Optional<SQLShape> actual = SQLShapeNormalizer.normalize("SELECT * FROM t_order WHERE price > 1.5 AND order_id = 10000000000");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getLiteralSlots().get(0).getLiterals().toString(), is("1.5"));
+        assertThat(actual.get().getLiteralSlots().get(1).getLiterals(), is((Object) 10000000000L));
+    }
+    
+    @Test
+    public void assertNormalizeWithoutLiteralsInIdentifiersAndComments() {
+        Optional<SQLShape> actual = SQLShapeNormalizer.normalize("SELECT `col 1`, t_order_1.c2 FROM \"t_order_1\" /* 1 */ WHERE x1 = ? -- 2");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSkeleton(), is("SELECT `col 1`, t_order_1.c2 FROM \"t_order_1\" /* 1 */ WHERE x1 = ? -- 2"));
+        assertTrue(actual.get().getLiteralSlots().isEmpty());
+    }
+    
+    @Test
+    public void assertNormalizeWithEscapedAndPrefixedStrings() {
+        Optional<SQLShape> actual = SQLShapeNormalizer.normalize("SELECT * FROM t WHERE a = 'it''s' AND b = 'a\\'b' AND c = N'x' AND d = 1e3");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSkeleton(), is("SELECT * FROM t WHERE a = 'it''s' AND b = 'a\\'b' AND c = N'x' AND d = 1e3"));
+        assertTrue(actual.get().getLiteralSlots().isEmpty());
+    }
+    
+    @Test
+    public void assertNormalizeWithDollarQuote() {
+        assertFalse(SQLShapeNormalizer.normalize("SELECT $$1$$").isPresent());
+    }
+    
+    @Test
+    public void assertNormalizeWithUnterminatedQuote() {
+        assertFalse(SQLShapeNormalizer.normalize("SELECT * FROM t WHERE a = 'abc").isPresent());
+    }
+    
+    @Test
+    public void assertSameShapeWithDifferentLiteralValues() {
+        assertThat(SQLShapeNormalizer.normalize("SELECT * FROM t WHERE id = 123 AND name = 'abc'").get(),
+                is(SQLShapeNormalizer.normalize("SELECT * FROM t WHERE id = 456 AND name = 'xyz'").get()));
+    }
+    
+    @Test
+    public void assertSameShapeWithDifferentLiteralLength() {
+        assertThat(SQLShapeNormalizer.normalize("SELECT * FROM t WHERE id = 1 AND name = 'a'").get(), is(SQLShapeNormalizer.normalize("SELECT * FROM t WHERE id = 12 AND name = 'abc'").get()));
+    }
+    
+    @Test
+    public void assertDifferentShapeWithDifferentLiteralPosition() {
+        assertThat(SQLShapeNormalizer.normalize("SELECT * FROM t WHERE a = 1 AND b = ?").get().equals(SQLShapeNormalizer.normalize("SELECT * FROM t WHERE a = ? AND b = 1").get()), is(false));
+    }
+    
+    private void assertLiteralSlot(final LiteralSlot actual, final int startIndex, final int stopIndex, final Object literals) {
+        assertThat(actual.getStartIndex(), is(startIndex));
+        assertThat(actual.getStopIndex(), is(stopIndex));
+        assertThat(actual.getLiterals(), is(literals));
+    }
+}
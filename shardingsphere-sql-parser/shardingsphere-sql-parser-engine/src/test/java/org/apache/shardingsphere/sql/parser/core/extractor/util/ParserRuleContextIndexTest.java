@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.core.extractor.util;
+
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class ParserRuleContextIndexTest {
+    
+    private final ParserRuleContext rootNode = new ParserRuleContext();
+    
+    private final ExprContext firstExprNode = new ExprContext();
+    
+    private final ColumnNameContext nestedColumnNameNode = new ColumnNameContext();
+    
+    private final ColumnNameContext columnNameNode = new ColumnNameContext();
+    
+    private final ExprContext secondExprNode = new ExprContext();
+    
+    private final ParameterMarkerContext firstParameterMarkerNode = new ParameterMarkerContext();
+    
+    private final ExprContext nestedExprNode = new ExprContext();
+    
+    private final ParameterMarkerContext secondParameterMarkerNode = new ParameterMarkerContext();
+    
+    private ParserRuleContextIndex index;
+    
+    @Before
+    public void setUp() {
+        rootNode.addAnyChild(firstExprNode);
+        firstExprNode.addAnyChild(nestedColumnNameNode);
+        rootNode.addAnyChild(columnNameNode);
+        rootNode.addAnyChild(secondExprNode);
+        secondExprNode.addAnyChild(firstParameterMarkerNode);
+        secondExprNode.addAnyChild(nestedExprNode);
+        nestedExprNode.addAnyChild(secondParameterMarkerNode);
+        index = new ParserRuleContextIndex(rootNode);
+    }
+    
+    @After
+    public void tearDown() {
+        ParserRuleContextIndex.clearCurrent();
+    }
+    
+    @Test
+    public void assertContains() {
+        assertTrue(index.contains(secondParameterMarkerNode));
+        assertFalse(index.contains(new ExprContext()));
+    }
+    
+    @Test
+    public void assertGetAllDescendantNodes() {
+        assertThat(new ArrayList<>(index.getAllDescendantNodes(rootNode, RuleName.PARAMETER_MARKER)), is(Arrays.<ParserRuleContext>asList(firstParameterMarkerNode, secondParameterMarkerNode)));
+        assertThat(new ArrayList<>(index.getAllDescendantNodes(secondExprNode, RuleName.EXPR)), is(Arrays.<ParserRuleContext>asList(secondExprNode, nestedExprNode)));
+        assertThat(new ArrayList<>(index.getAllDescendantNodes(firstExprNode, RuleName.PARAMETER_MARKER)), is(Collections.<ParserRuleContext>emptyList()));
+        assertTrue(index.getAllDescendantNodes(rootNode, RuleName.SIMPLE_EXPR).isEmpty());
+    }
+    
+    @Test
+    public void assertFindFirstChildNode() {
+        assertThat(index.findFirstChildNode(rootNode, RuleName.COLUMN_NAME).get(), is((ParserRuleContext) columnNameNode));
+        assertThat(index.findFirstChildNode(firstExprNode, RuleName.COLUMN_NAME).get(), is((ParserRuleContext) nestedColumnNameNode));
+        assertThat(index.findFirstChildNode(secondExprNode, RuleName.EXPR).get(), is((ParserRuleContext) secondExprNode));
+        assertFalse(index.findFirstChildNode(firstExprNode, RuleName.PARAMETER_MARKER).isPresent());
+        assertFalse(index.findFirstChildNode(rootNode, RuleName.SIMPLE_EXPR).isPresent());
+    }
+    
+    @Test
+    public void assertSameResultWithExtractorUtils() {
+        for (RuleName each : Arrays.asList(RuleName.EXPR, RuleName.COLUMN_NAME, RuleName.PARAMETER_MARKER)) {
+            assertThat(new ArrayList<>(index.getAllDescendantNodes(rootNode, each)), is(new ArrayList<>(ExtractorUtils.getAllDescendantNodes(rootNode, each))));
+            assertThat(index.findFirstChildNode(rootNode, each), is(ExtractorUtils.findFirstChildNode(rootNode, each)));
+        }
+    }
+    
+    @Test
+    public void assertExtractorUtilsWithCurrentIndex() {
+        ParserRuleContextIndex.setCurrent(index);
+        assertThat(new ArrayList<>(ExtractorUtils.getAllDescendantNodes(rootNode, RuleName.PARAMETER_MARKER)), is(Arrays.<ParserRuleContext>asList(firstParameterMarkerNode, secondParameterMarkerNode)));
+        assertThat(ExtractorUtils.findFirstChildNode(rootNode, RuleName.COLUMN_NAME).get(), is((ParserRuleContext) columnNameNode));
+        ExprContext notIndexedNode = new ExprContext();
+        assertThat(ExtractorUtils.findFirstChildNode(notIndexedNode, RuleName.EXPR).get(), is((ParserRuleContext) notIndexedNode));
+    }
+    
+    private static final class ExprContext extends ParserRuleContext {
+    }
+    
+    private static final class ColumnNameContext extends ParserRuleContext {
+    }
+    
+    private static final class ParameterMarkerContext extends ParserRuleContext {
+    }
+}
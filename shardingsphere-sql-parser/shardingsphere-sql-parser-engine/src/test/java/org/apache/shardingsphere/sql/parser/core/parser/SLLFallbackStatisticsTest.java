@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.core.parser;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class SLLFallbackStatisticsTest {
+    
+    @Before
+    @After
+    public void clear() {
+        SLLFallbackStatistics.getInstance().clear();
+    }
+    
+    @Test
+    public void assertIncrease() {
+        SLLFallbackStatistics.getInstance().increase("MySQL", "SelectContext");
+        SLLFallbackStatistics.getInstance().increase("MySQL", "SelectContext");
+        SLLFallbackStatistics.getInstance().increase("PostgreSQL", "SelectContext");
+        assertThat(SLLFallbackStatistics.getInstance().getCount("MySQL", "SelectContext"), is(2L));
+        assertThat(SLLFallbackStatistics.getInstance().getCount("PostgreSQL", "SelectContext"), is(1L));
+        assertThat(SLLFallbackStatistics.getInstance().getCount("MySQL", "InsertContext"), is(0L));
+    }
+    
+    @Test
+    public void assertGetCounts() {
+        SLLFallbackStatistics.getInstance().increase("MySQL", "SelectContext");
+        assertThat(SLLFallbackStatistics.getInstance().getCounts().size(), is(1));
+        assertThat(SLLFallbackStatistics.getInstance().getCounts().get("MySQL.SelectContext"), is(1L));
+    }
+    
+    @Test
+    public void assertClear() {
+        SLLFallbackStatistics.getInstance().increase("MySQL", "SelectContext");
+        SLLFallbackStatistics.getInstance().clear();
+        assertTrue(SLLFallbackStatistics.getInstance().getCounts().isEmpty());
+    }
+}
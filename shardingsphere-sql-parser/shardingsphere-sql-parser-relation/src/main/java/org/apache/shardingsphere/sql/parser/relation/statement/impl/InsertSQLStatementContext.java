@@ -24,6 +24,7 @@ import org.apache.shardingsphere.sql.parser.relation.segment.insert.InsertValueC
 import org.apache.shardingsphere.sql.parser.sql.segment.dml.expr.ExpressionSegment;
 import org.apache.shardingsphere.sql.parser.sql.statement.dml.InsertStatement;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.LinkedList;
@@ -49,9 +50,10 @@ public final class InsertSQLStatementContext extends CommonSQLStatementContext {
     }
     
     private List<InsertValueContext> getInsertValueContexts(final List<Object> parameters) {
-        List<InsertValueContext> result = new LinkedList<>();
+        List<List<ExpressionSegment>> allValueExpressions = ((InsertStatement) getSqlStatement()).getAllValueExpressions();
+        List<InsertValueContext> result = new ArrayList<>(allValueExpressions.size());
         int parametersOffset = 0;
-        for (Collection<ExpressionSegment> each : ((InsertStatement) getSqlStatement()).getAllValueExpressions()) {
+        for (Collection<ExpressionSegment> each : allValueExpressions) {
             InsertValueContext insertValueContext = new InsertValueContext(each, parameters, parametersOffset);
             result.add(insertValueContext);
             parametersOffset += insertValueContext.getParametersCount();
@@ -74,7 +76,7 @@ public final class InsertSQLStatementContext extends CommonSQLStatementContext {
      * @return grouped parameters
      */
     public List<List<Object>> getGroupedParameters() {
-        List<List<Object>> result = new LinkedList<>();
+        List<List<Object>> result = new ArrayList<>(insertValueContexts.size());
         for (InsertValueContext each : insertValueContexts) {
             result.add(each.getParameters());
         }
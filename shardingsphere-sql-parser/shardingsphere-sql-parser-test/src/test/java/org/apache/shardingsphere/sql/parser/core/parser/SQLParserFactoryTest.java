@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.core.parser;
+
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.Parser;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.apache.shardingsphere.sql.parser.api.SQLParser;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class SQLParserFactoryTest {
+    
+    @Test
+    public void assertGetThreadLocalInstance() {
+        SQLParser expected = SQLParserFactory.getThreadLocalInstance("MySQL", "SELECT 1");
+        SQLParserFactory.release(expected);
+        assertThat(SQLParserFactory.getThreadLocalInstance("MySQL", "SELECT 2"), is(expected));
+        SQLParserFactory.release(expected);
+    }
+    
+    @Test
+    public void assertRelease() {
+        SQLParser sqlParser = SQLParserFactory.getThreadLocalInstance("MySQL", "SELECT * FROM t_order");
+        ParseTree parseTree = sqlParser.execute();
+        SQLParserFactory.release(sqlParser);
+        CommonTokenStream tokenStream = (CommonTokenStream) ((Parser) sqlParser).getTokenStream();
+        assertThat(tokenStream.size(), is(0));
+        assertThat(((Lexer) tokenStream.getTokenSource()).getInputStream().size(), is(0));
+        assertThat(parseTree.getChild(0).getText(), is("SELECT*FROMt_order"));
+    }
+}
@@ -17,8 +17,13 @@
 
 package org.apache.shardingsphere.sql.parser.integrate.engine.sharding;
 
+import com.google.common.base.Optional;
 import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.sql.parser.SQLParseEngine;
 import org.apache.shardingsphere.sql.parser.SQLParseEngineFactory;
+import org.apache.shardingsphere.sql.parser.cache.shape.LiteralSlot;
+import org.apache.shardingsphere.sql.parser.cache.shape.SQLShape;
+import org.apache.shardingsphere.sql.parser.cache.shape.SQLShapeNormalizer;
 import org.apache.shardingsphere.sql.parser.integrate.asserts.ShardingSQLStatementAssert;
 import org.apache.shardingsphere.sql.parser.integrate.jaxb.ParserResultSetRegistry;
 import org.apache.shardingsphere.sql.parser.integrate.jaxb.ShardingParserResultSetRegistry;
@@ -32,6 +37,7 @@ import org.junit.runners.Parameterized;
 import org.junit.runners.Parameterized.Parameters;
 
 import java.util.Collection;
+import java.util.List;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
@@ -62,4 +68,35 @@ public final class ShardingParameterizedParsingTest {
         SQLStatement sqlStatement = SQLParseEngineFactory.getSQLParseEngine("H2".equals(databaseType) ? "MySQL" : databaseType).parse(sql, false);
         new ShardingSQLStatementAssert(sqlStatement, sqlCaseId, sqlCaseType).assertSQLStatement();
     }
+    
+    @Test
+    public void assertSupportedSQLWithShapeCache() {
+        String sql = sqlCasesLoader.getSQL(sqlCaseId, sqlCaseType, parserResultSetRegistry.get(sqlCaseId).getParameters());
+        SQLParseEngine parseEngine = new SQLParseEngine("H2".equals(databaseType) ? "MySQL" : databaseType);
+        new ShardingSQLStatementAssert(parseEngine.parseWithShapeCache(sql), sqlCaseId, sqlCaseType).assertSQLStatement();
+        new ShardingSQLStatementAssert(parseEngine.parseWithShapeCache(sql), sqlCaseId, sqlCaseType).assertSQLStatement();
+    }
+    
+    @Test
+    public void assertSupportedSQLWithShapeCacheOfDifferentLiteralLength() {
+        String sql = sqlCasesLoader.getSQL(sqlCaseId, sqlCaseType, parserResultSetRegistry.get(sqlCaseId).getParameters());
+        SQLParseEngine parseEngine = new SQLParseEngine("H2".equals(databaseType) ? "MySQL" : databaseType);
+        parseEngine.parseWithShapeCache(padNumberLiterals(sql));
+        new ShardingSQLStatementAssert(parseEngine.parseWithShapeCache(sql), sqlCaseId, sqlCaseType).assertSQLStatement();
+    }
+    
+    private String padNumberLiterals(final String sql) {
+        Optional<SQLShape> sqlShape = SQLShapeNormalizer.normalize(sql);
+        if (!sqlShape.isPresent()) {
+            return sql;
+        }
+        StringBuilder result = new StringBuilder(sql);
+        List<LiteralSlot> literalSlots = sqlShape.get().getLiteralSlots();
+        for (int i = literalSlots.size() - 1; i >= 0; i--) {
+            if (literalSlots.get(i).getLiterals() instanceof Number) {
+                result.insert(literalSlots.get(i).getStartIndex(), "00");
+            }
+        }
+        return result.toString();
+    }
 }
@@ -0,0 +1,156 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.integrate.engine.simple;
+
+import com.google.common.base.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.sql.parser.core.extractor.SQLSegmentsExtractorEngine;
+import org.apache.shardingsphere.sql.parser.core.filler.SQLStatementFillerEngine;
+import org.apache.shardingsphere.sql.parser.core.parser.SQLAST;
+import org.apache.shardingsphere.sql.parser.core.parser.SQLParserEngine;
+import org.apache.shardingsphere.sql.parser.core.parser.SimpleSQLParseResult;
+import org.apache.shardingsphere.sql.parser.core.parser.SimpleSQLParser;
+import org.apache.shardingsphere.sql.parser.core.rule.registry.ParseRuleRegistry;
+import org.apache.shardingsphere.sql.parser.sql.segment.SQLSegment;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(Parameterized.class)
+@RequiredArgsConstructor
+public final class SimpleSQLParameterizedParsingTest {
+    
+    private static final Collection<String> DATABASE_TYPES = Arrays.asList("MySQL", "PostgreSQL", "Oracle", "SQLServer", "SQL92");
+    
+    private static final Collection<String> SIMPLE_SQLS = Arrays.asList(
+            "SELECT order_id FROM t_order",
+            "SELECT order_id, user_id FROM t_order WHERE order_id = ?",
+            "select order_id,user_id,order_status from t_order where order_id=? and user_id=?",
+            "  SELECT order_id\n\tFROM t_order\r\nWHERE order_id = ?  ",
+            "SELECT ORDER_ID FROM T_ORDER WHERE ORDER_ID = ? AND USER_ID = ? AND ITEM_ID = ?",
+            "INSERT INTO t_order (order_id, user_id, order_status) VALUES (?, ?, ?)",
+            "insert into t_order(order_id,user_id) values(?,?),(?,?),(?,?)",
+            "UPDATE t_order SET order_status = ? WHERE order_id = ?",
+            "UPDATE t_order SET order_status = ?, user_id = ? WHERE order_id = ? AND user_id = ?",
+            "UPDATE t_order SET order_status = ?",
+            "DELETE FROM t_order WHERE order_id = ?",
+            "DELETE FROM t_order WHERE order_id = ? AND user_id = ?",
+            "DELETE FROM t_order");
+    
+    private static final Collection<String> OTHER_SQLS = Arrays.asList(
+            "SELECT * FROM t_order",
+            "SELECT order_id FROM t_order WHERE order_id = 1",
+            "SELECT o.order_id FROM t_order o WHERE o.order_id = ?",
+            "SELECT order_id AS id FROM t_order",
+            "SELECT `order_id` FROM t_order",
+            "SELECT \"order_id\" FROM t_order",
+            "SELECT order_id FROM t_order WHERE order_id = ? OR user_id = ?",
+            "SELECT order_id FROM t_order WHERE order_id > ?",
+            "SELECT order_id FROM t_order WHERE order_id = ? ORDER BY order_id",
+            "SELECT order_id FROM t_order WHERE order_id = ?;",
+            "SELECT order_id FROM t_order /* comment */ WHERE order_id = ?",
+            "SELECT order_id FROM t_order$1 WHERE order_id = ?",
+            "SELECT select FROM t_order",
+            "SELECT order_id FROM order WHERE order_id = ?",
+            "SELECT 1order_id FROM t_order",
+            "INSERT INTO t_order VALUES (?, ?)",
+            "INSERT INTO t_order (order_id) SELECT order_id FROM t_order_item",
+            "INSERT INTO t_order (order_id) VALUES (?) ON DUPLICATE KEY UPDATE order_id = ?",
+            "UPDATE t_order SET status = status + ? WHERE order_id = ?",
+            "DELETE t_order WHERE order_id = ?",
+            "CREATE TABLE t_order (order_id INT)");
+    
+    private final String databaseType;
+    
+    private final String sql;
+    
+    private final boolean simple;
+    
+    @Parameters(name = "{1} -> {0}")
+    public static Collection<Object[]> getTestParameters() {
+        Collection<Object[]> result = new LinkedList<>();
+        for (String each : DATABASE_TYPES) {
+            for (String simpleSQL : SIMPLE_SQLS) {
+                result.add(new Object[] {each, simpleSQL, true});
+            }
+            for (String otherSQL : OTHER_SQLS) {
+                result.add(new Object[] {each, otherSQL, false});
+            }
+        }
+        return result;
+    }
+    
+    @Test
+    public void assertParse() {
+        Optional<SimpleSQLParseResult> actual = new SimpleSQLParser(ParseRuleRegistry.getInstance(), databaseType, sql).parse();
+        if (!simple) {
+            assertFalse(actual.isPresent());
+            return;
+        }
+        assertTrue(actual.isPresent());
+        SQLAST ast = new SQLParserEngine(ParseRuleRegistry.getInstance(), databaseType, sql).parse();
+        Collection<SQLSegment> expectedSQLSegments = new SQLSegmentsExtractorEngine().extract(ast);
+        assertThat(dump(actual.get().getSqlSegments()), is(dump(expectedSQLSegments)));
+        assertThat(actual.get().getParametersCount(), is(ast.getParameterMarkerIndexes().size()));
+        assertThat(actual.get().getSqlStatementRule(), is(ast.getSqlStatementRule()));
+        SQLStatementFillerEngine fillerEngine = new SQLStatementFillerEngine(ParseRuleRegistry.getInstance(), databaseType);
+        assertThat(dump(fillerEngine.fill(actual.get().getSqlSegments(), actual.get().getParametersCount(), actual.get().getSqlStatementRule())),
+                is(dump(fillerEngine.fill(expectedSQLSegments, ast.getParameterMarkerIndexes().size(), ast.getSqlStatementRule()))));
+    }
+    
+    @SneakyThrows
+    private String dump(final Object object) {
+        if (null == object) {
+            return "null";
+        }
+        if (object instanceof Collection) {
+            StringBuilder result = new StringBuilder("[");
+            for (Object each : (Collection) object) {
+                result.append(dump(each)).append(", ");
+            }
+            return result.append("]").toString();
+        }
+        if (object instanceof Map || object.getClass().isEnum() || !object.getClass().getName().startsWith("org.apache.shardingsphere.sql.parser.sql.")) {
+            return object.getClass().getSimpleName() + ":" + object;
+        }
+        StringBuilder result = new StringBuilder(object.getClass().getSimpleName()).append("{");
+        for (Class<?> clazz = object.getClass(); Object.class != clazz; clazz = clazz.getSuperclass()) {
+            for (Field each : clazz.getDeclaredFields()) {
+                if (!Modifier.isStatic(each.getModifiers())) {
+                    each.setAccessible(true);
+                    result.append(each.getName()).append("=").append(dump(each.get(object))).append(", ");
+                }
+            }
+        }
+        return result.append("}").toString();
+    }
+}
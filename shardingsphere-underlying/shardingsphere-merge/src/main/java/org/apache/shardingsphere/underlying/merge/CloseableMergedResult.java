@@ -0,0 +1,38 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.underlying.merge;
+
+import java.sql.SQLException;
+
+/**
+ * Merged result which holds resources, such as temporary files, until it is closed.
+ */
+public interface CloseableMergedResult extends MergedResult, AutoCloseable {
+    
+    /**
+     * Close merged result and release resources.
+     * 
+     * <p>
+     * Closing a closed merged result has no effect.
+     * </p>
+     * 
+     * @throws SQLException SQL Exception
+     */
+    @Override
+    void close() throws SQLException;
+}
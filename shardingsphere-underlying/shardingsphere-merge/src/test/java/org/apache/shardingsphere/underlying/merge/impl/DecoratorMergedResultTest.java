@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.underlying.merge.impl;
 
+import org.apache.shardingsphere.underlying.merge.CloseableMergedResult;
 import org.apache.shardingsphere.underlying.merge.MergedResult;
 import org.apache.shardingsphere.underlying.merge.impl.fixture.TestDecoratorMergedResult;
 import org.junit.Before;
@@ -33,6 +34,8 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -72,4 +75,16 @@ public final class DecoratorMergedResultTest {
         when(mergedResult.wasNull()).thenReturn(true);
         assertTrue(decoratorMergedResult.wasNull());
     }
+    
+    @Test
+    public void assertCloseWithCloseableMergedResult() throws SQLException {
+        CloseableMergedResult closeableMergedResult = mock(CloseableMergedResult.class);
+        new TestDecoratorMergedResult(closeableMergedResult).close();
+        verify(closeableMergedResult).close();
+    }
+    
+    @Test
+    public void assertCloseWithoutCloseableMergedResult() throws SQLException {
+        decoratorMergedResult.close();
+    }
 }
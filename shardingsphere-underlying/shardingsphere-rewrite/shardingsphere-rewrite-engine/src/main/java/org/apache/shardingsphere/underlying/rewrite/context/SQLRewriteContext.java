@@ -25,12 +25,14 @@ import org.apache.shardingsphere.sql.parser.relation.statement.impl.InsertSQLSta
 import org.apache.shardingsphere.underlying.rewrite.parameter.builder.ParameterBuilder;
 import org.apache.shardingsphere.underlying.rewrite.parameter.builder.impl.GroupedParameterBuilder;
 import org.apache.shardingsphere.underlying.rewrite.parameter.builder.impl.StandardParameterBuilder;
+import org.apache.shardingsphere.underlying.rewrite.sql.SQLTemplate;
 import org.apache.shardingsphere.underlying.rewrite.sql.token.generator.SQLTokenGenerator;
 import org.apache.shardingsphere.underlying.rewrite.sql.token.generator.SQLTokenGenerators;
 import org.apache.shardingsphere.underlying.rewrite.sql.token.generator.builder.DefaultTokenGeneratorBuilder;
 import org.apache.shardingsphere.underlying.rewrite.sql.token.pojo.SQLToken;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 
@@ -57,6 +59,7 @@ public final class SQLRewriteContext {
     private final List<Object> parameters;
 
     // SQLToken 列表
+    @Getter(AccessLevel.NONE)
     private final List<SQLToken> sqlTokens = new LinkedList<>();
 
     // SQLToken 生成器
@@ -65,6 +68,9 @@ public final class SQLRewriteContext {
     @Getter(AccessLevel.NONE)
     private final SQLTokenGenerators sqlTokenGenerators = new SQLTokenGenerators();
     
+    @Getter(AccessLevel.NONE)
+    private SQLTemplate sqlTemplate;
+    
     public SQLRewriteContext(final RelationMetas relationMetas, final SQLStatementContext sqlStatementContext, final String sql, final List<Object> parameters) {
         this.relationMetas = relationMetas;
         this.sqlStatementContext = sqlStatementContext;
@@ -73,6 +79,7 @@ public final class SQLRewriteContext {
         addSQLTokenGenerators(new DefaultTokenGeneratorBuilder().getSQLTokenGenerators());
         parameterBuilder = sqlStatementContext instanceof InsertSQLStatementContext
                 ? new GroupedParameterBuilder(((InsertSQLStatementContext) sqlStatementContext).getGroupedParameters()) : new StandardParameterBuilder(parameters);
+        sqlTemplate = new SQLTemplate(sql, sqlTokens);
     }
     
     /**
@@ -89,5 +96,28 @@ public final class SQLRewriteContext {
      */
     public void generateSQLTokens() {
         sqlTokens.addAll(sqlTokenGenerators.generateSQLTokens(sqlStatementContext, parameters, relationMetas));
+        sqlTemplate = new SQLTemplate(sql, sqlTokens);
+    }
+    
+    /**
+     * Get SQL tokens.
+     * 
+     * <p>SQL tokens can only be changed by generating, so SQL template compiled after generating never goes stale.</p>
+     * 
+     * @return SQL tokens
+     */
+    public List<SQLToken> getSqlTokens() {
+        return Collections.unmodifiableList(sqlTokens);
+    }
+    
+    /**
+     * Get SQL template.
+     * 
+     * <p>SQL template is compiled once after SQL tokens generated and shared by SQL builders of all routing units.</p>
+     * 
+     * @return SQL template
+     */
+    public SQLTemplate getSQLTemplate() {
+        return sqlTemplate;
     }
 }
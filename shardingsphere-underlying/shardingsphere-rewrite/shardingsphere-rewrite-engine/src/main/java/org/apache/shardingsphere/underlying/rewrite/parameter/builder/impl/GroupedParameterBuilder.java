@@ -23,7 +23,6 @@ import lombok.Setter;
 import org.apache.shardingsphere.underlying.rewrite.parameter.builder.ParameterBuilder;
 
 import java.util.ArrayList;
-import java.util.LinkedList;
 import java.util.List;
 
 /**
@@ -49,7 +48,7 @@ public final class GroupedParameterBuilder implements ParameterBuilder {
     
     @Override
     public List<Object> getParameters() {
-        List<Object> result = new LinkedList<>();
+        List<Object> result = new ArrayList<>();
         for (int i = 0; i < parameterBuilders.size(); i++) {
             result.addAll(getParameters(i));
         }
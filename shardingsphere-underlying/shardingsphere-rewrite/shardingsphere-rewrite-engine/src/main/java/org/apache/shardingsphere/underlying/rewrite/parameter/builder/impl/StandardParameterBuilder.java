@@ -21,9 +21,9 @@ import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.underlying.rewrite.parameter.builder.ParameterBuilder;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedHashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -66,7 +66,7 @@ public final class StandardParameterBuilder implements ParameterBuilder {
     
     @Override
     public List<Object> getParameters() {
-        List<Object> result = new LinkedList<>(originalParameters);
+        List<Object> result = new ArrayList<>(originalParameters);
         for (Entry<Integer, Object> entry : replacedIndexAndParameters.entrySet()) {
             result.set(entry.getKey(), entry.getValue());
         }
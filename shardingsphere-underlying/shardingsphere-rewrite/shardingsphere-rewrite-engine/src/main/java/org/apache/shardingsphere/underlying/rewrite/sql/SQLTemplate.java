@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.underlying.rewrite.sql;
+
+import lombok.Getter;
+import org.apache.shardingsphere.underlying.rewrite.sql.token.pojo.SQLToken;
+import org.apache.shardingsphere.underlying.rewrite.sql.token.pojo.Substitutable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * SQL template.
+ * 
+ * <p>
+ * SQL is split into literal fragments by sorted SQL tokens once, 
+ * building SQL for every routing unit only need to join fragments and token texts.
+ * </p>
+ */
+@Getter
+public final class SQLTemplate {
+    
+    private final String prefix;
+    
+    private final List<SQLToken> sqlTokens;
+    
+    private final List<String> conjunctions;
+    
+    public SQLTemplate(final String sql, final Collection<SQLToken> sqlTokens) {
+        this.sqlTokens = new ArrayList<>(sqlTokens);
+        Collections.sort(this.sqlTokens);
+        prefix = this.sqlTokens.isEmpty() ? sql : sql.substring(0, this.sqlTokens.get(0).getStartIndex());
+        conjunctions = new ArrayList<>(this.sqlTokens.size());
+        for (int i = 0; i < this.sqlTokens.size(); i++) {
+            conjunctions.add(sql.substring(getStartIndex(sql, this.sqlTokens.get(i)), getStopIndex(sql, i)));
+        }
+    }
+    
+    private int getStartIndex(final String sql, final SQLToken sqlToken) {
+        int startIndex = sqlToken instanceof Substitutable ? ((Substitutable) sqlToken).getStopIndex() + 1 : sqlToken.getStartIndex();
+        return Math.min(startIndex, sql.length());
+    }
+    
+    private int getStopIndex(final String sql, final int sqlTokenIndex) {
+        return sqlTokens.size() - 1 == sqlTokenIndex ? sql.length() : sqlTokens.get(sqlTokenIndex + 1).getStartIndex();
+    }
+}
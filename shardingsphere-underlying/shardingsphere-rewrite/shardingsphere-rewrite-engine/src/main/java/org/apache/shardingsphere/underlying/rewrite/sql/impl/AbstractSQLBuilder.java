@@ -21,10 +21,8 @@ import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.underlying.rewrite.context.SQLRewriteContext;
 import org.apache.shardingsphere.underlying.rewrite.sql.SQLBuilder;
+import org.apache.shardingsphere.underlying.rewrite.sql.SQLTemplate;
 import org.apache.shardingsphere.underlying.rewrite.sql.token.pojo.SQLToken;
-import org.apache.shardingsphere.underlying.rewrite.sql.token.pojo.Substitutable;
-
-import java.util.Collections;
 
 /**
  * Abstract SQL builder.
@@ -42,39 +40,25 @@ public abstract class AbstractSQLBuilder implements SQLBuilder {
      */
     @Override
     public final String toSQL() {
-        if (context.getSqlTokens().isEmpty()) {
+        SQLTemplate sqlTemplate = context.getSQLTemplate();
+        if (sqlTemplate.getSqlTokens().isEmpty()) {
             return context.getSql();
         }
-        Collections.sort(context.getSqlTokens());
-        StringBuilder result = new StringBuilder();
-        result.append(context.getSql().substring(0, context.getSqlTokens().get(0).getStartIndex()));
+        StringBuilder result = new StringBuilder(context.getSql().length());
+        result.append(sqlTemplate.getPrefix());
 
         //根据 SQLToken 拼装目标 SQL
-        for (SQLToken each : context.getSqlTokens()) {
+        for (int i = 0; i < sqlTemplate.getSqlTokens().size(); i++) {
 
             /**
              * 获取 SQLToken 文本 {@link org.apache.shardingsphere.sharding.rewrite.sql.ShardingSQLBuilder#getSQLTokenText(SQLToken)} 
              */
-            result.append(getSQLTokenText(each));
-            result.append(getConjunctionText(each));
+            result.append(getSQLTokenText(sqlTemplate.getSqlTokens().get(i)));
+            result.append(sqlTemplate.getConjunctions().get(i));
         }
         return result.toString();
     }
 
     // 模板方法，子类实现
     protected abstract String getSQLTokenText(SQLToken sqlToken);
-    
-    private String getConjunctionText(final SQLToken sqlToken) {
-        return context.getSql().substring(getStartIndex(sqlToken), getStopIndex(sqlToken));
-    }
-    
-    private int getStartIndex(final SQLToken sqlToken) {
-        int startIndex = sqlToken instanceof Substitutable ? ((Substitutable) sqlToken).getStopIndex() + 1 : sqlToken.getStartIndex();
-        return Math.min(startIndex, context.getSql().length());
-    }
-    
-    private int getStopIndex(final SQLToken sqlToken) {
-        int currentSQLTokenIndex = context.getSqlTokens().indexOf(sqlToken);
-        return context.getSqlTokens().size() - 1 == currentSQLTokenIndex ? context.getSql().length() : context.getSqlTokens().get(currentSQLTokenIndex + 1).getStartIndex();
-    }
 }
@@ -21,7 +21,7 @@ import lombok.Getter;
 import org.apache.shardingsphere.underlying.rewrite.sql.token.pojo.SQLToken;
 import org.apache.shardingsphere.underlying.rewrite.sql.token.pojo.Substitutable;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -40,6 +40,6 @@ public abstract class InsertValuesToken extends SQLToken implements Substitutabl
     public InsertValuesToken(final int startIndex, final int stopIndex) {
         super(startIndex);
         this.stopIndex = stopIndex;
-        insertValues = new LinkedList<>();
+        insertValues = new ArrayList<>();
     }
 }
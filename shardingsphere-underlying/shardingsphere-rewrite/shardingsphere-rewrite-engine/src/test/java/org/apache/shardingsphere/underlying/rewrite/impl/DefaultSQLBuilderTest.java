@@ -17,17 +17,27 @@
 
 package org.apache.shardingsphere.underlying.rewrite.impl;
 
+import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.sql.parser.relation.metadata.RelationMetas;
 import org.apache.shardingsphere.sql.parser.relation.statement.SQLStatementContext;
 import org.apache.shardingsphere.underlying.rewrite.context.SQLRewriteContext;
 import org.apache.shardingsphere.underlying.rewrite.sql.SQLBuilder;
+import org.apache.shardingsphere.underlying.rewrite.sql.SQLTemplate;
 import org.apache.shardingsphere.underlying.rewrite.sql.impl.DefaultSQLBuilder;
+import org.apache.shardingsphere.underlying.rewrite.sql.token.generator.CollectionSQLTokenGenerator;
+import org.apache.shardingsphere.underlying.rewrite.sql.token.generator.SQLTokenGenerator;
+import org.apache.shardingsphere.underlying.rewrite.sql.token.pojo.SQLToken;
+import org.apache.shardingsphere.underlying.rewrite.sql.token.pojo.generic.RemoveToken;
 import org.junit.Test;
 
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
 
 public final class DefaultSQLBuilderTest {
@@ -38,4 +48,50 @@ public final class DefaultSQLBuilderTest {
         SQLBuilder sqlBuilderWithoutTokens = new DefaultSQLBuilder(context);
         assertThat(sqlBuilderWithoutTokens.toSQL(), is("SELECT * FROM t_config"));
     }
+    
+    @Test
+    public void assertToSQLWithTokens() {
+        SQLRewriteContext context = new SQLRewriteContext(mock(RelationMetas.class), mock(SQLStatementContext.class, RETURNS_DEEP_STUBS), "SELECT a, b, c FROM t_config", Collections.emptyList());
+        context.addSQLTokenGenerators(Collections.<SQLTokenGenerator>singletonList(new FixtureSQLTokenGenerator(new RemoveToken(10, 12), new RemoveToken(7, 9))));
+        context.generateSQLTokens();
+        assertThat(new DefaultSQLBuilder(context).toSQL(), is("SELECT c FROM t_config"));
+        SQLTemplate sqlTemplate = context.getSQLTemplate();
+        assertThat(new DefaultSQLBuilder(context).toSQL(), is("SELECT c FROM t_config"));
+        assertThat(context.getSQLTemplate(), sameInstance(sqlTemplate));
+    }
+    
+    @Test
+    public void assertToSQLAfterGenerateSQLTokensAgain() {
+        SQLRewriteContext context = new SQLRewriteContext(mock(RelationMetas.class), mock(SQLStatementContext.class, RETURNS_DEEP_STUBS), "SELECT a, b, c FROM t_config", Collections.emptyList());
+        assertThat(new DefaultSQLBuilder(context).toSQL(), is("SELECT a, b, c FROM t_config"));
+        context.addSQLTokenGenerators(Collections.<SQLTokenGenerator>singletonList(new FixtureSQLTokenGenerator(new RemoveToken(7, 12))));
+        context.generateSQLTokens();
+        assertThat(new DefaultSQLBuilder(context).toSQL(), is("SELECT c FROM t_config"));
+    }
+    
+    @Test(expected = UnsupportedOperationException.class)
+    public void assertChangeSQLTokensDirectly() {
+        SQLRewriteContext context = new SQLRewriteContext(mock(RelationMetas.class), mock(SQLStatementContext.class), "SELECT a, b, c FROM t_config", Collections.emptyList());
+        context.getSqlTokens().add(new RemoveToken(7, 9));
+    }
+    
+    @RequiredArgsConstructor
+    private static final class FixtureSQLTokenGenerator implements CollectionSQLTokenGenerator {
+        
+        private final Collection<SQLToken> sqlTokens;
+        
+        FixtureSQLTokenGenerator(final SQLToken... sqlTokens) {
+            this(Arrays.asList(sqlTokens));
+        }
+        
+        @Override
+        public boolean isGenerateSQLToken(final SQLStatementContext sqlStatementContext) {
+            return true;
+        }
+        
+        @Override
+        public Collection<SQLToken> generateSQLTokens(final SQLStatementContext sqlStatementContext) {
+            return sqlTokens;
+        }
+    }
 }
@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.underlying.rewrite.impl;
+
+import org.apache.shardingsphere.underlying.rewrite.sql.SQLTemplate;
+import org.apache.shardingsphere.underlying.rewrite.sql.token.pojo.SQLToken;
+import org.apache.shardingsphere.underlying.rewrite.sql.token.pojo.generic.RemoveToken;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class SQLTemplateTest {
+    
+    @Test
+    public void assertNewInstanceWithoutTokens() {
+        SQLTemplate actual = new SQLTemplate("SELECT * FROM t_config", Collections.<SQLToken>emptyList());
+        assertThat(actual.getPrefix(), is("SELECT * FROM t_config"));
+        assertTrue(actual.getSqlTokens().isEmpty());
+        assertTrue(actual.getConjunctions().isEmpty());
+    }
+    
+    @Test
+    public void assertNewInstanceWithTokens() {
+        SQLToken removeToken1 = new RemoveToken(7, 9);
+        SQLToken removeToken2 = new RemoveToken(10, 12);
+        SQLTemplate actual = new SQLTemplate("SELECT a, b, c FROM t_config", Arrays.asList(removeToken2, removeToken1));
+        assertThat(actual.getPrefix(), is("SELECT "));
+        assertThat(actual.getSqlTokens(), is(Arrays.asList(removeToken1, removeToken2)));
+        assertThat(actual.getConjunctions(), is(Arrays.asList("", "c FROM t_config")));
+    }
+}